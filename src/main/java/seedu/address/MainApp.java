@@ -1,12 +1,18 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -15,13 +21,17 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.reminder.ReminderScheduler;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ModuleTracker;
 import seedu.address.model.ReadOnlyModuleTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.archive.ModuleArchive;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.DataFileWatcher;
+import seedu.address.storage.JsonArchiveStorage;
 import seedu.address.storage.JsonModuleTrackerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.ModuleTrackerStorage;
@@ -36,6 +46,7 @@ import seedu.address.ui.UiManager;
  */
 public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 4, 0, true);
+    public static final String CORRUPT_FILE_SUFFIX = ".corrupt";
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
@@ -44,6 +55,9 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ApiServer apiServer;
+    protected ReminderScheduler reminderScheduler;
+    protected DataFileWatcher dataFileWatcher;
 
     @Override
     public void init() throws Exception {
@@ -56,7 +70,8 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         ModuleTrackerStorage moduleTrackerStorage = new JsonModuleTrackerStorage(userPrefs.getModuleTrackerFilePath());
-        storage = new StorageManager(moduleTrackerStorage, userPrefsStorage);
+        storage = new StorageManager(moduleTrackerStorage, userPrefsStorage,
+                new JsonArchiveStorage(userPrefs.getArchiveFilePath()));
 
         initLogging(config);
 
@@ -84,13 +99,55 @@ public class MainApp extends Application {
             initialData = moduleTrackerOptional.orElseGet(SampleDataUtil::getSampleModuleTracker);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty ModuleTracker");
+            backUpUnreadableDataFile(storage.getModuleTrackerFilePath());
             initialData = new ModuleTracker();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty ModuleTracker");
             initialData = new ModuleTracker();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        initialData = archiveExpiredModules(storage, initialData, userPrefs);
+        Model initializedModel = new ModelManager(initialData, userPrefs);
+        initializedModel.setArchive(storage);
+        initializedModel.setWorkspaces(storage);
+        initializedModel.setSyncStore(storage);
+        initializedModel.setIntegrityChecker(storage);
+        return initializedModel;
+    }
+
+    /**
+     * Copies the data file at {@code filePath}, which could not be read, aside, so that saving the empty module
+     * tracker started with instead does not destroy what is left of it.
+     */
+    private void backUpUnreadableDataFile(Path filePath) {
+        Path backupFilePath = filePath.resolveSibling(filePath.getFileName() + CORRUPT_FILE_SUFFIX);
+        try {
+            Files.copy(filePath, backupFilePath, StandardCopyOption.REPLACE_EXISTING);
+            logger.warning("Copied the unreadable data file to " + backupFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to copy the unreadable data file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Moves the modules of {@code moduleTracker} whose deadlines passed more than the number of days set in
+     * {@code userPrefs} ago to {@code storage}'s archive, and returns the modules that are left.
+     * {@code moduleTracker} is returned unchanged if archiving is turned off or fails.
+     */
+    private ReadOnlyModuleTracker archiveExpiredModules(Storage storage, ReadOnlyModuleTracker moduleTracker,
+            ReadOnlyUserPrefs userPrefs) {
+        int days = userPrefs.getArchiveAfterDays();
+        if (days < 0) {
+            return moduleTracker;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return storage.archiveModules(moduleTracker, module -> ModuleArchive.isDueForArchive(module, now, days));
+        } catch (IOException e) {
+            logger.warning("Problem while archiving modules. Will be keeping them in the ModuleTracker: "
+                    + StringUtil.getDetails(e));
+            return moduleTracker;
+        }
     }
 
     private void initLogging(Config config) {
@@ -169,11 +226,82 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting ModuleTracker " + MainApp.VERSION);
         ui.start(primaryStage);
+        startApiServer();
+        startReminders();
+        model.getTimeService().start(Platform::runLater);
+        startDataFileWatcher();
+    }
+
+    /**
+     * Starts merging changes made to the data file elsewhere, such as by a file syncing program, while the app runs.
+     * Changes are merged on the JavaFX application thread, alongside commands typed into the GUI.
+     */
+    private void startDataFileWatcher() {
+        dataFileWatcher = new DataFileWatcher(storage::getModuleTrackerFilePath,
+                () -> Platform.runLater(this::mergeExternalChanges));
+        try {
+            dataFileWatcher.start();
+        } catch (IOException e) {
+            logger.warning("Failed to watch the data file : " + StringUtil.getDetails(e));
+            dataFileWatcher = null;
+        }
+    }
+
+    private void mergeExternalChanges() {
+        try {
+            logic.mergeExternalChanges().ifPresent(ui::showReminder);
+        } catch (DataConversionException e) {
+            // likely still being written; the next change to it is merged
+            logger.info("The data file was changed elsewhere but cannot be read yet : " + e.getMessage());
+        } catch (IOException e) {
+            logger.warning("Failed to merge changes to the data file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Starts reminding the user of deadlines and timeslots while the app runs, if reminders are enabled in
+     * {@code config}. Reminders are shown on the JavaFX application thread.
+     */
+    private void startReminders() {
+        if (!config.isRemindersEnabled()) {
+            return;
+        }
+        reminderScheduler = new ReminderScheduler(logic.getModuleTracker().getModuleList(),
+                Duration.ofMinutes(config.getReminderMinutes()),
+                reminder -> Platform.runLater(() -> ui.showReminder(reminder.toString())));
+        reminderScheduler.start();
+    }
+
+    /**
+     * Starts the local HTTP API if it is enabled in {@code config}. Writes from the API are run on the JavaFX
+     * application thread, alongside commands typed into the GUI.
+     */
+    private void startApiServer() {
+        if (!config.isApiServerEnabled()) {
+            return;
+        }
+        apiServer = new ApiServer(logic, Platform::runLater);
+        try {
+            apiServer.start(config.getApiServerPort());
+        } catch (IOException e) {
+            logger.warning("Failed to start API server : " + StringUtil.getDetails(e));
+            apiServer = null;
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Module Tracker ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        if (reminderScheduler != null) {
+            reminderScheduler.stop();
+        }
+        model.getTimeService().stop();
+        if (dataFileWatcher != null) {
+            dataFileWatcher.stop();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,346 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddCommandParser;
+import seedu.address.logic.parser.EditCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.NameContainsKeywordsPredicate;
+
+/**
+ * An opt-in HTTP server bound to the loopback interface that exposes the module tracker as JSON.
+ *
+ * Endpoints, all rooted at {@value #MODULES_PATH}:
+ * <ul>
+ *     <li>{@code GET /api/modules[?keywords=KEYWORD+MORE_KEYWORDS]} lists (or finds) modules</li>
+ *     <li>{@code GET /api/modules/INDEX} returns a single module</li>
+ *     <li>{@code POST /api/modules} adds the module in the request body</li>
+ *     <li>{@code PUT /api/modules/INDEX} edits the module with the fields in the request body</li>
+ *     <li>{@code DELETE /api/modules/INDEX} deletes the module</li>
+ * </ul>
+ * {@code INDEX} is the one-based position of the module in the full module list, as returned by {@code GET}.
+ *
+ * Reads are served concurrently by a pool of threads from the latest immutable snapshot of the module tracker, so
+ * they never touch the live model. Writes are handed to the single {@code writer} executor (the JavaFX application
+ * thread when running with the GUI) and go through {@link Logic}, so they are validated and saved exactly like
+ * commands typed by the user. Edits and deletions target the module itself rather than its place in the displayed
+ * list, so they leave the list the user is looking at alone.
+ */
+public class ApiServer {
+
+    public static final String MODULES_PATH = "/api/modules";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method %1$s is not allowed on %2$s";
+    public static final String MESSAGE_INVALID_BODY = "Request body is not a valid module: %1$s";
+    public static final String MESSAGE_MISSING_BODY = "Request body must be a module";
+    public static final String MESSAGE_WRITE_TIMED_OUT = "The module tracker is busy, please try again";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final int READER_THREADS = 4;
+    private static final long WRITE_TIMEOUT_SECONDS = 10;
+    private static final int HTTP_UNPROCESSABLE = 422;
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final Logic logic;
+    private final Executor writer;
+    private HttpServer server;
+    private ExecutorService readers;
+
+    /**
+     * Creates an {@code ApiServer} backed by {@code logic}, whose writes are all run on {@code writer}.
+     */
+    public ApiServer(Logic logic, Executor writer) {
+        requireNonNull(logic);
+        requireNonNull(writer);
+        this.logic = logic;
+        this.writer = writer;
+    }
+
+    /**
+     * Starts listening on {@code port} of the loopback interface. A {@code port} of 0 picks a free port.
+     */
+    public void start(int port) throws IOException {
+        // The JDK server writes headers and body separately; with Nagle's algorithm on, every response then
+        // stalls on the client's delayed ACK (~40ms). Must be set before the first server is created.
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(MODULES_PATH, this::handle);
+        readers = Executors.newFixedThreadPool(READER_THREADS);
+        server.setExecutor(readers);
+        server.start();
+        logger.info("API server listening on " + server.getAddress());
+    }
+
+    /**
+     * Stops the server, abandoning any requests that are still being handled.
+     */
+    public void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        readers.shutdownNow();
+        logger.info("API server stopped");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        ApiResponse response;
+        try {
+            response = route(exchange);
+        } catch (ApiException e) {
+            response = new ApiResponse(e.status, Map.of("error", e.getMessage()));
+        } catch (RuntimeException e) {
+            logger.warning("Unexpected error while handling " + exchange.getRequestURI() + ": " + e);
+            response = new ApiResponse(HttpURLConnection.HTTP_INTERNAL_ERROR, Map.of("error", e.toString()));
+        }
+
+        try {
+            byte[] bytes = JsonUtil.toJsonString(response.body).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private ApiResponse route(HttpExchange exchange) throws ApiException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        String subPath = path.substring(MODULES_PATH.length());
+
+        if (subPath.isEmpty() || subPath.equals("/")) {
+            switch (method) {
+            case "GET":
+                return list(parseQuery(exchange.getRequestURI().getRawQuery()).get("keywords"));
+            case "POST":
+                return add(readBody(exchange));
+            default:
+                throw new ApiException(HttpURLConnection.HTTP_BAD_METHOD,
+                        String.format(MESSAGE_METHOD_NOT_ALLOWED, method, path));
+            }
+        }
+
+        int index = parseIndex(subPath.substring(1));
+        switch (method) {
+        case "GET":
+            return get(index);
+        case "PUT":
+        case "PATCH":
+            return edit(index, readBody(exchange));
+        case "DELETE":
+            return delete(index);
+        default:
+            throw new ApiException(HttpURLConnection.HTTP_BAD_METHOD,
+                    String.format(MESSAGE_METHOD_NOT_ALLOWED, method, path));
+        }
+    }
+
+    //=========== Reads ======================================================================================
+
+    private ApiResponse list(String keywords) {
+        List<Module> modules = logic.getModuleTrackerSnapshot().getModuleList();
+        Predicate<Module> predicate = keywords == null || keywords.isBlank()
+                ? unused -> true
+                : new NameContainsKeywordsPredicate(Arrays.asList(keywords.trim().split("\\s+")));
+
+        List<JsonApiModule> matches = new ArrayList<>();
+        for (int i = 0; i < modules.size(); i++) {
+            if (predicate.test(modules.get(i))) {
+                matches.add(new JsonApiModule(i + 1, modules.get(i)));
+            }
+        }
+        return new ApiResponse(HttpURLConnection.HTTP_OK, Map.of("modules", matches));
+    }
+
+    private ApiResponse get(int index) throws ApiException {
+        List<Module> modules = logic.getModuleTrackerSnapshot().getModuleList();
+        if (index > modules.size()) {
+            throw new ApiException(HttpURLConnection.HTTP_NOT_FOUND, MESSAGE_INVALID_MODULE_DISPLAYED_INDEX);
+        }
+        return new ApiResponse(HttpURLConnection.HTTP_OK, new JsonApiModule(index, modules.get(index - 1)));
+    }
+
+    //=========== Writes =====================================================================================
+
+    private ApiResponse add(JsonApiModule module) throws ApiException {
+        String arguments = toCommandArguments(module);
+        return write(() -> logic.execute(new AddCommand(new AddCommandParser().parseModule(arguments), false)),
+                HttpURLConnection.HTTP_CREATED);
+    }
+
+    private ApiResponse edit(int index, JsonApiModule module) throws ApiException {
+        String arguments = toCommandArguments(module);
+        return write(() -> logic.execute(new EditCommand(getModule(index),
+                new EditCommandParser().parseDescriptor(arguments))), HttpURLConnection.HTTP_OK);
+    }
+
+    private ApiResponse delete(int index) throws ApiException {
+        return write(() -> logic.execute(new DeleteCommand(getModule(index))), HttpURLConnection.HTTP_OK);
+    }
+
+    /**
+     * Runs {@code action} on the writer and waits for its result.
+     */
+    private ApiResponse write(Callable<CommandResult> action, int successStatus) throws ApiException {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        writer.execute(() -> {
+            try {
+                result.complete(action.call());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        try {
+            CommandResult commandResult = result.get(WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            logger.info("API write succeeded: " + commandResult.getFeedbackToUser());
+            return new ApiResponse(successStatus, Map.of("message", commandResult.getFeedbackToUser()));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ApiException) {
+                throw (ApiException) cause;
+            }
+            if (cause instanceof CommandException || cause instanceof ParseException) {
+                throw new ApiException(HTTP_UNPROCESSABLE, cause.getMessage());
+            }
+            throw new ApiException(HttpURLConnection.HTTP_INTERNAL_ERROR, cause.toString());
+        } catch (TimeoutException e) {
+            throw new ApiException(HttpURLConnection.HTTP_UNAVAILABLE, MESSAGE_WRITE_TIMED_OUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(HttpURLConnection.HTTP_UNAVAILABLE, MESSAGE_WRITE_TIMED_OUT);
+        }
+    }
+
+    /**
+     * Returns the module at a one-based index into the full module list, whether it is displayed or not.
+     * Must only be called on the writer.
+     */
+    private Module getModule(int index) throws ApiException {
+        List<Module> modules = logic.getModuleTracker().getModuleList();
+        if (index > modules.size()) {
+            throw new ApiException(HttpURLConnection.HTTP_NOT_FOUND, MESSAGE_INVALID_MODULE_DISPLAYED_INDEX);
+        }
+        return modules.get(index - 1);
+    }
+
+    //=========== Request parsing ============================================================================
+
+    private static String toCommandArguments(JsonApiModule module) throws ApiException {
+        try {
+            return module.toCommandArguments();
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private static JsonApiModule readBody(HttpExchange exchange) throws ApiException {
+        try {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            JsonApiModule module = JsonUtil.fromJsonString(body, JsonApiModule.class);
+            if (module == null) {
+                throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST, MESSAGE_MISSING_BODY);
+            }
+            return module;
+        } catch (IOException e) {
+            throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST,
+                    String.format(MESSAGE_INVALID_BODY, e.getMessage()));
+        }
+    }
+
+    private static int parseIndex(String index) throws ApiException {
+        try {
+            int parsed = Integer.parseInt(index);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the error below
+        }
+        throw new ApiException(HttpURLConnection.HTTP_NOT_FOUND, MESSAGE_INVALID_MODULE_DISPLAYED_INDEX);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator == -1 ? pair : pair.substring(0, separator);
+            String value = separator == -1 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(key, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    /**
+     * A status code and the object to serialise as the response body.
+     */
+    private static class ApiResponse {
+        private final int status;
+        private final Object body;
+
+        ApiResponse(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Signals that a request cannot be served, and with which status code.
+     */
+    private static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.api;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESOURCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEACHER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.module.Module;
+
+/**
+ * Jackson-friendly version of {@link Module} used by the local HTTP API.
+ * Unlike the storage format, every field is optional so that the same shape can describe partial edits. Timeslots,
+ * when present, replace all of a module's timeslots, and {@code ["None."]} removes them.
+ */
+class JsonApiModule {
+
+    public static final String MESSAGE_EMBEDDED_PREFIX = "Field values must not contain the prefix '%1$s'";
+    public static final String MESSAGE_EMBEDDED_SEPARATOR = "Field values must not contain ';'";
+
+    private static final Prefix[] ALL_PREFIXES = { PREFIX_NAME, PREFIX_TAG, PREFIX_TIMESLOT, PREFIX_ADDRESS,
+        PREFIX_REMARK, PREFIX_DEADLINE, PREFIX_TEACHER, PREFIX_RESOURCE };
+
+    private final Integer index;
+    private final String name;
+    private final String resource;
+    private final List<String> timeSlots;
+    private final String address;
+    private final List<String> tags = new ArrayList<>();
+    private final String remark;
+    private final String deadline;
+    private final String teacher;
+
+    /**
+     * Constructs a {@code JsonApiModule} from a request body.
+     */
+    @JsonCreator
+    public JsonApiModule(@JsonProperty("index") Integer index, @JsonProperty("name") String name,
+            @JsonProperty("resource") String resource, @JsonProperty("timeSlots") List<String> timeSlots,
+            @JsonProperty("address") String address, @JsonProperty("tags") List<String> tags,
+            @JsonProperty("remark") String remark, @JsonProperty("deadline") String deadline,
+            @JsonProperty("teacher") String teacher) {
+        this.index = index;
+        this.name = name;
+        this.resource = resource;
+        this.timeSlots = timeSlots == null ? null : new ArrayList<>(timeSlots);
+        this.address = address;
+        if (tags != null) {
+            this.tags.addAll(tags);
+        }
+        this.remark = remark;
+        this.deadline = deadline;
+        this.teacher = teacher;
+    }
+
+    /**
+     * Converts a given {@code Module} at the one-based {@code index} of the module list into this class.
+     */
+    public JsonApiModule(int index, Module source) {
+        this.index = index;
+        name = source.getName().fullName;
+        resource = source.getResource().value;
+        timeSlots = source.getTimeSlots().asList().stream().map(Object::toString).collect(Collectors.toList());
+        address = source.getAddress().value;
+        tags.addAll(source.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()));
+        remark = source.getRemark().value;
+        deadline = source.getDeadline().toString();
+        teacher = source.getTeacher().value;
+    }
+
+    /**
+     * Returns the fields of this module as prefixed command arguments, e.g. {@code " n/CS2103T t/Lecture"}.
+     * Fields that are absent are left out, so the result can be used for both {@code add} and {@code edit}.
+     *
+     * @throws IllegalArgumentException if a field value would be split into several arguments by the tokenizer, or
+     *     into several commands by the parser.
+     */
+    public String toCommandArguments() {
+        StringBuilder builder = new StringBuilder();
+        appendArgument(builder, PREFIX_NAME, name);
+        tags.forEach(tag -> appendArgument(builder, PREFIX_TAG, tag));
+        if (timeSlots != null) {
+            timeSlots.forEach(timeSlot -> appendArgument(builder, PREFIX_TIMESLOT, timeSlot));
+        }
+        appendArgument(builder, PREFIX_ADDRESS, address);
+        appendArgument(builder, PREFIX_RESOURCE, resource);
+        appendArgument(builder, PREFIX_TEACHER, teacher);
+        appendArgument(builder, PREFIX_DEADLINE, deadline);
+        appendArgument(builder, PREFIX_REMARK, remark);
+        return builder.toString();
+    }
+
+    private static void appendArgument(StringBuilder builder, Prefix prefix, String value) {
+        if (value == null) {
+            return;
+        }
+        String flattened = value.replaceAll("\\s+", " ");
+        if (flattened.contains(";")) {
+            throw new IllegalArgumentException(MESSAGE_EMBEDDED_SEPARATOR);
+        }
+        for (Prefix other : ALL_PREFIXES) {
+            if ((" " + flattened).contains(" " + other.getPrefix())) {
+                throw new IllegalArgumentException(String.format(MESSAGE_EMBEDDED_PREFIX, other.getPrefix()));
+            }
+        }
+        builder.append(' ').append(prefix.getPrefix()).append(flattened);
+    }
+
+    public Integer getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
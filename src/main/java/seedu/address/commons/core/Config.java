@@ -15,6 +15,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean apiServerEnabled = false;
+    private int apiServerPort = 8765;
+    private boolean remindersEnabled = true;
+    private int reminderMinutes = 15;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +36,39 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isApiServerEnabled() {
+        return apiServerEnabled;
+    }
+
+    public void setApiServerEnabled(boolean apiServerEnabled) {
+        this.apiServerEnabled = apiServerEnabled;
+    }
+
+    public int getApiServerPort() {
+        return apiServerPort;
+    }
+
+    public void setApiServerPort(int apiServerPort) {
+        this.apiServerPort = apiServerPort;
+    }
+
+    public boolean isRemindersEnabled() {
+        return remindersEnabled;
+    }
+
+    public void setRemindersEnabled(boolean remindersEnabled) {
+        this.remindersEnabled = remindersEnabled;
+    }
+
+    /** Returns how many minutes before a deadline or timeslot its reminder is shown. */
+    public int getReminderMinutes() {
+        return reminderMinutes;
+    }
+
+    public void setReminderMinutes(int reminderMinutes) {
+        this.reminderMinutes = reminderMinutes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +81,17 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && apiServerEnabled == o.apiServerEnabled
+                && apiServerPort == o.apiServerPort
+                && remindersEnabled == o.remindersEnabled
+                && reminderMinutes == o.reminderMinutes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, apiServerEnabled, apiServerPort, remindersEnabled,
+                reminderMinutes);
     }
 
     @Override
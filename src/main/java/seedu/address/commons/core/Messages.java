@@ -10,5 +10,14 @@ public class Messages {
             + "Please make sure you follow the proper command format.  \n%1$s";
     public static final String MESSAGE_INVALID_MODULE_DISPLAYED_INDEX = "The index number you have provided is either "
             + "missing or invalid. Please try again!";
+    public static final String MESSAGE_MODULE_NOT_FOUND = "The module is no longer in the module tracker.";
+    public static final String MESSAGE_ARCHIVE_UNWRITABLE = "The archive could not be written: %1$s";
     public static final String MESSAGE_MODULES_LISTED_OVERVIEW = "%1$d modules listed!";
+    public static final String MESSAGE_INVALID_COMMAND_IN_BATCH = "Command %1$d of %2$d (%3$s) is invalid, "
+            + "so none of the commands were run.\n%4$s";
+    public static final String MESSAGE_FAILED_COMMAND_IN_BATCH = "Command %1$d of %2$d (%3$s) failed, "
+            + "so all changes made by the commands were undone.\n%4$s";
+    public static final String MESSAGE_UNDO_REDO_IN_BATCH = "undo and redo cannot be combined with other commands.";
+    public static final String MESSAGE_WORKSPACE_IN_BATCH = "workspace cannot be combined with other commands.";
+    public static final String MESSAGE_SYNC_IN_BATCH = "sync cannot be combined with other commands.";
 }
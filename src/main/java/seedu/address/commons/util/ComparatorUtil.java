@@ -1,11 +1,17 @@
 package seedu.address.commons.util;
 
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.function.Supplier;
 
 import seedu.address.model.module.Module;
 
 /**
  * Utility methods related to Comparators
+ *
+ * The sort orders by timeslot and by deadline depend on the time they are computed at. The comparators below stand
+ * for them, and order modules as if it were the start of the week and every deadline were still to come; use
+ * {@link #atTime} to get the order at a given time.
  */
 public class ComparatorUtil {
     public static final Comparator<Module> SORT_BY_TIMESLOT_COMPARATOR = (Module1, Module2)
@@ -13,11 +19,42 @@ public class ComparatorUtil {
     public static final Comparator<Module> SORT_BY_DEADLINE_COMPARATOR = (Module1, Module2)
             -> Module1.compareDeadline(Module2);
 
+    public static final String TIMESLOT_KEYWORD = "timeslot";
+    public static final String DEADLINE_KEYWORD = "deadline";
+
     public static Comparator<Module> getComparator(String keyword) {
-        if (keyword.equals("timeslot")) {
+        if (keyword.equals(TIMESLOT_KEYWORD)) {
             return SORT_BY_TIMESLOT_COMPARATOR;
         } else {
             return SORT_BY_DEADLINE_COMPARATOR;
         }
     }
+
+    /**
+     * Returns the order {@code comparator} stands for at the time {@code time} returns, if it is one of the sort
+     * orders that depend on the time, or {@code comparator} itself otherwise.
+     * The time is read on every comparison.
+     */
+    public static Comparator<Module> atTime(Comparator<Module> comparator, Supplier<LocalDateTime> time) {
+        if (comparator == SORT_BY_TIMESLOT_COMPARATOR) {
+            return (module1, module2) -> module1.compareTimeSlot(module2, time.get());
+        } else if (comparator == SORT_BY_DEADLINE_COMPARATOR) {
+            return (module1, module2) -> module1.compareDeadline(module2, time.get());
+        } else {
+            return comparator;
+        }
+    }
+
+    /**
+     * Returns the keyword that {@link #getComparator} maps to {@code comparator}, or null if there is none.
+     */
+    public static String getKeyword(Comparator<Module> comparator) {
+        if (comparator == SORT_BY_TIMESLOT_COMPARATOR) {
+            return TIMESLOT_KEYWORD;
+        } else if (comparator == SORT_BY_DEADLINE_COMPARATOR) {
+            return DEADLINE_KEYWORD;
+        } else {
+            return null;
+        }
+    }
 }
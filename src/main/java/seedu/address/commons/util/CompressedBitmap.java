@@ -0,0 +1,443 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of non-negative ints stored as a compressed bitmap.
+ *
+ * Values are grouped by their upper 16 bits into containers. A container holding few values stores them as a
+ * sorted array; once it holds more than {@value #MAX_ARRAY_CONTAINER_SIZE} it switches to a plain 65536-bit
+ * bitmap, which is then smaller. Set operations work container by container, so their cost depends on the
+ * number of values rather than on the largest value. The cardinality is tracked, so {@link #getCardinality()}
+ * is O(1).
+ */
+public final class CompressedBitmap {
+
+    static final int MAX_ARRAY_CONTAINER_SIZE = 4096;
+
+    private static final int WORDS_PER_CONTAINER = (1 << 16) / Long.SIZE;
+
+    /** Upper 16 bits of the values in each container, in increasing order. */
+    private char[] keys;
+    private Container[] containers;
+    private int containerCount;
+    private int cardinality;
+
+    /**
+     * Creates an empty {@code CompressedBitmap}.
+     */
+    public CompressedBitmap() {
+        keys = new char[4];
+        containers = new Container[4];
+    }
+
+    /**
+     * Returns a bitmap containing {@code values}.
+     */
+    public static CompressedBitmap of(int... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds {@code value}. Returns true if it was not already present.
+     */
+    public boolean add(int value) {
+        checkArgument(value >= 0, "Value must not be negative: " + value);
+        char key = (char) (value >>> 16);
+        int index = Arrays.binarySearch(keys, 0, containerCount, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new Container());
+        }
+        boolean isAdded = containers[index].add((char) value);
+        if (isAdded) {
+            cardinality++;
+        }
+        return isAdded;
+    }
+
+    /**
+     * Removes {@code value}. Returns true if it was present.
+     */
+    public boolean remove(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, containerCount, (char) (value >>> 16));
+        if (index < 0 || !containers[index].remove((char) value)) {
+            return false;
+        }
+        cardinality--;
+        if (containers[index].cardinality == 0) {
+            removeContainer(index);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code value} is present.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, containerCount, (char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    public int getCardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Returns a new bitmap of the values present in both this and {@code other}.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount && j < other.containerCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap of the values present in either this or {@code other}.
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount || j < other.containerCount) {
+            if (j == other.containerCount || (i < containerCount && keys[i] < other.keys[j])) {
+                result.appendIfNotEmpty(keys[i], containers[i].copy());
+                i++;
+            } else if (i == containerCount || keys[i] > other.keys[j]) {
+                result.appendIfNotEmpty(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap of the values present in this but not in {@code other}.
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < containerCount; i++) {
+            while (j < other.containerCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            boolean hasMatch = j < other.containerCount && other.keys[j] == keys[i];
+            result.appendIfNotEmpty(keys[i],
+                    hasMatch ? containers[i].andNot(other.containers[j]) : containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     * Calls {@code action} on each value, in increasing order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < containerCount; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns the values in increasing order.
+     */
+    public int[] toArray() {
+        int[] values = new int[cardinality];
+        int[] next = new int[1];
+        forEach(value -> values[next[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Returns the number of containers stored as plain bitmaps, for tests.
+     */
+    int countBitmapContainers() {
+        int count = 0;
+        for (int i = 0; i < containerCount; i++) {
+            if (containers[i].words != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void appendIfNotEmpty(char key, Container container) {
+        if (container.cardinality > 0) {
+            insertContainer(containerCount, key, container);
+            cardinality += container.cardinality;
+        }
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (containerCount == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            containers = Arrays.copyOf(containers, containers.length * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+        System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+        keys[index] = key;
+        containers[index] = container;
+        containerCount++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, containerCount - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, containerCount - index - 1);
+        containerCount--;
+        containers[containerCount] = null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CompressedBitmap // instanceof handles nulls
+                && Arrays.equals(toArray(), ((CompressedBitmap) other).toArray())); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * The lower 16 bits of the values sharing one key: a sorted array while small, a bitmap once large.
+     * Exactly one of {@code values} and {@code words} is in use.
+     */
+    private static final class Container {
+        private char[] values;
+        private long[] words;
+        private int cardinality;
+
+        Container() {
+            values = new char[4];
+        }
+
+        private Container(char[] values, long[] words, int cardinality) {
+            this.values = values;
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        boolean contains(char value) {
+            if (words != null) {
+                return (words[value >>> 6] & (1L << value)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        boolean add(char value) {
+            if (words != null) {
+                long before = words[value >>> 6];
+                words[value >>> 6] = before | (1L << value);
+                boolean isAdded = before != words[value >>> 6];
+                cardinality += isAdded ? 1 : 0;
+                return isAdded;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return false;
+            }
+            if (cardinality == MAX_ARRAY_CONTAINER_SIZE) {
+                toBitmap();
+                return add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(Math.max(values.length * 2, 4), MAX_ARRAY_CONTAINER_SIZE));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(char value) {
+            if (words != null) {
+                long before = words[value >>> 6];
+                words[value >>> 6] = before & ~(1L << value);
+                if (before == words[value >>> 6]) {
+                    return false;
+                }
+                cardinality--;
+                if (cardinality <= MAX_ARRAY_CONTAINER_SIZE) {
+                    toArrayContainer();
+                }
+                return true;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return true;
+        }
+
+        Container copy() {
+            return new Container(values == null ? null : Arrays.copyOf(values, cardinality),
+                    words == null ? null : words.clone(), cardinality);
+        }
+
+        Container and(Container other) {
+            if (words != null && other.words != null) {
+                long[] result = new long[WORDS_PER_CONTAINER];
+                for (int i = 0; i < WORDS_PER_CONTAINER; i++) {
+                    result[i] = words[i] & other.words[i];
+                }
+                return fromWords(result);
+            }
+            Container small = words == null ? this : other;
+            Container large = small == this ? other : this;
+            char[] result = new char[small.cardinality];
+            int size = 0;
+            for (int i = 0; i < small.cardinality; i++) {
+                if (large.contains(small.values[i])) {
+                    result[size++] = small.values[i];
+                }
+            }
+            return new Container(result, null, size);
+        }
+
+        Container or(Container other) {
+            if (words == null && other.words == null) {
+                char[] result = new char[cardinality + other.cardinality];
+                int size = 0;
+                int i = 0;
+                int j = 0;
+                while (i < cardinality || j < other.cardinality) {
+                    if (j == other.cardinality || (i < cardinality && values[i] < other.values[j])) {
+                        result[size++] = values[i++];
+                    } else if (i == cardinality || values[i] > other.values[j]) {
+                        result[size++] = other.values[j++];
+                    } else {
+                        result[size++] = values[i++];
+                        j++;
+                    }
+                }
+                Container union = new Container(result, null, size);
+                if (size > MAX_ARRAY_CONTAINER_SIZE) {
+                    union.toBitmap();
+                }
+                return union;
+            }
+            Container bitmap = words != null ? this : other;
+            Container rest = bitmap == this ? other : this;
+            long[] result = bitmap.words.clone();
+            if (rest.words != null) {
+                for (int i = 0; i < WORDS_PER_CONTAINER; i++) {
+                    result[i] |= rest.words[i];
+                }
+            } else {
+                for (int i = 0; i < rest.cardinality; i++) {
+                    result[rest.values[i] >>> 6] |= 1L << rest.values[i];
+                }
+            }
+            return fromWords(result);
+        }
+
+        Container andNot(Container other) {
+            if (words == null) {
+                char[] result = new char[cardinality];
+                int size = 0;
+                for (int i = 0; i < cardinality; i++) {
+                    if (!other.contains(values[i])) {
+                        result[size++] = values[i];
+                    }
+                }
+                return new Container(result, null, size);
+            }
+            long[] result = words.clone();
+            if (other.words != null) {
+                for (int i = 0; i < WORDS_PER_CONTAINER; i++) {
+                    result[i] &= ~other.words[i];
+                }
+            } else {
+                for (int i = 0; i < other.cardinality; i++) {
+                    result[other.values[i] >>> 6] &= ~(1L << other.values[i]);
+                }
+            }
+            return fromWords(result);
+        }
+
+        void forEach(int high, IntConsumer action) {
+            if (words == null) {
+                for (int i = 0; i < cardinality; i++) {
+                    action.accept(high | values[i]);
+                }
+                return;
+            }
+            for (int i = 0; i < WORDS_PER_CONTAINER; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        private static Container fromWords(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            Container container = new Container(null, words, cardinality);
+            if (cardinality <= MAX_ARRAY_CONTAINER_SIZE) {
+                container.toArrayContainer();
+            }
+            return container;
+        }
+
+        private void toBitmap() {
+            words = new long[WORDS_PER_CONTAINER];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            values = null;
+        }
+
+        private void toArrayContainer() {
+            char[] result = new char[Math.max(cardinality, 4)];
+            int[] size = new int[1];
+            forEach(0, value -> result[size[0]++] = (char) value);
+            values = result;
+            words = null;
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Predicate;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
     private static final String CHARSET = "UTF-8";
 
     public static boolean isFileExists(Path file) {
@@ -73,11 +81,111 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, replacing the file in one step so that a crash while writing leaves either the
+     * old or the new contents, never a mix of both.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content.getBytes(CHARSET), FileUtil::writeFully);
+    }
+
+    /**
+     * Writes {@code content} to {@code file} through {@code writer}: to a temporary file beside it first, which is
+     * forced to the disk and then renamed over {@code file}. If writing fails, the temporary file is deleted; if the
+     * app dies while writing, it is left for {@link #recoverTempFile} to finish or discard.
+     */
+    static void writeToFile(Path file, byte[] content, ChannelWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = getTempFilePath(file);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writer.write(channel, ByteBuffer.wrap(content));
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        replace(tempFile, file);
+    }
+
+    /**
+     * Appends given string to a file, and forces it to the disk before returning so that it outlasts a crash.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        createParentDirsOfFile(file);
+        boolean isNew = !Files.exists(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+                StandardOpenOption.WRITE)) {
+            writeFully(channel, ByteBuffer.wrap(content.getBytes(CHARSET)));
+            channel.force(true);
+        }
+        if (isNew) {
+            forceFolderOf(file);
+        }
+    }
+
+    /**
+     * Returns the temporary file that {@code file} is written to before it is replaced.
+     */
+    public static Path getTempFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Finishes or discards a write to {@code file} that was cut short, such as by a crash, if it left its temporary
+     * file behind. The temporary file replaces {@code file} if {@code isComplete} accepts it, as the write got as far
+     * as forcing it to the disk, and is deleted otherwise. Returns true if {@code file} was replaced.
+     */
+    public static boolean recoverTempFile(Path file, Predicate<Path> isComplete) throws IOException {
+        Path tempFile = getTempFilePath(file);
+        if (!Files.exists(tempFile)) {
+            return false;
+        }
+        if (!isComplete.test(tempFile)) {
+            Files.delete(tempFile);
+            return false;
+        }
+        replace(tempFile, file);
+        return true;
+    }
+
+    /**
+     * Renames {@code source} over {@code target} atomically where the file system can, and makes the rename last.
+     */
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceFolderOf(target);
+    }
+
+    /**
+     * Forces the folder holding {@code file} to the disk, which records a rename or a new file in it. Some platforms,
+     * such as Windows, cannot open folders this way but make such changes last by themselves.
+     */
+    private static void forceFolderOf(Path file) {
+        try (FileChannel channel = FileChannel.open(file.toAbsolutePath().getParent(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the change is done, only perhaps not yet on the disk
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Writes the bytes of a buffer to a channel.
+     */
+    @FunctionalInterface
+    interface ChannelWriter {
+        void write(FileChannel channel, ByteBuffer buffer) throws IOException;
     }
 
 }
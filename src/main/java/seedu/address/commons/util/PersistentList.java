@@ -0,0 +1,199 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list whose "modifying" operations return a new list that shares structure with the old one.
+ *
+ * Elements are stored in chunks of at most {@value #MAX_CHUNK_SIZE} elements. An update copies only the chunk it
+ * touches plus the (small) array of chunk references, so each version costs O(n / chunk size + chunk size) to create
+ * while every older version stays valid and unchanged. This makes it safe to hand a version to another thread
+ * without copying or locking.
+ *
+ * @param <E> the type of elements in this list
+ */
+public final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+    static final int MAX_CHUNK_SIZE = 64;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(new Object[0][], new int[0], 0);
+
+    private final Object[][] chunks;
+    /** {@code offsets[i]} is the list index of the first element of {@code chunks[i]}. */
+    private final int[] offsets;
+    private final int size;
+
+    private PersistentList(Object[][] chunks, int[] offsets, int size) {
+        this.chunks = chunks;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list containing the elements of {@code elements}, in order.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        int chunkCount = (elements.size() + MAX_CHUNK_SIZE / 2 - 1) / (MAX_CHUNK_SIZE / 2);
+        Object[][] chunks = new Object[chunkCount][];
+        int[] offsets = new int[chunkCount];
+        Object[] all = elements.toArray();
+        for (int i = 0; i < chunkCount; i++) {
+            int from = i * (MAX_CHUNK_SIZE / 2);
+            chunks[i] = Arrays.copyOfRange(all, from, Math.min(all.length, from + MAX_CHUNK_SIZE / 2));
+            offsets[i] = from;
+        }
+        return new PersistentList<>(chunks, offsets, all.length);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size);
+        int chunk = chunkOf(index);
+        return (E) chunks[chunk][index - offsets[chunk]];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        checkIndex(index, size);
+        int chunk = chunkOf(index);
+        Object[] updated = chunks[chunk].clone();
+        updated[index - offsets[chunk]] = element;
+        Object[][] newChunks = chunks.clone();
+        newChunks[chunk] = updated;
+        return new PersistentList<>(newChunks, offsets, size);
+    }
+
+    /**
+     * Returns a list with {@code element} appended.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size, element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, shifting later elements to the right.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        checkIndex(index, size + 1);
+        if (chunks.length == 0) {
+            return new PersistentList<>(new Object[][] {{ element }}, new int[] { 0 }, 1);
+        }
+
+        int chunk = index == size ? chunks.length - 1 : chunkOf(index);
+        Object[] old = chunks[chunk];
+        int position = index - offsets[chunk];
+        Object[] grown = new Object[old.length + 1];
+        System.arraycopy(old, 0, grown, 0, position);
+        grown[position] = element;
+        System.arraycopy(old, position, grown, position + 1, old.length - position);
+
+        if (grown.length <= MAX_CHUNK_SIZE) {
+            Object[][] newChunks = chunks.clone();
+            newChunks[chunk] = grown;
+            return new PersistentList<>(newChunks, shiftOffsets(offsets, chunk + 1, 1), size + 1);
+        }
+
+        // Split the overflowing chunk in two halves.
+        int half = grown.length / 2;
+        Object[][] newChunks = new Object[chunks.length + 1][];
+        int[] newOffsets = new int[offsets.length + 1];
+        System.arraycopy(chunks, 0, newChunks, 0, chunk);
+        System.arraycopy(offsets, 0, newOffsets, 0, chunk + 1);
+        newChunks[chunk] = Arrays.copyOfRange(grown, 0, half);
+        newChunks[chunk + 1] = Arrays.copyOfRange(grown, half, grown.length);
+        newOffsets[chunk + 1] = offsets[chunk] + half;
+        for (int i = chunk + 1; i < chunks.length; i++) {
+            newChunks[i + 1] = chunks[i];
+            newOffsets[i + 1] = offsets[i] + 1;
+        }
+        return new PersistentList<>(newChunks, newOffsets, size + 1);
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed, shifting later elements to the left.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size);
+        int chunk = chunkOf(index);
+        Object[] old = chunks[chunk];
+
+        if (old.length == 1) {
+            Object[][] newChunks = new Object[chunks.length - 1][];
+            int[] newOffsets = new int[offsets.length - 1];
+            System.arraycopy(chunks, 0, newChunks, 0, chunk);
+            System.arraycopy(offsets, 0, newOffsets, 0, chunk);
+            for (int i = chunk + 1; i < chunks.length; i++) {
+                newChunks[i - 1] = chunks[i];
+                newOffsets[i - 1] = offsets[i] - 1;
+            }
+            return new PersistentList<>(newChunks, newOffsets, size - 1);
+        }
+
+        int position = index - offsets[chunk];
+        Object[] shrunk = new Object[old.length - 1];
+        System.arraycopy(old, 0, shrunk, 0, position);
+        System.arraycopy(old, position + 1, shrunk, position, old.length - position - 1);
+        Object[][] newChunks = chunks.clone();
+        newChunks[chunk] = shrunk;
+        return new PersistentList<>(newChunks, shiftOffsets(offsets, chunk + 1, -1), size - 1);
+    }
+
+    /**
+     * Returns the number of chunks shared with {@code other}, for tests.
+     */
+    int countSharedChunks(PersistentList<E> other) {
+        int shared = 0;
+        for (Object[] chunk : chunks) {
+            for (Object[] otherChunk : other.chunks) {
+                if (chunk == otherChunk) {
+                    shared++;
+                }
+            }
+        }
+        return shared;
+    }
+
+    private int chunkOf(int index) {
+        int found = Arrays.binarySearch(offsets, index);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    private static int[] shiftOffsets(int[] offsets, int from, int delta) {
+        if (from >= offsets.length) {
+            return offsets;
+        }
+        int[] shifted = offsets.clone();
+        for (int i = from; i < shifted.length; i++) {
+            shifted[i] += delta;
+        }
+        return shifted;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+}
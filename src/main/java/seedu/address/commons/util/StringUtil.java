@@ -38,6 +38,48 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the Damerau-Levenshtein distance between {@code first} and {@code second}: the least number of
+     * insertions, deletions, substitutions and swaps of adjacent characters that turn one into the other,
+     * where no substring is edited more than once.
+     *   <br>examples:<pre>
+     *       damerauLevenshteinDistance("lecture", "lecture") == 0
+     *       damerauLevenshteinDistance("lecture", "lectrue") == 1 // swap
+     *       damerauLevenshteinDistance("lecture", "lectre") == 1 // deletion
+     *       damerauLevenshteinDistance("lab", "tutorial") == 7
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int damerauLevenshteinDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        // Only three rows of the dynamic programming table are needed at a time.
+        int[] beforePrevious = new int[second.length() + 1];
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,86 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only observable list that shows the contents of one source list at a time, and can be switched to another
+ * source without its listeners having to rebind.
+ *
+ * Changes to the current source are passed on to listeners as they are, so a source that reports fine-grained
+ * changes keeps doing so through this list. Switching sources is reported as one change replacing every element.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class SwitchableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> forwarder = this::forward;
+    private ObservableList<E> source;
+
+    /**
+     * Creates a {@code SwitchableList} showing {@code source}.
+     */
+    public SwitchableList(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(forwarder);
+    }
+
+    public ObservableList<E> getSource() {
+        return source;
+    }
+
+    /**
+     * Shows {@code newSource} instead of the current source. Does nothing if it is already shown.
+     */
+    public void setSource(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+        List<E> removed = new ArrayList<>(source);
+        source.removeListener(forwarder);
+        source = newSource;
+        source.addListener(forwarder);
+
+        beginChange();
+        nextReplace(0, source.size(), removed);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    private void forward(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                nextReplace(change.getFrom(), change.getTo(), new ArrayList<>(change.getRemoved()));
+            }
+        }
+        endChange();
+    }
+}
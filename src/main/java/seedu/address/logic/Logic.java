@@ -1,13 +1,19 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyModuleTracker;
+import seedu.address.model.agenda.Agenda;
 import seedu.address.model.module.Module;
 
 /**
@@ -23,6 +29,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes a command that was built rather than typed, such as by the HTTP API, and returns the result. It is
+     * committed and saved just like a typed command.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Command command) throws CommandException;
+
+    /**
+     * Merges the changes made to the data file elsewhere, such as by a file syncing program, since it was last read
+     * or saved into the ModuleTracker, and saves the result. Modules changed both here and in the data file keep the
+     * version here. Commands merge such changes too, before saving.
+     * @return a description of the changes, or nothing if the data file has not changed.
+     * @throws DataConversionException If the data file is not in the correct format, such as while it is written.
+     * @throws IOException If the data file could not be read or saved.
+     */
+    Optional<String> mergeExternalChanges() throws DataConversionException, IOException;
+
     /**
      * Returns the ModuleTracker.
      *
@@ -30,6 +53,20 @@ public interface Logic {
      */
     ReadOnlyModuleTracker getModuleTracker();
 
+    /**
+     * Returns an immutable snapshot of the latest version of the ModuleTracker. May be called from any thread.
+     *
+     * @see seedu.address.model.Model#getModuleTrackerSnapshot()
+     */
+    ReadOnlyModuleTracker getModuleTrackerSnapshot();
+
+    /**
+     * Returns the number of modules with each tag, by tag name.
+     *
+     * @see seedu.address.model.Model#getTagCounts()
+     */
+    Map<String, Integer> getTagCounts();
+
     /** Returns an unmodifiable view of the filtered list of modules */
     ObservableList<Module> getDisplayedModuleList();
 
@@ -48,5 +85,8 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
-    String getWorkToday();
+    /**
+     * Returns today's lessons and deadlines.
+     */
+    Agenda getWorkToday();
 }
@@ -1,16 +1,20 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.core.Messages.MESSAGE_FAILED_COMMAND_IN_BATCH;
+
 import java.io.IOException;
 import java.nio.file.Path;
-import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -18,7 +22,9 @@ import seedu.address.logic.parser.ModuleTrackerParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyModuleTracker;
+import seedu.address.model.agenda.Agenda;
 import seedu.address.model.module.Module;
+import seedu.address.model.sync.ThreeWayMerge;
 import seedu.address.storage.Storage;
 
 /**
@@ -26,11 +32,18 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_EXTERNAL_CHANGES =
+            "Merged changes made to the data file elsewhere: %1$d added, %2$d removed, %3$d edited.";
+    public static final String MESSAGE_CONFLICTS =
+            "Kept your version of %1$s, also changed elsewhere. The data file's version is saved in %2$s.";
+    public static final String CONFLICT_FILE_SUFFIX = ".conflict";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final ModuleTrackerParser moduleTrackerParser;
+    /** The modules as they were when the data file was last read or saved, which changes are merged against. */
+    private ReadOnlyModuleTracker savedModules;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -39,30 +52,154 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         moduleTrackerParser = new ModuleTrackerParser();
+        savedModules = model.getModuleTrackerSnapshot();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return execute(moduleTrackerParser.parseCommands(commandText), commandText);
+    }
+
+    @Override
+    public CommandResult execute(Command command) throws CommandException {
+        logger.info("----------------[COMMAND][" + command.getClass().getSimpleName() + "]");
+        return execute(List.of(command), command.getClass().getSimpleName());
+    }
 
+    /**
+     * Executes {@code commands}, which were given as {@code commandText}, commits them as one change and saves the
+     * result.
+     */
+    private CommandResult execute(List<Command> commands, String commandText) throws CommandException {
         CommandResult commandResult;
-        Command command = moduleTrackerParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        boolean isExecuted = false;
+        try {
+            commandResult = executeAll(commands, commandText);
+            isExecuted = true;
+        } finally {
+            // whatever went wrong, the changes of the failed commands must not be committed with the next ones
+            if (!isExecuted) {
+                model.rollbackModuleTracker();
+            }
+        }
+        model.commitModuleTracker();
 
+        Optional<String> mergeFeedback = Optional.empty();
+        try {
+            mergeFeedback = merge();
+        } catch (DataConversionException e) {
+            logger.warning("The data file was changed elsewhere, but is not in the correct format. Overwriting it: "
+                    + e.getMessage());
+        } catch (IOException ioe) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
         try {
-            storage.saveModuleTracker(model.getModuleTracker());
+            save();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
 
+        if (mergeFeedback.isPresent()) {
+            return new CommandResult(commandResult.getFeedbackToUser() + "\n" + mergeFeedback.get(),
+                    commandResult.isShowHelp(), commandResult.isExit());
+        }
         return commandResult;
     }
 
+    @Override
+    public Optional<String> mergeExternalChanges() throws DataConversionException, IOException {
+        Optional<String> feedback = merge();
+        if (feedback.isPresent()) {
+            save();
+        }
+        return feedback;
+    }
+
+    /**
+     * Applies the changes made to the data file elsewhere since it was last read or saved to the model, keeping the
+     * model's version of any module changed on both sides. Returns a description of the changes, or nothing if the
+     * data file has not changed.
+     */
+    private Optional<String> merge() throws DataConversionException, IOException {
+        if (!storage.isModuleTrackerFileChanged()) {
+            return Optional.empty();
+        }
+        Optional<ReadOnlyModuleTracker> external = storage.readModuleTracker();
+        if (external.isEmpty()) {
+            logger.info("The data file was deleted elsewhere. It will be saved again with the next change.");
+            return Optional.empty();
+        }
+
+        ThreeWayMerge merge = ThreeWayMerge.of(savedModules.getModuleList(),
+                model.getModuleTrackerSnapshot().getModuleList(), external.get().getModuleList());
+        logger.info("Merging changes made to the data file elsewhere: " + merge.getAdded().size() + " added, "
+                + merge.getRemoved().size() + " removed, " + merge.getEdited().size() + " edited, "
+                + merge.getConflicts().size() + " conflicting");
+        merge.applyTo(model);
+        savedModules = external.get();
+
+        StringJoiner feedback = new StringJoiner("\n");
+        feedback.add(String.format(MESSAGE_EXTERNAL_CHANGES, merge.getAdded().size(), merge.getRemoved().size(),
+                merge.getEdited().size()));
+        if (!merge.getConflicts().isEmpty()) {
+            Path filePath = storage.getModuleTrackerFilePath();
+            Path conflictFilePath = filePath.resolveSibling(filePath.getFileName() + CONFLICT_FILE_SUFFIX);
+            storage.saveModuleTracker(external.get(), conflictFilePath);
+            feedback.add(String.format(MESSAGE_CONFLICTS, merge.getConflicts().stream().map(Module::getLabel)
+                    .collect(Collectors.joining(", ")), conflictFilePath.getFileName()));
+        }
+        return Optional.of(feedback.toString());
+    }
+
+    private void save() throws IOException {
+        storage.saveModuleTracker(model.getModuleTracker());
+        savedModules = model.getModuleTrackerSnapshot();
+    }
+
+    /**
+     * Executes {@code commands} in order, stopping at the first failure.
+     * The feedback of a batch is the feedback of each command, one per line.
+     */
+    private CommandResult executeAll(List<Command> commands, String commandText) throws CommandException {
+        if (commands.size() == 1) {
+            return commands.get(0).execute(model);
+        }
+
+        List<String> commandTexts = ModuleTrackerParser.splitCommands(commandText);
+        StringJoiner feedback = new StringJoiner("\n");
+        boolean showHelp = false;
+        boolean exit = false;
+        for (int i = 0; i < commands.size(); i++) {
+            CommandResult result;
+            try {
+                result = commands.get(i).execute(model);
+            } catch (CommandException ce) {
+                throw new CommandException(String.format(MESSAGE_FAILED_COMMAND_IN_BATCH, i + 1, commands.size(),
+                        commandTexts.get(i), ce.getMessage()), ce);
+            }
+            feedback.add(result.getFeedbackToUser());
+            showHelp |= result.isShowHelp();
+            exit |= result.isExit();
+        }
+        return new CommandResult(feedback.toString(), showHelp, exit);
+    }
+
     @Override
     public ReadOnlyModuleTracker getModuleTracker() {
         return model.getModuleTracker();
     }
 
+    @Override
+    public ReadOnlyModuleTracker getModuleTrackerSnapshot() {
+        return model.getModuleTrackerSnapshot();
+    }
+
+    @Override
+    public Map<String, Integer> getTagCounts() {
+        return model.getTagCounts();
+    }
+
     @Override
     public ObservableList<Module> getDisplayedModuleList() {
         return model.getDisplayedModuleList();
@@ -83,74 +220,8 @@ public class LogicManager implements Logic {
         model.setGuiSettings(guiSettings);
     }
 
-    public String getWorkToday() {
-
-        String deadlinesToday = "Deadlines Today: \n";
-        String timeSlotsToday = "Time Slots Today: \n";
-
-        for (int i = 0; i < model.getDisplayedModuleList().size(); i++) {
-            boolean isDeadlineNull = model.getDisplayedModuleList().get(i).getDeadline().value == null;
-            boolean isSlotNull = model.getDisplayedModuleList().get(i).getTimeSlot().getDay() == null;
-
-            // Handle deadlines
-            if (!isDeadlineNull) {
-                deadlinesToday += getDeadlinesToday(i);
-            }
-
-            // Handle Time Slots
-            if (!isSlotNull) {
-                timeSlotsToday += getSlotsToday(i);
-            }
-
-        }
-        String output = deadlinesToday + "\n\n" + timeSlotsToday;
-        if (output.length() <= 40) {
-            output = "No Time Slots or Deadlines Today! :)";
-        }
-        return output;
-    }
-
-    private String getDeadlinesToday(int index) {
-        LocalDate today = LocalDate.now();
-        Module module = model.getDisplayedModuleList().get(index);
-        String fullLine = "";
-
-        boolean isDeadlineToday = module.getDeadline().value.toLocalDate().isEqual(today);
-
-        if (isDeadlineToday) {
-            String moduleName = module.getName().fullName;
-            String moduleType = module.getTags().toString();
-            moduleType = moduleType.replace("[", "").replace("]", "");
-
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("hh:mm a");
-            LocalDateTime date = module.getDeadline().value;
-            String formattedDate = formatter.format(date);
-
-            fullLine = moduleName + " " + moduleType + " by: " + formattedDate + "\n";
-        }
-
-        return fullLine;
-    }
-
-    private String getSlotsToday(int index) {
-        DayOfWeek today = LocalDate.now().getDayOfWeek();
-        String fullLine = "";
-        Module module = model.getDisplayedModuleList().get(index);
-
-        boolean isSlotToday = module.getTimeSlot().getLocalDateTime().getDayOfWeek().equals(today);
-
-        if (isSlotToday) {
-            String moduleName = module.getName().fullName;
-            String moduleType = module.getTags().toString();
-            moduleType = moduleType.replace("[", "").replace("]", "");
-
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("hh:mm a");
-            LocalDateTime date = module.getTimeSlot().getLocalDateTime();
-            String formattedDate = formatter.format(date);
-
-            fullLine = moduleName + " " + moduleType + " Starting at: " + formattedDate + "\n";
-        }
-
-        return fullLine;
+    @Override
+    public Agenda getWorkToday() {
+        return model.getAgendas(0, 1).get(0);
     }
 }
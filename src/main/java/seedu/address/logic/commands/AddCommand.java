@@ -9,6 +9,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_RESOURCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TEACHER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MODULES;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -25,7 +26,7 @@ public class AddCommand extends Command {
             + "Parameters: "
             + PREFIX_NAME + "MODULE_NAME "
             + PREFIX_TAG + "DESCRIPTION (A description of your choice. Eg. Lecture/Tutorial/Lab) "
-            + "[" + PREFIX_TIMESLOT + "TIMESLOT] "
+            + "[" + PREFIX_TIMESLOT + "TIMESLOT]... "
             + "[" + PREFIX_ADDRESS + "VENUE] "
             + "[" + PREFIX_RESOURCE + "RESOURCE] "
             + "[" + PREFIX_TEACHER + "TEACHER] "
@@ -42,13 +43,23 @@ public class AddCommand extends Command {
     public static final String MESSAGE_DUPLICATE_MODULE = "This module already exists in the module tracker";
 
     private final Module toAdd;
+    private final boolean isShowingAll;
 
     /**
-     * Creates an AddCommand to add the specified {@code Module}
+     * Creates an AddCommand to add the specified {@code Module}, and show all modules so that it is displayed.
      */
     public AddCommand(Module module) {
+        this(module, true);
+    }
+
+    /**
+     * Creates an AddCommand to add the specified {@code Module}. Unless {@code isShowingAll}, what is displayed is
+     * left as it is, for additions that the user did not type.
+     */
+    public AddCommand(Module module, boolean isShowingAll) {
         requireNonNull(module);
         toAdd = module;
+        this.isShowingAll = isShowingAll;
     }
 
     @Override
@@ -60,13 +71,18 @@ public class AddCommand extends Command {
         }
 
         model.addModule(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        if (isShowingAll) {
+            model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd)
+                + ClashesCommand.getClashWarning(model, toAdd));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AddCommand // instanceof handles nulls
-                && toAdd.equals(((AddCommand) other).toAdd));
+                && toAdd.equals(((AddCommand) other).toAdd)
+                && isShowingAll == ((AddCommand) other).isShowingAll);
     }
 }
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import seedu.address.model.Model;
+import seedu.address.model.agenda.Agenda;
+
+/**
+ * Shows the lessons and deadlines of a run of days, starting from a day relative to today.
+ */
+public abstract class AgendaCommand extends Command {
+
+    public static final String MESSAGE_NOTHING_ON = "No lessons or deadlines on %1$s.";
+
+    private final int daysFromToday;
+    private final int days;
+    private final String period;
+
+    /**
+     * Creates an {@code AgendaCommand} showing {@code days} days, starting {@code daysFromToday} days from today.
+     * The days are called {@code period} when none of them has a lesson or deadline.
+     */
+    protected AgendaCommand(int daysFromToday, int days, String period) {
+        assert daysFromToday >= 0 && days > 0;
+        this.daysFromToday = daysFromToday;
+        this.days = days;
+        this.period = period;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Agenda> agendas = model.getAgendas(daysFromToday, days);
+        StringJoiner message = new StringJoiner("\n\n");
+        for (Agenda agenda : agendas) {
+            if (!agenda.isEmpty()) {
+                message.add(agenda.toString());
+            }
+        }
+        if (message.length() == 0) {
+            return new CommandResult(String.format(MESSAGE_NOTHING_ON, period));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other != null && other.getClass() == getClass() // getClass handles subclasses
+                && daysFromToday == ((AgendaCommand) other).daysFromToday
+                && days == ((AgendaCommand) other).days); // state check
+    }
+}
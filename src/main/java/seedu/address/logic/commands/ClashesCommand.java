@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.module.Module;
+import seedu.address.model.timetable.ClashDetector;
+import seedu.address.model.timetable.ClashGroup;
+
+/**
+ * Lists the modules whose timeslots clash, or turns clash warnings on adding and editing modules on or off.
+ */
+public class ClashesCommand extends Command {
+
+    public static final String COMMAND_WORD = "clashes";
+    public static final String WARN_KEYWORD = "warn";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the modules whose timeslots overlap, "
+            + "grouped by the period they overlap in. With warn on or warn off, turns warnings about clashes "
+            + "when adding or editing a module on or off.\n"
+            + "Parameters: [warn on|off]\n"
+            + "Example: " + COMMAND_WORD + "\n"
+            + "Example: " + COMMAND_WORD + " warn on";
+
+    public static final String MESSAGE_NO_CLASHES = "No clashes found.";
+    public static final String MESSAGE_CLASHES = "%1$d clashes found:";
+    public static final String MESSAGE_WARNINGS_ON = "Warnings about clashes are on.";
+    public static final String MESSAGE_WARNINGS_OFF = "Warnings about clashes are off.";
+    public static final String MESSAGE_CLASH_WARNING = "Warning: this module clashes with %1$s";
+
+    /** Whether to turn warnings on or off, or null to list the clashes. */
+    private final Boolean isWarningEnabled;
+
+    /**
+     * Creates a {@code ClashesCommand} that lists the clashes.
+     */
+    public ClashesCommand() {
+        this.isWarningEnabled = null;
+    }
+
+    /**
+     * Creates a {@code ClashesCommand} that turns clash warnings on or off.
+     */
+    public ClashesCommand(boolean isWarningEnabled) {
+        this.isWarningEnabled = isWarningEnabled;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (isWarningEnabled != null) {
+            model.setClashWarningEnabled(isWarningEnabled);
+            return new CommandResult(isWarningEnabled ? MESSAGE_WARNINGS_ON : MESSAGE_WARNINGS_OFF);
+        }
+
+        List<ClashGroup> clashes = ClashDetector.findClashes(model.getModuleTracker().getModuleList());
+        Set<Module> clashing = new HashSet<>();
+        clashes.forEach(clash -> clashing.addAll(clash.getModules()));
+        model.updateFilteredModuleList(clashing::contains);
+        if (clashes.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CLASHES);
+        }
+
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_CLASHES, clashes.size()));
+        for (int i = 0; i < clashes.size(); i++) {
+            report.append("\n").append(i + 1).append(". ").append(clashes.get(i));
+        }
+        return new CommandResult(report.toString());
+    }
+
+    /**
+     * Returns a warning naming the modules {@code module} clashes with, on a new line, or an empty string if there
+     * are none or clash warnings are off. {@code module} must already be in the module tracker.
+     */
+    public static String getClashWarning(Model model, Module module) {
+        if (!model.getUserPrefs().isClashWarningEnabled()) {
+            return "";
+        }
+        List<Module> clashing = model.getModulesClashingWith(module);
+        if (clashing.isEmpty()) {
+            return "";
+        }
+        String names = clashing.stream()
+                .map(other -> other.getName().fullName + " (" + other.getTimeSlots() + ")")
+                .collect(Collectors.joining(", "));
+        return "\n" + String.format(MESSAGE_CLASH_WARNING, names);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClashesCommand // instanceof handles nulls
+                && Objects.equals(isWarningEnabled, ((ClashesCommand) other).isWarningEnabled));
+    }
+}
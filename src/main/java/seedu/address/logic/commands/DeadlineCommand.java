@@ -57,7 +57,7 @@ public class DeadlineCommand extends Command {
 
         Module moduleToEdit = lastShownList.get(index.getZeroBased());
         Module editedModule = new Module(
-                moduleToEdit.getName(), moduleToEdit.getResource(), moduleToEdit.getTimeSlot(),
+                moduleToEdit.getName(), moduleToEdit.getResource(), moduleToEdit.getTimeSlots(),
                 moduleToEdit.getAddress(), moduleToEdit.getTags(), moduleToEdit.getRemark(), deadline,
                 moduleToEdit.getTeacher());
 
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Objects;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -11,7 +12,7 @@ import seedu.address.model.Model;
 import seedu.address.model.module.Module;
 
 /**
- * Deletes a module identified using it's displayed index from the module tracker.
+ * Deletes a module identified using it's displayed index, or the module itself, from the module tracker.
  */
 public class DeleteCommand extends Command {
 
@@ -25,29 +26,49 @@ public class DeleteCommand extends Command {
     public static final String MESSAGE_DELETE_MODULE_SUCCESS = "Deleted Module: %1$s";
 
     private final Index targetIndex;
+    private final Module target;
 
     public DeleteCommand(Index targetIndex) {
         this.targetIndex = targetIndex;
+        this.target = null;
+    }
+
+    /**
+     * Creates a {@code DeleteCommand} that deletes {@code target} itself, whether it is displayed or not.
+     */
+    public DeleteCommand(Module target) {
+        requireNonNull(target);
+        this.targetIndex = null;
+        this.target = target;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        Module moduleToDelete = target == null ? getDisplayedModule(model) : target;
+        if (!model.getModuleTracker().getModuleList().contains(moduleToDelete)) {
+            throw new CommandException(Messages.MESSAGE_MODULE_NOT_FOUND);
+        }
+
+        model.deleteModule(moduleToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_MODULE_SUCCESS, moduleToDelete));
+    }
+
+    private Module getDisplayedModule(Model model) throws CommandException {
         List<Module> lastShownList = model.getDisplayedModuleList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX);
         }
 
-        Module moduleToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteModule(moduleToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_MODULE_SUCCESS, moduleToDelete));
+        return lastShownList.get(targetIndex.getZeroBased());
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteCommand) other).targetIndex)); // state check
+                && Objects.equals(targetIndex, ((DeleteCommand) other).targetIndex)
+                && Objects.equals(target, ((DeleteCommand) other).target)); // state check
     }
 }
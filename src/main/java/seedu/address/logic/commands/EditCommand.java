@@ -14,6 +14,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MODULES;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -29,7 +30,7 @@ import seedu.address.model.module.Name;
 import seedu.address.model.module.Remark;
 import seedu.address.model.module.Resource;
 import seedu.address.model.module.Teacher;
-import seedu.address.model.module.TimeSlot;
+import seedu.address.model.module.TimeSlots;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -45,7 +46,7 @@ public class EditCommand extends Command {
             + "Parameters: INDEX (must be a positive integer) "
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_TAG + "DESCRIPTION] "
-            + "[" + PREFIX_TIMESLOT + "TIMESLOT] "
+            + "[" + PREFIX_TIMESLOT + "TIMESLOT]... "
             + "[" + PREFIX_ADDRESS + "VENUE] "
             + "[" + PREFIX_RESOURCE + "RESOURCE] "
             + "[" + PREFIX_TEACHER + "TEACHER] "
@@ -60,6 +61,7 @@ public class EditCommand extends Command {
     public static final String MESSAGE_DUPLICATE_MODULE = "This module already exists in the module tracker.";
 
     private final Index index;
+    private final Module target;
     private final EditModuleDescriptor editModuleDescriptor;
 
     /**
@@ -71,19 +73,33 @@ public class EditCommand extends Command {
         requireNonNull(editModuleDescriptor);
 
         this.index = index;
+        this.target = null;
+        this.editModuleDescriptor = new EditModuleDescriptor(editModuleDescriptor);
+    }
+
+    /**
+     * Creates an {@code EditCommand} that edits {@code target} itself, whether it is displayed or not, and leaves
+     * the displayed list as it is.
+     *
+     * @param target the module to edit
+     * @param editModuleDescriptor details to edit the module with
+     */
+    public EditCommand(Module target, EditModuleDescriptor editModuleDescriptor) {
+        requireNonNull(target);
+        requireNonNull(editModuleDescriptor);
+
+        this.index = null;
+        this.target = target;
         this.editModuleDescriptor = new EditModuleDescriptor(editModuleDescriptor);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Module> lastShownList = model.getDisplayedModuleList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX);
+        Module moduleToEdit = target == null ? getDisplayedModule(model) : target;
+        if (!model.getModuleTracker().getModuleList().contains(moduleToEdit)) {
+            throw new CommandException(Messages.MESSAGE_MODULE_NOT_FOUND);
         }
-
-        Module moduleToEdit = lastShownList.get(index.getZeroBased());
         Module editedModule = createEditedModule(moduleToEdit, editModuleDescriptor);
 
         if (!moduleToEdit.isSameModule(editedModule) && model.hasModule(editedModule)) {
@@ -91,8 +107,21 @@ public class EditCommand extends Command {
         }
 
         model.setModule(moduleToEdit, editedModule);
-        model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
-        return new CommandResult(String.format(MESSAGE_EDIT_MODULE_SUCCESS, editedModule));
+        if (target == null) {
+            model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+        }
+        return new CommandResult(String.format(MESSAGE_EDIT_MODULE_SUCCESS, editedModule)
+                + ClashesCommand.getClashWarning(model, editedModule));
+    }
+
+    private Module getDisplayedModule(Model model) throws CommandException {
+        List<Module> lastShownList = model.getDisplayedModuleList();
+
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX);
+        }
+
+        return lastShownList.get(index.getZeroBased());
     }
 
     /**
@@ -104,13 +133,13 @@ public class EditCommand extends Command {
 
         Name updatedName = editModuleDescriptor.getName().orElse(moduleToEdit.getName());
         Resource updatedResource = editModuleDescriptor.getResource().orElse(moduleToEdit.getResource());
-        TimeSlot updatedTimeSlot = editModuleDescriptor.getTimeSlot().orElse(moduleToEdit.getTimeSlot());
+        TimeSlots updatedTimeSlots = editModuleDescriptor.getTimeSlots().orElse(moduleToEdit.getTimeSlots());
         Address updatedAddress = editModuleDescriptor.getAddress().orElse(moduleToEdit.getAddress());
         Set<Tag> updatedTags = editModuleDescriptor.getTags().orElse(moduleToEdit.getTags());
         Remark updatedRemark = editModuleDescriptor.getRemark().orElse(moduleToEdit.getRemark());
         Deadline updatedDeadline = editModuleDescriptor.getDeadline().orElse(moduleToEdit.getDeadline());
         Teacher updatedTeacher = editModuleDescriptor.getTeacher().orElse(moduleToEdit.getTeacher());
-        return new Module(updatedName, updatedResource, updatedTimeSlot, updatedAddress, updatedTags, updatedRemark,
+        return new Module(updatedName, updatedResource, updatedTimeSlots, updatedAddress, updatedTags, updatedRemark,
                 updatedDeadline, updatedTeacher);
     }
 
@@ -128,7 +157,8 @@ public class EditCommand extends Command {
 
         // state check
         EditCommand e = (EditCommand) other;
-        return index.equals(e.index)
+        return Objects.equals(index, e.index)
+                && Objects.equals(target, e.target)
                 && editModuleDescriptor.equals(e.editModuleDescriptor);
     }
 
@@ -139,7 +169,7 @@ public class EditCommand extends Command {
     public static class EditModuleDescriptor {
         private Name name;
         private Resource resource;
-        private TimeSlot timeSlot;
+        private TimeSlots timeSlots;
         private Address address;
         private Set<Tag> tags;
         private Remark remark;
@@ -155,7 +185,7 @@ public class EditCommand extends Command {
         public EditModuleDescriptor(EditModuleDescriptor toCopy) {
             setName(toCopy.name);
             setResource(toCopy.resource);
-            setTimeSlot(toCopy.timeSlot);
+            setTimeSlots(toCopy.timeSlots);
             setAddress(toCopy.address);
             setTags(toCopy.tags);
             setRemark(toCopy.remark);
@@ -167,7 +197,7 @@ public class EditCommand extends Command {
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(name, resource, timeSlot, address, tags, remark, deadline, teacher);
+            return CollectionUtil.isAnyNonNull(name, resource, timeSlots, address, tags, remark, deadline, teacher);
         }
 
         public void setName(Name name) {
@@ -186,12 +216,12 @@ public class EditCommand extends Command {
             return Optional.ofNullable(resource);
         }
 
-        public void setTimeSlot(TimeSlot timeSlot) {
-            this.timeSlot = timeSlot;
+        public void setTimeSlots(TimeSlots timeSlots) {
+            this.timeSlots = timeSlots;
         }
 
-        public Optional<TimeSlot> getTimeSlot() {
-            return Optional.ofNullable(timeSlot);
+        public Optional<TimeSlots> getTimeSlots() {
+            return Optional.ofNullable(timeSlots);
         }
 
         public void setAddress(Address address) {
@@ -260,7 +290,7 @@ public class EditCommand extends Command {
 
             return getName().equals(e.getName())
                     && getResource().equals(e.getResource())
-                    && getTimeSlot().equals(e.getTimeSlot())
+                    && getTimeSlots().equals(e.getTimeSlots())
                     && getAddress().equals(e.getAddress())
                     && getTags().equals(e.getTags())
                     && getRemark().equals(e.getRemark())
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.NameContainsKeywordsPredicate;
+import seedu.address.model.workspace.WorkspaceMatches;
+import seedu.address.model.workspace.Workspaces;
+
+/**
+ * Finds the modules in every workspace, open or not, whose names or tags contain any of the keywords, and lists them
+ * by workspace.
+ */
+public class FindAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "findall";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the modules in all workspaces whose names or "
+            + "types contain any of the keywords (case-insensitive) and lists them by workspace. The open workspace "
+            + "is not changed.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " CS2103T lab";
+
+    public static final String MESSAGE_FOUND = "%1$d modules found in %2$d of %3$d workspaces:";
+    public static final String MESSAGE_WORKSPACE = "%1$s:";
+    public static final String MESSAGE_FAILED = "%1$s could not be searched: %2$s";
+
+    private final NameContainsKeywordsPredicate predicate;
+
+    /**
+     * Creates a {@code FindAllCommand} to find the modules matching any of the keywords of {@code predicate}.
+     */
+    public FindAllCommand(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Workspaces workspaces = model.getWorkspaces()
+                .orElseThrow(() -> new CommandException(WorkspaceCommand.MESSAGE_UNAVAILABLE));
+        List<WorkspaceMatches> results;
+        try {
+            results = workspaces.findInWorkspaces(predicate);
+        } catch (IOException e) {
+            throw new CommandException(String.format(WorkspaceCommand.MESSAGE_UNREADABLE,
+                    workspaces.getOpenWorkspace(), e.getMessage()), e);
+        }
+
+        StringBuilder matches = new StringBuilder();
+        StringBuilder failures = new StringBuilder();
+        int moduleCount = 0;
+        int workspaceCount = 0;
+        for (WorkspaceMatches result : results) {
+            if (result.getError().isPresent()) {
+                failures.append("\n").append(String.format(MESSAGE_FAILED, result.getWorkspace(),
+                        result.getError().get()));
+                continue;
+            }
+            if (result.getModules().isEmpty()) {
+                continue;
+            }
+            moduleCount += result.getModules().size();
+            workspaceCount++;
+            matches.append("\n").append(String.format(MESSAGE_WORKSPACE, result.getWorkspace()));
+            for (Module module : result.getModules()) {
+                matches.append("\n  ").append(module.getLabel());
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_FOUND, moduleCount, workspaceCount, results.size())
+                + matches + failures);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindAllCommand // instanceof handles nulls
+                && predicate.equals(((FindAllCommand) other).predicate)); // state check
+    }
+}
@@ -2,42 +2,169 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.module.Module;
 import seedu.address.model.module.NameContainsKeywordsPredicate;
+import seedu.address.model.query.KeywordCondition;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 
 /**
- * Finds and lists all modules in module tracker whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all modules in module tracker that match a query.
+ * Plain keywords match module names and tags, case insensitive; field conditions are answered from the
+ * module tracker's indexes where possible.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all modules whose names or types contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+    public static final String EXPLAIN_KEYWORD = "explain";
+    public static final String ARCHIVED_KEYWORD = "--archived";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all modules matching the query and displays "
+            + "them as a list with index numbers.\n"
+            + "Plain keywords match modules whose names or types contain any of them (case-insensitive). "
+            + "Conditions: name/NAME, tag/TAG, teacher/TEACHER, venue/VENUE, day/DAY, time/HH:MM-HH:MM, "
+            + "deadline/DDMMYY, deadline<DDMMYY (also <=, >, >=, optionally with HH:MM). "
+            + "~KEYWORD matches names, tags and teachers despite typos, closest first; ~KEYWORD~N allows N typos. "
+            + "Combine them with AND, OR, NOT and parentheses. Start with '" + EXPLAIN_KEYWORD + "' to show how "
+            + "the query is answered, or with '" + ARCHIVED_KEYWORD + "' to search the archived modules instead.\n"
+            + "Parameters: [" + EXPLAIN_KEYWORD + " | " + ARCHIVED_KEYWORD + "] QUERY\n"
             + "Example: " + COMMAND_WORD + " CS4243\n"
-            + "Example: " + COMMAND_WORD + " tutorial";
+            + "Example: " + COMMAND_WORD + " tag/lab AND teacher/Tan AND deadline<150423 AND day/monday\n"
+            + "Example: " + COMMAND_WORD + " ~lectrue\n"
+            + "Example: " + COMMAND_WORD + " " + ARCHIVED_KEYWORD + " CS2103T";
+
+    public static final String MESSAGE_EXPLAIN_ACTUAL = "Actual: %1$d modules examined, %2$d matching";
+    public static final String MESSAGE_ARCHIVED_LISTED = "%1$d archived modules listed:";
+    public static final String MESSAGE_ARCHIVE_UNREADABLE = "The archive could not be read: %1$s";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Query query;
+    private final boolean isExplain;
+    private final boolean isArchived;
+
+    /**
+     * Creates a FindCommand to list the modules matching {@code query}, describing how they were found if
+     * {@code isExplain} is true.
+     */
+    public FindCommand(Query query, boolean isExplain) {
+        this(query, isExplain, false);
+    }
 
+    /**
+     * Creates a FindCommand to list the modules matching {@code query}, from the archive instead of the module
+     * tracker if {@code isArchived} is true.
+     */
+    public FindCommand(Query query, boolean isExplain, boolean isArchived) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+        this.isArchived = isArchived;
+    }
+
+    /**
+     * Creates a FindCommand to list the modules matching any of the keywords of {@code predicate}.
+     */
     public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(new KeywordCondition(predicate.getKeywords()), false);
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredModuleList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_MODULES_LISTED_OVERVIEW, model.getDisplayedModuleList().size()));
+        if (isArchived) {
+            return findArchived(model);
+        }
+
+        QueryPlan plan = model.planQuery(query);
+        int examinedCount;
+        if (plan.isFullScan()) {
+            // Nothing to gain from collecting the matches first; let the list test every module itself.
+            examinedCount = plan.getEstimatedCandidates();
+            model.updateFilteredModuleList(query);
+        } else {
+            QueryPlan.Result result = plan.execute();
+            examinedCount = result.getExaminedCount();
+            model.updateFilteredModuleList(toFilter(query, model.getModuleTracker().getModuleList(),
+                    result.getMatches()), query);
+        }
+
+        if (query.isRanked()) {
+            // fuzzy conditions take the distances of the modules their index search found from its result
+            Map<Module, Integer> distances = new HashMap<>();
+            model.getDisplayedModuleList().forEach(module -> distances.put(module, query.distance(module)));
+            // modules that did not match are sorted too, as the ranking applies below the filter
+            model.updateModuleRanking(Comparator.comparingInt(module ->
+                    distances.getOrDefault(module, Integer.MAX_VALUE)));
+        }
+
+        int matchCount = model.getDisplayedModuleList().size();
+        String feedback = String.format(Messages.MESSAGE_MODULES_LISTED_OVERVIEW, matchCount);
+        if (isExplain) {
+            feedback += "\n" + plan.explain() + "\n" + String.format(MESSAGE_EXPLAIN_ACTUAL, examinedCount, matchCount);
+        }
+        return new CommandResult(feedback);
+    }
+
+    /**
+     * Returns a filter that matches the same modules as {@code query}, which the index planned {@code matches} from
+     * among {@code planned}. Those modules are answered from the plan without testing them again; any module added
+     * or edited later is tested against the query, just as in a full scan.
+     */
+    private static Predicate<Module> toFilter(Query query, List<Module> planned, Set<Module> matches) {
+        Set<Module> plannedModules = Collections.newSetFromMap(new IdentityHashMap<>());
+        plannedModules.addAll(planned);
+        return module -> plannedModules.contains(module) ? matches.contains(module) : query.test(module);
+    }
+
+    /**
+     * Lists the archived modules matching the query in the feedback, as archived modules are not in the module list.
+     */
+    private CommandResult findArchived(Model model) throws CommandException {
+        List<Module> matches = getArchivedMatches(model, query);
+        if (query.isRanked()) {
+            matches.sort(Comparator.comparingInt(query::distance));
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_ARCHIVED_LISTED, matches.size()));
+        matches.forEach(module -> feedback.append("\n").append(module.getLabel())
+                .append(" (deadline ").append(module.getDeadline()).append(")"));
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Returns the archived modules of {@code model} that match {@code query}, oldest archived first.
+     *
+     * @throws CommandException if the archive could not be read.
+     */
+    static List<Module> getArchivedMatches(Model model, Query query) throws CommandException {
+        try {
+            return model.getArchivedModules().stream().filter(query).collect(Collectors.toList());
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && query.equals(((FindCommand) other).query)
+                && isExplain == ((FindCommand) other).isExplain
+                && isArchived == ((FindCommand) other).isArchived); // state check
     }
 }
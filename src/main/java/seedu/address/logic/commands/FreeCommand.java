@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.timetable.FreePeriod;
+import seedu.address.model.timetable.WeekOccupancy;
+
+/**
+ * Lists the periods of the week in which no module takes place.
+ */
+public class FreeCommand extends Command {
+
+    public static final String COMMAND_WORD = "free";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the free periods of at least MINUTES minutes "
+            + "on each day of the week, optionally only between the times FROM and TO (HH:MM, with TO up to 24:00).\n"
+            + "Parameters: MINUTES [FROM TO]\n"
+            + "Example: " + COMMAND_WORD + " 60 09:00 18:00";
+
+    public static final String MESSAGE_FREE_PERIODS = "Free periods of at least %1$d minutes between %2$s and %3$s:";
+    public static final String MESSAGE_NO_FREE_PERIODS =
+            "There are no free periods of at least %1$d minutes between %2$s and %3$s.";
+
+    private final int minLength;
+    private final int fromMinute;
+    private final int toMinute;
+
+    /**
+     * Creates a {@code FreeCommand} listing free periods of at least {@code minLength} minutes between minute
+     * {@code fromMinute} and minute {@code toMinute} of each day.
+     */
+    public FreeCommand(int minLength, int fromMinute, int toMinute) {
+        assert minLength > 0;
+        assert 0 <= fromMinute && fromMinute < toMinute && toMinute <= WeekOccupancy.MINUTES_PER_DAY;
+        this.minLength = minLength;
+        this.fromMinute = fromMinute;
+        this.toMinute = toMinute;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<FreePeriod> periods = model.getFreePeriods(minLength, fromMinute, toMinute);
+        String from = FreePeriod.formatMinute(fromMinute);
+        String to = FreePeriod.formatMinute(toMinute);
+        if (periods.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_PERIODS, minLength, from, to));
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_FREE_PERIODS, minLength, from, to));
+        periods.forEach(period -> message.append("\n").append(period));
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FreeCommand // instanceof handles nulls
+                && minLength == ((FreeCommand) other).minLength
+                && fromMinute == ((FreeCommand) other).fromMinute
+                && toMinute == ((FreeCommand) other).toMinute); // state check
+    }
+}
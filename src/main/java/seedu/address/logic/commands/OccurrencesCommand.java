@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Objects;
+
+import seedu.address.model.Model;
+import seedu.address.model.timetable.Occurrence;
+
+/**
+ * Lists the dated lessons of all modules, either between two dates or the next few from now.
+ */
+public class OccurrencesCommand extends Command {
+
+    public static final String COMMAND_WORD = "occurrences";
+    public static final String NEXT_KEYWORD = "next";
+    public static final int MAX_SHOWN = 100;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the lessons of all modules from the date FROM "
+            + "to the date TO (ddMMyy), both included, or the next COUNT lessons from now, up to " + MAX_SHOWN
+            + ". Only the lessons of the term are listed if one is set.\n"
+            + "Parameters: FROM TO or " + NEXT_KEYWORD + " COUNT\n"
+            + "Example: " + COMMAND_WORD + " 200223 260223\n"
+            + "Example: " + COMMAND_WORD + " " + NEXT_KEYWORD + " 5";
+
+    public static final String MESSAGE_OCCURRENCES_BETWEEN = "Lessons from %1$s to %2$s:";
+    public static final String MESSAGE_NO_OCCURRENCES_BETWEEN = "No lessons from %1$s to %2$s.";
+    public static final String MESSAGE_NEXT_OCCURRENCES = "Next %1$d lessons:";
+    public static final String MESSAGE_NO_NEXT_OCCURRENCES = "No lessons coming up.";
+    public static final String MESSAGE_TRUNCATED = "Only the first " + MAX_SHOWN + " lessons are shown.";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy");
+
+    /** The first and last dates to list the lessons of, or null to list the next {@code count} lessons. */
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final int count;
+
+    /**
+     * Creates an {@code OccurrencesCommand} listing the lessons from {@code fromDate} to {@code toDate}, both
+     * included.
+     */
+    public OccurrencesCommand(LocalDate fromDate, LocalDate toDate) {
+        requireNonNull(fromDate);
+        requireNonNull(toDate);
+        assert !toDate.isBefore(fromDate);
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.count = MAX_SHOWN;
+    }
+
+    /**
+     * Creates an {@code OccurrencesCommand} listing the next {@code count} lessons.
+     */
+    public OccurrencesCommand(int count) {
+        assert count > 0 && count <= MAX_SHOWN;
+        this.fromDate = null;
+        this.toDate = null;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDateTime from = fromDate == null ? model.getTimeService().now() : fromDate.atStartOfDay();
+        LocalDateTime until = toDate == null ? LocalDateTime.MAX : toDate.plusDays(1).atStartOfDay();
+
+        Iterator<Occurrence> occurrences = model.getOccurrencesFrom(from);
+        StringBuilder listed = new StringBuilder();
+        int shown = 0;
+        while (shown < count && occurrences.hasNext()) {
+            Occurrence occurrence = occurrences.next();
+            if (!occurrence.getStart().isBefore(until)) {
+                break;
+            }
+            listed.append("\n").append(occurrence);
+            shown++;
+        }
+
+        if (fromDate == null) {
+            return new CommandResult(shown == 0
+                    ? MESSAGE_NO_NEXT_OCCURRENCES
+                    : String.format(MESSAGE_NEXT_OCCURRENCES, shown) + listed);
+        }
+        String period = String.format(shown == 0 ? MESSAGE_NO_OCCURRENCES_BETWEEN : MESSAGE_OCCURRENCES_BETWEEN,
+                FORMATTER.format(fromDate), FORMATTER.format(toDate));
+        boolean isTruncated = shown == count && occurrences.hasNext() && occurrences.next().getStart().isBefore(until);
+        return new CommandResult(period + listed + (isTruncated ? "\n" + MESSAGE_TRUNCATED : ""));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OccurrencesCommand // instanceof handles nulls
+                && Objects.equals(fromDate, ((OccurrencesCommand) other).fromDate)
+                && Objects.equals(toDate, ((OccurrencesCommand) other).toDate)
+                && count == ((OccurrencesCommand) other).count); // state check
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.TimeSlot;
+import seedu.address.model.timetable.TimetablePlan;
+import seedu.address.model.timetable.TimetableSolver;
+
+/**
+ * Picks a timeslot for each of some modules from candidate timeslots, so that the timetable has as few clashes as
+ * possible. Modules without candidates keep their timeslots. The module tracker is not changed.
+ */
+public class PlanCommand extends Command {
+
+    public static final String COMMAND_WORD = "plan";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Picks a timeslot for each of the modules identified "
+            + "by the index numbers used in the displayed module list, out of its current timeslots and the given "
+            + "candidates, so that as few modules clash as possible. The other modules keep their timeslots.\n"
+            + "Parameters: INDEX: TIMESLOT[, TIMESLOT]...[; INDEX: TIMESLOT[, TIMESLOT]...]...\n"
+            + "Example: " + COMMAND_WORD + " 1: Monday 10:00 12:00, Thursday 16:00 18:00; 2: Friday 08:00 10:00";
+
+    public static final String MESSAGE_CLASH_FREE = "Found a timetable without clashes:";
+    public static final String MESSAGE_FEWEST_CLASHES =
+            "There is no timetable without clashes. This timetable has the fewest possible clashes, %1$d:";
+    public static final String MESSAGE_OUT_OF_TIME =
+            "No timetable without clashes was found in time. The best found has %1$d clashes:";
+    public static final String MESSAGE_CLASHES = "Clashes:";
+
+    /** How long to search for a better timetable before settling for the best one found. */
+    public static final Duration TIME_BUDGET = Duration.ofSeconds(2);
+
+    private final Map<Index, List<TimeSlot>> candidates;
+
+    /**
+     * Creates a {@code PlanCommand} choosing among {@code candidates} for the module at each index.
+     */
+    public PlanCommand(Map<Index, List<TimeSlot>> candidates) {
+        requireNonNull(candidates);
+        this.candidates = new LinkedHashMap<>(candidates);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Module> lastShownList = model.getDisplayedModuleList();
+        Map<Module, List<TimeSlot>> planned = new LinkedHashMap<>();
+        for (Map.Entry<Index, List<TimeSlot>> entry : candidates.entrySet()) {
+            if (entry.getKey().getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX);
+            }
+            Module module = lastShownList.get(entry.getKey().getZeroBased());
+            Set<TimeSlot> moduleCandidates = new LinkedHashSet<>();
+            moduleCandidates.addAll(module.getTimeSlots().asList());
+            moduleCandidates.addAll(entry.getValue());
+            planned.put(module, new ArrayList<>(moduleCandidates));
+        }
+
+        List<Module> modules = new ArrayList<>();
+        List<List<TimeSlot>> moduleCandidates = new ArrayList<>();
+        Map<Module, Integer> positions = new HashMap<>();
+        for (Module module : model.getModuleTracker().getModuleList()) {
+            List<TimeSlot> timeSlots = planned.get(module);
+            if (timeSlots != null) {
+                positions.put(module, modules.size());
+                modules.add(module);
+                moduleCandidates.add(timeSlots);
+                continue;
+            }
+            // Each timeslot of a module that is not planned stays where it is, so it takes part on its own.
+            for (TimeSlot timeSlot : module.getTimeSlots().asList()) {
+                modules.add(module);
+                moduleCandidates.add(List.of(timeSlot));
+            }
+        }
+
+        TimetablePlan plan = new TimetableSolver(moduleCandidates).solve(TIME_BUDGET);
+        return new CommandResult(describe(plan, modules, planned.keySet(), positions));
+    }
+
+    private static String describe(TimetablePlan plan, List<Module> modules, Set<Module> planned,
+            Map<Module, Integer> positions) {
+        int clashCount = plan.getClashes().size();
+        StringBuilder message = new StringBuilder(clashCount == 0
+                ? MESSAGE_CLASH_FREE
+                : String.format(plan.isOptimal() ? MESSAGE_FEWEST_CLASHES : MESSAGE_OUT_OF_TIME, clashCount));
+        for (Module module : planned) {
+            message.append("\n").append(module.getName().fullName).append(": ")
+                    .append(plan.getTimeSlots().get(positions.get(module)));
+        }
+        if (clashCount > 0) {
+            message.append("\n").append(MESSAGE_CLASHES);
+            for (TimetablePlan.Clash clash : plan.getClashes()) {
+                message.append("\n").append(describe(plan, modules, clash.getFirst())).append(" and ")
+                        .append(describe(plan, modules, clash.getSecond()));
+            }
+        }
+        return message.toString();
+    }
+
+    private static String describe(TimetablePlan plan, List<Module> modules, int position) {
+        return modules.get(position).getName().fullName + " (" + plan.getTimeSlots().get(position) + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PlanCommand // instanceof handles nulls
+                && candidates.equals(((PlanCommand) other).candidates)); // state check
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_ARCHIVE_UNWRITABLE;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MODULES;
+
+import java.io.UncheckedIOException;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Re-applies the latest change that was undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoModuleTracker()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        try {
+            model.redoModuleTracker();
+        } catch (UncheckedIOException e) {
+            // only archiving or unarchiving modules again can fail, and then nothing is changed
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_UNWRITABLE, e.getCause().getMessage()), e);
+        }
+        model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -54,7 +54,7 @@ public class RemarkCommand extends Command {
 
         Module moduleToEdit = lastShownList.get(index.getZeroBased());
         Module editedModule = new Module(
-                moduleToEdit.getName(), moduleToEdit.getResource(), moduleToEdit.getTimeSlot(),
+                moduleToEdit.getName(), moduleToEdit.getResource(), moduleToEdit.getTimeSlots(),
                 moduleToEdit.getAddress(), moduleToEdit.getTags(), remark, moduleToEdit.getDeadline(),
                 moduleToEdit.getTeacher());
 
@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.module.Module;
+import seedu.address.model.query.ModuleIndexes;
+import seedu.address.model.query.TextIndex;
+
+/**
+ * Searches the remarks, resources, teachers and venues of all modules for any of the given words, and lists the
+ * matching modules best match first.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all modules whose remark, resource, teacher "
+            + "or venue contains any of the specified words (case-insensitive) and lists them with the best match "
+            + "first, showing where the words were found.\n"
+            + "Parameters: WORD [MORE_WORDS]...\n"
+            + "Example: " + COMMAND_WORD + " quiz recording";
+
+    public static final String MESSAGE_HIT = "%1$d. %2$s (score %3$.2f)";
+    public static final String MESSAGE_MORE_HITS = "...and %1$d more";
+    public static final String HIGHLIGHT_START = "[";
+    public static final String HIGHLIGHT_END = "]";
+
+    /** Number of matches described in the result; the rest are only listed. */
+    static final int MAX_DESCRIBED_HITS = 10;
+    /** Number of words of a field shown around the first match. */
+    static final int SNIPPET_WORDS = 12;
+
+    private final List<String> terms;
+
+    /**
+     * Creates a {@code SearchCommand} for {@code terms}, which must be in lower case.
+     */
+    public SearchCommand(List<String> terms) {
+        requireNonNull(terms);
+        this.terms = terms;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<TextIndex.Hit> hits = model.searchText(terms);
+
+        Map<Module, Integer> ranks = new HashMap<>();
+        for (TextIndex.Hit hit : hits) {
+            ranks.put(hit.getModule(), ranks.size());
+        }
+        model.updateFilteredModuleList(ranks::containsKey);
+        model.updateModuleRanking(Comparator.comparingInt(module -> ranks.getOrDefault(module, Integer.MAX_VALUE)));
+
+        StringBuilder feedback = new StringBuilder(
+                String.format(Messages.MESSAGE_MODULES_LISTED_OVERVIEW, hits.size()));
+        for (int i = 0; i < Math.min(hits.size(), MAX_DESCRIBED_HITS); i++) {
+            feedback.append("\n").append(describe(i + 1, hits.get(i)));
+        }
+        if (hits.size() > MAX_DESCRIBED_HITS) {
+            feedback.append("\n").append(String.format(MESSAGE_MORE_HITS, hits.size() - MAX_DESCRIBED_HITS));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    private static String describe(int rank, TextIndex.Hit hit) {
+        Module module = hit.getModule();
+        Set<String> matchedTerms = hit.getMatchedTerms();
+        StringBuilder description = new StringBuilder(
+                String.format(MESSAGE_HIT, rank, module.getName().fullName, hit.getScore()));
+        ModuleIndexes.textFields(module).forEach((field, text) -> {
+            TextIndex.highlight(text, matchedTerms, HIGHLIGHT_START, HIGHLIGHT_END, SNIPPET_WORDS).ifPresent(snippet ->
+                    description.append("\n    ").append(field).append(": ").append(snippet));
+        });
+        return description.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchCommand // instanceof handles nulls
+                && terms.equals(((SearchCommand) other).terms)); // state check
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.sync.SyncDelta;
+import seedu.address.model.sync.SyncEntry;
+import seedu.address.model.sync.SyncLog;
+import seedu.address.model.sync.SyncStore;
+
+/**
+ * Exports the changes to the module tracker that another copy of it may not have to a file, or imports the changes
+ * another copy exported.
+ */
+public class SyncCommand extends Command {
+
+    public static final String COMMAND_WORD = "sync";
+    public static final String EXPORT_KEYWORD = "export";
+    public static final String IMPORT_KEYWORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exchanges changes with another copy of the module "
+            + "tracker, such as on another computer, through a file. '" + EXPORT_KEYWORD + "' writes the changes "
+            + "the other copy has not seen to the file, and '" + IMPORT_KEYWORD + "' merges the changes in the file "
+            + "into this copy.\n"
+            + "Parameters: " + EXPORT_KEYWORD + "|" + IMPORT_KEYWORD + " FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + EXPORT_KEYWORD + " D:/laptop-changes.json";
+
+    public static final String MESSAGE_EXPORTED = "Exported %1$d changes to %2$s.";
+    public static final String MESSAGE_IMPORTED =
+            "Applied %1$d of the %2$d changes in %3$s. The rest were known here or older than changes made here.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "There is no file %1$s.";
+    public static final String MESSAGE_OWN_CHANGES = "The changes in %1$s were exported by this module tracker.";
+    public static final String MESSAGE_UNREADABLE = "The file %1$s could not be read: %2$s";
+    public static final String MESSAGE_UNWRITABLE = "The file %1$s could not be written: %2$s";
+    public static final String MESSAGE_LOG_UNREADABLE = "The sync log of the module tracker could not be read: %1$s";
+    public static final String MESSAGE_UNAVAILABLE = "Syncing is not available.";
+
+    /**
+     * What the command does.
+     */
+    public enum Action {
+        EXPORT, IMPORT
+    }
+
+    private final Action action;
+    private final Path filePath;
+
+    /**
+     * Creates a {@code SyncCommand} exporting changes to, or importing changes from, {@code filePath}.
+     */
+    public SyncCommand(Action action, Path filePath) {
+        requireNonNull(action);
+        requireNonNull(filePath);
+        this.action = action;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        SyncStore syncStore = model.getSyncStore().orElseThrow(() -> new CommandException(MESSAGE_UNAVAILABLE));
+        SyncLog syncLog;
+        try {
+            syncLog = syncStore.readSyncLog();
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_LOG_UNREADABLE, e.getMessage()), e);
+        }
+        // changes made since the last sync take part as this copy's own
+        syncLog.record(model.getModuleTracker().getModuleList());
+
+        switch (action) {
+        case IMPORT:
+            return importChanges(model, syncStore, syncLog);
+        default:
+            return exportChanges(syncStore, syncLog);
+        }
+    }
+
+    private CommandResult exportChanges(SyncStore syncStore, SyncLog syncLog) throws CommandException {
+        SyncDelta delta = syncLog.export();
+        try {
+            syncStore.saveSyncDelta(delta, filePath);
+            syncStore.saveSyncLog(syncLog);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_UNWRITABLE, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_EXPORTED, delta.getEntries().size(), filePath));
+    }
+
+    private CommandResult importChanges(Model model, SyncStore syncStore, SyncLog syncLog) throws CommandException {
+        Optional<SyncDelta> delta;
+        try {
+            delta = syncStore.readSyncDelta(filePath);
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_UNREADABLE, filePath, e.getMessage()), e);
+        }
+        if (delta.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+        if (delta.get().getReplica().equals(syncLog.getReplica())) {
+            throw new CommandException(String.format(MESSAGE_OWN_CHANGES, filePath));
+        }
+
+        List<SyncEntry> applied = syncLog.importDelta(delta.get(), model);
+        try {
+            syncStore.saveSyncLog(syncLog);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_UNWRITABLE, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_IMPORTED, applied.size(), delta.get().getEntries().size(),
+                filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SyncCommand // instanceof handles nulls
+                && action == ((SyncCommand) other).action
+                && filePath.equals(((SyncCommand) other).filePath)); // state check
+    }
+}
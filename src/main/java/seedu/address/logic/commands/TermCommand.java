@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOLIDAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECESS_WEEK;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.Model;
+import seedu.address.model.timetable.Term;
+
+/**
+ * Shows, sets or clears the term that lessons take place in.
+ */
+public class TermCommand extends Command {
+
+    public static final String COMMAND_WORD = "term";
+    public static final String CLEAR_KEYWORD = "clear";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sets the term lessons take place in, from the date "
+            + "START to the date END (ddMMyy), except in the given recess weeks, numbered from 1 for the week the "
+            + "term starts in, and on the given holidays. Without parameters, shows the term; with clear, lets "
+            + "lessons recur every week again.\n"
+            + "Parameters: [START END [" + PREFIX_RECESS_WEEK + "RECESS_WEEK]... [" + PREFIX_HOLIDAY
+            + "HOLIDAY]...] or [" + CLEAR_KEYWORD + "]\n"
+            + "Example: " + COMMAND_WORD + " 090123 280423 " + PREFIX_RECESS_WEEK + "7 " + PREFIX_HOLIDAY + "070423";
+
+    public static final String MESSAGE_TERM = "Term: %1$s";
+    public static final String MESSAGE_NO_TERM = "No term is set, so lessons recur every week.";
+    public static final String MESSAGE_TERM_SET = "Term set: %1$s";
+    public static final String MESSAGE_TERM_CLEARED = "Term cleared, so lessons recur every week.";
+
+    /** The term to set, or null to clear it. */
+    private final Term term;
+    private final boolean isShowing;
+
+    /**
+     * Creates a {@code TermCommand} that shows the term.
+     */
+    public TermCommand() {
+        this.term = null;
+        this.isShowing = true;
+    }
+
+    /**
+     * Creates a {@code TermCommand} that sets the term to {@code term}, or clears it if {@code term} is null.
+     */
+    public TermCommand(Term term) {
+        this.term = term;
+        this.isShowing = false;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (isShowing) {
+            Optional<Term> current = model.getUserPrefs().getTerm();
+            return new CommandResult(current.map(shown -> String.format(MESSAGE_TERM, shown)).orElse(MESSAGE_NO_TERM));
+        }
+        model.setTerm(term);
+        return new CommandResult(term == null ? MESSAGE_TERM_CLEARED : String.format(MESSAGE_TERM_SET, term));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TermCommand // instanceof handles nulls
+                && isShowing == ((TermCommand) other).isShowing
+                && Objects.equals(term, ((TermCommand) other).term)); // state check
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.logic.commands;
+
+/**
+ * Shows today's lessons and deadlines.
+ */
+public class TodayCommand extends AgendaCommand {
+
+    public static final String COMMAND_WORD = "today";
+
+    public TodayCommand() {
+        super(0, 1, "today");
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.logic.commands;
+
+/**
+ * Shows tomorrow's lessons and deadlines.
+ */
+public class TomorrowCommand extends AgendaCommand {
+
+    public static final String COMMAND_WORD = "tomorrow";
+
+    public TomorrowCommand() {
+        super(1, 1, "tomorrow");
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_ARCHIVE_UNWRITABLE;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MODULES;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.module.Module;
+import seedu.address.model.query.Query;
+
+/**
+ * Moves the archived modules matching a query back into the module tracker.
+ */
+public class UnarchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "unarchive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Moves the archived modules matching the query "
+            + "back into the module tracker. The query is written as for '" + FindCommand.COMMAND_WORD + "'.\n"
+            + "Parameters: QUERY\n"
+            + "Example: " + COMMAND_WORD + " CS2103T AND tag/lecture";
+
+    public static final String MESSAGE_SUCCESS = "%1$d modules unarchived:";
+    public static final String MESSAGE_NO_MATCHES = "No archived module matches the query.";
+
+    private final Query query;
+
+    /**
+     * Creates an UnarchiveCommand to move the archived modules matching {@code query} back.
+     */
+    public UnarchiveCommand(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Module> matches = FindCommand.getArchivedMatches(model, query);
+        if (matches.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_MATCHES);
+        }
+
+        try {
+            model.unarchiveModules(matches);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_UNWRITABLE, e.getMessage()), e);
+        }
+        model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, matches.size()));
+        matches.forEach(module -> feedback.append("\n").append(module.getLabel()));
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UnarchiveCommand // instanceof handles nulls
+                && query.equals(((UnarchiveCommand) other).query)); // state check
+    }
+}
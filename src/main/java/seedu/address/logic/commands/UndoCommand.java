@@ -0,0 +1,38 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_ARCHIVE_UNWRITABLE;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MODULES;
+
+import java.io.UncheckedIOException;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Reverts the module tracker to the state before the latest change.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoModuleTracker()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        try {
+            model.undoModuleTracker();
+        } catch (UncheckedIOException e) {
+            // only archiving or unarchiving modules again can fail, and then nothing is changed
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_UNWRITABLE, e.getCause().getMessage()), e);
+        }
+        model.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.integrity.IntegrityChecker;
+import seedu.address.model.integrity.IntegrityReport;
+
+/**
+ * Checks that the data file of the module tracker is intact: that its checksum matches its content, and that every
+ * module in it is valid.
+ */
+public class VerifyCommand extends Command {
+
+    public static final String COMMAND_WORD = "verify";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Checks that the data file is intact: that its "
+            + "checksum matches its content and that every module in it is valid.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_INTACT =
+            "The data file %1$s is intact: its checksum matches, and all %2$d modules in it are valid.";
+    public static final String MESSAGE_NO_CHECKSUM = "The data file %1$s has no checksum, but all %2$d modules in it "
+            + "are valid. It is given a checksum when it is next saved.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "The checksum of the data file %1$s does not match its "
+            + "content, so it was changed outside the app, but all %2$d modules in it are valid.";
+    public static final String MESSAGE_INVALID = "The data file %1$s is damaged: %2$s";
+    public static final String MESSAGE_UNREADABLE = "The data file is damaged and could not be read: %1$s";
+    public static final String MESSAGE_NO_FILE = "There is no data file yet. It is created when the modules are "
+            + "first saved.";
+    public static final String MESSAGE_READ_FAILED = "The data file could not be read: %1$s";
+    public static final String MESSAGE_UNAVAILABLE = "Verifying the data file is not available.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        IntegrityChecker integrityChecker = model.getIntegrityChecker()
+                .orElseThrow(() -> new CommandException(MESSAGE_UNAVAILABLE));
+        Optional<IntegrityReport> report;
+        try {
+            report = integrityChecker.verifyModuleTracker();
+        } catch (DataConversionException e) {
+            return new CommandResult(String.format(MESSAGE_UNREADABLE, e.getMessage()));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, e.getMessage()), e);
+        }
+        if (report.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_FILE);
+        }
+        return new CommandResult(describe(report.get()));
+    }
+
+    private static String describe(IntegrityReport report) {
+        if (report.getProblem().isPresent()) {
+            return String.format(MESSAGE_INVALID, report.getFilePath(), report.getProblem().get());
+        }
+        switch (report.getChecksumState()) {
+        case MISSING:
+            return String.format(MESSAGE_NO_CHECKSUM, report.getFilePath(), report.getModuleCount());
+        case MISMATCHED:
+            return String.format(MESSAGE_CHECKSUM_MISMATCH, report.getFilePath(), report.getModuleCount());
+        default:
+            return String.format(MESSAGE_INTACT, report.getFilePath(), report.getModuleCount());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.util.ComparatorUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.QueryParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.module.Module;
+import seedu.address.model.view.SavedView;
+
+/**
+ * Saves the query and sort order of the displayed modules as a named view, shows a saved view, or lists the saved
+ * views.
+ */
+public class ViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "view";
+    public static final String SAVE_KEYWORD = "save";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves how the modules are currently found and "
+            + "sorted under a name, or shows the modules saved under a name. Without a name, lists the saved views.\n"
+            + "Parameters: [save] [NAME]\n"
+            + "Example: " + COMMAND_WORD + " save labs\n"
+            + "Example: " + COMMAND_WORD + " labs";
+
+    public static final String MESSAGE_SAVED = "Saved view %1$s: %2$s";
+    public static final String MESSAGE_SHOWN = "Showing view %1$s: %2$s\n%3$s";
+    public static final String MESSAGE_LIST = "Saved views:%1$s";
+    public static final String MESSAGE_NO_VIEWS = "There are no saved views. Save one with: view save NAME";
+    public static final String MESSAGE_UNKNOWN_VIEW = "There is no view saved as %1$s.";
+    public static final String MESSAGE_NOT_SAVABLE =
+            "Only modules listed by find, list or sort can be saved as a view.";
+    public static final String MESSAGE_INVALID_VIEW = "The view %1$s cannot be shown: %2$s";
+
+    /**
+     * What the command does.
+     */
+    public enum Action {
+        LIST, SAVE, SHOW
+    }
+
+    private final Action action;
+    private final String name;
+
+    /**
+     * Creates a {@code ViewCommand} doing {@code action} on the view called {@code name}, which is ignored when
+     * listing the views.
+     */
+    public ViewCommand(Action action, String name) {
+        requireNonNull(action);
+        this.action = action;
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        switch (action) {
+        case SAVE:
+            SavedView displayedView = model.getDisplayedView()
+                    .orElseThrow(() -> new CommandException(MESSAGE_NOT_SAVABLE));
+            model.saveView(name, displayedView);
+            return new CommandResult(String.format(MESSAGE_SAVED, name, displayedView));
+        case SHOW:
+            return show(model);
+        default:
+            return list(model);
+        }
+    }
+
+    private CommandResult show(Model model) throws CommandException {
+        SavedView view = model.getUserPrefs().getSavedViews().get(name);
+        if (view == null) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_VIEW, name));
+        }
+
+        Predicate<Module> predicate = Model.PREDICATE_SHOW_ALL_MODULES;
+        if (!view.getQuery().isEmpty()) {
+            try {
+                predicate = new QueryParser().parse(view.getQuery());
+            } catch (ParseException pe) {
+                throw new CommandException(String.format(MESSAGE_INVALID_VIEW, name, pe.getMessage()), pe);
+            }
+        }
+        Comparator<Module> comparator = null;
+        if (!view.getSortKey().isEmpty()) {
+            comparator = ComparatorUtil.getComparator(view.getSortKey());
+            if (!view.getSortKey().equals(ComparatorUtil.getKeyword(comparator))) {
+                throw new CommandException(String.format(MESSAGE_INVALID_VIEW, name,
+                        "unknown sort order " + view.getSortKey()));
+            }
+        }
+
+        model.showView(name, predicate, comparator);
+        return new CommandResult(String.format(MESSAGE_SHOWN, name, view,
+                String.format(Messages.MESSAGE_MODULES_LISTED_OVERVIEW, model.getDisplayedModuleList().size())));
+    }
+
+    private CommandResult list(Model model) {
+        Map<String, SavedView> views = model.getUserPrefs().getSavedViews();
+        if (views.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_VIEWS);
+        }
+        StringBuilder list = new StringBuilder();
+        views.forEach((viewName, view) -> list.append("\n").append(viewName).append(": ").append(view));
+        return new CommandResult(String.format(MESSAGE_LIST, list));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ViewCommand // instanceof handles nulls
+                && action == ((ViewCommand) other).action
+                && Objects.equals(name, ((ViewCommand) other).name)); // state check
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.address.logic.commands;
+
+/**
+ * Shows the lessons and deadlines of the seven days starting today, skipping days without any.
+ */
+public class WeekCommand extends AgendaCommand {
+
+    public static final String COMMAND_WORD = "week";
+
+    public static final int DAYS = 7;
+
+    public WeekCommand() {
+        super(0, DAYS, "the next " + DAYS + " days");
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.workspace.Workspaces;
+
+/**
+ * Lists the workspaces, switches to another workspace, or opens a workspace, creating it if needed.
+ */
+public class WorkspaceCommand extends Command {
+
+    public static final String COMMAND_WORD = "workspace";
+    public static final String OPEN_KEYWORD = "open";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Switches to the module tracker saved under a name, "
+            + "or with '" + OPEN_KEYWORD + "', also creates it if there is none. Without a name, lists the "
+            + "workspaces.\n"
+            + "Parameters: [" + OPEN_KEYWORD + "] [NAME]\n"
+            + "Example: " + COMMAND_WORD + " " + OPEN_KEYWORD + " cohort-b\n"
+            + "Example: " + COMMAND_WORD + " moduletracker";
+
+    public static final String MESSAGE_LIST = "Workspaces:%1$s";
+    public static final String MESSAGE_OPEN_MARK = " (open)";
+    public static final String MESSAGE_LOADED_MARK = " (in memory)";
+    public static final String MESSAGE_OPENED = "Opened workspace %1$s with %2$d modules.";
+    public static final String MESSAGE_CREATED = "Created workspace %1$s.";
+    public static final String MESSAGE_ALREADY_OPEN = "Workspace %1$s is already open.";
+    public static final String MESSAGE_UNKNOWN_WORKSPACE =
+            "There is no workspace called %1$s. Create it with: " + COMMAND_WORD + " " + OPEN_KEYWORD + " %1$s";
+    public static final String MESSAGE_UNREADABLE = "The workspace %1$s could not be read: %2$s";
+    public static final String MESSAGE_UNAVAILABLE = "Workspaces are not available.";
+
+    /**
+     * What the command does.
+     */
+    public enum Action {
+        LIST, SWITCH, OPEN
+    }
+
+    private final Action action;
+    private final String name;
+
+    /**
+     * Creates a {@code WorkspaceCommand} doing {@code action} on the workspace called {@code name}, which is ignored
+     * when listing the workspaces.
+     */
+    public WorkspaceCommand(Action action, String name) {
+        requireNonNull(action);
+        this.action = action;
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Workspaces workspaces = model.getWorkspaces().orElseThrow(() -> new CommandException(MESSAGE_UNAVAILABLE));
+        List<String> existing;
+        try {
+            existing = workspaces.getWorkspaces();
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_UNREADABLE, workspaces.getOpenWorkspace(),
+                    e.getMessage()), e);
+        }
+
+        switch (action) {
+        case SWITCH:
+            if (!existing.contains(name)) {
+                throw new CommandException(String.format(MESSAGE_UNKNOWN_WORKSPACE, name));
+            }
+            return open(model, workspaces, false);
+        case OPEN:
+            return open(model, workspaces, !existing.contains(name));
+        default:
+            return list(workspaces, existing);
+        }
+    }
+
+    private CommandResult open(Model model, Workspaces workspaces, boolean isNew) throws CommandException {
+        if (name.equals(workspaces.getOpenWorkspace())) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_OPEN, name));
+        }
+        try {
+            model.openWorkspace(name);
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_UNREADABLE, name, e.getMessage()), e);
+        }
+        return new CommandResult(isNew
+                ? String.format(MESSAGE_CREATED, name)
+                : String.format(MESSAGE_OPENED, name, model.getModuleTracker().getModuleList().size()));
+    }
+
+    private CommandResult list(Workspaces workspaces, List<String> existing) {
+        StringBuilder list = new StringBuilder();
+        for (String workspace : existing) {
+            list.append("\n").append(workspace);
+            if (workspace.equals(workspaces.getOpenWorkspace())) {
+                list.append(MESSAGE_OPEN_MARK);
+            } else if (workspaces.isLoaded(workspace)) {
+                list.append(MESSAGE_LOADED_MARK);
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_LIST, list));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WorkspaceCommand // instanceof handles nulls
+                && action == ((WorkspaceCommand) other).action
+                && Objects.equals(name, ((WorkspaceCommand) other).name)); // state check
+    }
+}
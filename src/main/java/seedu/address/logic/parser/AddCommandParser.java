@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
@@ -23,7 +24,7 @@ import seedu.address.model.module.Name;
 import seedu.address.model.module.Remark;
 import seedu.address.model.module.Resource;
 import seedu.address.model.module.Teacher;
-import seedu.address.model.module.TimeSlot;
+import seedu.address.model.module.TimeSlots;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -37,6 +38,15 @@ public class AddCommandParser implements Parser<AddCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddCommand parse(String args) throws ParseException {
+        return new AddCommand(parseModule(args));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments of an AddCommand into the module to add.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Module parseModule(String args) throws ParseException {
+        requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TAG, PREFIX_TIMESLOT, PREFIX_ADDRESS,
                         PREFIX_REMARK, PREFIX_DEADLINE, PREFIX_TEACHER, PREFIX_RESOURCE);
@@ -54,12 +64,10 @@ public class AddCommandParser implements Parser<AddCommand> {
         Deadline deadline = ParserUtil.parseDeadline(argMultimap.getValue(PREFIX_DEADLINE).orElse(EMPTY_INPUT));
         Remark remark = ParserUtil.parseRemark(argMultimap.getValue(PREFIX_REMARK).orElse(EMPTY_INPUT));
         Resource resource = ParserUtil.parseResource(argMultimap.getValue(PREFIX_RESOURCE).orElse(EMPTY_INPUT));
-        TimeSlot timeSlot = ParserUtil.parseTimeSlot(argMultimap.getValue(PREFIX_TIMESLOT).orElse(EMPTY_INPUT));
+        TimeSlots timeSlots = ParserUtil.parseTimeSlots(argMultimap.getAllValues(PREFIX_TIMESLOT));
         Address address = ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).orElse(EMPTY_INPUT));
 
-        Module module = new Module(name, resource, timeSlot, address, tagList, remark, deadline, teacher);
-
-        return new AddCommand(module);
+        return new Module(name, resource, timeSlots, address, tagList, remark, deadline, teacher);
     }
 
     /**
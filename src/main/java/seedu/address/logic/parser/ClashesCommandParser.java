@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ClashesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ClashesCommand object
+ */
+public class ClashesCommandParser implements Parser<ClashesCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ClashesCommand
+     * and returns a ClashesCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ClashesCommand parse(String args) throws ParseException {
+        String trimmedAndLowerCaseArgs = args.trim().toLowerCase();
+        switch (trimmedAndLowerCaseArgs) {
+        case "":
+            return new ClashesCommand();
+        case ClashesCommand.WARN_KEYWORD + " on":
+            return new ClashesCommand(true);
+        case ClashesCommand.WARN_KEYWORD + " off":
+            return new ClashesCommand(false);
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ClashesCommand.MESSAGE_USAGE));
+        }
+    }
+}
@@ -17,5 +17,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_TEACHER = new Prefix("s/"); // s for sensei
     public static final Prefix PREFIX_RESOURCE = new Prefix("c/"); // c for canvas
 
+    // Term fields
+    public static final Prefix PREFIX_RECESS_WEEK = new Prefix("w/");
+    public static final Prefix PREFIX_HOLIDAY = new Prefix("h/");
+
 
 }
@@ -54,6 +54,25 @@ public class EditCommandParser implements Parser<EditCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditCommand.MESSAGE_USAGE), pe);
         }
 
+        return new EditCommand(index, parseDescriptor(argMultimap));
+    }
+
+    /**
+     * Parses the given {@code String} of prefixed fields, without an index, into the details to edit a module with.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public EditModuleDescriptor parseDescriptor(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_RESOURCE, PREFIX_TIMESLOT, PREFIX_ADDRESS,
+                        PREFIX_TAG, PREFIX_REMARK, PREFIX_DEADLINE, PREFIX_TEACHER);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditCommand.MESSAGE_USAGE));
+        }
+        return parseDescriptor(argMultimap);
+    }
+
+    private EditModuleDescriptor parseDescriptor(ArgumentMultimap argMultimap) throws ParseException {
         EditModuleDescriptor editModuleDescriptor = new EditModuleDescriptor();
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
             editModuleDescriptor.setName(ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get()));
@@ -62,7 +81,7 @@ public class EditCommandParser implements Parser<EditCommand> {
             editModuleDescriptor.setResource(ParserUtil.parseResource(argMultimap.getValue(PREFIX_RESOURCE).get()));
         }
         if (argMultimap.getValue(PREFIX_TIMESLOT).isPresent()) {
-            editModuleDescriptor.setTimeSlot(ParserUtil.parseTimeSlot(argMultimap.getValue(PREFIX_TIMESLOT).get()));
+            editModuleDescriptor.setTimeSlots(ParserUtil.parseTimeSlots(argMultimap.getAllValues(PREFIX_TIMESLOT)));
         }
         if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
             editModuleDescriptor.setAddress(ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get()));
@@ -80,7 +99,7 @@ public class EditCommandParser implements Parser<EditCommand> {
         if (!editModuleDescriptor.isAnyFieldEdited()) {
             throw new ParseException(EditCommand.MESSAGE_NOT_EDITED);
         }
-        return new EditCommand(index, editModuleDescriptor);
+        return editModuleDescriptor;
     }
 
     /**
@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FreeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.timetable.WeekOccupancy;
+
+/**
+ * Parses input arguments and creates a new FreeCommand object
+ */
+public class FreeCommandParser implements Parser<FreeCommand> {
+
+    public static final String MESSAGE_INVALID_PERIOD = "The start time must be before the end time, and the number "
+            + "of minutes must be between 1 and " + WeekOccupancy.MINUTES_PER_DAY + ".";
+
+    private static final Pattern FREE_ARGS_FORMAT =
+            Pattern.compile("(?<minutes>\\d{1,4})(\\s+(?<from>\\d{1,2}:\\d{2})\\s+(?<to>\\d{1,2}:\\d{2}))?");
+    private static final Pattern TIME_FORMAT = Pattern.compile("(?<hours>[01]?[0-9]|2[0-3]):(?<minutes>[0-5][0-9])");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeCommand
+     * and returns a FreeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeCommand parse(String args) throws ParseException {
+        Matcher matcher = FREE_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        }
+
+        int minLength = Integer.parseInt(matcher.group("minutes"));
+        int fromMinute = 0;
+        int toMinute = WeekOccupancy.MINUTES_PER_DAY;
+        if (matcher.group("from") != null) {
+            fromMinute = parseMinuteOfDay(matcher.group("from"));
+            toMinute = matcher.group("to").equals("24:00")
+                    ? WeekOccupancy.MINUTES_PER_DAY
+                    : parseMinuteOfDay(matcher.group("to"));
+        }
+        if (minLength < 1 || minLength > WeekOccupancy.MINUTES_PER_DAY || fromMinute >= toMinute) {
+            throw new ParseException(MESSAGE_INVALID_PERIOD);
+        }
+        return new FreeCommand(minLength, fromMinute, toMinute);
+    }
+
+    /**
+     * Returns the minute of the day of a time written as HH:MM.
+     * @throws ParseException if {@code time} is not a valid time.
+     */
+    private static int parseMinuteOfDay(String time) throws ParseException {
+        Matcher matcher = TIME_FORMAT.matcher(time);
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        }
+        return Integer.parseInt(matcher.group("hours")) * 60 + Integer.parseInt(matcher.group("minutes"));
+    }
+}
@@ -1,21 +1,46 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_IN_BATCH;
+import static seedu.address.commons.core.Messages.MESSAGE_UNDO_REDO_IN_BATCH;
+import static seedu.address.commons.core.Messages.MESSAGE_SYNC_IN_BATCH;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.commons.core.Messages.MESSAGE_WORKSPACE_IN_BATCH;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClashesCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindAllCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.OccurrencesCommand;
+import seedu.address.logic.commands.PlanCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.SyncCommand;
+import seedu.address.logic.commands.TermCommand;
+import seedu.address.logic.commands.TodayCommand;
+import seedu.address.logic.commands.TomorrowCommand;
+import seedu.address.logic.commands.UnarchiveCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.VerifyCommand;
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.commands.WeekCommand;
+import seedu.address.logic.commands.WorkspaceCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -28,6 +53,86 @@ public class ModuleTrackerParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    /**
+     * The words commands start with, so that a {@code ;} followed by one can be told apart from a {@code ;} in a
+     * field value.
+     */
+    private static final List<String> COMMAND_WORDS = List.of(AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
+            DeleteCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD, FindCommand.COMMAND_WORD,
+            FindAllCommand.COMMAND_WORD, PlanCommand.COMMAND_WORD, FreeCommand.COMMAND_WORD,
+            ClashesCommand.COMMAND_WORD, TermCommand.COMMAND_WORD, OccurrencesCommand.COMMAND_WORD,
+            UnarchiveCommand.COMMAND_WORD, SearchCommand.COMMAND_WORD, SortCommand.COMMAND_WORD,
+            ListCommand.COMMAND_WORD, TodayCommand.COMMAND_WORD, TomorrowCommand.COMMAND_WORD, WeekCommand.COMMAND_WORD,
+            ViewCommand.COMMAND_WORD, WorkspaceCommand.COMMAND_WORD, SyncCommand.COMMAND_WORD,
+            VerifyCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD,
+            ExitCommand.COMMAND_WORD);
+
+    /**
+     * Separates the commands of a batch: line breaks, and semicolons followed by a command word or by the end of the
+     * input, possibly after blank commands, unless they are escaped as {@code \;}. Any other semicolon is part of a
+     * field value.
+     */
+    private static final Pattern COMMAND_SEPARATOR = Pattern.compile("[\\r\\n]|(?<!\\\\);(?=[\\s;]*(?:"
+            + COMMAND_WORDS.stream().map(Pattern::quote).collect(Collectors.joining("|")) + ")(?:[\\s;]|$)|[\\s;]*$)");
+
+    private static final String ESCAPED_SEMICOLON = "\\;";
+
+    /**
+     * Parses user input that may hold several commands, separated by {@code ;} or line breaks, into commands for
+     * execution. Every command is parsed before any is returned, so an invalid command rejects the whole batch.
+     * A {@code ;} only separates commands if a command word follows it, and {@code \;} is a {@code ;} that never
+     * does.
+     *
+     * @param userInput full user input string
+     * @return the commands in the order they appear in the user input
+     * @throws ParseException if any of the commands does not conform the expected format, or if {@code undo},
+     *     {@code redo}, {@code workspace} or {@code sync} is combined with other commands
+     */
+    public List<Command> parseCommands(String userInput) throws ParseException {
+        List<String> commandTexts = splitCommands(userInput);
+        if (commandTexts.size() <= 1) {
+            return List.of(parseCommand(commandTexts.isEmpty() ? userInput : commandTexts.get(0)));
+        }
+
+        List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < commandTexts.size(); i++) {
+            try {
+                commands.add(parseCommand(commandTexts.get(i)));
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_IN_BATCH, i + 1, commandTexts.size(),
+                        commandTexts.get(i), pe.getMessage()), pe);
+            }
+        }
+
+        // A batch is undone as a whole, so it cannot move through the history itself.
+        if (commands.stream().anyMatch(command -> command instanceof UndoCommand || command instanceof RedoCommand)) {
+            throw new ParseException(MESSAGE_UNDO_REDO_IN_BATCH);
+        }
+        // A batch is saved once it has run, so switching workspaces in one would leave its earlier changes unsaved,
+        // and could not be undone if a later command failed.
+        if (commands.stream().anyMatch(command -> command instanceof WorkspaceCommand)) {
+            throw new ParseException(MESSAGE_WORKSPACE_IN_BATCH);
+        }
+        // sync saves its log as it runs, which rolling back a later failed command would not undo.
+        if (commands.stream().anyMatch(command -> command instanceof SyncCommand)) {
+            throw new ParseException(MESSAGE_SYNC_IN_BATCH);
+        }
+        return commands;
+    }
+
+    /**
+     * Splits {@code userInput} into the text of its individual commands, dropping blank ones, and turns each escaped
+     * {@code \;} back into {@code ;}.
+     */
+    public static List<String> splitCommands(String userInput) {
+        List<String> commandTexts = new ArrayList<>();
+        Arrays.stream(COMMAND_SEPARATOR.split(userInput))
+                .map(commandText -> commandText.replace(ESCAPED_SEMICOLON, ";").trim())
+                .filter(commandText -> !commandText.isEmpty())
+                .forEach(commandTexts::add);
+        return commandTexts;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -53,10 +158,44 @@ public class ModuleTrackerParser {
             return new ClearCommand();
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
+        case FindAllCommand.COMMAND_WORD:
+            return new FindAllCommandParser().parse(arguments);
+        case PlanCommand.COMMAND_WORD:
+            return new PlanCommandParser().parse(arguments);
+        case FreeCommand.COMMAND_WORD:
+            return new FreeCommandParser().parse(arguments);
+        case ClashesCommand.COMMAND_WORD:
+            return new ClashesCommandParser().parse(arguments);
+        case TermCommand.COMMAND_WORD:
+            return new TermCommandParser().parse(arguments);
+        case OccurrencesCommand.COMMAND_WORD:
+            return new OccurrencesCommandParser().parse(arguments);
+        case UnarchiveCommand.COMMAND_WORD:
+            return new UnarchiveCommandParser().parse(arguments);
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
+        case TodayCommand.COMMAND_WORD:
+            return new TodayCommand();
+        case TomorrowCommand.COMMAND_WORD:
+            return new TomorrowCommand();
+        case WeekCommand.COMMAND_WORD:
+            return new WeekCommand();
+        case ViewCommand.COMMAND_WORD:
+            return new ViewCommandParser().parse(arguments);
+        case WorkspaceCommand.COMMAND_WORD:
+            return new WorkspaceCommandParser().parse(arguments);
+        case SyncCommand.COMMAND_WORD:
+            return new SyncCommandParser().parse(arguments);
+        case VerifyCommand.COMMAND_WORD:
+            return new VerifyCommand();
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
         case ExitCommand.COMMAND_WORD:
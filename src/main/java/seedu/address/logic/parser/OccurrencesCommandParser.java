@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.OccurrencesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new OccurrencesCommand object
+ */
+public class OccurrencesCommandParser implements Parser<OccurrencesCommand> {
+
+    public static final String MESSAGE_INVALID_COUNT =
+            "The number of lessons must be between 1 and " + OccurrencesCommand.MAX_SHOWN + ".";
+    public static final String MESSAGE_INVALID_PERIOD = "The date TO must not be before the date FROM.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the OccurrencesCommand
+     * and returns an OccurrencesCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public OccurrencesCommand parse(String args) throws ParseException {
+        String[] words = args.trim().split("\\s+");
+        if (words.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, OccurrencesCommand.MESSAGE_USAGE));
+        }
+
+        if (words[0].equalsIgnoreCase(OccurrencesCommand.NEXT_KEYWORD)) {
+            if (!StringUtil.isNonZeroUnsignedInteger(words[1])
+                    || Integer.parseInt(words[1]) > OccurrencesCommand.MAX_SHOWN) {
+                throw new ParseException(MESSAGE_INVALID_COUNT);
+            }
+            return new OccurrencesCommand(Integer.parseInt(words[1]));
+        }
+
+        LocalDate fromDate = ParserUtil.parseDate(words[0]);
+        LocalDate toDate = ParserUtil.parseDate(words[1]);
+        if (toDate.isBefore(fromDate)) {
+            throw new ParseException(MESSAGE_INVALID_PERIOD);
+        }
+        return new OccurrencesCommand(fromDate, toDate);
+    }
+}
@@ -3,8 +3,14 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
@@ -18,6 +24,7 @@ import seedu.address.model.module.Remark;
 import seedu.address.model.module.Resource;
 import seedu.address.model.module.Teacher;
 import seedu.address.model.module.TimeSlot;
+import seedu.address.model.module.TimeSlots;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -26,6 +33,11 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Invalid index.";
+    public static final String MESSAGE_INVALID_DATE =
+            "Dates should be valid and of format 'ddMMyy' (Example: 230223).";
+
+    private static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("ddMMuu").withResolverStyle(ResolverStyle.STRICT);
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -109,6 +121,24 @@ public class ParserUtil {
         return new TimeSlot(trimmedTimeSlot);
     }
 
+    /**
+     * Parses {@code Collection<String> timeSlots} into a {@code TimeSlots}.
+     * A timeslot of {@code None.} is left out, so {@code None.} alone gives no timeslots.
+     *
+     * @throws ParseException if any of the given {@code timeSlots} is invalid, or if two of them overlap.
+     */
+    public static TimeSlots parseTimeSlots(Collection<String> timeSlots) throws ParseException {
+        requireNonNull(timeSlots);
+        final List<TimeSlot> timeSlotList = new ArrayList<>();
+        for (String timeSlot : timeSlots) {
+            timeSlotList.add(parseTimeSlot(timeSlot));
+        }
+        if (!TimeSlots.isNonOverlapping(timeSlotList)) {
+            throw new ParseException(TimeSlots.MESSAGE_OVERLAPPING);
+        }
+        return new TimeSlots(timeSlotList);
+    }
+
     /**
      * Parses a {@code String deadline} into an {@code Deadline}.
      * Leading and trailing whitespaces will be trimmed.
@@ -126,6 +156,21 @@ public class ParserUtil {
         return new Deadline(trimmedDeadline);
     }
 
+    /**
+     * Parses a {@code String date} of format ddMMyy into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim(), DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE, e);
+        }
+    }
+
     /**
      * Parses a {@code String remark} into an {@code Remark}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.PlanCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.TimeSlot;
+
+/**
+ * Parses input arguments and creates a new PlanCommand object
+ */
+public class PlanCommandParser implements Parser<PlanCommand> {
+
+    public static final String MESSAGE_DUPLICATE_INDEX = "Each module can only be planned once.";
+    public static final String MESSAGE_EMPTY_TIMESLOT = "Candidate timeslots cannot be empty.";
+
+    private static final Pattern MODULE_CANDIDATES_FORMAT =
+            Pattern.compile("(?<index>[^:\\s]+)\\s*:(?<timeSlots>.*)");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PlanCommand
+     * and returns a PlanCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PlanCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PlanCommand.MESSAGE_USAGE));
+        }
+
+        Map<Index, List<TimeSlot>> candidates = new LinkedHashMap<>();
+        for (String moduleCandidates : args.split(";")) {
+            Matcher matcher = MODULE_CANDIDATES_FORMAT.matcher(moduleCandidates.trim());
+            if (!matcher.matches()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PlanCommand.MESSAGE_USAGE));
+            }
+            Index index = ParserUtil.parseIndex(matcher.group("index"));
+            List<TimeSlot> timeSlots = new ArrayList<>();
+            for (String timeSlot : matcher.group("timeSlots").split(",")) {
+                TimeSlot parsed = ParserUtil.parseTimeSlot(timeSlot);
+                if (parsed.getDay() == null) {
+                    throw new ParseException(MESSAGE_EMPTY_TIMESLOT);
+                }
+                timeSlots.add(parsed);
+            }
+            if (candidates.put(index, timeSlots) != null) {
+                throw new ParseException(MESSAGE_DUPLICATE_INDEX);
+            }
+        }
+        return new PlanCommand(candidates);
+    }
+}
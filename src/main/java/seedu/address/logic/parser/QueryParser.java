@@ -0,0 +1,284 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.Deadline;
+import seedu.address.model.module.TimeSlot;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.DayCondition;
+import seedu.address.model.query.DeadlineCondition;
+import seedu.address.model.query.FuzzyCondition;
+import seedu.address.model.query.KeywordCondition;
+import seedu.address.model.query.NameCondition;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.TagCondition;
+import seedu.address.model.query.TeacherCondition;
+import seedu.address.model.query.TimeCondition;
+import seedu.address.model.query.VenueCondition;
+
+/**
+ * Parses the query of a {@code find} command into a {@link Query}.
+ *
+ * A query is made of conditions such as {@code tag/lab} or {@code deadline<150423}, combined with {@code AND},
+ * {@code OR}, {@code NOT} and parentheses. Conditions written next to each other are ANDed. The value of a
+ * condition runs until the next operator, parenthesis or condition, so it may contain spaces. Words that are not
+ * part of any condition are plain keywords, matched against module names and tags as {@code find} always has.
+ * A word starting with {@code ~} is a fuzzy keyword, optionally followed by the number of edits it allows, as in
+ * {@code ~lectre~1}.
+ */
+public class QueryParser {
+
+    public static final String MESSAGE_INVALID_DAY = "Day should be a day of the week, e.g. monday";
+    public static final String MESSAGE_INVALID_TIME = "Time should be of format HH:MM-HH:MM, e.g. 10:00-12:00";
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private static final Pattern FIELD_FORMAT =
+            Pattern.compile("(?<field>name|tag|teacher|venue|day|time)/(?<value>.*)");
+    private static final Pattern FUZZY_FORMAT = Pattern.compile("~(?<keyword>[^~]+)(~(?<distance>\\d+))?");
+    private static final Pattern DEADLINE_FORMAT = Pattern.compile("deadline(?<operator><=|>=|<|>|/)(?<value>.*)");
+    private static final Pattern TIME_FORMAT =
+            Pattern.compile("(?<from>([01]?[0-9]|2[0-3]):[0-5][0-9])-(?<to>([01]?[0-9]|2[0-3]):[0-5][0-9])");
+
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("ddMMuu").withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter DATE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("ddMMuu HH:mm").withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter TIME_OF_DAY_FORMAT = DateTimeFormatter.ofPattern("H:mm");
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Parses {@code query} into a {@code Query}.
+     * @throws ParseException if {@code query} is empty or not a valid query.
+     */
+    public Query parse(String query) throws ParseException {
+        requireNonNull(query);
+        tokens = tokenize(query);
+        position = 0;
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        Query parsed = parseOr();
+        if (position < tokens.size()) {
+            throw invalidFormat();
+        }
+        return parsed;
+    }
+
+    /**
+     * Splits {@code query} into words, with each parenthesis as a word of its own.
+     */
+    private static List<String> tokenize(String query) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : query.trim().split("\\s+")) {
+            StringBuilder current = new StringBuilder();
+            for (char c : word.toCharArray()) {
+                if (c == '(' || c == ')') {
+                    if (current.length() > 0) {
+                        tokens.add(current.toString());
+                        current.setLength(0);
+                    }
+                    tokens.add(String.valueOf(c));
+                } else {
+                    current.append(c);
+                }
+            }
+            if (current.length() > 0) {
+                tokens.add(current.toString());
+            }
+        }
+        return tokens;
+    }
+
+    private Query parseOr() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (accept(OR)) {
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
+
+    private Query parseAnd() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (position < tokens.size() && !peekIs(OR) && !peekIs(CLOSE)) {
+            accept(AND);
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    private Query parseNot() throws ParseException {
+        if (accept(NOT)) {
+            return new NotQuery(parseNot());
+        }
+        if (accept(OPEN)) {
+            Query inner = parseOr();
+            if (!accept(CLOSE)) {
+                throw invalidFormat();
+            }
+            return inner;
+        }
+        return parseCondition();
+    }
+
+    private Query parseCondition() throws ParseException {
+        if (position >= tokens.size() || isOperator(tokens.get(position))) {
+            throw invalidFormat();
+        }
+        String word = tokens.get(position++);
+        Matcher field = FIELD_FORMAT.matcher(word);
+        Matcher deadline = DEADLINE_FORMAT.matcher(word);
+        Matcher fuzzy = FUZZY_FORMAT.matcher(word);
+        if (fuzzy.matches()) {
+            return parseFuzzy(fuzzy.group("keyword"), fuzzy.group("distance"));
+        } else if (word.startsWith("~")) {
+            throw invalidFormat();
+        } else if (field.matches()) {
+            return parseField(field.group("field"), readValue(field.group("value")));
+        } else if (deadline.matches()) {
+            return parseDeadline(deadline.group("operator"), readValue(deadline.group("value")));
+        }
+
+        List<String> keywords = new ArrayList<>();
+        keywords.add(word);
+        while (position < tokens.size() && !isOperator(tokens.get(position)) && !isCondition(tokens.get(position))) {
+            keywords.add(tokens.get(position++));
+        }
+        return new KeywordCondition(keywords);
+    }
+
+    /**
+     * Returns {@code start} followed by the plain words after it, which together make up the value of a condition.
+     */
+    private String readValue(String start) throws ParseException {
+        StringBuilder value = new StringBuilder(start);
+        while (position < tokens.size() && !isOperator(tokens.get(position)) && !isCondition(tokens.get(position))) {
+            value.append(value.length() == 0 ? "" : " ").append(tokens.get(position++));
+        }
+        if (value.length() == 0) {
+            throw invalidFormat();
+        }
+        return value.toString();
+    }
+
+    private static Query parseField(String field, String value) throws ParseException {
+        switch (field) {
+        case "name":
+            return new NameCondition(value);
+        case "tag":
+            return new TagCondition(value);
+        case "teacher":
+            return new TeacherCondition(value);
+        case "venue":
+            return new VenueCondition(value);
+        case "day":
+            return new DayCondition(parseDay(value));
+        case "time":
+            return parseTime(value);
+        default:
+            throw invalidFormat();
+        }
+    }
+
+    private static Query parseFuzzy(String keyword, String distance) throws ParseException {
+        if (distance == null) {
+            return new FuzzyCondition(keyword);
+        }
+        int maxDistance = distance.length() > 1 ? Integer.MAX_VALUE : Integer.parseInt(distance);
+        if (maxDistance > FuzzyCondition.MAX_DISTANCE) {
+            throw new ParseException(FuzzyCondition.MESSAGE_INVALID_DISTANCE);
+        }
+        return new FuzzyCondition(keyword, maxDistance);
+    }
+
+    private static DayOfWeek parseDay(String value) throws ParseException {
+        try {
+            return DayOfWeek.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(MESSAGE_INVALID_DAY);
+        }
+    }
+
+    private static Query parseTime(String value) throws ParseException {
+        Matcher matcher = TIME_FORMAT.matcher(value);
+        if (!matcher.matches()) {
+            throw new ParseException(MESSAGE_INVALID_TIME);
+        }
+        LocalTime from = LocalTime.parse(matcher.group("from"), TIME_OF_DAY_FORMAT);
+        LocalTime to = LocalTime.parse(matcher.group("to"), TIME_OF_DAY_FORMAT);
+        if (!from.isBefore(to)) {
+            throw new ParseException(TimeSlot.MESSAGE_STARTTIME_BEFORE_ENDTIME);
+        }
+        return new TimeCondition(from, to);
+    }
+
+    /**
+     * Parses a deadline comparison. A date alone ({@code DDMMYY}) stands for that whole day, while a date and
+     * time ({@code DDMMYY HH:MM}) stands for that minute.
+     */
+    private static Query parseDeadline(String operator, String value) throws ParseException {
+        try {
+            LocalDateTime start = LocalDateTime.parse(value, DATE_TIME_FORMAT);
+            return DeadlineCondition.of(operator, value, start, start.plusMinutes(1));
+        } catch (DateTimeParseException e) {
+            // Not a date and time; try a date alone below.
+        }
+        try {
+            LocalDate date = LocalDate.parse(value, DATE_FORMAT);
+            return DeadlineCondition.of(operator, value, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        } catch (DateTimeParseException e) {
+            throw new ParseException(Deadline.MESSAGE_CONSTRAINTS_INVALID_DATE_FORMAT);
+        }
+    }
+
+    private boolean accept(String operator) {
+        if (peekIs(operator)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean peekIs(String operator) {
+        return position < tokens.size() && tokens.get(position).equals(operator);
+    }
+
+    private static boolean isOperator(String token) {
+        return token.equals(AND) || token.equals(OR) || token.equals(NOT) || token.equals(OPEN)
+                || token.equals(CLOSE);
+    }
+
+    private static boolean isCondition(String token) {
+        return FIELD_FORMAT.matcher(token).matches() || DEADLINE_FORMAT.matcher(token).matches()
+                || token.startsWith("~");
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.SyncCommand;
+import seedu.address.logic.commands.SyncCommand.Action;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SyncCommand object
+ */
+public class SyncCommandParser implements Parser<SyncCommand> {
+
+    public static final String MESSAGE_INVALID_FILE_PATH = "%1$s is not a valid file path.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SyncCommand
+     * and returns a SyncCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SyncCommand parse(String args) throws ParseException {
+        String[] words = args.trim().split("\\s+", 2);
+        if (words.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SyncCommand.MESSAGE_USAGE));
+        }
+
+        Action action;
+        if (words[0].equals(SyncCommand.EXPORT_KEYWORD)) {
+            action = Action.EXPORT;
+        } else if (words[0].equals(SyncCommand.IMPORT_KEYWORD)) {
+            action = Action.IMPORT;
+        } else {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SyncCommand.MESSAGE_USAGE));
+        }
+        return new SyncCommand(action, parseFilePath(words[1]));
+    }
+
+    private static Path parseFilePath(String filePath) throws ParseException {
+        try {
+            return Paths.get(filePath);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, filePath));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOLIDAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECESS_WEEK;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.TermCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.timetable.Term;
+
+/**
+ * Parses input arguments and creates a new TermCommand object
+ */
+public class TermCommandParser implements Parser<TermCommand> {
+
+    public static final String MESSAGE_INVALID_WEEK = "Recess weeks should be positive week numbers.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TermCommand
+     * and returns a TermCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TermCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new TermCommand();
+        }
+        if (trimmedArgs.equalsIgnoreCase(TermCommand.CLEAR_KEYWORD)) {
+            return new TermCommand(null);
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_RECESS_WEEK, PREFIX_HOLIDAY);
+        String[] dates = argMultimap.getPreamble().split("\\s+");
+        if (dates.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TermCommand.MESSAGE_USAGE));
+        }
+        LocalDate startDate = ParserUtil.parseDate(dates[0]);
+        LocalDate endDate = ParserUtil.parseDate(dates[1]);
+
+        List<Integer> recessWeeks = new ArrayList<>();
+        for (String week : argMultimap.getAllValues(PREFIX_RECESS_WEEK)) {
+            if (!StringUtil.isNonZeroUnsignedInteger(week.trim())) {
+                throw new ParseException(MESSAGE_INVALID_WEEK);
+            }
+            recessWeeks.add(Integer.parseInt(week.trim()));
+        }
+        List<LocalDate> holidays = new ArrayList<>();
+        for (String holiday : argMultimap.getAllValues(PREFIX_HOLIDAY)) {
+            holidays.add(ParserUtil.parseDate(holiday));
+        }
+
+        if (!Term.isValidTerm(startDate, endDate, recessWeeks)) {
+            throw new ParseException(Term.MESSAGE_CONSTRAINTS);
+        }
+        return new TermCommand(new Term(startDate, endDate, recessWeeks, holidays));
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.commands.ViewCommand.Action;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.view.SavedView;
+
+/**
+ * Parses input arguments and creates a new ViewCommand object
+ */
+public class ViewCommandParser implements Parser<ViewCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ViewCommand
+     * and returns a ViewCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ViewCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new ViewCommand(Action.LIST, null);
+        }
+
+        String[] words = trimmedArgs.split("\\s+");
+        if (words.length == 1 && !words[0].equals(ViewCommand.SAVE_KEYWORD)) {
+            return new ViewCommand(Action.SHOW, parseName(words[0]));
+        } else if (words.length == 2 && words[0].equals(ViewCommand.SAVE_KEYWORD)) {
+            return new ViewCommand(Action.SAVE, parseName(words[1]));
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+    }
+
+    private static String parseName(String name) throws ParseException {
+        if (!SavedView.isValidName(name)) {
+            throw new ParseException(SavedView.MESSAGE_CONSTRAINTS);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.WorkspaceCommand;
+import seedu.address.logic.commands.WorkspaceCommand.Action;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.workspace.Workspaces;
+
+/**
+ * Parses input arguments and creates a new WorkspaceCommand object
+ */
+public class WorkspaceCommandParser implements Parser<WorkspaceCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the WorkspaceCommand
+     * and returns a WorkspaceCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public WorkspaceCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new WorkspaceCommand(Action.LIST, null);
+        }
+
+        String[] words = trimmedArgs.split("\\s+");
+        if (words.length == 1 && !words[0].equals(WorkspaceCommand.OPEN_KEYWORD)) {
+            return new WorkspaceCommand(Action.SWITCH, parseName(words[0]));
+        } else if (words.length == 2 && words[0].equals(WorkspaceCommand.OPEN_KEYWORD)) {
+            return new WorkspaceCommand(Action.OPEN, parseName(words[1]));
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WorkspaceCommand.MESSAGE_USAGE));
+    }
+
+    private static String parseName(String name) throws ParseException {
+        if (!Workspaces.isValidName(name)) {
+            throw new ParseException(Workspaces.MESSAGE_CONSTRAINTS);
+        }
+        return name;
+    }
+}
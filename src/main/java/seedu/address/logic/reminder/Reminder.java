@@ -0,0 +1,65 @@
+package seedu.address.logic.reminder;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import seedu.address.model.module.Module;
+
+/**
+ * A reminder of a module's deadline or of an occurrence of its timeslot, due some time before it.
+ * Guarantees: immutable.
+ */
+public class Reminder {
+
+    /**
+     * What a reminder is about.
+     */
+    public enum Kind {
+        DEADLINE, TIMESLOT
+    }
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("EEEE d MMM, HH:mm");
+
+    private final Module module;
+    private final Kind kind;
+    private final LocalDateTime eventTime;
+    private final LocalDateTime fireTime;
+
+    /**
+     * Constructs a {@code Reminder}, due at {@code fireTime}, of {@code module}'s deadline or timeslot at
+     * {@code eventTime}.
+     */
+    public Reminder(Module module, Kind kind, LocalDateTime eventTime, LocalDateTime fireTime) {
+        requireAllNonNull(module, kind, eventTime, fireTime);
+        this.module = module;
+        this.kind = kind;
+        this.eventTime = eventTime;
+        this.fireTime = fireTime;
+    }
+
+    public Module getModule() {
+        return module;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /** Returns when the deadline is, or when this occurrence of the timeslot starts. */
+    public LocalDateTime getEventTime() {
+        return eventTime;
+    }
+
+    /** Returns when the reminder is due. */
+    public LocalDateTime getFireTime() {
+        return fireTime;
+    }
+
+    @Override
+    public String toString() {
+        String what = kind == Kind.DEADLINE ? " is due on " : " starts on ";
+        return module.getLabel() + what + FORMATTER.format(eventTime);
+    }
+}
@@ -0,0 +1,249 @@
+package seedu.address.logic.reminder;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.TimeSlot;
+
+/**
+ * Reminds the user of each module's deadline and of each occurrence of its timeslots, a set time before it.
+ *
+ * The reminders still to come are kept in a priority queue ordered by when they are due, and one background thread
+ * is woken once, when the earliest of them is due. The queue follows the module list: a change only adds the
+ * reminders of the modules added and drops those of the modules removed, so nothing is rescanned. Dropped reminders
+ * stay in the queue until they reach its head or the queue is compacted, which is cheaper than removing them from
+ * the middle of the heap. A timeslot reminder is followed by one for the next week's occurrence once it is due.
+ * Modules are removed and added again whenever they are edited or the list is reloaded, so the reminders delivered
+ * are remembered until their events pass, and are not delivered again for the same module.
+ *
+ * Changes to the module list are expected on one thread, such as the JavaFX application thread, while reminders
+ * are delivered on the background thread.
+ */
+public class ReminderScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+
+    private final ObservableList<Module> modules;
+    private final Duration leadTime;
+    private final Clock clock;
+    private final ScheduledExecutorService executor;
+    private final Consumer<Reminder> listener;
+    private final ListChangeListener<Module> updater = this::update;
+
+    private final PriorityQueue<Reminder> queue = new PriorityQueue<>(Comparator.comparing(Reminder::getFireTime));
+    /** The reminders in the queue that have not been dropped, by module. */
+    private final Map<Module, List<Reminder>> pending = new HashMap<>();
+    private final Set<Reminder> live = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** The events of the reminders delivered, keyed as in {@link #deliveredKey}, until the events pass. */
+    private final Map<List<Object>, LocalDateTime> delivered = new HashMap<>();
+    private ScheduledFuture<?> wakeUp;
+    private LocalDateTime wakeUpTime;
+
+    /**
+     * Creates a {@code ReminderScheduler} that passes each reminder of the modules in {@code modules} to
+     * {@code listener}, {@code leadTime} before the deadline or timeslot, on a background thread of its own.
+     */
+    public ReminderScheduler(ObservableList<Module> modules, Duration leadTime, Consumer<Reminder> listener) {
+        this(modules, leadTime, Clock.systemDefaultZone(), Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminders");
+            thread.setDaemon(true);
+            return thread;
+        }), listener);
+    }
+
+    /**
+     * Creates a {@code ReminderScheduler} that reads the time from {@code clock} and waits on {@code executor}.
+     */
+    ReminderScheduler(ObservableList<Module> modules, Duration leadTime, Clock clock,
+            ScheduledExecutorService executor, Consumer<Reminder> listener) {
+        requireAllNonNull(modules, leadTime, clock, executor, listener);
+        this.modules = modules;
+        this.leadTime = leadTime;
+        this.clock = clock;
+        this.executor = executor;
+        this.listener = listener;
+    }
+
+    /**
+     * Schedules the reminders of the modules in the list, and starts following changes to it.
+     */
+    public synchronized void start() {
+        modules.forEach(this::schedule);
+        modules.addListener(updater);
+        rescheduleWakeUp();
+    }
+
+    /**
+     * Stops following the module list and shuts down the background thread. No reminder is delivered afterwards.
+     */
+    public void stop() {
+        modules.removeListener(updater);
+        synchronized (this) {
+            queue.clear();
+            pending.clear();
+            live.clear();
+            delivered.clear();
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns when the next reminder is due, or null if there are no reminders to come.
+     */
+    synchronized LocalDateTime getNextFireTime() {
+        Reminder head = peekLive();
+        return head == null ? null : head.getFireTime();
+    }
+
+    /**
+     * Delivers every reminder that is due, in the order they were due.
+     */
+    void fireDue() {
+        List<Reminder> due = new ArrayList<>();
+        synchronized (this) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            for (Reminder head = peekLive(); head != null && !head.getFireTime().isAfter(now); head = peekLive()) {
+                queue.poll();
+                drop(head);
+                due.add(head);
+                delivered.put(deliveredKey(head.getModule(), head.getKind(), head.getEventTime()),
+                        head.getEventTime());
+                if (head.getKind() == Reminder.Kind.TIMESLOT) {
+                    LocalDateTime nextWeek = head.getEventTime().plusWeeks(1);
+                    add(new Reminder(head.getModule(), Reminder.Kind.TIMESLOT, nextWeek, nextWeek.minus(leadTime)));
+                }
+            }
+            delivered.values().removeIf(eventTime -> eventTime.isBefore(now));
+            wakeUpTime = null;
+            rescheduleWakeUp();
+        }
+        for (Reminder reminder : due) {
+            try {
+                listener.accept(reminder);
+            } catch (RuntimeException e) {
+                logger.warning("Failed to deliver reminder " + reminder + ": " + e);
+            }
+        }
+    }
+
+    private synchronized void update(ListChangeListener.Change<? extends Module> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::unschedule);
+            change.getAddedSubList().forEach(this::schedule);
+        }
+        compactIfMostlyDropped();
+        rescheduleWakeUp();
+    }
+
+    /**
+     * Queues the next reminders of {@code module}: its deadline if it is still to come, and the next start of each
+     * of its timeslots. Reminders whose time is already within the lead time are due at once, unless they were
+     * delivered already, in which case a timeslot is reminded of again next week and a deadline not at all.
+     */
+    private void schedule(Module module) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime deadline = module.getDeadline().value;
+        if (deadline != null && deadline.isAfter(now) && !isDelivered(module, Reminder.Kind.DEADLINE, deadline)) {
+            add(new Reminder(module, Reminder.Kind.DEADLINE, deadline, latest(now, deadline.minus(leadTime))));
+        }
+        for (TimeSlot timeSlot : module.getTimeSlots().asList()) {
+            LocalDateTime start = timeSlot.getNextStart(now);
+            if (isDelivered(module, Reminder.Kind.TIMESLOT, start)) {
+                start = start.plusWeeks(1);
+            }
+            add(new Reminder(module, Reminder.Kind.TIMESLOT, start, latest(now, start.minus(leadTime))));
+        }
+    }
+
+    private boolean isDelivered(Module module, Reminder.Kind kind, LocalDateTime eventTime) {
+        return delivered.containsKey(deliveredKey(module, kind, eventTime));
+    }
+
+    /** Returns what identifies a reminder across edits of its module that keep the module's identity. */
+    private static List<Object> deliveredKey(Module module, Reminder.Kind kind, LocalDateTime eventTime) {
+        return List.of(module.getIdentity(), kind, eventTime);
+    }
+
+    private void unschedule(Module module) {
+        List<Reminder> reminders = pending.remove(module);
+        if (reminders != null) {
+            live.removeAll(reminders);
+        }
+    }
+
+    private void add(Reminder reminder) {
+        queue.add(reminder);
+        live.add(reminder);
+        pending.computeIfAbsent(reminder.getModule(), unused -> new ArrayList<>()).add(reminder);
+    }
+
+    private void drop(Reminder reminder) {
+        live.remove(reminder);
+        List<Reminder> reminders = pending.get(reminder.getModule());
+        reminders.remove(reminder);
+        if (reminders.isEmpty()) {
+            pending.remove(reminder.getModule());
+        }
+    }
+
+    /** Returns the earliest reminder that has not been dropped, discarding dropped ones before it. */
+    private Reminder peekLive() {
+        while (!queue.isEmpty() && !live.contains(queue.peek())) {
+            queue.poll();
+        }
+        return queue.peek();
+    }
+
+    private void compactIfMostlyDropped() {
+        if (queue.size() > 2 * live.size() + 16) {
+            queue.clear();
+            queue.addAll(live);
+        }
+    }
+
+    /** Makes sure the background thread wakes up when the earliest reminder is due, and only then. */
+    private void rescheduleWakeUp() {
+        LocalDateTime next = getNextFireTime();
+        if (next == null ? wakeUpTime == null : next.equals(wakeUpTime)) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+            wakeUp = null;
+        }
+        wakeUpTime = next;
+        if (next != null && !executor.isShutdown()) {
+            long delay = Math.max(0, Duration.between(LocalDateTime.now(clock), next).toMillis());
+            wakeUp = executor.schedule(this::fireDue, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+}
@@ -1,12 +1,32 @@
 package seedu.address.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.agenda.Agenda;
+import seedu.address.model.archive.ModuleArchive;
+import seedu.address.model.integrity.IntegrityChecker;
 import seedu.address.model.module.Module;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.TextIndex;
+import seedu.address.model.sync.SyncStore;
+import seedu.address.model.time.TimeService;
+import seedu.address.model.timetable.FreePeriod;
+import seedu.address.model.timetable.Occurrence;
+import seedu.address.model.timetable.Term;
+import seedu.address.model.view.SavedView;
+import seedu.address.model.workspace.Workspaces;
 
 /**
  * The API of the Model component.
@@ -54,6 +74,12 @@ public interface Model {
     /** Returns the ModuleTracker */
     ReadOnlyModuleTracker getModuleTracker();
 
+    /**
+     * Returns an immutable snapshot of the latest version of the ModuleTracker.
+     * Unlike the other methods, this may be called from any thread.
+     */
+    ReadOnlyModuleTracker getModuleTrackerSnapshot();
+
     /**
      * Returns true if a module with the same identity as {@code module} exists in the module tracker.
      */
@@ -66,7 +92,8 @@ public interface Model {
     void deleteModule(Module target);
 
     /**
-     * Adds the given module.
+     * Adds the given module. The displayed list is filtered and sorted as before, so it only shows the module if it
+     * matches.
      * {@code module} must not already exist in the module tracker.
      */
     void addModule(Module module);
@@ -79,6 +106,37 @@ public interface Model {
      */
     void setModule(Module target, Module editedModule);
 
+    /**
+     * Saves the changes made since the last commit as a single entry in the undo history.
+     */
+    void commitModuleTracker();
+
+    /**
+     * Reverts all changes made to the module tracker since the last commit. The saved views, term and clash warning
+     * setting of the user prefs, and what is displayed, are put back as they were at the last commit as well.
+     */
+    void rollbackModuleTracker();
+
+    /**
+     * Returns true if there is a change to the module tracker that can be undone.
+     */
+    boolean canUndoModuleTracker();
+
+    /**
+     * Returns true if there is an undone change to the module tracker that can be redone.
+     */
+    boolean canRedoModuleTracker();
+
+    /**
+     * Reverts the latest committed change to the module tracker.
+     */
+    void undoModuleTracker();
+
+    /**
+     * Re-applies the latest undone change to the module tracker.
+     */
+    void redoModuleTracker();
+
     /** Returns an unmodifiable view of the filtered module list */
     ObservableList<Module> getDisplayedModuleList();
 
@@ -88,9 +146,164 @@ public interface Model {
      */
     void updateFilteredModuleList(Predicate<Module> predicate);
 
+    /**
+     * Updates the filter of the filtered module list to filter by the given {@code predicate}, which must match
+     * the same modules as {@code query} and may be cheaper to test. The query is remembered, so that the displayed
+     * modules can be saved as a view.
+     * @throws NullPointerException if {@code predicate} or {@code query} is null.
+     */
+    void updateFilteredModuleList(Predicate<Module> predicate, Query query);
+
+    /**
+     * Orders the displayed modules by {@code ranking} first, and by the comparator of the sorted module list among
+     * equally ranked modules. The ranking is dropped the next time the filter is updated.
+     * @throws NullPointerException if {@code ranking} is null.
+     */
+    void updateModuleRanking(Comparator<Module> ranking);
+
+    /**
+     * Returns a plan for finding the modules in the module tracker that match {@code query}.
+     * The plan must be executed before the module tracker is modified again.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryPlan planQuery(Query query);
+
+    /**
+     * Returns the modules in the module tracker other than {@code module} whose timeslot overlaps that of
+     * {@code module}, earliest first.
+     * @throws NullPointerException if {@code module} is null.
+     */
+    List<Module> getModulesClashingWith(Module module);
+
+    /**
+     * Replaces the archive that modules long past their deadlines were moved to with {@code archive}.
+     */
+    void setArchive(ModuleArchive archive);
+
+    /**
+     * Returns the archived modules, oldest first.
+     * The archive is only read in when this is first called.
+     * @throws DataConversionException if the archive is not in the correct format.
+     * @throws IOException if the archive could not be read.
+     */
+    List<Module> getArchivedModules() throws DataConversionException, IOException;
+
+    /**
+     * Moves the archived {@code modules} back into the module tracker. Undoing this archives them again.
+     * A module that is in the module tracker already is only removed from the archive.
+     * @throws IOException if the archive could not be written, in which case nothing is moved.
+     */
+    void unarchiveModules(List<Module> modules) throws IOException;
+
+    /**
+     * Replaces the workspaces that the module tracker can be switched between with {@code workspaces}.
+     */
+    void setWorkspaces(Workspaces workspaces);
+
+    /**
+     * Returns the workspaces that the module tracker can be switched between, if there are any.
+     */
+    Optional<Workspaces> getWorkspaces();
+
+    /**
+     * Replaces the modules of the module tracker with those of the workspace {@code name}, which is saved to from
+     * then on, and whose archive modules are archived to. Its modules that are due are archived as it is opened.
+     * This clears the undo history. There must be workspaces.
+     * @throws DataConversionException if the file of the workspace is not in the correct format.
+     * @throws IOException if the file of the workspace could not be read.
+     */
+    void openWorkspace(String name) throws DataConversionException, IOException;
+
+    /**
+     * Replaces where the module tracker's sync log and exchanged changes are kept with {@code syncStore}.
+     */
+    void setSyncStore(SyncStore syncStore);
+
+    /**
+     * Returns where the module tracker's sync log and exchanged changes are kept, if the module tracker can be synced.
+     */
+    Optional<SyncStore> getSyncStore();
+
+    /**
+     * Replaces what checks the data file of the module tracker on demand with {@code integrityChecker}.
+     */
+    void setIntegrityChecker(IntegrityChecker integrityChecker);
+
+    /**
+     * Returns what checks the data file of the module tracker on demand, if the module tracker is saved to one.
+     */
+    Optional<IntegrityChecker> getIntegrityChecker();
+
+    /**
+     * Returns the service that tells the model the time, and keeps the sort orders that depend on it up to date.
+     */
+    TimeService getTimeService();
+
+    /**
+     * Returns the lessons and deadlines of {@code days} days, one agenda per day, starting {@code daysFromToday}
+     * days from today.
+     */
+    List<Agenda> getAgendas(int daysFromToday, int days);
+
+    /**
+     * Sets the term lessons take place in, in the user prefs, or clears it if {@code term} is null.
+     */
+    void setTerm(Term term);
+
+    /**
+     * Returns the lessons of all modules that start at or after {@code from}, earliest first, generated as they are
+     * read. Only the lessons of the term are included if one is set; otherwise there is no end to them.
+     * @throws NullPointerException if {@code from} is null.
+     */
+    Iterator<Occurrence> getOccurrencesFrom(LocalDateTime from);
+
+    /**
+     * Returns the periods of at least {@code minLength} minutes between minute {@code fromMinute} and minute
+     * {@code toMinute} of each day in which no module takes place, from Monday to Sunday.
+     * The minutes must satisfy {@code 0 <= fromMinute < toMinute <= 1440}.
+     */
+    List<FreePeriod> getFreePeriods(int minLength, int fromMinute, int toMinute);
+
+    /**
+     * Sets whether adding or editing a module warns about timetable clashes, in the user prefs.
+     */
+    void setClashWarningEnabled(boolean isEnabled);
+
+    /**
+     * Returns the modules whose remark, resource, teacher or venue contains any of {@code terms}, best match first.
+     * The terms must be in lower case.
+     * @throws NullPointerException if {@code terms} is null.
+     */
+    List<TextIndex.Hit> searchText(List<String> terms);
+
+    /**
+     * Returns the number of modules in the module tracker with each tag, by tag name.
+     */
+    Map<String, Integer> getTagCounts();
+
     /**
      * Updates the comparator of the sorted module list to sort by the given {@code comparator}.
      * @throws NullPointerException if {@code comparator} is null.
      */
     void updateSortedModuleList(Comparator<Module> comparator);
+
+    /**
+     * Returns the query and sort order the displayed modules were last found and sorted by, or an empty Optional if
+     * they were not found by a query, e.g. when showing search results.
+     */
+    Optional<SavedView> getDisplayedView();
+
+    /**
+     * Saves {@code view} in the user prefs under {@code name}, replacing any view saved under that name before.
+     */
+    void saveView(String name, SavedView view);
+
+    /**
+     * Displays the modules matching {@code predicate}, sorted by {@code comparator} or in the order they were added
+     * if it is null, as the view saved under {@code name}.
+     * A view stays up to date in the background once shown, so showing it again later is immediate; in that case
+     * {@code predicate} and {@code comparator} are not used.
+     * @throws IllegalArgumentException if no view is saved under {@code name}.
+     */
+    void showView(String name, Predicate<Module> predicate, Comparator<Module> comparator);
 }
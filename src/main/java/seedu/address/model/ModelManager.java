@@ -3,17 +3,53 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ComparatorUtil;
+import seedu.address.commons.util.SwitchableList;
+import seedu.address.model.agenda.Agenda;
+import seedu.address.model.agenda.AgendaService;
+import seedu.address.model.archive.ModuleArchive;
+import seedu.address.model.integrity.IntegrityChecker;
+import seedu.address.model.journal.AddOperation;
+import seedu.address.model.journal.Journal;
+import seedu.address.model.journal.RemoveOperation;
+import seedu.address.model.journal.ResetOperation;
+import seedu.address.model.journal.SetOperation;
+import seedu.address.model.journal.UnarchiveOperation;
 import seedu.address.model.module.Module;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.TextIndex;
+import seedu.address.model.sync.SyncStore;
+import seedu.address.model.time.TimeService;
+import seedu.address.model.timetable.FreePeriod;
+import seedu.address.model.timetable.Occurrence;
+import seedu.address.model.timetable.Occurrences;
+import seedu.address.model.timetable.Term;
+import seedu.address.model.view.LiveView;
+import seedu.address.model.view.SavedView;
+import seedu.address.model.workspace.Workspaces;
 
 /**
  * Represents the in-memory model of the module tracker data.
@@ -23,20 +59,49 @@ public class ModelManager implements Model {
     private final ModuleTracker moduleTracker;
     private final UserPrefs userPrefs;
     private final SortedList<Module> sortedModules;
-    private final FilteredList<Module> displayedModules;
+    private final FilteredList<Module> filteredModules;
+    private final SwitchableList<Module> displayedModules;
+    private final Journal journal = new Journal();
+    private final Map<String, LiveView> openViews = new HashMap<>();
+    private final TimeService timeService;
+    private final AgendaService agendaService;
+    private ModuleArchive archive = ModuleArchive.EMPTY;
+    private Workspaces workspaces;
+    private SyncStore syncStore;
+    private IntegrityChecker integrityChecker;
+    private Comparator<Module> sortComparator;
+    private Comparator<Module> ranking;
+    private LiveView shownView;
+    /** What the displayed modules were found and sorted by, or null if that cannot be described as a view. */
+    private SavedView displayedView = new SavedView();
+    /** The user prefs and the display as they were at the last commit, which rolling back restores. */
+    private CommittedState committedState;
 
     /**
      * Initializes a ModelManager with the given moduleTracker and userPrefs.
      */
     public ModelManager(ReadOnlyModuleTracker moduleTracker, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(moduleTracker, userPrefs);
+        this(moduleTracker, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given moduleTracker and userPrefs, which reads the time from
+     * {@code clock}.
+     */
+    public ModelManager(ReadOnlyModuleTracker moduleTracker, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        requireAllNonNull(moduleTracker, userPrefs, clock);
 
         logger.fine("Initializing with module tracker: " + moduleTracker + " and user prefs " + userPrefs);
 
         this.moduleTracker = new ModuleTracker(moduleTracker);
         this.userPrefs = new UserPrefs(userPrefs);
         sortedModules = new SortedList(this.moduleTracker.getModuleList());
-        displayedModules = new FilteredList<>(sortedModules);
+        filteredModules = new FilteredList<>(sortedModules);
+        displayedModules = new SwitchableList<>(filteredModules);
+        timeService = new TimeService(this.moduleTracker, clock);
+        agendaService = new AgendaService(this.moduleTracker, clock);
+        agendaService.setTerm(this.userPrefs.getTerm().orElse(null));
+        committedState = new CommittedState();
     }
 
     public ModelManager() {
@@ -49,6 +114,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        agendaService.setTerm(this.userPrefs.getTerm().orElse(null));
     }
 
     @Override
@@ -82,7 +148,10 @@ public class ModelManager implements Model {
 
     @Override
     public void setModuleTracker(ReadOnlyModuleTracker moduleTracker) {
+        ReadOnlyModuleTracker oldVersion = this.moduleTracker.getSnapshot();
         this.moduleTracker.resetData(moduleTracker);
+        journal.record(new ResetOperation(oldVersion.getModuleList(),
+                this.moduleTracker.getSnapshot().getModuleList()));
     }
 
     @Override
@@ -90,6 +159,11 @@ public class ModelManager implements Model {
         return moduleTracker;
     }
 
+    @Override
+    public ReadOnlyModuleTracker getModuleTrackerSnapshot() {
+        return moduleTracker.getSnapshot();
+    }
+
     @Override
     public boolean hasModule(Module module) {
         requireNonNull(module);
@@ -98,13 +172,14 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteModule(Module target) {
-        moduleTracker.removeModule(target);
+        int index = moduleTracker.removeModule(target);
+        journal.record(new RemoveOperation(index, target));
     }
 
     @Override
     public void addModule(Module module) {
         moduleTracker.addModule(module);
-        updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+        journal.record(new AddOperation(moduleTracker.getModuleList().size() - 1, module));
     }
 
     @Override
@@ -112,13 +187,53 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedModule);
 
         moduleTracker.setModule(target, editedModule);
+        journal.record(new SetOperation(target, editedModule));
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitModuleTracker() {
+        journal.commit();
+        committedState = new CommittedState();
+    }
+
+    @Override
+    public void rollbackModuleTracker() {
+        try {
+            journal.rollback(moduleTracker);
+        } catch (UncheckedIOException e) {
+            logger.warning("Could not archive unarchived modules again, so they stay in the module tracker: "
+                    + e.getMessage());
+        }
+        committedState.restore();
+    }
+
+    @Override
+    public boolean canUndoModuleTracker() {
+        return journal.canUndo();
+    }
+
+    @Override
+    public boolean canRedoModuleTracker() {
+        return journal.canRedo();
+    }
+
+    @Override
+    public void undoModuleTracker() {
+        journal.undo(moduleTracker);
+    }
+
+    @Override
+    public void redoModuleTracker() {
+        journal.redo(moduleTracker);
     }
 
     //=========== Filtered Module List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Module} backed by the internal list of
-     * {@code versionedModuleTracker}
+     * {@code moduleTracker}
      */
     @Override
     public ObservableList<Module> getDisplayedModuleList() {
@@ -128,13 +243,311 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredModuleList(Predicate<Module> predicate) {
         requireNonNull(predicate);
-        displayedModules.setPredicate(predicate);
+        String query = null;
+        if (predicate == PREDICATE_SHOW_ALL_MODULES) {
+            query = "";
+        } else if (predicate instanceof Query) {
+            query = predicate.toString();
+        }
+        setFilter(predicate, query);
+    }
+
+    @Override
+    public void updateFilteredModuleList(Predicate<Module> predicate, Query query) {
+        requireAllNonNull(predicate, query);
+        setFilter(predicate, query.toString());
+    }
+
+    private void setFilter(Predicate<Module> predicate, String query) {
+        hideView();
+        filteredModules.setPredicate(predicate);
+        if (ranking != null) {
+            ranking = null;
+            applySortOrder();
+        }
+        displayedView = query == null ? null : new SavedView(query, getSortKey());
+    }
+
+    @Override
+    public void updateModuleRanking(Comparator<Module> ranking) {
+        requireNonNull(ranking);
+        this.ranking = ranking;
+        applySortOrder();
+    }
+
+    /**
+     * Sorts the sorted module list by the ranking, if any, and then by the sort comparator at the time service's
+     * sort time.
+     */
+    private void applySortOrder() {
+        Comparator<Module> comparator = sortComparator == null ? null : timeService.atSortTime(sortComparator);
+        if (ranking != null) {
+            comparator = comparator == null ? ranking : ranking.thenComparing(comparator);
+        }
+        sortedModules.setComparator(comparator);
+    }
+
+    @Override
+    public QueryPlan planQuery(Query query) {
+        requireNonNull(query);
+        return moduleTracker.planQuery(query);
+    }
+
+    @Override
+    public List<Module> getModulesClashingWith(Module module) {
+        requireNonNull(module);
+        return moduleTracker.getModulesClashingWith(module);
+    }
+
+    @Override
+    public void setArchive(ModuleArchive archive) {
+        requireNonNull(archive);
+        this.archive = archive;
+    }
+
+    @Override
+    public List<Module> getArchivedModules() throws DataConversionException, IOException {
+        return archive.getModules();
+    }
+
+    @Override
+    public void unarchiveModules(List<Module> modules) throws IOException {
+        requireNonNull(modules);
+        List<Module> added = new ArrayList<>();
+        for (Module module : modules) {
+            // left in both by archiving that was cut short, in which case the module tracker's copy is kept
+            if (!moduleTracker.hasModule(module)) {
+                moduleTracker.addModule(module);
+                added.add(module);
+            }
+        }
+        try {
+            archive.removeFromArchive(modules);
+        } catch (IOException e) {
+            added.forEach(moduleTracker::removeModule);
+            throw e;
+        }
+        // Recorded after the additions, so that undoing archives the modules again before removing them.
+        for (Module module : added) {
+            journal.record(new AddOperation(moduleTracker.getModuleList().indexOf(module), module));
+        }
+        journal.record(new UnarchiveOperation(archive, modules));
+    }
+
+    @Override
+    public void setWorkspaces(Workspaces workspaces) {
+        requireNonNull(workspaces);
+        this.workspaces = workspaces;
+    }
+
+    @Override
+    public Optional<Workspaces> getWorkspaces() {
+        return Optional.ofNullable(workspaces);
+    }
+
+    @Override
+    public void openWorkspace(String name) throws DataConversionException, IOException {
+        requireNonNull(name);
+        assert workspaces != null;
+        int days = userPrefs.getArchiveAfterDays();
+        LocalDateTime now = timeService.now();
+        ReadOnlyModuleTracker modules = workspaces.openWorkspace(name, moduleTracker.getSnapshot(), module ->
+                days >= 0 && ModuleArchive.isDueForArchive(module, now, days));
+        moduleTracker.resetData(modules);
+        // undoing must not bring the modules of the previous workspace into this one
+        journal.clear();
+        userPrefs.setModuleTrackerFilePath(workspaces.getOpenWorkspaceFilePath());
+        userPrefs.setArchiveFilePath(workspaces.getOpenWorkspaceArchiveFilePath());
+        updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+    }
+
+    @Override
+    public void setSyncStore(SyncStore syncStore) {
+        requireNonNull(syncStore);
+        this.syncStore = syncStore;
+    }
+
+    @Override
+    public Optional<SyncStore> getSyncStore() {
+        return Optional.ofNullable(syncStore);
+    }
+
+    @Override
+    public void setIntegrityChecker(IntegrityChecker integrityChecker) {
+        requireNonNull(integrityChecker);
+        this.integrityChecker = integrityChecker;
+    }
+
+    @Override
+    public Optional<IntegrityChecker> getIntegrityChecker() {
+        return Optional.ofNullable(integrityChecker);
+    }
+
+    @Override
+    public TimeService getTimeService() {
+        return timeService;
+    }
+
+    @Override
+    public List<Agenda> getAgendas(int daysFromToday, int days) {
+        return agendaService.getAgendas(daysFromToday, days);
+    }
+
+    @Override
+    public void setTerm(Term term) {
+        userPrefs.setTerm(term);
+        agendaService.setTerm(term);
+    }
+
+    @Override
+    public Iterator<Occurrence> getOccurrencesFrom(LocalDateTime from) {
+        requireNonNull(from);
+        Term term = userPrefs.getTerm().orElse(null);
+        return Occurrences.merge(moduleTracker.getModuleList().stream()
+                .map(module -> Occurrences.of(module, term, from))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<FreePeriod> getFreePeriods(int minLength, int fromMinute, int toMinute) {
+        return moduleTracker.getFreePeriods(minLength, fromMinute, toMinute);
+    }
+
+    @Override
+    public void setClashWarningEnabled(boolean isEnabled) {
+        userPrefs.setClashWarningEnabled(isEnabled);
+    }
+
+    @Override
+    public List<TextIndex.Hit> searchText(List<String> terms) {
+        requireNonNull(terms);
+        return moduleTracker.searchText(terms);
+    }
+
+    @Override
+    public Map<String, Integer> getTagCounts() {
+        return moduleTracker.getTagCounts();
     }
 
     @Override
     public void updateSortedModuleList(Comparator<Module> comparator) {
         requireNonNull(comparator);
-        sortedModules.setComparator(comparator);
+        if (shownView != null) {
+            // sort what the view shows
+            filteredModules.setPredicate(shownView.getPredicate());
+            hideView();
+        }
+        timeService.advance();
+        sortComparator = comparator;
+        applySortOrder();
+        if (displayedView != null) {
+            displayedView = displayedView.withSortKey(getSortKey());
+        }
+    }
+
+    private String getSortKey() {
+        String keyword = sortComparator == null ? null : ComparatorUtil.getKeyword(sortComparator);
+        return keyword == null ? "" : keyword;
+    }
+
+    //=========== Saved views ================================================================================
+
+    @Override
+    public Optional<SavedView> getDisplayedView() {
+        return Optional.ofNullable(displayedView);
+    }
+
+    @Override
+    public void saveView(String name, SavedView view) {
+        requireAllNonNull(name, view);
+        userPrefs.putSavedView(name, view);
+        LiveView outdated = openViews.remove(name);
+        if (outdated != null && outdated != shownView) {
+            outdated.close();
+        }
+    }
+
+    @Override
+    public void showView(String name, Predicate<Module> predicate, Comparator<Module> comparator) {
+        requireAllNonNull(name, predicate);
+        SavedView view = userPrefs.getSavedViews().get(name);
+        if (view == null) {
+            throw new IllegalArgumentException("No view saved as " + name);
+        }
+        LiveView liveView = openViews.get(name);
+        if (liveView == null) {
+            liveView = new LiveView(moduleTracker.getModuleList(), predicate,
+                    comparator == null ? null : timeService.atSortTime(comparator));
+            openViews.put(name, liveView);
+            logger.fine("Opened view " + name + ": " + view);
+        }
+        hideView();
+        shownView = liveView;
+        displayedModules.setSource(liveView.getModules());
+        displayedView = view;
+    }
+
+    /**
+     * Displays the filtered and sorted module list instead of a view, if a view is shown.
+     */
+    private void hideView() {
+        if (shownView == null) {
+            return;
+        }
+        if (!openViews.containsValue(shownView)) {
+            // the view was replaced while it was shown
+            shownView.close();
+        }
+        shownView = null;
+        displayedModules.setSource(filteredModules);
+    }
+
+    /**
+     * The user prefs that commands change, and what is displayed, as they were when this was created.
+     */
+    private class CommittedState {
+        private final UserPrefs userPrefs = new UserPrefs(ModelManager.this.userPrefs);
+        private final Predicate<? super Module> predicate = filteredModules.getPredicate();
+        private final Comparator<Module> ranking = ModelManager.this.ranking;
+        private final Comparator<Module> sortComparator = ModelManager.this.sortComparator;
+        private final LiveView shownView = ModelManager.this.shownView;
+        private final SavedView displayedView = ModelManager.this.displayedView;
+
+        /**
+         * Puts the user prefs that commands change, and what is displayed, back as they were.
+         */
+        void restore() {
+            ModelManager.this.userPrefs.setSavedViews(userPrefs.getSavedViews());
+            ModelManager.this.userPrefs.setClashWarningEnabled(userPrefs.isClashWarningEnabled());
+            setTerm(userPrefs.getTerm().orElse(null));
+            // views saved since are forgotten, and views saved over were closed, so both are opened anew if shown
+            for (Iterator<Map.Entry<String, LiveView>> it = openViews.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<String, LiveView> entry = it.next();
+                if (!userPrefs.getSavedViews().containsKey(entry.getKey())) {
+                    it.remove();
+                    if (entry.getValue() != ModelManager.this.shownView) {
+                        entry.getValue().close();
+                    }
+                }
+            }
+
+            hideView();
+            filteredModules.setPredicate(predicate);
+            ModelManager.this.ranking = ranking;
+            ModelManager.this.sortComparator = sortComparator;
+            applySortOrder();
+            ModelManager.this.displayedView = displayedView;
+            if (shownView == null) {
+                return;
+            }
+            if (openViews.containsValue(shownView)) {
+                ModelManager.this.shownView = shownView;
+                displayedModules.setSource(shownView.getModules());
+            } else {
+                // the view was saved over, so the list it was shown over is displayed instead
+                ModelManager.this.displayedView = null;
+            }
+        }
     }
 
     @Override
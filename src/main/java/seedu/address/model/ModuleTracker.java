@@ -2,19 +2,42 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.module.Module;
+import seedu.address.model.module.TimeSlots;
 import seedu.address.model.module.UniqueModuleList;
+import seedu.address.model.query.ModuleIndexes;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.model.query.SecondaryIndex;
+import seedu.address.model.query.TextIndex;
+import seedu.address.model.timetable.FreePeriod;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameModule comparison)
+ *
+ * Mutations must all happen on one thread. After each mutation a new immutable {@link ModuleTrackerSnapshot} is
+ * published, sharing most of its structure with the previous one, so that other threads can read a consistent
+ * version through {@link #getSnapshot()} without locking and without ever holding up the writer.
+ * The same mutation paths keep the {@link ModuleIndexes} used to plan queries up to date.
  */
 public class ModuleTracker implements ReadOnlyModuleTracker {
 
     private final UniqueModuleList modules;
+    private final ModuleIndexes indexes = new ModuleIndexes();
+    private volatile ModuleTrackerSnapshot snapshot = ModuleTrackerSnapshot.EMPTY;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +68,8 @@ public class ModuleTracker implements ReadOnlyModuleTracker {
      */
     public void setModules(List<Module> modules) {
         this.modules.setModules(modules);
+        indexes.rebuild(modules);
+        publish(PersistentList.of(modules));
     }
 
     /**
@@ -72,6 +97,18 @@ public class ModuleTracker implements ReadOnlyModuleTracker {
      */
     public void addModule(Module p) {
         modules.add(p);
+        indexes.add(p);
+        publish(snapshot.getModules().plus(p));
+    }
+
+    /**
+     * Adds a module to the module tracker at {@code index}.
+     * The module must not already exist in the module tracker.
+     */
+    public void addModule(int index, Module p) {
+        modules.add(index, p);
+        indexes.add(p);
+        publish(snapshot.getModules().plus(index, p));
     }
 
     /**
@@ -79,19 +116,151 @@ public class ModuleTracker implements ReadOnlyModuleTracker {
      * {@code target} must exist in the module tracker.
      * The module identity of {@code editedModule} must not be the same as another existing module in the
      * module tracker.
+     *
+     * @return the index of the replaced module.
      */
-    public void setModule(Module target, Module editedModule) {
+    public int setModule(Module target, Module editedModule) {
         requireNonNull(editedModule);
 
-        modules.setModule(target, editedModule);
+        int index = modules.setModule(target, editedModule);
+        indexes.remove(target);
+        indexes.add(editedModule);
+        publish(snapshot.getModules().with(index, editedModule));
+        return index;
     }
 
     /**
      * Removes {@code key} from this {@code ModuleTracker}.
      * {@code key} must exist in the module tracker.
+     *
+     * @return the index {@code key} was removed from.
+     */
+    public int removeModule(Module key) {
+        int index = modules.remove(key);
+        indexes.remove(key);
+        publish(snapshot.getModules().minus(index));
+        return index;
+    }
+
+    /**
+     * Takes {@code modules} out of the module list and puts each back where it was, running {@code whileOut} in
+     * between, so that lists sorted by an order that {@code whileOut} changes place them again. The modules
+     * themselves do not change, so neither do the indexes or the snapshot.
+     */
+    public void reinsertModules(Collection<Module> modules, Runnable whileOut) {
+        this.modules.reinsert(modules, whileOut);
+    }
+
+    //// snapshot operations
+
+    /**
+     * Returns the latest published version of this tracker. May be called from any thread.
+     */
+    public ModuleTrackerSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    private void publish(PersistentList<Module> newModules) {
+        snapshot = new ModuleTrackerSnapshot(snapshot.getVersion() + 1, newModules);
+    }
+
+    //// query operations
+
+    /**
+     * Returns a plan for finding the modules matching {@code query}, using this tracker's indexes.
+     * The plan must be executed before the tracker is modified again.
+     */
+    public QueryPlan planQuery(Query query) {
+        return new QueryPlanner(indexes, modules.asUnmodifiableObservableList()).plan(query);
+    }
+
+    /**
+     * Adds {@code index} to the indexes this tracker keeps up to date through its mutations.
+     *
+     * @throws IllegalArgumentException if an index with the same name is already registered.
+     */
+    public void registerIndex(SecondaryIndex<?> index) {
+        indexes.register(index);
+    }
+
+    /**
+     * Returns the registered secondary index called {@code name}.
+     *
+     * @throws IllegalArgumentException if there is no such index.
+     */
+    public <K> SecondaryIndex<K> getSecondaryIndex(String name) {
+        return indexes.getSecondaryIndex(name);
+    }
+
+    /**
+     * Returns the number of modules with each tag, by tag name, ignoring the case of tag names.
+     */
+    public Map<String, Integer> getTagCounts() {
+        return indexes.getTagCounts();
+    }
+
+    /**
+     * Returns the modules with a timeslot on {@code day}, earliest first.
+     */
+    public List<Module> getModulesOnDay(DayOfWeek day) {
+        requireNonNull(day);
+        return indexes.onDay(day);
+    }
+
+    /**
+     * Returns the modules with a deadline from {@code from} up to, but not including, {@code to}, earliest first.
+     */
+    public List<Module> getModulesWithDeadlineBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        return indexes.withDeadlineBetween(from, to);
+    }
+
+    /**
+     * Returns the earliest time after {@code time} at which a deadline passes or a timeslot starts, or null if there
+     * is none.
+     */
+    public LocalDateTime getNextEventAfter(LocalDateTime time) {
+        return indexes.nextEventAfter(time);
+    }
+
+    /**
+     * Returns the modules with a deadline, or a start of their timeslot, after {@code from} and no later than
+     * {@code to}.
+     */
+    public List<Module> getModulesWithEventBetween(LocalDateTime from, LocalDateTime to) {
+        return indexes.withEventBetween(from, to);
+    }
+
+    /**
+     * Returns the periods of at least {@code minLength} minutes between minute {@code fromMinute} and minute
+     * {@code toMinute} of each day in which no module takes place, from Monday to Sunday.
+     */
+    public List<FreePeriod> getFreePeriods(int minLength, int fromMinute, int toMinute) {
+        return indexes.freePeriods(minLength, fromMinute, toMinute);
+    }
+
+    /**
+     * Returns the modules other than {@code module} with a timeslot overlapping any timeslot of {@code module},
+     * earliest first.
+     */
+    public List<Module> getModulesClashingWith(Module module) {
+        requireNonNull(module);
+        TimeSlots timeSlots = module.getTimeSlots();
+        Set<Module> clashing = new LinkedHashSet<>();
+        for (int i = 0; i < timeSlots.size(); i++) {
+            clashing.addAll(indexes.overlapping(timeSlots.getDay(i), timeSlots.getStartTime(i),
+                    timeSlots.getEndTime(i)));
+        }
+        clashing.remove(module);
+        return new ArrayList<>(clashing);
+    }
+
+    /**
+     * Returns the modules whose free text contains any of {@code terms}, best match first.
      */
-    public void removeModule(Module key) {
-        modules.remove(key);
+    public List<TextIndex.Hit> searchText(Collection<String> terms) {
+        return ((TextIndex) indexes.<String>getSecondaryIndex(ModuleIndexes.TEXT_INDEX)).search(terms);
     }
 
     //// util methods
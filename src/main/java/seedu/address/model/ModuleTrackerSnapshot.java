@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.module.Module;
+
+/**
+ * An immutable version of a {@code ModuleTracker}.
+ * Safe to read from any thread: it never changes after it is published, no matter what the tracker does next.
+ */
+public final class ModuleTrackerSnapshot implements ReadOnlyModuleTracker {
+
+    public static final ModuleTrackerSnapshot EMPTY = new ModuleTrackerSnapshot(0, PersistentList.empty());
+
+    private final long version;
+    private final PersistentList<Module> modules;
+    private final ObservableList<Module> moduleList;
+
+    /**
+     * Creates version {@code version} of a tracker containing {@code modules}.
+     */
+    ModuleTrackerSnapshot(long version, PersistentList<Module> modules) {
+        requireNonNull(modules);
+        this.version = version;
+        this.modules = modules;
+        this.moduleList = FXCollections.unmodifiableObservableList(FXCollections.observableList(modules));
+    }
+
+    /**
+     * Returns the version number of this snapshot. Later mutations of the tracker have larger version numbers.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    PersistentList<Module> getModules() {
+        return modules;
+    }
+
+    @Override
+    public ObservableList<Module> getModuleList() {
+        return moduleList;
+    }
+
+    @Override
+    public String toString() {
+        return "v" + version + ": " + modules.size() + " modules";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ModuleTrackerSnapshot // instanceof handles nulls
+                && modules.equals(((ModuleTrackerSnapshot) other).modules));
+    }
+
+    @Override
+    public int hashCode() {
+        return modules.hashCode();
+    }
+}
@@ -1,8 +1,12 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.timetable.Term;
+import seedu.address.model.view.SavedView;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +17,18 @@ public interface ReadOnlyUserPrefs {
 
     Path getModuleTrackerFilePath();
 
+    Path getArchiveFilePath();
+
+    /** Returns how many days after its deadline a module is archived, or a negative number if it never is. */
+    int getArchiveAfterDays();
+
+    /** Returns the saved views by name, in the order they were first saved. */
+    Map<String, SavedView> getSavedViews();
+
+    /** Returns true if adding or editing a module should warn about timetable clashes. */
+    boolean isClashWarningEnabled();
+
+    /** Returns the term lessons take place in, or an empty Optional if lessons recur every week. */
+    Optional<Term> getTerm();
+
 }
@@ -4,17 +4,30 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.timetable.Term;
+import seedu.address.model.view.SavedView;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_ARCHIVE_AFTER_DAYS = 30;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path moduleTrackerFilePath = Paths.get("data" , "moduletracker.json");
+    private Path archiveFilePath = Paths.get("data" , "moduletracker.archive.jsonl");
+    private int archiveAfterDays = DEFAULT_ARCHIVE_AFTER_DAYS;
+    private Map<String, SavedView> savedViews = new LinkedHashMap<>();
+    private boolean clashWarningEnabled;
+    private Term term;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +49,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setModuleTrackerFilePath(newUserPrefs.getModuleTrackerFilePath());
+        setArchiveFilePath(newUserPrefs.getArchiveFilePath());
+        setArchiveAfterDays(newUserPrefs.getArchiveAfterDays());
+        setSavedViews(newUserPrefs.getSavedViews());
+        setClashWarningEnabled(newUserPrefs.isClashWarningEnabled());
+        setTerm(newUserPrefs.getTerm().orElse(null));
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +74,63 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.moduleTrackerFilePath = moduleTrackerFilePath;
     }
 
+    public Path getArchiveFilePath() {
+        return archiveFilePath;
+    }
+
+    public void setArchiveFilePath(Path archiveFilePath) {
+        requireNonNull(archiveFilePath);
+        this.archiveFilePath = archiveFilePath;
+    }
+
+    public int getArchiveAfterDays() {
+        return archiveAfterDays;
+    }
+
+    /**
+     * Sets how many days after its deadline a module is archived. A negative number turns archiving off.
+     */
+    public void setArchiveAfterDays(int archiveAfterDays) {
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
+    public Map<String, SavedView> getSavedViews() {
+        return Collections.unmodifiableMap(savedViews);
+    }
+
+    public void setSavedViews(Map<String, SavedView> savedViews) {
+        requireNonNull(savedViews);
+        this.savedViews = new LinkedHashMap<>(savedViews);
+    }
+
+    /**
+     * Saves {@code view} under {@code name}, replacing any view saved under that name before.
+     */
+    public void putSavedView(String name, SavedView view) {
+        requireNonNull(name);
+        requireNonNull(view);
+        savedViews.put(name, view);
+    }
+
+    public boolean isClashWarningEnabled() {
+        return clashWarningEnabled;
+    }
+
+    public void setClashWarningEnabled(boolean clashWarningEnabled) {
+        this.clashWarningEnabled = clashWarningEnabled;
+    }
+
+    public Optional<Term> getTerm() {
+        return Optional.ofNullable(term);
+    }
+
+    /**
+     * Sets the term lessons take place in, or clears it if {@code term} is null.
+     */
+    public void setTerm(Term term) {
+        this.term = term;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +143,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && moduleTrackerFilePath.equals(o.moduleTrackerFilePath);
+                && moduleTrackerFilePath.equals(o.moduleTrackerFilePath)
+                && archiveFilePath.equals(o.archiveFilePath)
+                && archiveAfterDays == o.archiveAfterDays
+                && savedViews.equals(o.savedViews)
+                && clashWarningEnabled == o.clashWarningEnabled
+                && Objects.equals(term, o.term);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, moduleTrackerFilePath);
+        return Objects.hash(guiSettings, moduleTrackerFilePath, archiveFilePath, archiveAfterDays, savedViews,
+                clashWarningEnabled, term);
     }
 
     @Override
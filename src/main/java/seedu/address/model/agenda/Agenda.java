@@ -0,0 +1,66 @@
+package seedu.address.model.agenda;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The lessons and deadlines of one day, in order of time.
+ * Guarantees: immutable.
+ */
+public class Agenda {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("EEEE d MMM yyyy");
+
+    private final LocalDate date;
+    private final List<AgendaItem> items;
+
+    /**
+     * Constructs the {@code Agenda} of {@code date}, with {@code items} in order of time.
+     */
+    public Agenda(LocalDate date, List<AgendaItem> items) {
+        requireAllNonNull(date, items);
+        this.date = date;
+        this.items = Collections.unmodifiableList(items);
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public List<AgendaItem> getItems() {
+        return items;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Agenda // instanceof handles nulls
+                && date.equals(((Agenda) other).date)
+                && items.equals(((Agenda) other).items)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return date.hashCode();
+    }
+
+    /**
+     * Returns the date followed by one item per line.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(FORMATTER.format(date)).append(":");
+        for (AgendaItem item : items) {
+            builder.append("\n").append(item);
+        }
+        return builder.toString();
+    }
+}
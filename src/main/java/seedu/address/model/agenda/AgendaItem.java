@@ -0,0 +1,94 @@
+package seedu.address.model.agenda;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalTime;
+import java.util.Objects;
+
+import seedu.address.model.module.Module;
+
+/**
+ * A deadline or a lesson of a module on an agenda.
+ * Guarantees: immutable.
+ */
+public class AgendaItem {
+
+    /**
+     * What an agenda item is about.
+     */
+    public enum Kind {
+        TIMESLOT, DEADLINE
+    }
+
+    private final Module module;
+    private final Kind kind;
+    private final LocalTime time;
+    private final LocalTime endTime;
+
+    /**
+     * Constructs an {@code AgendaItem} for {@code module}'s deadline at {@code time} of the agenda's day.
+     */
+    public AgendaItem(Module module, LocalTime time) {
+        requireAllNonNull(module, time);
+        this.module = module;
+        this.kind = Kind.DEADLINE;
+        this.time = time;
+        this.endTime = null;
+    }
+
+    /**
+     * Constructs an {@code AgendaItem} for {@code module}'s lesson from {@code time} to {@code endTime} of the
+     * agenda's day.
+     */
+    public AgendaItem(Module module, LocalTime time, LocalTime endTime) {
+        requireAllNonNull(module, time, endTime);
+        this.module = module;
+        this.kind = Kind.TIMESLOT;
+        this.time = time;
+        this.endTime = endTime;
+    }
+
+    public Module getModule() {
+        return module;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /** Returns when the deadline is, or when the lesson starts. */
+    public LocalTime getTime() {
+        return time;
+    }
+
+    /** Returns when the lesson ends, or null for a deadline. */
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AgendaItem // instanceof handles nulls
+                && module.equals(((AgendaItem) other).module)
+                && kind == ((AgendaItem) other).kind
+                && time.equals(((AgendaItem) other).time)
+                && Objects.equals(endTime, ((AgendaItem) other).endTime)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(module, kind, time, endTime);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        if (kind == Kind.TIMESLOT) {
+            builder.append(time).append("-").append(endTime);
+        } else {
+            builder.append(time).append(" deadline");
+        }
+        return builder.append(": ").append(module.getLabel()).toString();
+    }
+}
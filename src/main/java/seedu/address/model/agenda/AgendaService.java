@@ -0,0 +1,91 @@
+package seedu.address.model.agenda;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.TimeSlots;
+import seedu.address.model.timetable.Term;
+
+/**
+ * Builds the agendas of days from the deadline and timeslot indexes of a module tracker.
+ *
+ * The agenda of a day is read off the indexes in O(k log n) for k items among n modules, and kept until the module
+ * tracker changes. Agendas are cached by date, so the agenda of "today" is simply looked up again after midnight,
+ * and the agendas of past days are dropped then. If a term is set, timeslots only appear on the days it has lessons.
+ */
+public class AgendaService {
+
+    private static final Comparator<AgendaItem> ITEM_ORDER = Comparator.comparing(AgendaItem::getTime)
+            .thenComparing(AgendaItem::getKind)
+            .thenComparing(item -> item.getModule().getName().fullName);
+
+    private final ModuleTracker moduleTracker;
+    private final Clock clock;
+    private final Map<LocalDate, Agenda> cache = new HashMap<>();
+    private LocalDate cachedToday;
+    private Term term;
+
+    /**
+     * Creates an {@code AgendaService} over {@code moduleTracker}, with today's date read from {@code clock}.
+     */
+    public AgendaService(ModuleTracker moduleTracker, Clock clock) {
+        requireAllNonNull(moduleTracker, clock);
+        this.moduleTracker = moduleTracker;
+        this.clock = clock;
+        moduleTracker.getModuleList().addListener((ListChangeListener<Module>) change -> cache.clear());
+    }
+
+    /**
+     * Sets the term lessons take place in, or clears it if {@code term} is null.
+     */
+    public void setTerm(Term term) {
+        this.term = term;
+        cache.clear();
+    }
+
+    /**
+     * Returns the agendas of {@code days} days, starting {@code daysFromToday} days from today.
+     */
+    public List<Agenda> getAgendas(int daysFromToday, int days) {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(cachedToday)) {
+            cache.keySet().removeIf(today::isAfter);
+            cachedToday = today;
+        }
+        List<Agenda> agendas = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            agendas.add(cache.computeIfAbsent(today.plusDays(daysFromToday + i), this::buildAgenda));
+        }
+        return agendas;
+    }
+
+    private Agenda buildAgenda(LocalDate date) {
+        List<AgendaItem> items = new ArrayList<>();
+        if (term == null || term.hasLessonsOn(date)) {
+            for (Module module : moduleTracker.getModulesOnDay(date.getDayOfWeek())) {
+                TimeSlots timeSlots = module.getTimeSlots();
+                for (int i = 0; i < timeSlots.size(); i++) {
+                    if (timeSlots.getDay(i) == date.getDayOfWeek()) {
+                        items.add(new AgendaItem(module, timeSlots.getStartTime(i), timeSlots.getEndTime(i)));
+                    }
+                }
+            }
+        }
+        for (Module module : moduleTracker.getModulesWithDeadlineBetween(date.atStartOfDay(),
+                date.plusDays(1).atStartOfDay())) {
+            items.add(new AgendaItem(module, module.getDeadline().value.toLocalTime()));
+        }
+        items.sort(ITEM_ORDER);
+        return new Agenda(date, items);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.archive;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.module.Module;
+
+/**
+ * The modules moved out of the module tracker once their deadlines were long past.
+ *
+ * The module tracker is read, checked and saved all the time, so it should only hold current work. Archived modules
+ * are kept apart, and are only read in when they are asked for.
+ */
+public interface ModuleArchive {
+
+    /** An archive that holds no modules, and that modules cannot be archived to. */
+    ModuleArchive EMPTY = new ModuleArchive() {
+        @Override
+        public List<Module> getModules() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void appendToArchive(List<Module> modules) throws IOException {
+            throw new IOException("There is no archive to archive modules to.");
+        }
+
+        @Override
+        public void removeFromArchive(List<Module> modules) {
+            // nothing is archived, so there is nothing to remove
+        }
+    };
+
+    /**
+     * Returns the archived modules, reading them in on first use. Of several archived versions of the same module,
+     * only the latest is returned.
+     *
+     * @throws DataConversionException if the archive is not in the correct format.
+     * @throws IOException if the archive could not be read.
+     */
+    List<Module> getModules() throws DataConversionException, IOException;
+
+    /**
+     * Adds {@code modules} to the archive without reading it in. An archived module that is archived again is
+     * replaced by its new version.
+     * @throws IOException if there was any problem writing to the archive.
+     */
+    void appendToArchive(List<Module> modules) throws IOException;
+
+    /**
+     * Removes the archived versions of {@code modules} from the archive, reading it in if it has not been yet.
+     * @throws IOException if the archive could not be read or written.
+     */
+    void removeFromArchive(List<Module> modules) throws IOException;
+
+    /**
+     * Returns true if the deadline of {@code module} passed more than {@code days} days before {@code now}.
+     */
+    static boolean isDueForArchive(Module module, LocalDateTime now, int days) {
+        LocalDateTime deadline = module.getDeadline().value;
+        return deadline != null && deadline.isBefore(now.minusDays(days));
+    }
+}
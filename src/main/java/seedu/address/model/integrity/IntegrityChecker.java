@@ -0,0 +1,20 @@
+package seedu.address.model.integrity;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Checks the data file of the open module tracker on demand.
+ */
+public interface IntegrityChecker {
+
+    /**
+     * Checks the checksum and every module of the data file of the open module tracker, whether or not the checksum
+     * matches, or returns nothing if the module tracker has not been saved yet.
+     * @throws DataConversionException if the data file is not in the correct format.
+     * @throws IOException if there was any problem reading the data file.
+     */
+    Optional<IntegrityReport> verifyModuleTracker() throws DataConversionException, IOException;
+}
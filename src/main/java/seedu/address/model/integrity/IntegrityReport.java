@@ -0,0 +1,92 @@
+package seedu.address.model.integrity;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The outcome of checking a data file in full: whether the checksum saved in it matches its content, how many modules
+ * it holds, and what is wrong with them, if anything.
+ * Guarantees: immutable.
+ */
+public class IntegrityReport {
+
+    /**
+     * How the checksum saved in a data file compares with its content.
+     */
+    public enum ChecksumState {
+        /** The content is as the app saved it. */
+        MATCHING,
+        /** The content was changed outside the app since it was saved. */
+        MISMATCHED,
+        /** The file was saved by a version of the app without checksums, or the checksum was removed. */
+        MISSING
+    }
+
+    private final Path filePath;
+    private final ChecksumState checksumState;
+    private final int moduleCount;
+    private final String problem;
+
+    /**
+     * Creates an {@code IntegrityReport} of the data file at {@code filePath}, holding {@code moduleCount} modules.
+     * {@code problem} describes why the modules are not valid, or is null if they are.
+     */
+    public IntegrityReport(Path filePath, ChecksumState checksumState, int moduleCount, String problem) {
+        requireNonNull(filePath);
+        requireNonNull(checksumState);
+        this.filePath = filePath;
+        this.checksumState = checksumState;
+        this.moduleCount = moduleCount;
+        this.problem = problem;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public ChecksumState getChecksumState() {
+        return checksumState;
+    }
+
+    public int getModuleCount() {
+        return moduleCount;
+    }
+
+    /**
+     * Returns why the modules in the data file are not valid, or nothing if they are.
+     */
+    public Optional<String> getProblem() {
+        return Optional.ofNullable(problem);
+    }
+
+    /**
+     * Returns true if the checksum matches and every module is valid.
+     */
+    public boolean isIntact() {
+        return checksumState == ChecksumState.MATCHING && problem == null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IntegrityReport // instanceof handles nulls
+                && filePath.equals(((IntegrityReport) other).filePath)
+                && checksumState == ((IntegrityReport) other).checksumState
+                && moduleCount == ((IntegrityReport) other).moduleCount
+                && Objects.equals(problem, ((IntegrityReport) other).problem)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filePath, checksumState, moduleCount, problem);
+    }
+
+    @Override
+    public String toString() {
+        return filePath + ": checksum " + checksumState + ", " + moduleCount + " modules"
+                + (problem == null ? "" : ", " + problem);
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.model.journal;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+
+/**
+ * Records that {@code module} was added at {@code index}. Its inverse is a removal.
+ */
+public class AddOperation implements Operation {
+
+    private final int index;
+    private final Module module;
+
+    /**
+     * Creates an {@code AddOperation} for {@code module} added at {@code index}.
+     */
+    public AddOperation(int index, Module module) {
+        requireAllNonNull(module);
+        this.index = index;
+        this.module = module;
+    }
+
+    @Override
+    public void undo(ModuleTracker moduleTracker) {
+        moduleTracker.removeModule(module);
+    }
+
+    @Override
+    public void redo(ModuleTracker moduleTracker) {
+        moduleTracker.addModule(index, module);
+    }
+
+    @Override
+    public long estimateBytes() {
+        return Journal.estimateBytes(module);
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.ModuleTracker;
+
+/**
+ * Several operations that are undone and redone together, as one entry in the history.
+ * If one of them fails, those already undone or redone are reverted, so the batch is applied whole or not at all.
+ */
+public class BatchOperation implements Operation {
+
+    private final List<Operation> operations;
+
+    /**
+     * Creates a {@code BatchOperation} of {@code operations}, in the order they were applied.
+     */
+    public BatchOperation(List<Operation> operations) {
+        requireNonNull(operations);
+        this.operations = List.copyOf(operations);
+    }
+
+    @Override
+    public void undo(ModuleTracker moduleTracker) {
+        int i = operations.size() - 1;
+        try {
+            for (; i >= 0; i--) {
+                operations.get(i).undo(moduleTracker);
+            }
+        } catch (RuntimeException e) {
+            for (i++; i < operations.size(); i++) {
+                operations.get(i).redo(moduleTracker);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void redo(ModuleTracker moduleTracker) {
+        int i = 0;
+        try {
+            for (; i < operations.size(); i++) {
+                operations.get(i).redo(moduleTracker);
+            }
+        } catch (RuntimeException e) {
+            for (i--; i >= 0; i--) {
+                operations.get(i).undo(moduleTracker);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public long estimateBytes() {
+        long bytes = 0;
+        for (Operation operation : operations) {
+            bytes += operation.estimateBytes();
+        }
+        return bytes;
+    }
+}
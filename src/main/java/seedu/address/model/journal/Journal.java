@@ -0,0 +1,183 @@
+package seedu.address.model.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The undo/redo history of a {@code ModuleTracker}, kept as a journal of {@link Operation}s.
+ *
+ * Operations are {@link #record recorded} as they are applied and grouped into one history entry on
+ * {@link #commit()}, so a command that makes several changes is undone as a whole. The history holds at most
+ * {@code maxEntries} entries and about {@code maxBytes} bytes; the oldest entries are forgotten first.
+ */
+public class Journal {
+
+    public static final int DEFAULT_MAX_ENTRIES = 100;
+    public static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+
+    /** Rough size of a module's objects (the module, its field wrappers and a tag set), excluding strings. */
+    private static final long MODULE_OVERHEAD_BYTES = 400;
+    private static final long STRING_OVERHEAD_BYTES = 40;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final Deque<Operation> undoHistory = new ArrayDeque<>();
+    private final Deque<Operation> redoHistory = new ArrayDeque<>();
+    private final List<Operation> pending = new ArrayList<>();
+    private long historyBytes;
+
+    /**
+     * Creates a {@code Journal} with the default limits.
+     */
+    public Journal() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a {@code Journal} that keeps at most {@code maxEntries} entries and about {@code maxBytes} bytes.
+     */
+    public Journal(int maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Records an operation that has just been applied. It becomes undoable on the next {@link #commit()}.
+     */
+    public void record(Operation operation) {
+        requireNonNull(operation);
+        pending.add(operation);
+    }
+
+    /**
+     * Turns the operations recorded since the last commit into a single history entry.
+     * Does nothing if no operations were recorded, so commands that change nothing leave the history alone.
+     */
+    public void commit() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Operation entry = pending.size() == 1 ? pending.get(0) : new BatchOperation(pending);
+        pending.clear();
+
+        redoHistory.clear();
+        undoHistory.push(entry);
+        historyBytes += entry.estimateBytes();
+        trim();
+    }
+
+    /**
+     * Reverts the operations recorded since the last commit on {@code moduleTracker} and forgets them, even if
+     * reverting one of them fails.
+     */
+    public void rollback(ModuleTracker moduleTracker) {
+        try {
+            for (int i = pending.size() - 1; i >= 0; i--) {
+                pending.get(i).undo(moduleTracker);
+            }
+        } finally {
+            pending.clear();
+        }
+    }
+
+    public boolean canUndo() {
+        return !undoHistory.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoHistory.isEmpty();
+    }
+
+    /**
+     * Reverts the latest history entry on {@code moduleTracker}. If that fails, the entry stays in the history.
+     *
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    public void undo(ModuleTracker moduleTracker) {
+        if (!canUndo()) {
+            throw new IllegalStateException("Nothing to undo");
+        }
+        Operation entry = undoHistory.peek();
+        entry.undo(moduleTracker);
+        undoHistory.pop();
+        historyBytes -= entry.estimateBytes();
+        redoHistory.push(entry);
+    }
+
+    /**
+     * Re-applies the latest undone entry on {@code moduleTracker}. If that fails, the entry stays in the history.
+     *
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    public void redo(ModuleTracker moduleTracker) {
+        if (!canRedo()) {
+            throw new IllegalStateException("Nothing to redo");
+        }
+        Operation entry = redoHistory.peek();
+        entry.redo(moduleTracker);
+        redoHistory.pop();
+        undoHistory.push(entry);
+        historyBytes += entry.estimateBytes();
+        trim();
+    }
+
+    /**
+     * Returns the number of entries that can be undone.
+     */
+    public int getUndoableCount() {
+        return undoHistory.size();
+    }
+
+    /**
+     * Returns the estimated memory held by the undo history, in bytes.
+     */
+    public long getHistoryBytes() {
+        return historyBytes;
+    }
+
+    /**
+     * Forgets the whole history, including the operations recorded since the last commit.
+     */
+    public void clear() {
+        undoHistory.clear();
+        redoHistory.clear();
+        pending.clear();
+        historyBytes = 0;
+    }
+
+    private void trim() {
+        // Always keep the latest entry, even if it alone is over the byte budget.
+        while (undoHistory.size() > 1 && (undoHistory.size() > maxEntries || historyBytes > maxBytes)) {
+            historyBytes -= undoHistory.removeLast().estimateBytes();
+        }
+    }
+
+    /**
+     * Returns a rough estimate of the memory used by {@code module}, in bytes.
+     */
+    public static long estimateBytes(Module module) {
+        long bytes = MODULE_OVERHEAD_BYTES
+                + estimateBytes(module.getName().fullName)
+                + estimateBytes(module.getResource().value)
+                + estimateBytes(module.getTimeSlots().toString())
+                + estimateBytes(module.getAddress().value)
+                + estimateBytes(module.getRemark().value)
+                + estimateBytes(module.getTeacher().value);
+        for (Tag tag : module.getTags()) {
+            bytes += estimateBytes(tag.tagName);
+        }
+        return bytes;
+    }
+
+    private static long estimateBytes(String string) {
+        return string == null ? 0 : STRING_OVERHEAD_BYTES + 2L * string.length();
+    }
+}
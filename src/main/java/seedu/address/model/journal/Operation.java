@@ -0,0 +1,25 @@
+package seedu.address.model.journal;
+
+import seedu.address.model.ModuleTracker;
+
+/**
+ * A change to a {@code ModuleTracker} that knows how to reverse itself.
+ * Operations hold only the modules they touch, so recording one costs about as much as the change itself.
+ */
+public interface Operation {
+
+    /**
+     * Reverts this change on {@code moduleTracker}, which must be in the state right after the change.
+     */
+    void undo(ModuleTracker moduleTracker);
+
+    /**
+     * Re-applies this change on {@code moduleTracker}, which must be in the state right before the change.
+     */
+    void redo(ModuleTracker moduleTracker);
+
+    /**
+     * Returns a rough estimate of the memory kept alive by this operation, in bytes.
+     */
+    long estimateBytes();
+}
@@ -0,0 +1,39 @@
+package seedu.address.model.journal;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+
+/**
+ * Records that {@code module} was removed from {@code index}. Its inverse puts the module back at the same index.
+ */
+public class RemoveOperation implements Operation {
+
+    private final int index;
+    private final Module module;
+
+    /**
+     * Creates a {@code RemoveOperation} for {@code module} removed from {@code index}.
+     */
+    public RemoveOperation(int index, Module module) {
+        requireAllNonNull(module);
+        this.index = index;
+        this.module = module;
+    }
+
+    @Override
+    public void undo(ModuleTracker moduleTracker) {
+        moduleTracker.addModule(index, module);
+    }
+
+    @Override
+    public void redo(ModuleTracker moduleTracker) {
+        moduleTracker.removeModule(module);
+    }
+
+    @Override
+    public long estimateBytes() {
+        return Journal.estimateBytes(module);
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.journal;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+
+/**
+ * Records that the whole module list was replaced, e.g. by {@code clear}.
+ * Both lists must be immutable, such as those of a {@code ModuleTrackerSnapshot}.
+ */
+public class ResetOperation implements Operation {
+
+    private final List<Module> oldModules;
+    private final List<Module> newModules;
+
+    /**
+     * Creates a {@code ResetOperation} for {@code oldModules} being replaced by {@code newModules}.
+     */
+    public ResetOperation(List<Module> oldModules, List<Module> newModules) {
+        requireAllNonNull(oldModules, newModules);
+        this.oldModules = oldModules;
+        this.newModules = newModules;
+    }
+
+    @Override
+    public void undo(ModuleTracker moduleTracker) {
+        moduleTracker.setModules(oldModules);
+    }
+
+    @Override
+    public void redo(ModuleTracker moduleTracker) {
+        moduleTracker.setModules(newModules);
+    }
+
+    @Override
+    public long estimateBytes() {
+        long bytes = 0;
+        for (Module module : oldModules) {
+            bytes += Journal.estimateBytes(module);
+        }
+        return bytes;
+    }
+}
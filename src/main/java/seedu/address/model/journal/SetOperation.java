@@ -0,0 +1,40 @@
+package seedu.address.model.journal;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+
+/**
+ * Records that {@code oldModule} was replaced by {@code newModule}. Its inverse swaps them back.
+ */
+public class SetOperation implements Operation {
+
+    private final Module oldModule;
+    private final Module newModule;
+
+    /**
+     * Creates a {@code SetOperation} for {@code oldModule} being replaced by {@code newModule}.
+     */
+    public SetOperation(Module oldModule, Module newModule) {
+        requireAllNonNull(oldModule, newModule);
+        this.oldModule = oldModule;
+        this.newModule = newModule;
+    }
+
+    @Override
+    public void undo(ModuleTracker moduleTracker) {
+        moduleTracker.setModule(newModule, oldModule);
+    }
+
+    @Override
+    public void redo(ModuleTracker moduleTracker) {
+        moduleTracker.setModule(oldModule, newModule);
+    }
+
+    @Override
+    public long estimateBytes() {
+        // The new module is also referenced by the tracker (or by a later operation), so only count the old one.
+        return Journal.estimateBytes(oldModule);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.journal;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.archive.ModuleArchive;
+import seedu.address.model.module.Module;
+
+/**
+ * Records that {@code modules} were removed from {@code archive}, after being put back into the module tracker by
+ * operations recorded before this one. Its inverse archives them again.
+ *
+ * The archive is on the disk, so undoing or redoing this operation can fail with an {@link UncheckedIOException}.
+ * It then leaves the archive as it was.
+ */
+public class UnarchiveOperation implements Operation {
+
+    private final ModuleArchive archive;
+    private final List<Module> modules;
+
+    /**
+     * Creates an {@code UnarchiveOperation} for {@code modules} removed from {@code archive}.
+     */
+    public UnarchiveOperation(ModuleArchive archive, List<Module> modules) {
+        requireAllNonNull(archive, modules);
+        this.archive = archive;
+        this.modules = List.copyOf(modules);
+    }
+
+    @Override
+    public void undo(ModuleTracker moduleTracker) {
+        try {
+            archive.appendToArchive(modules);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void redo(ModuleTracker moduleTracker) {
+        try {
+            archive.removeFromArchive(modules);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long estimateBytes() {
+        long bytes = 0;
+        for (Module module : modules) {
+            bytes += Journal.estimateBytes(module);
+        }
+        return bytes;
+    }
+}
@@ -9,6 +9,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 /**
  * Represents a Module's deadline.
@@ -79,6 +80,14 @@ public class Deadline implements Comparable<Deadline> {
         return LocalDateTime.parse(deadline, dateTimeFormatter);
     }
 
+    /**
+     * Returns true if this deadline is at or before {@code time}. An empty deadline never passes.
+     */
+    public boolean hasPassed(LocalDateTime time) {
+        requireNonNull(time);
+        return value != null && !value.isAfter(time);
+    }
+
     @Override
     public String toString() {
         if (value == null) {
@@ -93,7 +102,7 @@ public class Deadline implements Comparable<Deadline> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof seedu.address.model.module.Deadline // instanceof handles nulls
-                && value.equals(((seedu.address.model.module.Deadline) other).value)); // state check
+                && Objects.equals(value, ((seedu.address.model.module.Deadline) other).value)); // state check
     }
 
     @Override
@@ -3,8 +3,10 @@ package seedu.address.model.module;
 import static seedu.address.commons.util.CollectionUtil.isAllNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -19,7 +21,7 @@ public class Module {
     // Compulsory fields
     private final Name name; //module name
     private final Resource resource; // module website
-    private final TimeSlot timeSlot; // timeslot (should be optional)
+    private final TimeSlots timeSlots; // weekly timeslots, possibly none
 
     // Data fields
     private final Address address; // venue
@@ -29,16 +31,16 @@ public class Module {
     private final Set<Tag> tags = new HashSet<>(); // module type (tutorial, lecture, lab, assignment, project)
 
     /**
-     * name, type, timeSlot, address and tags fields are compulsory when inputting a new Module.
+     * name, type, timeSlots, address and tags fields are compulsory when inputting a new Module.
      */
-    public Module(Name name, Resource resource, TimeSlot timeSlot, Address address, Set<Tag> tags, Remark remark,
+    public Module(Name name, Resource resource, TimeSlots timeSlots, Address address, Set<Tag> tags, Remark remark,
                   Deadline deadline, Teacher teacher) {
-        requireAllNonNull(name, resource, timeSlot, address, tags, remark, deadline, teacher);
-        boolean isAllNonNull = isAllNonNull(name, resource, timeSlot, address, tags, remark, deadline, teacher);
+        requireAllNonNull(name, resource, timeSlots, address, tags, remark, deadline, teacher);
+        boolean isAllNonNull = isAllNonNull(name, resource, timeSlots, address, tags, remark, deadline, teacher);
         assert isAllNonNull == true : "Module object is not created properly.";
         this.name = name;
         this.resource = resource;
-        this.timeSlot = timeSlot;
+        this.timeSlots = timeSlots;
         this.address = address;
         this.tags.addAll(tags);
         this.remark = remark;
@@ -54,8 +56,8 @@ public class Module {
         return resource;
     }
 
-    public TimeSlot getTimeSlot() {
-        return timeSlot;
+    public TimeSlots getTimeSlots() {
+        return timeSlots;
     }
 
     public Address getAddress() {
@@ -82,6 +84,14 @@ public class Module {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the name and tags of this module, which tell it apart from the other modules of a module tracker, as a
+     * key for maps. Two modules have equal identities exactly when they are {@link #isSameModule the same module}.
+     */
+    public List<Object> getIdentity() {
+        return List.of(name, getTags());
+    }
+
     /**
      * Returns true if both modules have the same name and same tag.
      * This defines a weaker notion of equality between two modules.
@@ -112,7 +122,7 @@ public class Module {
         Module otherModule = (Module) other;
         return otherModule.getName().equals(getName())
                 && otherModule.getResource().equals(getResource())
-                && otherModule.getTimeSlot().equals(getTimeSlot())
+                && otherModule.getTimeSlots().equals(getTimeSlots())
                 && otherModule.getAddress().equals(getAddress())
                 && otherModule.getTags().equals(getTags())
                 && otherModule.getRemark().equals(getRemark())
@@ -123,7 +133,19 @@ public class Module {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, resource, timeSlot, address, tags);
+        return Objects.hash(name, resource, timeSlots, address, tags);
+    }
+
+    /**
+     * Returns the name of this module followed by its tags, such as {@code CS2103T [Lecture]}, to list it on one line.
+     */
+    public String getLabel() {
+        StringBuilder builder = new StringBuilder(name.fullName);
+        if (!tags.isEmpty()) {
+            builder.append(" ");
+            tags.forEach(builder::append);
+        }
+        return builder.toString();
     }
 
     @Override
@@ -132,8 +154,8 @@ public class Module {
         builder.append(getName())
                 .append("; Resource: ")
                 .append(getResource())
-                .append("; TimeSlot: ")
-                .append(getTimeSlot())
+                .append("; TimeSlots: ")
+                .append(getTimeSlots())
                 .append("; Address: ")
                 .append(getAddress())
                 .append("; Remark: ")
@@ -153,19 +175,19 @@ public class Module {
     }
 
     /**
-     * Compares TimeSlot of two modules
+     * Compares TimeSlots of two modules
      * @param otherModule Module to be compared to
      * @return 1 if this module has no TimeSlot else -1 if other module has no TimeSlot else result of comparison
      */
     public int compareTimeSlot(Module otherModule) {
-        if (this.timeSlot.getDay() == null) {
+        if (this.timeSlots.isEmpty()) {
             //if this module has no timeslot, this module should be moved to the end of the sorted list.
             return 1;
-        } else if (otherModule.timeSlot.getDay() == null) {
+        } else if (otherModule.timeSlots.isEmpty()) {
             //if other module has no timeslot, other module should be moved to the end of the sorted list.
             return -1;
         }
-        return this.timeSlot.compareTo(otherModule.timeSlot);
+        return this.timeSlots.compareTo(otherModule.timeSlots);
     }
 
     /**
@@ -184,4 +206,36 @@ public class Module {
         return this.deadline.compareTo(otherModule.deadline);
     }
 
+    /**
+     * Compares two modules by when any of their timeslots next starts after {@code time}.
+     * Modules without a timeslot come last.
+     */
+    public int compareTimeSlot(Module otherModule, LocalDateTime time) {
+        boolean hasTimeSlot = !timeSlots.isEmpty();
+        boolean otherHasTimeSlot = !otherModule.timeSlots.isEmpty();
+        if (!hasTimeSlot || !otherHasTimeSlot) {
+            return Boolean.compare(otherHasTimeSlot, hasTimeSlot);
+        }
+        return Integer.compare(timeSlots.minutesUntilNextStart(time),
+                otherModule.timeSlots.minutesUntilNextStart(time));
+    }
+
+    /**
+     * Compares the deadlines of two modules as of {@code time}: deadlines still to come first, then those that have
+     * passed, each earliest first. Modules without a deadline come last.
+     */
+    public int compareDeadline(Module otherModule, LocalDateTime time) {
+        int byGroup = Integer.compare(deadlineGroup(time), otherModule.deadlineGroup(time));
+        if (byGroup != 0 || deadline.value == null) {
+            return byGroup;
+        }
+        return deadline.compareTo(otherModule.deadline);
+    }
+
+    private int deadlineGroup(LocalDateTime time) {
+        if (deadline.value == null) {
+            return 2;
+        }
+        return deadline.hasPassed(time) ? 1 : 0;
+    }
 }
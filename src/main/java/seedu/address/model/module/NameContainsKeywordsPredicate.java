@@ -1,5 +1,6 @@
 package seedu.address.model.module;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -13,6 +14,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Module> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Module module) {
         return keywords.stream()
@@ -21,6 +26,15 @@ public class NameContainsKeywordsPredicate implements Predicate<Module> {
                         .anyMatch(tag -> containsSubstringIgnoreCase(tag.tagName, keyword)));
     }
 
+    /**
+     * Tests a module by its name and tag names alone, such as before it is read in full.
+     */
+    public boolean test(String name, Collection<String> tagNames) {
+        return keywords.stream()
+                .anyMatch(keyword -> containsSubstringIgnoreCase(name, keyword)
+                        || tagNames.stream().anyMatch(tagName -> containsSubstringIgnoreCase(tagName, keyword)));
+    }
+
     private boolean containsSubstringIgnoreCase(String text, String substring) {
         return text.toLowerCase().contains(substring.toLowerCase());
     }
@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
+import java.util.Objects;
 
 /**
  * Represents a Module's timeSlot in the module tracker.
@@ -22,6 +23,8 @@ public class TimeSlot implements Comparable<TimeSlot> {
     public static final String MESSAGE_STARTTIME_BEFORE_ENDTIME = "Start time must be before end time!";
     public static final String VALIDATION_REGEX = "^(monday|tuesday|wednesday|thursday|friday|saturday|sunday)"
             + "\\s(([01]?[0-9]|2[0-3]):[0-5][0-9])\\s(([01]?[0-9]|2[0-3]):[0-5][0-9])$";
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
     private DayOfWeek day;
     private LocalTime startTime;
     private LocalTime endTime;
@@ -104,9 +107,9 @@ public class TimeSlot implements Comparable<TimeSlot> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof TimeSlot // instanceof handles nulls
-                && day.equals(((TimeSlot) other).day)
-                && startTime.equals(((TimeSlot) other).startTime)
-                && endTime.equals(((TimeSlot) other).endTime)); // state check
+                && Objects.equals(day, ((TimeSlot) other).day)
+                && Objects.equals(startTime, ((TimeSlot) other).startTime)
+                && Objects.equals(endTime, ((TimeSlot) other).endTime)); // state check
     }
 
     @Override
@@ -115,28 +118,54 @@ public class TimeSlot implements Comparable<TimeSlot> {
     }
 
     /**
-     * Gets the next occurrence of this timeslot in the form of a LocalDateTime
-     * @return a LocalDateTime instance
+     * Returns the first start of this timeslot after {@code time}. A timeslot starting exactly at {@code time} is next
+     * due a week later. This timeslot must not be empty.
      */
-    public LocalDateTime getLocalDateTime() {
-        //Get the current LocalDateTime of machine
-        LocalDateTime timeNow = LocalDateTime.now();
+    public LocalDateTime getNextStart(LocalDateTime time) {
+        requireNonNull(time);
+        LocalDateTime start = time.toLocalDate().with(TemporalAdjusters.nextOrSame(day)).atTime(startTime);
+        return start.isAfter(time) ? start : start.plusWeeks(1);
+    }
 
-        // Get the date of next occurrence of the day based on time of machine
-        LocalDateTime dateOfNextOccurrenceForDay = timeNow.with(TemporalAdjusters.next(this.day));
+    public DayOfWeek getDay() {
+        return day;
+    }
 
-        // Combine the date of next occurrence and starting time
-        LocalDateTime localDateTime = dateOfNextOccurrenceForDay.with(this.startTime);
+    /**
+     * Returns the minute of the week this timeslot starts at, counting from Monday 00:00. This timeslot must not be
+     * empty.
+     */
+    public int getStartMinuteOfWeek() {
+        return (day.getValue() - 1) * MINUTES_PER_DAY + startTime.toSecondOfDay() / 60;
+    }
 
-        return localDateTime;
+    /**
+     * Returns the minute of the week this timeslot ends at, counting from Monday 00:00. This timeslot must not be
+     * empty.
+     */
+    public int getEndMinuteOfWeek() {
+        return (day.getValue() - 1) * MINUTES_PER_DAY + endTime.toSecondOfDay() / 60;
     }
 
-    public DayOfWeek getDay() {
-        return day;
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
     }
 
+    /**
+     * Orders timeslots by their place in the week, from Monday to Sunday. Use {@link #getNextStart} to order them by
+     * when they are next due. Neither timeslot may be empty.
+     */
     @Override
     public int compareTo(TimeSlot otherTimeSlot) {
-        return this.getLocalDateTime().compareTo(otherTimeSlot.getLocalDateTime());
+        int byDay = day.compareTo(otherTimeSlot.day);
+        if (byDay != 0) {
+            return byDay;
+        }
+        int byStart = startTime.compareTo(otherTimeSlot.startTime);
+        return byStart != 0 ? byStart : endTime.compareTo(otherTimeSlot.endTime);
     }
 }
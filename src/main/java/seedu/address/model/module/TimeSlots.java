@@ -0,0 +1,263 @@
+package seedu.address.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.util.SampleDataUtil.EMPTY_INPUT;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.TextStyle;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Represents the weekly timeslots of a Module in the module tracker, such as two lectures and a tutorial.
+ *
+ * Each timeslot is packed into one {@code int}, its start minute of the week in the high half and its end minute in
+ * the low half, and the timeslots are kept sorted, which is also their order in the week. Comparing, sorting and
+ * overlap tests work on the packed values alone, so they do not create any objects; {@link #get} unpacks a
+ * {@link TimeSlot} for display.
+ * Guarantees: immutable; the timeslots do not overlap each other.
+ */
+public class TimeSlots implements Comparable<TimeSlots> {
+
+    public static final String MESSAGE_OVERLAPPING = "The timeslots of a module must not overlap each other.";
+    public static final String SEPARATOR = ", ";
+    public static final TimeSlots EMPTY = new TimeSlots(new int[0]);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+    private static final int HALF = 16;
+    private static final int LOW_MASK = (1 << HALF) - 1;
+
+    private final int[] slots;
+
+    /**
+     * Constructs a {@code TimeSlots} of {@code timeSlots}, leaving out empty timeslots and repeats.
+     *
+     * @throws IllegalArgumentException if two of the timeslots overlap.
+     */
+    public TimeSlots(Collection<TimeSlot> timeSlots) {
+        this(packAll(timeSlots));
+        checkArgument(!hasOverlap(slots), MESSAGE_OVERLAPPING);
+    }
+
+    private TimeSlots(int[] slots) {
+        this.slots = slots;
+    }
+
+    /**
+     * Returns the {@code TimeSlots} of {@code timeSlots}, leaving out empty timeslots and repeats.
+     *
+     * @throws IllegalArgumentException if two of the timeslots overlap.
+     */
+    public static TimeSlots of(TimeSlot... timeSlots) {
+        return new TimeSlots(Arrays.asList(timeSlots));
+    }
+
+    /**
+     * Returns true if no two of {@code timeSlots} overlap, apart from repeats of the same timeslot.
+     */
+    public static boolean isNonOverlapping(Collection<TimeSlot> timeSlots) {
+        return !hasOverlap(packAll(timeSlots));
+    }
+
+    /**
+     * Returns {@code start} and {@code end}, minutes of the week, packed into one {@code int}.
+     * Packed timeslots are ordered as their start and then end minutes.
+     */
+    public static int pack(int start, int end) {
+        return start << HALF | end;
+    }
+
+    /** Returns the start minute of the week of a packed timeslot. */
+    public static int startOf(int packed) {
+        return packed >>> HALF;
+    }
+
+    /** Returns the end minute of the week of a packed timeslot. */
+    public static int endOf(int packed) {
+        return packed & LOW_MASK;
+    }
+
+    /** Returns the minute of the week of {@code time}, counting from Monday 00:00. */
+    public static int minuteOfWeek(LocalDateTime time) {
+        return (time.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    public int size() {
+        return slots.length;
+    }
+
+    public boolean isEmpty() {
+        return slots.length == 0;
+    }
+
+    /** Returns the {@code i}-th timeslot in the week, packed. */
+    public int getPacked(int i) {
+        return slots[i];
+    }
+
+    /** Returns the minute of the week the {@code i}-th timeslot starts at. */
+    public int getStart(int i) {
+        return startOf(slots[i]);
+    }
+
+    /** Returns the minute of the week the {@code i}-th timeslot ends at. */
+    public int getEnd(int i) {
+        return endOf(slots[i]);
+    }
+
+    public DayOfWeek getDay(int i) {
+        return DayOfWeek.of(getStart(i) / MINUTES_PER_DAY + 1);
+    }
+
+    public LocalTime getStartTime(int i) {
+        return LocalTime.ofSecondOfDay(getStart(i) % MINUTES_PER_DAY * 60L);
+    }
+
+    public LocalTime getEndTime(int i) {
+        return LocalTime.ofSecondOfDay(getEnd(i) % MINUTES_PER_DAY * 60L);
+    }
+
+    /**
+     * Returns the {@code i}-th timeslot in the week.
+     */
+    public TimeSlot get(int i) {
+        return new TimeSlot(getDay(i).getDisplayName(TextStyle.FULL, Locale.ENGLISH) + " " + getStartTime(i) + " "
+                + getEndTime(i));
+    }
+
+    /**
+     * Returns the timeslots in the order of the week, unpacked as they are read.
+     */
+    public List<TimeSlot> asList() {
+        return new AbstractList<>() {
+            @Override
+            public TimeSlot get(int index) {
+                return TimeSlots.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return slots.length;
+            }
+        };
+    }
+
+    /**
+     * Returns true if any of the timeslots is on {@code day}.
+     */
+    public boolean isOnDay(DayOfWeek day) {
+        int dayStart = (day.getValue() - 1) * MINUTES_PER_DAY;
+        for (int slot : slots) {
+            int start = startOf(slot);
+            if (start >= dayStart && start < dayStart + MINUTES_PER_DAY) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any of the timeslots overlaps the minutes of the week from {@code start} up to {@code end}.
+     */
+    public boolean overlaps(int start, int end) {
+        for (int slot : slots) {
+            if (startOf(slot) < end && endOf(slot) > start) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the end minute of the week of the timeslot starting at minute {@code start}, or -1 if none does.
+     */
+    public int getEndOfSlotStartingAt(int start) {
+        for (int slot : slots) {
+            if (startOf(slot) == start) {
+                return endOf(slot);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of minutes from the start of the minute of {@code time} to the first start of a timeslot
+     * after {@code time}, between 1 and a week. A timeslot starting exactly at {@code time} is next due a week later.
+     * There must be at least one timeslot.
+     */
+    public int minutesUntilNextStart(LocalDateTime time) {
+        int now = minuteOfWeek(time);
+        int best = Integer.MAX_VALUE;
+        for (int slot : slots) {
+            best = Math.min(best, Math.floorMod(startOf(slot) - now - 1, MINUTES_PER_WEEK) + 1);
+        }
+        return best;
+    }
+
+    /**
+     * Orders timeslots by their place in the week, comparing the first timeslots of each, then the second, and so on.
+     */
+    @Override
+    public int compareTo(TimeSlots other) {
+        int shared = Math.min(slots.length, other.slots.length);
+        for (int i = 0; i < shared; i++) {
+            if (slots[i] != other.slots[i]) {
+                return Integer.compare(slots[i], other.slots[i]);
+            }
+        }
+        return Integer.compare(slots.length, other.slots.length);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TimeSlots // instanceof handles nulls
+                && Arrays.equals(slots, ((TimeSlots) other).slots)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(slots);
+    }
+
+    /**
+     * Returns the timeslots separated by commas, or {@code None.} if there are none.
+     */
+    @Override
+    public String toString() {
+        if (slots.length == 0) {
+            return EMPTY_INPUT;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(i == 0 ? "" : SEPARATOR).append(get(i));
+        }
+        return builder.toString();
+    }
+
+    private static int[] packAll(Collection<TimeSlot> timeSlots) {
+        requireNonNull(timeSlots);
+        return timeSlots.stream()
+                .filter(timeSlot -> timeSlot.getDay() != null)
+                .mapToInt(timeSlot -> pack(timeSlot.getStartMinuteOfWeek(), timeSlot.getEndMinuteOfWeek()))
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    private static boolean hasOverlap(int[] sortedSlots) {
+        for (int i = 1; i < sortedSlots.length; i++) {
+            if (startOf(sortedSlots[i]) < endOf(sortedSlots[i - 1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,8 +3,12 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -48,12 +52,26 @@ public class UniqueModuleList implements Iterable<Module> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds a module to the list at {@code index}.
+     * The module must not already exist in the list.
+     */
+    public void add(int index, Module toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateModuleException();
+        }
+        internalList.add(index, toAdd);
+    }
+
     /**
      * Replaces the module {@code target} in the list with {@code editedModule}.
      * {@code target} must exist in the list.
      * The module identity of {@code editedModule} must not be the same as another existing module in the list.
+     *
+     * @return the index of the replaced module.
      */
-    public void setModule(Module target, Module editedModule) {
+    public int setModule(Module target, Module editedModule) {
         requireAllNonNull(target, editedModule);
 
         int index = internalList.indexOf(target);
@@ -66,17 +84,49 @@ public class UniqueModuleList implements Iterable<Module> {
         }
 
         internalList.set(index, editedModule);
+        return index;
     }
 
     /**
      * Removes the equivalent module from the list.
      * The module must exist in the list.
+     *
+     * @return the index the module was removed from.
      */
-    public void remove(Module toRemove) {
+    public int remove(Module toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ModuleNotFoundException();
         }
+        internalList.remove(index);
+        return index;
+    }
+
+    /**
+     * Takes {@code modules} out of the list and puts each back where it was, running {@code whileOut} in between,
+     * so that lists sorted by an order that {@code whileOut} changes place them again.
+     * Modules not in the list are ignored. The modules are put back even if {@code whileOut} fails.
+     */
+    public void reinsert(Collection<Module> modules, Runnable whileOut) {
+        requireAllNonNull(modules, whileOut);
+        Set<Module> toReinsert = new HashSet<>(modules);
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < internalList.size() && positions.size() < toReinsert.size(); i++) {
+            if (toReinsert.contains(internalList.get(i))) {
+                positions.add(i);
+            }
+        }
+        List<Module> taken = new ArrayList<>();
+        positions.forEach(position -> taken.add(internalList.get(position)));
+        internalList.removeAll(toReinsert);
+        try {
+            whileOut.run();
+        } finally {
+            for (int i = 0; i < positions.size(); i++) {
+                internalList.add(positions.get(i), taken.get(i));
+            }
+        }
     }
 
     public void setModules(UniqueModuleList replacement) {
@@ -125,11 +175,10 @@ public class UniqueModuleList implements Iterable<Module> {
      * Returns true if {@code modules} contains only unique modules.
      */
     private boolean modulesAreUnique(List<Module> modules) {
-        for (int i = 0; i < modules.size() - 1; i++) {
-            for (int j = i + 1; j < modules.size(); j++) {
-                if (modules.get(i).isSameModule(modules.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> identities = new HashSet<>();
+        for (Module module : modules) {
+            if (!identities.add(module.getIdentity())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,74 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.module.Module;
+
+/**
+ * Matches modules that match all of its operands.
+ */
+public class AndQuery implements Query {
+
+    private final List<Query> operands;
+
+    /**
+     * Creates an {@code AndQuery} of {@code operands}.
+     */
+    public AndQuery(List<Query> operands) {
+        requireNonNull(operands);
+        this.operands = List.copyOf(operands);
+    }
+
+    public List<Query> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(Module module) {
+        for (Query operand : operands) {
+            if (!operand.test(module)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isRanked() {
+        return operands.stream().anyMatch(Query::isRanked);
+    }
+
+    /**
+     * Returns the total distance of {@code module} from the operands.
+     */
+    @Override
+    public int distance(Module module) {
+        int total = 0;
+        for (Query operand : operands) {
+            total += operand.distance(module);
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream()
+                .map(operand -> operand instanceof OrQuery ? "(" + operand + ")" : operand.toString())
+                .collect(Collectors.joining(" AND "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AndQuery // instanceof handles nulls
+                && operands.equals(((AndQuery) other).operands)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+}
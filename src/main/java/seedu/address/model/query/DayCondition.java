@@ -0,0 +1,61 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.Collection;
+
+import seedu.address.model.module.Module;
+
+/**
+ * Matches modules with a timeslot on {@code day}.
+ */
+public class DayCondition implements IndexedCondition {
+
+    private final DayOfWeek day;
+
+    /**
+     * Creates a {@code DayCondition} matching modules held on {@code day}.
+     */
+    public DayCondition(DayOfWeek day) {
+        requireNonNull(day);
+        this.day = day;
+    }
+
+    @Override
+    public boolean test(Module module) {
+        return module.getTimeSlots().isOnDay(day);
+    }
+
+    @Override
+    public String getIndexName() {
+        return "timeslot";
+    }
+
+    @Override
+    public int estimate(ModuleIndexes indexes) {
+        return indexes.countOnDay(day);
+    }
+
+    @Override
+    public Collection<Module> lookup(ModuleIndexes indexes) {
+        return indexes.onDay(day);
+    }
+
+    @Override
+    public String toString() {
+        return "day/" + day.toString().toLowerCase();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DayCondition // instanceof handles nulls
+                && day.equals(((DayCondition) other).day)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return day.hashCode();
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Objects;
+
+import seedu.address.model.module.Module;
+
+/**
+ * Matches modules whose deadline lies in [{@code from}, {@code to}). A {@code null} bound is open.
+ */
+public class DeadlineCondition implements IndexedCondition {
+
+    public static final String MESSAGE_INVALID_OPERATOR = "Deadlines can only be compared with /, <, <=, > or >=";
+
+    private final String operator;
+    private final String value;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    private DeadlineCondition(String operator, String value, LocalDateTime from, LocalDateTime to) {
+        this.operator = operator;
+        this.value = value;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Creates a {@code DeadlineCondition} comparing deadlines against the period [{@code start}, {@code end}),
+     * which the user wrote as {@code value}. A deadline is "before" the period if it is before {@code start},
+     * "after" it if it is at or after {@code end}, and "on" it ({@code /}) if it is inside.
+     *
+     * @throws IllegalArgumentException if {@code operator} is not one of /, <, <=, > or >=.
+     */
+    public static DeadlineCondition of(String operator, String value, LocalDateTime start, LocalDateTime end) {
+        requireNonNull(value);
+        requireNonNull(start);
+        requireNonNull(end);
+        switch (operator) {
+        case "/":
+            return new DeadlineCondition(operator, value, start, end);
+        case "<":
+            return new DeadlineCondition(operator, value, null, start);
+        case "<=":
+            return new DeadlineCondition(operator, value, null, end);
+        case ">":
+            return new DeadlineCondition(operator, value, end, null);
+        case ">=":
+            return new DeadlineCondition(operator, value, start, null);
+        default:
+            throw new IllegalArgumentException(MESSAGE_INVALID_OPERATOR);
+        }
+    }
+
+    @Override
+    public boolean test(Module module) {
+        LocalDateTime deadline = module.getDeadline() == null ? null : module.getDeadline().value;
+        return deadline != null
+                && (from == null || !deadline.isBefore(from))
+                && (to == null || deadline.isBefore(to));
+    }
+
+    @Override
+    public String getIndexName() {
+        return "deadline";
+    }
+
+    @Override
+    public int estimate(ModuleIndexes indexes) {
+        return indexes.countDeadlinesBetween(from, to);
+    }
+
+    @Override
+    public Collection<Module> lookup(ModuleIndexes indexes) {
+        return indexes.withDeadlineBetween(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return "deadline" + operator + value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DeadlineCondition // instanceof handles nulls
+                && Objects.equals(from, ((DeadlineCondition) other).from)
+                && Objects.equals(to, ((DeadlineCondition) other).to)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+}
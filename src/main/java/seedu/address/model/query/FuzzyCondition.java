@@ -0,0 +1,122 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.module.Module;
+
+/**
+ * Matches modules with a word in their name, tags or teacher's name within {@code maxDistance} edits of
+ * {@code keyword}, ignoring case. Closer modules are ranked first.
+ */
+public class FuzzyCondition implements IndexedCondition {
+
+    public static final int MAX_DISTANCE = 3;
+    public static final String MESSAGE_INVALID_DISTANCE = "Edit distance must be between 0 and " + MAX_DISTANCE;
+
+    private final String keyword;
+    private final int maxDistance;
+    private final boolean isAutomaticDistance;
+    /** The modules found by the latest search, with their distances, which ranking them reuses. */
+    private volatile Map<Module, Integer> lastFound = Map.of();
+
+    /**
+     * Creates a {@code FuzzyCondition} allowing {@code maxDistance} edits.
+     */
+    public FuzzyCondition(String keyword, int maxDistance) {
+        this(keyword, maxDistance, false);
+    }
+
+    /**
+     * Creates a {@code FuzzyCondition} allowing a number of edits that suits the length of {@code keyword}:
+     * none for up to two characters, one for up to five, and two for longer keywords.
+     */
+    public FuzzyCondition(String keyword) {
+        this(keyword, automaticDistance(keyword), true);
+    }
+
+    private FuzzyCondition(String keyword, int maxDistance, boolean isAutomaticDistance) {
+        requireNonNull(keyword);
+        checkArgument(maxDistance >= 0 && maxDistance <= MAX_DISTANCE, MESSAGE_INVALID_DISTANCE);
+        this.keyword = keyword.toLowerCase();
+        this.maxDistance = maxDistance;
+        this.isAutomaticDistance = isAutomaticDistance;
+    }
+
+    private static int automaticDistance(String keyword) {
+        return keyword.length() <= 2 ? 0 : keyword.length() <= 5 ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(Module module) {
+        return distance(module) <= maxDistance;
+    }
+
+    /**
+     * Returns the number of edits between {@code keyword} and the closest word of {@code module}.
+     * Modules found by the latest index search are not compared again, as their words decide the distance.
+     */
+    @Override
+    public int distance(Module module) {
+        Integer found = lastFound.get(module);
+        if (found != null) {
+            return found;
+        }
+        int best = Integer.MAX_VALUE;
+        for (String word : ModuleIndexes.fuzzyKeys(module)) {
+            if (Math.abs(word.length() - keyword.length()) <= Math.min(best, maxDistance)) {
+                best = Math.min(best, StringUtil.damerauLevenshteinDistance(keyword, word));
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public boolean isRanked() {
+        return true;
+    }
+
+    @Override
+    public String getIndexName() {
+        return ModuleIndexes.FUZZY_INDEX;
+    }
+
+    @Override
+    public int estimate(ModuleIndexes indexes) {
+        return search(indexes).size();
+    }
+
+    @Override
+    public Collection<Module> lookup(ModuleIndexes indexes) {
+        return search(indexes);
+    }
+
+    private Collection<Module> search(ModuleIndexes indexes) {
+        FuzzyIndex index = (FuzzyIndex) indexes.<String>getSecondaryIndex(ModuleIndexes.FUZZY_INDEX);
+        // the index keeps its latest searches, so estimating and then looking this condition up searches once
+        lastFound = index.search(keyword, maxDistance);
+        return lastFound.keySet();
+    }
+
+    @Override
+    public String toString() {
+        return "~" + keyword + (isAutomaticDistance ? "" : "~" + maxDistance);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyCondition // instanceof handles nulls
+                && keyword.equals(((FuzzyCondition) other).keyword)
+                && maxDistance == ((FuzzyCondition) other).maxDistance); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keyword.hashCode() * 31 + maxDistance;
+    }
+}
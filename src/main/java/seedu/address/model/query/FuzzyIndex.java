@@ -0,0 +1,177 @@
+package seedu.address.model.query;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.module.Module;
+
+/**
+ * A {@link SecondaryIndex} of words that can also find the words within a Damerau-Levenshtein distance of a given
+ * word, without computing the distance to every indexed word.
+ *
+ * Each word is split into overlapping trigrams, padded at both ends. One edit changes at most
+ * {@value #GRAMS_PER_EDIT} of a word's trigrams, so a word within distance {@code d} of the query must share all
+ * but {@code GRAMS_PER_EDIT * d} of the query's distinct trigrams, and its length must be within {@code d} of the
+ * query's. Only words passing both filters have their distance computed. When the trigram bound is too weak to
+ * filter anything, as for short words, the length filter alone is used.
+ *
+ * Planning a query estimates its conditions before looking them up, so the results of the latest searches are kept
+ * until the index next changes.
+ */
+public class FuzzyIndex extends SecondaryIndex<String> {
+
+    /** An adjacent swap changes up to four trigrams; insertions, deletions and substitutions change up to three. */
+    static final int GRAMS_PER_EDIT = 4;
+
+    private static final int GRAM_LENGTH = 3;
+    private static final String PADDING = "\0\0";
+    private static final int MAX_CACHED_SEARCHES = 16;
+
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+    private final Map<Integer, Set<String>> wordsByLength = new HashMap<>();
+    private final Map<List<Object>, Map<Module, Integer>> cachedSearches = new HashMap<>();
+
+    /**
+     * Creates a {@code FuzzyIndex} called {@code name} in which each module is filed under the lower case words
+     * {@code wordExtractor} returns.
+     */
+    public FuzzyIndex(String name, Function<Module, ? extends Collection<String>> wordExtractor) {
+        super(name, wordExtractor);
+    }
+
+    /**
+     * Returns each module filed under a word within {@code maxDistance} of {@code word}, with the distance of the
+     * closest such word. The result cannot be modified.
+     */
+    public Map<Module, Integer> search(String word, int maxDistance) {
+        List<Object> key = List.of(word, maxDistance);
+        Map<Module, Integer> distances = cachedSearches.get(key);
+        if (distances == null) {
+            if (cachedSearches.size() >= MAX_CACHED_SEARCHES) {
+                cachedSearches.clear();
+            }
+            distances = Collections.unmodifiableMap(searchUncached(word, maxDistance));
+            cachedSearches.put(key, distances);
+        }
+        return distances;
+    }
+
+    private Map<Module, Integer> searchUncached(String word, int maxDistance) {
+        Map<Module, Integer> distances = new HashMap<>();
+        for (String candidate : candidates(word, maxDistance)) {
+            int distance = StringUtil.damerauLevenshteinDistance(word, candidate);
+            if (distance > maxDistance) {
+                continue;
+            }
+            for (Module module : get(candidate)) {
+                distances.merge(module, distance, Math::min);
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the indexed words that pass the length and trigram filters for {@code word}.
+     */
+    Set<String> candidates(String word, int maxDistance) {
+        Set<String> byLength = new HashSet<>();
+        for (int length = word.length() - maxDistance; length <= word.length() + maxDistance; length++) {
+            byLength.addAll(wordsByLength.getOrDefault(length, Set.of()));
+        }
+
+        Set<String> grams = trigrams(word);
+        int minSharedGrams = grams.size() - GRAMS_PER_EDIT * maxDistance;
+        if (minSharedGrams <= 0) {
+            return byLength;
+        }
+
+        Map<String, Integer> sharedGrams = new HashMap<>();
+        for (String gram : grams) {
+            for (String candidate : wordsByGram.getOrDefault(gram, Set.of())) {
+                sharedGrams.merge(candidate, 1, Integer::sum);
+            }
+        }
+        Set<String> candidates = new HashSet<>();
+        sharedGrams.forEach((candidate, shared) -> {
+            if (shared >= minSharedGrams && byLength.contains(candidate)) {
+                candidates.add(candidate);
+            }
+        });
+        return candidates;
+    }
+
+    @Override
+    void add(Module module) {
+        cachedSearches.clear();
+        super.add(module);
+    }
+
+    @Override
+    void remove(Module module) {
+        cachedSearches.clear();
+        super.remove(module);
+    }
+
+    @Override
+    protected void onKeyAdded(String word) {
+        for (String gram : trigrams(word)) {
+            wordsByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(word);
+        }
+        wordsByLength.computeIfAbsent(word.length(), unused -> new HashSet<>()).add(word);
+    }
+
+    @Override
+    protected void onKeyRemoved(String word) {
+        for (String gram : trigrams(word)) {
+            removeFrom(wordsByGram, gram, word);
+        }
+        removeFrom(wordsByLength, word.length(), word);
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        cachedSearches.clear();
+        wordsByGram.clear();
+        wordsByLength.clear();
+    }
+
+    private static Set<String> trigrams(String word) {
+        String padded = PADDING + word + PADDING;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static <K> void removeFrom(Map<K, Set<String>> map, K key, String word) {
+        Set<String> words = map.get(key);
+        words.remove(word);
+        if (words.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    /**
+     * Returns the lower case words of {@code texts}, split on anything that is not a letter or digit.
+     */
+    static Set<String> words(List<String> texts) {
+        Set<String> words = new HashSet<>();
+        for (String text : texts) {
+            for (String word : text.toLowerCase().split("[^\\p{Alnum}]+")) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+}
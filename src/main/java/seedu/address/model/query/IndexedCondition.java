@@ -0,0 +1,27 @@
+package seedu.address.model.query;
+
+import java.util.Collection;
+
+import seedu.address.model.module.Module;
+
+/**
+ * A condition that can be answered from one of the {@link ModuleIndexes} instead of testing every module.
+ */
+public interface IndexedCondition extends Query {
+
+    /**
+     * Returns the name of the index that answers this condition, for {@code explain} output.
+     */
+    String getIndexName();
+
+    /**
+     * Returns the number of modules {@link #lookup} would return, computed from the index alone.
+     */
+    int estimate(ModuleIndexes indexes);
+
+    /**
+     * Returns every module in {@code indexes} that satisfies this condition.
+     * The result may also contain modules that do not, so callers must still {@link #test} each of them.
+     */
+    Collection<Module> lookup(ModuleIndexes indexes);
+}
@@ -0,0 +1,49 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.module.NameContainsKeywordsPredicate;
+
+/**
+ * Matches modules whose name or tags contain any of the keywords, as the original {@code find} did.
+ * Substring matches cannot be answered from an index, so this condition is always checked module by module.
+ */
+public class KeywordCondition implements Query {
+
+    private final List<String> keywords;
+    private final NameContainsKeywordsPredicate predicate;
+
+    /**
+     * Creates a {@code KeywordCondition} matching any of {@code keywords}.
+     */
+    public KeywordCondition(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+        this.predicate = new NameContainsKeywordsPredicate(this.keywords);
+    }
+
+    @Override
+    public boolean test(Module module) {
+        return predicate.test(module);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", keywords);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof KeywordCondition // instanceof handles nulls
+                && keywords.equals(((KeywordCondition) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+}
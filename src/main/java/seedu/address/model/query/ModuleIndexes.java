@@ -0,0 +1,540 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.model.module.Address;
+import seedu.address.model.module.Deadline;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.Teacher;
+import seedu.address.model.module.TimeSlots;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.timetable.FreePeriod;
+import seedu.address.model.timetable.WeekOccupancy;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Lookup structures over the modules of a {@code ModuleTracker}, used to answer {@link IndexedCondition}s
+ * without testing every module.
+ *
+ * The owning tracker calls {@link #add} and {@link #remove} from each of its mutation paths, so the indexes are
+ * always in step with the module list. Like the tracker itself, this class must only be used from one thread.
+ *
+ * Each module is given a small integer id while it is indexed, and tags are indexed as one
+ * {@link CompressedBitmap} of ids per tag, so combinations of tags are answered with bitwise operations and the
+ * number of modules with a tag is known without counting. Ids are reused after a module is removed, so a bitmap
+ * must not be used after the indexes change.
+ *
+ * Further hash indexes on any field can be added as {@link SecondaryIndex}es. Indexes on name, teacher and venue
+ * are built in, as are a {@link FuzzyIndex} of the words used by fuzzy search and a {@link TextIndex} of the
+ * free text used by full-text search.
+ */
+public class ModuleIndexes {
+
+    public static final String NAME_INDEX = "name";
+    public static final String TEACHER_INDEX = "teacher";
+    public static final String VENUE_INDEX = "venue";
+    public static final String FUZZY_INDEX = "fuzzy";
+    public static final String TEXT_INDEX = "text";
+
+    private final Map<Module, Integer> ids = new HashMap<>();
+    private final List<Module> modulesById = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private CompressedBitmap allIds = new CompressedBitmap();
+
+    private final Map<String, SecondaryIndex<?>> secondaryIndexes = new LinkedHashMap<>();
+    private final Map<String, CompressedBitmap> byTag = new HashMap<>();
+    /** The name each tag was first written with, for display. */
+    private final Map<String, String> tagNames = new HashMap<>();
+    private final TreeMap<LocalDateTime, Set<Module>> byDeadline = new TreeMap<>();
+    private final Map<DayOfWeek, TreeMap<LocalTime, Set<Module>>> byStartTime = new EnumMap<>(DayOfWeek.class);
+    private final Map<DayOfWeek, Integer> dayCounts = new EnumMap<>(DayOfWeek.class);
+    /** The number of timeslots of each length in minutes, by day, to bound how far back an overlap can start. */
+    private final Map<DayOfWeek, TreeMap<Long, Integer>> durationCounts = new EnumMap<>(DayOfWeek.class);
+    private final WeekOccupancy occupancy = new WeekOccupancy();
+
+    /**
+     * Creates empty indexes, with the built-in secondary indexes registered.
+     */
+    public ModuleIndexes() {
+        register(SecondaryIndex.ofSingleKey(NAME_INDEX, module -> nameKey(module.getName().fullName)));
+        register(new SecondaryIndex<>(TEACHER_INDEX, module -> teacherKeys(module.getTeacher())));
+        register(SecondaryIndex.ofSingleKey(VENUE_INDEX, module -> venueKey(module.getAddress())));
+        register(new FuzzyIndex(FUZZY_INDEX, ModuleIndexes::fuzzyKeys));
+        register(new TextIndex(TEXT_INDEX, module -> textFields(module).values()));
+    }
+
+    /**
+     * Adds {@code index}, filled with the modules indexed so far, to the indexes kept up to date.
+     *
+     * @throws IllegalArgumentException if an index with the same name is already registered.
+     */
+    public void register(SecondaryIndex<?> index) {
+        requireNonNull(index);
+        if (secondaryIndexes.containsKey(index.getName())) {
+            throw new IllegalArgumentException("Index already registered: " + index.getName());
+        }
+        secondaryIndexes.put(index.getName(), index);
+        for (Module module : modulesById) {
+            if (module != null) {
+                index.add(module);
+            }
+        }
+    }
+
+    /**
+     * Returns the registered secondary index called {@code name}.
+     *
+     * @throws IllegalArgumentException if there is no such index.
+     */
+    @SuppressWarnings("unchecked")
+    public <K> SecondaryIndex<K> getSecondaryIndex(String name) {
+        SecondaryIndex<?> index = secondaryIndexes.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("No such index: " + name);
+        }
+        return (SecondaryIndex<K>) index;
+    }
+
+    /**
+     * Adds {@code module} to every index.
+     */
+    public void add(Module module) {
+        requireNonNull(module);
+        int id = freeIds.isEmpty() ? modulesById.size() : freeIds.pop();
+        if (id == modulesById.size()) {
+            modulesById.add(module);
+        } else {
+            modulesById.set(id, module);
+        }
+        ids.put(module, id);
+        allIds.add(id);
+
+        secondaryIndexes.values().forEach(index -> index.add(module));
+        for (Tag tag : module.getTags()) {
+            String key = tagKey(tag.tagName);
+            byTag.computeIfAbsent(key, unused -> new CompressedBitmap()).add(id);
+            tagNames.putIfAbsent(key, tag.tagName);
+        }
+        LocalDateTime deadline = deadlineKey(module);
+        if (deadline != null) {
+            put(byDeadline, deadline, module);
+        }
+        TimeSlots timeSlots = module.getTimeSlots();
+        for (int i = 0; i < timeSlots.size(); i++) {
+            DayOfWeek day = timeSlots.getDay(i);
+            put(byStartTime.computeIfAbsent(day, unused -> new TreeMap<>()), timeSlots.getStartTime(i), module);
+            if (isFirstOnDay(timeSlots, i)) {
+                dayCounts.merge(day, 1, Integer::sum);
+            }
+            durationCounts.computeIfAbsent(day, unused -> new TreeMap<>())
+                    .merge(minutes(timeSlots, i), 1, Integer::sum);
+        }
+        occupancy.add(timeSlots);
+    }
+
+    /**
+     * Removes {@code module} from every index. {@code module} must have been added before.
+     */
+    public void remove(Module module) {
+        requireNonNull(module);
+        int id = ids.remove(module);
+        modulesById.set(id, null);
+        freeIds.push(id);
+        allIds.remove(id);
+
+        secondaryIndexes.values().forEach(index -> index.remove(module));
+        for (Tag tag : module.getTags()) {
+            String key = tagKey(tag.tagName);
+            CompressedBitmap tagged = byTag.get(key);
+            tagged.remove(id);
+            if (tagged.isEmpty()) {
+                byTag.remove(key);
+                tagNames.remove(key);
+            }
+        }
+        LocalDateTime deadline = deadlineKey(module);
+        if (deadline != null) {
+            take(byDeadline, deadline, module);
+        }
+        TimeSlots timeSlots = module.getTimeSlots();
+        for (int i = 0; i < timeSlots.size(); i++) {
+            DayOfWeek day = timeSlots.getDay(i);
+            take(byStartTime.get(day), timeSlots.getStartTime(i), module);
+            if (isFirstOnDay(timeSlots, i)) {
+                dayCounts.merge(day, -1, Integer::sum);
+            }
+            TreeMap<Long, Integer> durations = durationCounts.get(day);
+            if (durations.merge(minutes(timeSlots, i), -1, Integer::sum) == 0) {
+                durations.remove(minutes(timeSlots, i));
+            }
+        }
+        occupancy.remove(timeSlots);
+    }
+
+    /**
+     * Replaces the contents of every index with {@code modules}.
+     */
+    public void rebuild(Collection<Module> modules) {
+        ids.clear();
+        modulesById.clear();
+        freeIds.clear();
+        allIds = new CompressedBitmap();
+        secondaryIndexes.values().forEach(SecondaryIndex::clear);
+        byTag.clear();
+        tagNames.clear();
+        byDeadline.clear();
+        byStartTime.clear();
+        dayCounts.clear();
+        durationCounts.clear();
+        occupancy.clear();
+        modules.forEach(this::add);
+    }
+
+    /**
+     * Returns the number of indexed modules.
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Returns the ids of all indexed modules. The bitmap must not be modified.
+     */
+    public CompressedBitmap all() {
+        return allIds;
+    }
+
+    /**
+     * Returns the modules with the ids in {@code bitmap}.
+     */
+    public List<Module> modulesIn(CompressedBitmap bitmap) {
+        List<Module> modules = new ArrayList<>(bitmap.getCardinality());
+        bitmap.forEach(id -> modules.add(modulesById.get(id)));
+        return modules;
+    }
+
+    /**
+     * Returns the ids of the modules with a tag named {@code tagName}, ignoring case. The bitmap must not be
+     * modified.
+     */
+    public CompressedBitmap withTag(String tagName) {
+        CompressedBitmap tagged = byTag.get(tagKey(tagName));
+        return tagged == null ? new CompressedBitmap() : tagged;
+    }
+
+    /**
+     * Returns the number of modules with a tag named {@code tagName}, ignoring case.
+     */
+    public int countWithTag(String tagName) {
+        return withTag(tagName).getCardinality();
+    }
+
+    /**
+     * Returns the number of modules with each tag, by tag name.
+     * Tags differing only in case are counted together, under the name first used.
+     */
+    public Map<String, Integer> getTagCounts() {
+        Map<String, Integer> counts = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        byTag.forEach((key, tagged) -> counts.put(tagNames.get(key), tagged.getCardinality()));
+        return counts;
+    }
+
+    /**
+     * Returns the number of modules with a deadline in [{@code from}, {@code to}).
+     * A {@code null} bound leaves that side of the range open.
+     */
+    public int countDeadlinesBetween(LocalDateTime from, LocalDateTime to) {
+        int count = 0;
+        for (Set<Module> modules : deadlinesBetween(from, to).values()) {
+            count += modules.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the modules with a deadline in [{@code from}, {@code to}), earliest first.
+     * A {@code null} bound leaves that side of the range open.
+     */
+    public List<Module> withDeadlineBetween(LocalDateTime from, LocalDateTime to) {
+        List<Module> modules = new ArrayList<>();
+        deadlinesBetween(from, to).values().forEach(modules::addAll);
+        return modules;
+    }
+
+    /**
+     * Returns the number of modules with a timeslot on {@code day}.
+     */
+    public int countOnDay(DayOfWeek day) {
+        return dayCounts.getOrDefault(day, 0);
+    }
+
+    /**
+     * Returns the modules with a timeslot on {@code day}, earliest first.
+     */
+    public List<Module> onDay(DayOfWeek day) {
+        return startingBefore(day, LocalTime.MAX, true);
+    }
+
+    /**
+     * Returns the number of modules with a timeslot starting before {@code time}, on any day.
+     */
+    public int countStartingBefore(LocalTime time) {
+        int count = 0;
+        for (TreeMap<LocalTime, Set<Module>> starts : byStartTime.values()) {
+            for (Set<Module> modules : starts.headMap(time, false).values()) {
+                count += modules.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the modules with a timeslot starting before {@code time}, on any day. Each module is listed once.
+     */
+    public List<Module> startingBefore(LocalTime time) {
+        Set<Module> modules = new LinkedHashSet<>();
+        for (DayOfWeek day : byStartTime.keySet()) {
+            modules.addAll(startingBefore(day, time, false));
+        }
+        return new ArrayList<>(modules);
+    }
+
+    /**
+     * Returns the earliest time after {@code time} at which an indexed deadline passes or an indexed timeslot
+     * starts, or null if no indexed module has a timeslot or a deadline after {@code time}.
+     */
+    public LocalDateTime nextEventAfter(LocalDateTime time) {
+        requireNonNull(time);
+        LocalDateTime next = byDeadline.higherKey(time);
+        LocalDate date = time.toLocalDate();
+        // the timeslots later today, then on each of the next 7 days, back round to today's weekday
+        for (int i = 0; i <= 7; i++) {
+            TreeMap<LocalTime, Set<Module>> starts = byStartTime.get(date.plusDays(i).getDayOfWeek());
+            if (starts == null || starts.isEmpty()) {
+                continue;
+            }
+            LocalTime start = i == 0 ? starts.higherKey(time.toLocalTime()) : starts.firstKey();
+            if (start != null) {
+                LocalDateTime nextStart = date.plusDays(i).atTime(start);
+                return next == null || nextStart.isBefore(next) ? nextStart : next;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Returns the modules with a deadline, or a start of their timeslot, after {@code from} and no later than
+     * {@code to}. Each module is listed once.
+     */
+    public List<Module> withEventBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        Set<Module> modules = new LinkedHashSet<>();
+        if (!from.isBefore(to)) {
+            return new ArrayList<>(modules);
+        }
+        byDeadline.subMap(from, false, to, true).values().forEach(modules::addAll);
+        if (!to.isBefore(from.plusWeeks(1))) {
+            byStartTime.values().forEach(starts -> starts.values().forEach(modules::addAll));
+            return new ArrayList<>(modules);
+        }
+        for (LocalDate date = from.toLocalDate(); !date.isAfter(to.toLocalDate()); date = date.plusDays(1)) {
+            NavigableMap<LocalTime, Set<Module>> starts = byStartTime.get(date.getDayOfWeek());
+            if (starts == null) {
+                continue;
+            }
+            if (date.equals(from.toLocalDate())) {
+                starts = starts.tailMap(from.toLocalTime(), false);
+            }
+            if (date.equals(to.toLocalDate())) {
+                starts = starts.headMap(to.toLocalTime(), true);
+            }
+            starts.values().forEach(modules::addAll);
+        }
+        return new ArrayList<>(modules);
+    }
+
+    /**
+     * Returns the modules with a timeslot on {@code day} that overlaps the period from {@code start} up to
+     * {@code end}, earliest first. Each module is listed once.
+     *
+     * Only timeslots starting within the longest indexed timeslot length before {@code start} are looked at, as no
+     * earlier one can reach it, so the cost depends on the modules near the period rather than on the whole day.
+     */
+    public List<Module> overlapping(DayOfWeek day, LocalTime start, LocalTime end) {
+        requireNonNull(day);
+        Set<Module> modules = new LinkedHashSet<>();
+        TreeMap<LocalTime, Set<Module>> starts = byStartTime.get(day);
+        if (starts == null || !start.isBefore(end)) {
+            return new ArrayList<>(modules);
+        }
+        long longest = durationCounts.get(day).lastKey();
+        LocalTime earliestStart = start.toSecondOfDay() / 60 <= longest ? LocalTime.MIN : start.minusMinutes(longest);
+        int dayStart = (day.getValue() - 1) * WeekOccupancy.MINUTES_PER_DAY;
+        int periodStart = dayStart + start.toSecondOfDay() / 60;
+        for (Map.Entry<LocalTime, Set<Module>> startingTogether
+                : starts.subMap(earliestStart, true, end, false).entrySet()) {
+            int slotStart = dayStart + startingTogether.getKey().toSecondOfDay() / 60;
+            for (Module module : startingTogether.getValue()) {
+                if (module.getTimeSlots().getEndOfSlotStartingAt(slotStart) > periodStart) {
+                    modules.add(module);
+                }
+            }
+        }
+        return new ArrayList<>(modules);
+    }
+
+    /**
+     * Returns the periods of at least {@code minLength} minutes between minute {@code fromMinute} and minute
+     * {@code toMinute} of each day in which no indexed module takes place, from Monday to Sunday.
+     */
+    public List<FreePeriod> freePeriods(int minLength, int fromMinute, int toMinute) {
+        return occupancy.findFreePeriods(minLength, fromMinute, toMinute);
+    }
+
+    private static long minutes(TimeSlots timeSlots, int i) {
+        return timeSlots.getEnd(i) - timeSlots.getStart(i);
+    }
+
+    /** Returns true if the {@code i}-th of {@code timeSlots} is the first on its day, as they are in week order. */
+    private static boolean isFirstOnDay(TimeSlots timeSlots, int i) {
+        return i == 0 || timeSlots.getDay(i - 1) != timeSlots.getDay(i);
+    }
+
+    private List<Module> startingBefore(DayOfWeek day, LocalTime time, boolean isInclusive) {
+        Set<Module> modules = new LinkedHashSet<>();
+        TreeMap<LocalTime, Set<Module>> starts = byStartTime.get(day);
+        if (starts != null) {
+            starts.headMap(time, isInclusive).values().forEach(modules::addAll);
+        }
+        return new ArrayList<>(modules);
+    }
+
+    private NavigableMap<LocalDateTime, Set<Module>> deadlinesBetween(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null) {
+            return from.isBefore(to) ? byDeadline.subMap(from, true, to, false) : Collections.emptyNavigableMap();
+        } else if (from != null) {
+            return byDeadline.tailMap(from, true);
+        } else if (to != null) {
+            return byDeadline.headMap(to, false);
+        }
+        return byDeadline;
+    }
+
+    /**
+     * Returns the key under which modules named {@code name} are filed in the name index.
+     */
+    public static String nameKey(String name) {
+        return name.trim().toLowerCase();
+    }
+
+    /**
+     * Returns the keys under which a teacher called {@code name} is filed in the teacher index: the lower case
+     * words of the name, so that a teacher can be found by any part of their name.
+     */
+    public static Set<String> teacherKeys(String name) {
+        Set<String> keys = new HashSet<>();
+        for (String word : name.toLowerCase().split("[\\s.,]+")) {
+            if (!word.isEmpty()) {
+                keys.add(word);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the key under which modules at {@code venue} are filed in the venue index.
+     */
+    public static String venueKey(String venue) {
+        return venue.trim().toLowerCase();
+    }
+
+    /**
+     * Returns the words of {@code module} that fuzzy search looks at: the lower case words of its name, tags and
+     * teacher's name.
+     */
+    public static Set<String> fuzzyKeys(Module module) {
+        List<String> texts = new ArrayList<>();
+        texts.add(module.getName().fullName);
+        module.getTags().forEach(tag -> texts.add(tag.tagName));
+        if (module.getTeacher() != null && !isEmptyField(module.getTeacher().value)) {
+            texts.add(module.getTeacher().value);
+        }
+        return FuzzyIndex.words(texts);
+    }
+
+    /**
+     * Returns the free text of {@code module} that full-text search looks at, by field name: its remark, resource,
+     * teacher and venue, leaving out fields that are not filled in.
+     */
+    public static Map<String, String> textFields(Module module) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        if (module.getRemark() != null && !isEmptyField(module.getRemark().value)) {
+            fields.put("remark", module.getRemark().value);
+        }
+        if (module.getResource() != null && !isEmptyField(module.getResource().value)) {
+            fields.put("resource", module.getResource().value);
+        }
+        if (module.getTeacher() != null && !isEmptyField(module.getTeacher().value)) {
+            fields.put("teacher", module.getTeacher().value);
+        }
+        if (module.getAddress() != null && !isEmptyField(module.getAddress().value)) {
+            fields.put("venue", module.getAddress().value);
+        }
+        return fields;
+    }
+
+    private static Set<String> teacherKeys(Teacher teacher) {
+        return teacher == null || isEmptyField(teacher.value) ? Collections.emptySet() : teacherKeys(teacher.value);
+    }
+
+    private static String venueKey(Address address) {
+        return address == null || isEmptyField(address.value) ? null : venueKey(address.value);
+    }
+
+    private static boolean isEmptyField(String value) {
+        return value == null || value.equals(SampleDataUtil.EMPTY_INPUT);
+    }
+
+    private static String tagKey(String tagName) {
+        return tagName.toLowerCase();
+    }
+
+    private static LocalDateTime deadlineKey(Module module) {
+        Deadline deadline = module.getDeadline();
+        return deadline == null ? null : deadline.value;
+    }
+
+    private static <K> void put(Map<K, Set<Module>> index, K key, Module module) {
+        index.computeIfAbsent(key, unused -> new HashSet<>()).add(module);
+    }
+
+    private static <K> void take(Map<K, Set<Module>> index, K key, Module module) {
+        Set<Module> modules = index.get(key);
+        modules.remove(module);
+        if (modules.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
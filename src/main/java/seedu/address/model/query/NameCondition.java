@@ -0,0 +1,60 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+
+import seedu.address.model.module.Module;
+
+/**
+ * Matches modules whose name is exactly {@code name}, ignoring case.
+ */
+public class NameCondition implements IndexedCondition {
+
+    private final String name;
+
+    /**
+     * Creates a {@code NameCondition} matching modules named {@code name}.
+     */
+    public NameCondition(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public boolean test(Module module) {
+        return ModuleIndexes.nameKey(module.getName().fullName).equals(ModuleIndexes.nameKey(name));
+    }
+
+    @Override
+    public String getIndexName() {
+        return ModuleIndexes.NAME_INDEX;
+    }
+
+    @Override
+    public int estimate(ModuleIndexes indexes) {
+        return indexes.<String>getSecondaryIndex(ModuleIndexes.NAME_INDEX).count(ModuleIndexes.nameKey(name));
+    }
+
+    @Override
+    public Collection<Module> lookup(ModuleIndexes indexes) {
+        return indexes.<String>getSecondaryIndex(ModuleIndexes.NAME_INDEX).get(ModuleIndexes.nameKey(name));
+    }
+
+    @Override
+    public String toString() {
+        return "name/" + name;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameCondition // instanceof handles nulls
+                && name.equalsIgnoreCase(((NameCondition) other).name)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return name.toLowerCase().hashCode();
+    }
+}
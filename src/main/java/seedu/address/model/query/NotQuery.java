@@ -0,0 +1,49 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.module.Module;
+
+/**
+ * Matches modules that do not match its operand.
+ */
+public class NotQuery implements Query {
+
+    private final Query operand;
+
+    /**
+     * Creates a {@code NotQuery} of {@code operand}.
+     */
+    public NotQuery(Query operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    public Query getOperand() {
+        return operand;
+    }
+
+    @Override
+    public boolean test(Module module) {
+        return !operand.test(module);
+    }
+
+    @Override
+    public String toString() {
+        return operand instanceof AndQuery || operand instanceof OrQuery
+                ? "NOT (" + operand + ")"
+                : "NOT " + operand;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotQuery // instanceof handles nulls
+                && operand.equals(((NotQuery) other).operand)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return operand.hashCode();
+    }
+}
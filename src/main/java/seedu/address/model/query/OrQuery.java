@@ -0,0 +1,76 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.module.Module;
+
+/**
+ * Matches modules that match any of its operands.
+ */
+public class OrQuery implements Query {
+
+    private final List<Query> operands;
+
+    /**
+     * Creates an {@code OrQuery} of {@code operands}.
+     */
+    public OrQuery(List<Query> operands) {
+        requireNonNull(operands);
+        this.operands = List.copyOf(operands);
+    }
+
+    public List<Query> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(Module module) {
+        for (Query operand : operands) {
+            if (operand.test(module)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isRanked() {
+        return operands.stream().anyMatch(Query::isRanked);
+    }
+
+    /**
+     * Returns the distance of {@code module} from the closest operand it matches.
+     */
+    @Override
+    public int distance(Module module) {
+        int best = 0;
+        boolean hasMatch = false;
+        for (Query operand : operands) {
+            if (operand.test(module)) {
+                best = hasMatch ? Math.min(best, operand.distance(module)) : operand.distance(module);
+                hasMatch = true;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Query::toString).collect(Collectors.joining(" OR "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OrQuery // instanceof handles nulls
+                && operands.equals(((OrQuery) other).operands)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.model.query;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.module.Module;
+
+/**
+ * A boolean query over modules, built from conditions combined with AND, OR and NOT.
+ * {@link #toString()} returns the query in the syntax accepted by {@code find}.
+ */
+public interface Query extends Predicate<Module> {
+
+    /**
+     * Returns true if matches of this query differ in how closely they match, as given by {@link #distance}.
+     */
+    default boolean isRanked() {
+        return false;
+    }
+
+    /**
+     * Returns how far {@code module}, which matches this query, is from matching it exactly. Lower is closer.
+     */
+    default int distance(Module module) {
+        return 0;
+    }
+}
@@ -0,0 +1,240 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.model.module.Module;
+
+/**
+ * How a {@link Query} will be answered: an access path that produces candidate modules, each of which is then
+ * tested against the whole query. Created by {@link QueryPlanner}.
+ */
+public class QueryPlan {
+
+    private final Query query;
+    private final AccessPath accessPath;
+    private final int estimatedMatches;
+    private final int totalRows;
+
+    QueryPlan(Query query, AccessPath accessPath, int estimatedMatches, int totalRows) {
+        this.query = query;
+        this.accessPath = accessPath;
+        this.estimatedMatches = estimatedMatches;
+        this.totalRows = totalRows;
+    }
+
+    public Query getQuery() {
+        return query;
+    }
+
+    /**
+     * Returns true if this plan tests every module instead of using an index.
+     */
+    public boolean isFullScan() {
+        return accessPath instanceof FullScan;
+    }
+
+    /**
+     * Returns the number of candidates the access path is expected to produce.
+     */
+    public int getEstimatedCandidates() {
+        return accessPath.estimate();
+    }
+
+    /**
+     * Returns the expected number of modules matching the query.
+     */
+    public int getEstimatedMatches() {
+        return estimatedMatches;
+    }
+
+    /**
+     * Runs this plan. Must be called before the tracker is modified again.
+     */
+    public Result execute() {
+        Collection<Module> candidates = accessPath.fetch();
+        Set<Module> matches = new HashSet<>();
+        for (Module candidate : candidates) {
+            if (query.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return new Result(matches, candidates.size());
+    }
+
+    /**
+     * Returns a human readable description of this plan and its row estimates.
+     */
+    public String explain() {
+        return "Query: " + query
+                + "\nAccess: " + accessPath.describe()
+                + "\nEstimated: " + accessPath.estimate() + " of " + totalRows + " modules examined, "
+                + estimatedMatches + " matching";
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+
+    /**
+     * The outcome of {@link #execute()}.
+     */
+    public static class Result {
+        private final Set<Module> matches;
+        private final int examinedCount;
+
+        Result(Set<Module> matches, int examinedCount) {
+            this.matches = Collections.unmodifiableSet(matches);
+            this.examinedCount = examinedCount;
+        }
+
+        public Set<Module> getMatches() {
+            return matches;
+        }
+
+        /**
+         * Returns the number of candidate modules that were tested against the query.
+         */
+        public int getExaminedCount() {
+            return examinedCount;
+        }
+    }
+
+    /**
+     * A way of producing candidate modules for a query.
+     */
+    abstract static class AccessPath {
+        abstract int estimate();
+
+        abstract Collection<Module> fetch();
+
+        abstract String describe();
+    }
+
+    /**
+     * Produces every module.
+     */
+    static class FullScan extends AccessPath {
+        private final List<Module> modules;
+
+        FullScan(List<Module> modules) {
+            this.modules = requireNonNull(modules);
+        }
+
+        @Override
+        int estimate() {
+            return modules.size();
+        }
+
+        @Override
+        Collection<Module> fetch() {
+            return modules;
+        }
+
+        @Override
+        String describe() {
+            return "full scan";
+        }
+    }
+
+    /**
+     * Produces the modules an index returns for one condition.
+     */
+    static class IndexScan extends AccessPath {
+        private final IndexedCondition condition;
+        private final ModuleIndexes indexes;
+        private final int estimate;
+
+        IndexScan(IndexedCondition condition, ModuleIndexes indexes) {
+            this.condition = requireNonNull(condition);
+            this.indexes = requireNonNull(indexes);
+            this.estimate = condition.estimate(indexes);
+        }
+
+        @Override
+        int estimate() {
+            return estimate;
+        }
+
+        @Override
+        Collection<Module> fetch() {
+            return condition.lookup(indexes);
+        }
+
+        @Override
+        String describe() {
+            return "index scan on " + condition.getIndexName() + " for " + condition + " (" + estimate + " rows)";
+        }
+    }
+
+    /**
+     * Produces the modules in a bitmap computed from the tag indexes.
+     */
+    static class BitmapScan extends AccessPath {
+        private final String description;
+        private final CompressedBitmap bitmap;
+        private final ModuleIndexes indexes;
+
+        BitmapScan(String description, CompressedBitmap bitmap, ModuleIndexes indexes) {
+            this.description = requireNonNull(description);
+            this.bitmap = requireNonNull(bitmap);
+            this.indexes = requireNonNull(indexes);
+        }
+
+        @Override
+        int estimate() {
+            return bitmap.getCardinality();
+        }
+
+        @Override
+        Collection<Module> fetch() {
+            return indexes.modulesIn(bitmap);
+        }
+
+        @Override
+        String describe() {
+            return "bitmap scan on tag for " + description + " (" + estimate() + " rows)";
+        }
+    }
+
+    /**
+     * Produces the union of the candidates of several access paths.
+     */
+    static class UnionScan extends AccessPath {
+        private final List<AccessPath> paths;
+        private final int estimate;
+
+        UnionScan(List<AccessPath> paths, int totalRows) {
+            this.paths = List.copyOf(paths);
+            this.estimate = Math.min(totalRows, paths.stream().mapToInt(AccessPath::estimate).sum());
+        }
+
+        @Override
+        int estimate() {
+            return estimate;
+        }
+
+        @Override
+        Collection<Module> fetch() {
+            Set<Module> candidates = new HashSet<>();
+            for (AccessPath path : paths) {
+                candidates.addAll(path.fetch());
+            }
+            return new ArrayList<>(candidates);
+        }
+
+        @Override
+        String describe() {
+            return "union of " + paths.stream().map(AccessPath::describe).collect(Collectors.joining(", "));
+        }
+    }
+}
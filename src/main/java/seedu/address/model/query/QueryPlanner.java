@@ -0,0 +1,164 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.model.module.Module;
+import seedu.address.model.query.QueryPlan.AccessPath;
+import seedu.address.model.query.QueryPlan.BitmapScan;
+import seedu.address.model.query.QueryPlan.FullScan;
+import seedu.address.model.query.QueryPlan.IndexScan;
+import seedu.address.model.query.QueryPlan.UnionScan;
+
+/**
+ * Chooses how to answer a {@link Query} using the {@link ModuleIndexes} of a tracker.
+ *
+ * Any combination of tag conditions with AND, OR and NOT is answered exactly with bitwise operations on the tag
+ * bitmaps. Another indexed condition is answered from its index. For AND, the operand whose index returns the
+ * fewest rows is used and the rest of the query is only tested on those rows. OR can use indexes only if every
+ * operand can, in which case their results are combined; anything else falls back to testing every module.
+ */
+public class QueryPlanner {
+
+    /** Fraction of modules assumed to match a condition that has no index to count from. */
+    static final double DEFAULT_SELECTIVITY = 0.25;
+
+    private final ModuleIndexes indexes;
+    private final List<Module> modules;
+
+    /**
+     * Creates a {@code QueryPlanner} over {@code modules}, which {@code indexes} must be kept in step with.
+     */
+    public QueryPlanner(ModuleIndexes indexes, List<Module> modules) {
+        requireNonNull(indexes);
+        requireNonNull(modules);
+        this.indexes = indexes;
+        this.modules = modules;
+    }
+
+    /**
+     * Returns the cheapest plan found for {@code query}.
+     */
+    public QueryPlan plan(Query query) {
+        requireNonNull(query);
+        int estimatedMatches = (int) Math.round(modules.size() * selectivity(query));
+        return new QueryPlan(query, accessPath(query), estimatedMatches, modules.size());
+    }
+
+    private AccessPath accessPath(Query query) {
+        CompressedBitmap exact = toBitmap(query);
+        if (exact != null) {
+            return new BitmapScan(query.toString(), exact, indexes);
+        }
+        if (query instanceof IndexedCondition) {
+            return new IndexScan((IndexedCondition) query, indexes);
+        }
+        if (query instanceof AndQuery) {
+            AccessPath best = null;
+            List<Query> tagOperands = new ArrayList<>();
+            CompressedBitmap tagged = null;
+            for (Query operand : ((AndQuery) query).getOperands()) {
+                CompressedBitmap bitmap = toBitmap(operand);
+                if (bitmap != null) {
+                    tagOperands.add(operand);
+                    tagged = tagged == null ? bitmap : tagged.and(bitmap);
+                    continue;
+                }
+                AccessPath path = accessPath(operand);
+                if (!(path instanceof FullScan) && (best == null || path.estimate() < best.estimate())) {
+                    best = path;
+                }
+            }
+            if (tagged != null && (best == null || tagged.getCardinality() <= best.estimate())) {
+                String description = tagOperands.stream().map(Query::toString).collect(Collectors.joining(" AND "));
+                best = new BitmapScan(description, tagged, indexes);
+            }
+            if (best != null) {
+                return best;
+            }
+        }
+        if (query instanceof OrQuery) {
+            List<AccessPath> paths = new ArrayList<>();
+            for (Query operand : ((OrQuery) query).getOperands()) {
+                AccessPath path = accessPath(operand);
+                if (path instanceof FullScan) {
+                    return fullScan();
+                }
+                paths.add(path);
+            }
+            UnionScan union = new UnionScan(paths, modules.size());
+            // A union that covers nearly everything is no cheaper than scanning.
+            return union.estimate() < modules.size() ? union : fullScan();
+        }
+        return fullScan();
+    }
+
+    private FullScan fullScan() {
+        return new FullScan(modules);
+    }
+
+    /**
+     * Returns the exact ids of the modules matching {@code query}, or null if it is not made of tag conditions alone.
+     */
+    private CompressedBitmap toBitmap(Query query) {
+        if (query instanceof TagCondition) {
+            return ((TagCondition) query).bitmap(indexes);
+        }
+        if (query instanceof NotQuery) {
+            CompressedBitmap operand = toBitmap(((NotQuery) query).getOperand());
+            return operand == null ? null : indexes.all().andNot(operand);
+        }
+        boolean isAnd = query instanceof AndQuery;
+        if (!isAnd && !(query instanceof OrQuery)) {
+            return null;
+        }
+        List<Query> operands = isAnd ? ((AndQuery) query).getOperands() : ((OrQuery) query).getOperands();
+        CompressedBitmap result = null;
+        for (Query operand : operands) {
+            CompressedBitmap bitmap = toBitmap(operand);
+            if (bitmap == null) {
+                return null;
+            }
+            result = result == null ? bitmap : isAnd ? result.and(bitmap) : result.or(bitmap);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the estimated fraction of modules matching {@code query}, assuming conditions are independent.
+     */
+    private double selectivity(Query query) {
+        if (modules.isEmpty()) {
+            return 0;
+        }
+        CompressedBitmap exact = toBitmap(query);
+        if (exact != null) {
+            return (double) exact.getCardinality() / modules.size();
+        }
+        if (query instanceof IndexedCondition) {
+            return (double) ((IndexedCondition) query).estimate(indexes) / modules.size();
+        }
+        if (query instanceof AndQuery) {
+            double selectivity = 1;
+            for (Query operand : ((AndQuery) query).getOperands()) {
+                selectivity *= selectivity(operand);
+            }
+            return selectivity;
+        }
+        if (query instanceof OrQuery) {
+            double nonMatching = 1;
+            for (Query operand : ((OrQuery) query).getOperands()) {
+                nonMatching *= 1 - selectivity(operand);
+            }
+            return 1 - nonMatching;
+        }
+        if (query instanceof NotQuery) {
+            return 1 - selectivity(((NotQuery) query).getOperand());
+        }
+        return DEFAULT_SELECTIVITY;
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.module.Module;
+
+/**
+ * A hash index from keys derived from a module to the modules having them.
+ *
+ * An index is declared with a name and a key extractor and then {@link ModuleIndexes#register registered}; from
+ * then on it is kept in step with the module tracker through the tracker's mutation paths. A module may have any
+ * number of keys, e.g. one per word of a field, so the extractor returns a collection.
+ *
+ * @param <K> the type of keys, which must have consistent {@code equals} and {@code hashCode}
+ */
+public class SecondaryIndex<K> {
+
+    private final String name;
+    private final Function<Module, ? extends Collection<K>> keyExtractor;
+    private final Map<K, Set<Module>> entries = new HashMap<>();
+
+    /**
+     * Creates an index called {@code name} in which each module is filed under the keys {@code keyExtractor} returns.
+     */
+    public SecondaryIndex(String name, Function<Module, ? extends Collection<K>> keyExtractor) {
+        requireNonNull(name);
+        requireNonNull(keyExtractor);
+        this.name = name;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Creates an index called {@code name} in which each module is filed under the one key {@code keyExtractor}
+     * returns, or not at all if it returns null.
+     */
+    public static <K> SecondaryIndex<K> ofSingleKey(String name, Function<Module, K> keyExtractor) {
+        requireNonNull(keyExtractor);
+        return new SecondaryIndex<>(name, module -> {
+            K key = keyExtractor.apply(module);
+            return key == null ? Collections.emptySet() : Collections.singleton(key);
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the keys {@code module} is filed under.
+     */
+    public Collection<K> keysOf(Module module) {
+        return keyExtractor.apply(module);
+    }
+
+    /**
+     * Returns the modules filed under {@code key}.
+     */
+    public Set<Module> get(K key) {
+        Set<Module> modules = entries.get(key);
+        return modules == null ? Collections.emptySet() : Collections.unmodifiableSet(modules);
+    }
+
+    /**
+     * Returns the number of modules filed under {@code key}.
+     */
+    public int count(K key) {
+        Set<Module> modules = entries.get(key);
+        return modules == null ? 0 : modules.size();
+    }
+
+    /**
+     * Returns the keys that have at least one module filed under them.
+     */
+    public Set<K> keys() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    void add(Module module) {
+        for (K key : keysOf(module)) {
+            Set<Module> modules = entries.get(key);
+            if (modules == null) {
+                modules = new HashSet<>();
+                entries.put(key, modules);
+                onKeyAdded(key);
+            }
+            modules.add(module);
+        }
+    }
+
+    void remove(Module module) {
+        for (K key : keysOf(module)) {
+            Set<Module> modules = entries.get(key);
+            modules.remove(module);
+            if (modules.isEmpty()) {
+                entries.remove(key);
+                onKeyRemoved(key);
+            }
+        }
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Called when the first module is filed under {@code key}. Subclasses may override this to maintain
+     * structures over the keys themselves.
+     */
+    protected void onKeyAdded(K key) {
+    }
+
+    /**
+     * Called when the last module filed under {@code key} is removed.
+     */
+    protected void onKeyRemoved(K key) {
+    }
+}
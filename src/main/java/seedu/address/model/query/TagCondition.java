@@ -0,0 +1,68 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.model.module.Module;
+
+/**
+ * Matches modules that have a tag named {@code tagName}, ignoring case.
+ */
+public class TagCondition implements IndexedCondition {
+
+    private final String tagName;
+
+    /**
+     * Creates a {@code TagCondition} matching modules tagged {@code tagName}.
+     */
+    public TagCondition(String tagName) {
+        requireNonNull(tagName);
+        this.tagName = tagName;
+    }
+
+    @Override
+    public boolean test(Module module) {
+        return module.getTags().stream().anyMatch(tag -> tag.tagName.equalsIgnoreCase(tagName));
+    }
+
+    @Override
+    public String getIndexName() {
+        return "tag";
+    }
+
+    @Override
+    public int estimate(ModuleIndexes indexes) {
+        return indexes.countWithTag(tagName);
+    }
+
+    @Override
+    public Collection<Module> lookup(ModuleIndexes indexes) {
+        return indexes.modulesIn(bitmap(indexes));
+    }
+
+    /**
+     * Returns the ids of the modules matching this condition. The bitmap must not be modified.
+     */
+    CompressedBitmap bitmap(ModuleIndexes indexes) {
+        return indexes.withTag(tagName);
+    }
+
+    @Override
+    public String toString() {
+        return "tag/" + tagName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagCondition // instanceof handles nulls
+                && tagName.equalsIgnoreCase(((TagCondition) other).tagName)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return tagName.toLowerCase().hashCode();
+    }
+}
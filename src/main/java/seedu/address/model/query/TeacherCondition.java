@@ -0,0 +1,75 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Set;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.module.Teacher;
+
+/**
+ * Matches modules whose teacher's name contains all the words of {@code name} as whole words, ignoring case,
+ * so {@code teacher/Tan} matches "Prof Tan Ah Kow" but not "Tania".
+ */
+public class TeacherCondition implements IndexedCondition {
+
+    private final String name;
+    private final Set<String> words;
+
+    /**
+     * Creates a {@code TeacherCondition} matching teachers called {@code name}.
+     */
+    public TeacherCondition(String name) {
+        requireNonNull(name);
+        this.name = name;
+        this.words = ModuleIndexes.teacherKeys(name);
+    }
+
+    @Override
+    public boolean test(Module module) {
+        Teacher teacher = module.getTeacher();
+        return teacher != null && teacher.value != null
+                && ModuleIndexes.teacherKeys(teacher.value).containsAll(words);
+    }
+
+    @Override
+    public String getIndexName() {
+        return ModuleIndexes.TEACHER_INDEX;
+    }
+
+    /**
+     * Returns the number of modules filed under the rarest word of the name.
+     */
+    @Override
+    public int estimate(ModuleIndexes indexes) {
+        SecondaryIndex<String> index = indexes.getSecondaryIndex(ModuleIndexes.TEACHER_INDEX);
+        return words.stream().mapToInt(index::count).min().orElse(indexes.size());
+    }
+
+    @Override
+    public Collection<Module> lookup(ModuleIndexes indexes) {
+        SecondaryIndex<String> index = indexes.getSecondaryIndex(ModuleIndexes.TEACHER_INDEX);
+        return words.stream()
+                .map(index::get)
+                .min((first, second) -> Integer.compare(first.size(), second.size()))
+                .orElseGet(() -> Set.copyOf(indexes.modulesIn(indexes.all())));
+    }
+
+    @Override
+    public String toString() {
+        return "teacher/" + name;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TeacherCondition // instanceof handles nulls
+                && words.equals(((TeacherCondition) other).words)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return words.hashCode();
+    }
+}
@@ -0,0 +1,203 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.model.module.Module;
+
+/**
+ * An inverted index over the free text of modules, answering full-text searches ranked by BM25.
+ *
+ * The text is split into lower case terms of letters and digits. Besides the modules filed under each term, the
+ * index keeps how often the term occurs in each module and how many terms each module has, so a search only
+ * visits the postings of its own terms: its cost grows with the number of modules containing them, not with the
+ * size of the tracker.
+ */
+public class TextIndex extends SecondaryIndex<String> {
+
+    /** Controls how quickly repeated occurrences of a term stop adding to the score. */
+    static final double K1 = 1.2;
+    /** Controls how much longer texts are penalised, from 0 (not at all) to 1 (in full proportion). */
+    static final double B = 0.75;
+
+    private static final Pattern TERM = Pattern.compile("\\p{Alnum}+");
+
+    private final Function<Module, ? extends Collection<String>> textExtractor;
+    private final Map<String, Map<Module, Integer>> termFrequencies = new HashMap<>();
+    private final Map<Module, Integer> lengths = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * Creates a {@code TextIndex} called {@code name} over the texts {@code textExtractor} returns for each module.
+     */
+    public TextIndex(String name, Function<Module, ? extends Collection<String>> textExtractor) {
+        super(name, module -> new LinkedHashSet<>(terms(textExtractor.apply(module))));
+        this.textExtractor = textExtractor;
+    }
+
+    /**
+     * Returns the modules containing at least one of {@code terms}, best match first.
+     * The terms are expected in lower case, as returned by {@link #terms}.
+     */
+    public List<Hit> search(Collection<String> terms) {
+        requireNonNull(terms);
+        if (lengths.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        double averageLength = (double) totalLength / lengths.size();
+        Map<Module, Hit> hits = new HashMap<>();
+        for (String term : new LinkedHashSet<>(terms)) {
+            Map<Module, Integer> postings = termFrequencies.getOrDefault(term, Collections.emptyMap());
+            double idf = idf(postings.size());
+            postings.forEach((module, frequency) -> {
+                double lengthRatio = lengths.get(module) / averageLength;
+                double score = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+                hits.computeIfAbsent(module, Hit::new).addTerm(term, score);
+            });
+        }
+
+        List<Hit> ranked = new ArrayList<>(hits.values());
+        ranked.sort((first, second) -> Double.compare(second.getScore(), first.getScore()));
+        return ranked;
+    }
+
+    /**
+     * Returns the BM25 inverse document frequency of a term found in {@code documentFrequency} modules.
+     * It is always positive, so a module matching more terms never scores less for it.
+     */
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (lengths.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    @Override
+    void add(Module module) {
+        super.add(module);
+        List<String> terms = terms(textExtractor.apply(module));
+        for (String term : terms) {
+            termFrequencies.computeIfAbsent(term, unused -> new HashMap<>()).merge(module, 1, Integer::sum);
+        }
+        lengths.put(module, terms.size());
+        totalLength += terms.size();
+    }
+
+    @Override
+    void remove(Module module) {
+        super.remove(module);
+        for (String term : keysOf(module)) {
+            Map<Module, Integer> postings = termFrequencies.get(term);
+            postings.remove(module);
+            if (postings.isEmpty()) {
+                termFrequencies.remove(term);
+            }
+        }
+        Integer length = lengths.remove(module);
+        totalLength -= length == null ? 0 : length;
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        termFrequencies.clear();
+        lengths.clear();
+        totalLength = 0;
+    }
+
+    /**
+     * Returns the lower case terms of {@code texts} in order, with repeats. Null texts are skipped.
+     */
+    public static List<String> terms(Collection<String> texts) {
+        List<String> terms = new ArrayList<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            Matcher matcher = TERM.matcher(text);
+            while (matcher.find()) {
+                terms.add(matcher.group().toLowerCase());
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Returns {@code text} with each occurrence of {@code terms} wrapped in {@code before} and {@code after}, or
+     * nothing if none of {@code terms} occur in it.
+     * At most {@code maxTerms} terms are kept around the first occurrence, with {@code ...} marking the cut.
+     */
+    public static Optional<String> highlight(String text, Set<String> terms, String before, String after,
+            int maxTerms) {
+        List<int[]> spans = new ArrayList<>();
+        int firstMatch = -1;
+        Matcher matcher = TERM.matcher(text);
+        while (matcher.find()) {
+            if (firstMatch < 0 && terms.contains(matcher.group().toLowerCase())) {
+                firstMatch = spans.size();
+            }
+            spans.add(new int[] {matcher.start(), matcher.end()});
+        }
+        if (firstMatch < 0) {
+            return Optional.empty();
+        }
+
+        int from = Math.max(0, Math.min(firstMatch - maxTerms / 2, spans.size() - maxTerms));
+        int to = Math.min(spans.size(), from + maxTerms);
+        int start = from == 0 ? 0 : spans.get(from)[0];
+        int end = to == spans.size() ? text.length() : spans.get(to - 1)[1];
+
+        StringBuilder builder = new StringBuilder(start > 0 ? "..." : "");
+        int copied = start;
+        for (int i = from; i < to; i++) {
+            int[] span = spans.get(i);
+            String term = text.substring(span[0], span[1]);
+            if (terms.contains(term.toLowerCase())) {
+                builder.append(text, copied, span[0]).append(before).append(term).append(after);
+                copied = span[1];
+            }
+        }
+        builder.append(text, copied, end);
+        return Optional.of(builder.append(end < text.length() ? "..." : "").toString());
+    }
+
+    /**
+     * A module found by a search, with its score and the search terms it contains.
+     */
+    public static class Hit {
+        private final Module module;
+        private final Set<String> matchedTerms = new LinkedHashSet<>();
+        private double score;
+
+        private Hit(Module module) {
+            this.module = module;
+        }
+
+        private void addTerm(String term, double termScore) {
+            matchedTerms.add(term);
+            score += termScore;
+        }
+
+        public Module getModule() {
+            return module;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public Set<String> getMatchedTerms() {
+            return Collections.unmodifiableSet(matchedTerms);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalTime;
+import java.util.Collection;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.module.TimeSlot;
+import seedu.address.model.module.TimeSlots;
+
+/**
+ * Matches modules with a timeslot that overlaps the interval [{@code from}, {@code to}) on any day.
+ */
+public class TimeCondition implements IndexedCondition {
+
+    private final LocalTime from;
+    private final LocalTime to;
+
+    /**
+     * Creates a {@code TimeCondition} matching timeslots that overlap [{@code from}, {@code to}).
+     */
+    public TimeCondition(LocalTime from, LocalTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        checkArgument(from.isBefore(to), TimeSlot.MESSAGE_STARTTIME_BEFORE_ENDTIME);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean test(Module module) {
+        TimeSlots timeSlots = module.getTimeSlots();
+        for (int i = 0; i < timeSlots.size(); i++) {
+            if (timeSlots.getStartTime(i).isBefore(to) && timeSlots.getEndTime(i).isAfter(from)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String getIndexName() {
+        return "timeslot";
+    }
+
+    /**
+     * Returns the number of timeslots starting before {@code to}.
+     * This overestimates, as some of them also end before {@code from}.
+     */
+    @Override
+    public int estimate(ModuleIndexes indexes) {
+        return indexes.countStartingBefore(to);
+    }
+
+    @Override
+    public Collection<Module> lookup(ModuleIndexes indexes) {
+        return indexes.startingBefore(to);
+    }
+
+    @Override
+    public String toString() {
+        return "time/" + from + "-" + to;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TimeCondition // instanceof handles nulls
+                && from.equals(((TimeCondition) other).from)
+                && to.equals(((TimeCondition) other).to)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return from.hashCode() * 31 + to.hashCode();
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+
+import seedu.address.model.module.Module;
+
+/**
+ * Matches modules held at exactly {@code venue}, ignoring case.
+ */
+public class VenueCondition implements IndexedCondition {
+
+    private final String venue;
+
+    /**
+     * Creates a {@code VenueCondition} matching modules held at {@code venue}.
+     */
+    public VenueCondition(String venue) {
+        requireNonNull(venue);
+        this.venue = venue;
+    }
+
+    @Override
+    public boolean test(Module module) {
+        return module.getAddress() != null && module.getAddress().value != null
+                && ModuleIndexes.venueKey(module.getAddress().value).equals(ModuleIndexes.venueKey(venue));
+    }
+
+    @Override
+    public String getIndexName() {
+        return ModuleIndexes.VENUE_INDEX;
+    }
+
+    @Override
+    public int estimate(ModuleIndexes indexes) {
+        return indexes.<String>getSecondaryIndex(ModuleIndexes.VENUE_INDEX).count(ModuleIndexes.venueKey(venue));
+    }
+
+    @Override
+    public Collection<Module> lookup(ModuleIndexes indexes) {
+        return indexes.<String>getSecondaryIndex(ModuleIndexes.VENUE_INDEX).get(ModuleIndexes.venueKey(venue));
+    }
+
+    @Override
+    public String toString() {
+        return "venue/" + venue;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof VenueCondition // instanceof handles nulls
+                && ModuleIndexes.venueKey(venue).equals(ModuleIndexes.venueKey(((VenueCondition) other).venue)));
+    }
+
+    @Override
+    public int hashCode() {
+        return ModuleIndexes.venueKey(venue).hashCode();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.sync;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The changes one copy of a module tracker exports for the others: those it made or imported since the last version
+ * they had in common, as far as it knows, together with its own version.
+ * Guarantees: immutable.
+ */
+public class SyncDelta {
+
+    private final String replica;
+    private final Map<String, Long> versions;
+    private final List<SyncEntry> entries;
+
+    /**
+     * Creates a {@code SyncDelta} of {@code entries} exported by {@code replica} at version {@code versions}.
+     */
+    public SyncDelta(String replica, Map<String, Long> versions, List<SyncEntry> entries) {
+        requireNonNull(replica);
+        requireNonNull(versions);
+        requireNonNull(entries);
+        this.replica = replica;
+        this.versions = Map.copyOf(versions);
+        this.entries = List.copyOf(entries);
+    }
+
+    /**
+     * Returns the id of the copy that exported the changes.
+     */
+    public String getReplica() {
+        return replica;
+    }
+
+    /**
+     * Returns the version of the copy that exported the changes, as the greatest counter it had seen from each copy.
+     */
+    public Map<String, Long> getVersions() {
+        return versions;
+    }
+
+    public List<SyncEntry> getEntries() {
+        return entries;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SyncDelta // instanceof handles nulls
+                && replica.equals(((SyncDelta) other).replica)
+                && versions.equals(((SyncDelta) other).versions)
+                && entries.equals(((SyncDelta) other).entries)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(replica, versions, entries);
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.sync;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.module.Module;
+
+/**
+ * The latest change to one module of a synced module tracker: the module as it was added or edited, or as it was
+ * before it was deleted, stamped with the copy of the module tracker that made the change and when.
+ *
+ * Stamps are Lamport clock readings. Each copy counts up with every change it makes and moves its count past every
+ * change it imports, so a change made after seeing another always has the greater counter. Of two changes to a module
+ * the one with the greater counter wins; a tie, which only changes made without seeing each other can have, goes to
+ * the greater copy id. Every copy thus picks the same winner.
+ * Guarantees: immutable.
+ */
+public class SyncEntry {
+
+    private final Module module;
+    private final boolean isDeleted;
+    private final long counter;
+    private final String replica;
+
+    /**
+     * Creates a {@code SyncEntry} for {@code module}, which {@code replica} added or edited at {@code counter}, or
+     * deleted if {@code isDeleted}.
+     */
+    public SyncEntry(Module module, boolean isDeleted, long counter, String replica) {
+        requireNonNull(module);
+        requireNonNull(replica);
+        this.module = module;
+        this.isDeleted = isDeleted;
+        this.counter = counter;
+        this.replica = replica;
+    }
+
+    public Module getModule() {
+        return module;
+    }
+
+    public boolean isDeleted() {
+        return isDeleted;
+    }
+
+    public long getCounter() {
+        return counter;
+    }
+
+    public String getReplica() {
+        return replica;
+    }
+
+    /**
+     * Returns the identity of the changed module.
+     *
+     * @see Module#getIdentity()
+     */
+    public List<Object> getIdentity() {
+        return module.getIdentity();
+    }
+
+    /**
+     * Returns true if this change wins over {@code other}, a change to the same module.
+     */
+    public boolean isNewerThan(SyncEntry other) {
+        return counter != other.counter ? counter > other.counter : replica.compareTo(other.replica) > 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SyncEntry // instanceof handles nulls
+                && module.equals(((SyncEntry) other).module)
+                && isDeleted == ((SyncEntry) other).isDeleted
+                && counter == ((SyncEntry) other).counter
+                && replica.equals(((SyncEntry) other).replica)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(module, isDeleted, counter, replica);
+    }
+
+    @Override
+    public String toString() {
+        return (isDeleted ? "deleted " : "") + module.getLabel() + " at " + counter + "@" + replica;
+    }
+}
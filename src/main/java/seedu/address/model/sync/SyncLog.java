@@ -0,0 +1,201 @@
+package seedu.address.model.sync;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import seedu.address.model.Model;
+import seedu.address.model.module.Module;
+
+/**
+ * The latest change to each module of a module tracker that is synced with other copies of it, such as on other
+ * computers, so that copies exchange only the changes the others have not seen, and merge them the same way.
+ *
+ * Each copy has a random id. Its version is a version vector: the greatest counter it has seen from each copy, so a
+ * change is new to a copy exactly when its counter is greater than that copy's count for the copy that made it. The
+ * version of every other copy, as of the last changes imported from it, is kept too, and an export holds the changes
+ * newer than the oldest of them, the last version all copies had in common. Changes are indexed by copy and counter,
+ * so exporting and importing take time in proportion to the changes exchanged.
+ */
+public class SyncLog {
+
+    /** Orders changes as they were stamped, so that exports list them deterministically. */
+    public static final Comparator<SyncEntry> STAMP_ORDER = Comparator.comparingLong(SyncEntry::getCounter)
+            .thenComparing(SyncEntry::getReplica);
+
+    private final String replica;
+    private long clock;
+    private final Map<List<Object>, SyncEntry> entries = new HashMap<>();
+    /** The identities of the modules whose latest change each copy made, by counter. */
+    private final Map<String, TreeMap<Long, List<Object>>> entriesByReplica = new HashMap<>();
+    private final Map<String, Long> versions = new HashMap<>();
+    private final Map<String, Map<String, Long>> peerVersions = new HashMap<>();
+
+    /**
+     * Creates an empty {@code SyncLog} for a copy with a new random id.
+     */
+    public SyncLog() {
+        this(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Creates an empty {@code SyncLog} for the copy {@code replica}.
+     */
+    public SyncLog(String replica) {
+        requireNonNull(replica);
+        this.replica = replica;
+    }
+
+    /**
+     * Restores a {@code SyncLog} of the copy {@code replica} with the given state.
+     */
+    public SyncLog(String replica, long clock, Map<String, Long> versions, Map<String, Map<String, Long>> peerVersions,
+            Collection<SyncEntry> entries) {
+        this(replica);
+        requireNonNull(versions);
+        requireNonNull(peerVersions);
+        requireNonNull(entries);
+        entries.forEach(this::put);
+        this.clock = Math.max(clock, this.clock);
+        versions.forEach(this::advanceVersion);
+        peerVersions.forEach((peer, version) -> this.peerVersions.put(peer, new HashMap<>(version)));
+    }
+
+    public String getReplica() {
+        return replica;
+    }
+
+    public long getClock() {
+        return clock;
+    }
+
+    public Map<String, Long> getVersions() {
+        return Map.copyOf(versions);
+    }
+
+    /**
+     * Returns the version of each other copy as of the last changes imported from it.
+     */
+    public Map<String, Map<String, Long>> getPeerVersions() {
+        Map<String, Map<String, Long>> copy = new HashMap<>();
+        peerVersions.forEach((peer, version) -> copy.put(peer, Map.copyOf(version)));
+        return copy;
+    }
+
+    public Collection<SyncEntry> getEntries() {
+        return List.copyOf(entries.values());
+    }
+
+    /**
+     * Stamps the changes that turned the modules last recorded or imported into {@code modules}, the modules of the
+     * module tracker now, as changes made by this copy. Returns the number of changes.
+     */
+    public int record(List<Module> modules) {
+        requireNonNull(modules);
+        int changes = 0;
+        Set<List<Object>> present = new HashSet<>();
+        for (Module module : modules) {
+            List<Object> identity = module.getIdentity();
+            present.add(identity);
+            SyncEntry entry = entries.get(identity);
+            if (entry == null || entry.isDeleted() || !entry.getModule().equals(module)) {
+                put(new SyncEntry(module, false, ++clock, replica));
+                changes++;
+            }
+        }
+        for (SyncEntry entry : List.copyOf(entries.values())) {
+            if (!entry.isDeleted() && !present.contains(entry.getIdentity())) {
+                put(new SyncEntry(entry.getModule(), true, ++clock, replica));
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the changes that not every other copy has seen, as far as this copy knows, or all changes if no other
+     * copy is known yet.
+     */
+    public SyncDelta export() {
+        Map<String, Long> common = getCommonVersion();
+        List<SyncEntry> newer = new ArrayList<>();
+        entriesByReplica.forEach((maker, identities) -> identities.tailMap(common.getOrDefault(maker, 0L), false)
+                .values().forEach(identity -> newer.add(entries.get(identity))));
+        newer.sort(STAMP_ORDER);
+        return new SyncDelta(replica, versions, newer);
+    }
+
+    /**
+     * Merges the changes of {@code delta} into this log and applies those that win over the changes known here to
+     * {@code model}, which must hold the modules last {@link #record recorded}, so that its own changes take part in
+     * the merge. Returns the winning changes, in the order of {@code delta}.
+     */
+    public List<SyncEntry> importDelta(SyncDelta delta, Model model) {
+        requireAllNonNull(delta, model);
+        if (delta.getReplica().equals(replica)) {
+            return List.of();
+        }
+        List<SyncEntry> winners = new ArrayList<>();
+        for (SyncEntry entry : delta.getEntries()) {
+            clock = Math.max(clock, entry.getCounter());
+            SyncEntry known = entries.get(entry.getIdentity());
+            if (known != null && !entry.isNewerThan(known)) {
+                continue;
+            }
+            put(entry);
+            winners.add(entry);
+            Module current = known == null || known.isDeleted() ? null : known.getModule();
+            if (current == null && !entry.isDeleted()) {
+                model.addModule(entry.getModule());
+            } else if (current != null && entry.isDeleted()) {
+                model.deleteModule(current);
+            } else if (current != null) {
+                model.setModule(current, entry.getModule());
+            }
+        }
+        delta.getVersions().forEach(this::advanceVersion);
+        peerVersions.put(delta.getReplica(), new HashMap<>(delta.getVersions()));
+        return winners;
+    }
+
+    /**
+     * Returns the component-wise least of the versions of the other copies; a copy missing from a version counts as
+     * never seen.
+     */
+    private Map<String, Long> getCommonVersion() {
+        Map<String, Long> common = null;
+        for (Map<String, Long> version : peerVersions.values()) {
+            if (common == null) {
+                common = new HashMap<>(version);
+            } else {
+                common.replaceAll((maker, counter) -> Math.min(counter, version.getOrDefault(maker, 0L)));
+            }
+        }
+        return common == null ? Map.of() : common;
+    }
+
+    private void put(SyncEntry entry) {
+        SyncEntry replaced = entries.put(entry.getIdentity(), entry);
+        if (replaced != null) {
+            entriesByReplica.get(replaced.getReplica()).remove(replaced.getCounter());
+        }
+        entriesByReplica.computeIfAbsent(entry.getReplica(), maker -> new TreeMap<>())
+                .put(entry.getCounter(), entry.getIdentity());
+        advanceVersion(entry.getReplica(), entry.getCounter());
+        clock = Math.max(clock, entry.getCounter());
+    }
+
+    private void advanceVersion(String maker, long counter) {
+        versions.merge(maker, counter, Math::max);
+    }
+}
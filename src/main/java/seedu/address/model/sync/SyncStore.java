@@ -0,0 +1,39 @@
+package seedu.address.model.sync;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Keeps the sync log of the open module tracker, beside its data file, and the files changes are exchanged through.
+ */
+public interface SyncStore {
+
+    /**
+     * Returns the sync log of the open module tracker, or a new one if it has never been synced.
+     * @throws DataConversionException if the sync log is not in the correct format.
+     * @throws IOException if there was any problem reading the sync log.
+     */
+    SyncLog readSyncLog() throws DataConversionException, IOException;
+
+    /**
+     * Saves {@code syncLog} as the sync log of the open module tracker.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveSyncLog(SyncLog syncLog) throws IOException;
+
+    /**
+     * Returns the changes exported to {@code filePath}, or nothing if there is no such file.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IOException if there was any problem reading the file.
+     */
+    Optional<SyncDelta> readSyncDelta(Path filePath) throws DataConversionException, IOException;
+
+    /**
+     * Exports {@code delta} to {@code filePath}, replacing the file if there is one.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveSyncDelta(SyncDelta delta, Path filePath) throws IOException;
+}
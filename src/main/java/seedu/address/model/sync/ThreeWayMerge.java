@@ -0,0 +1,130 @@
+package seedu.address.model.sync;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.model.Model;
+import seedu.address.model.module.Module;
+
+/**
+ * The changes another copy of the module tracker made since a version both copies started from, worked out module by
+ * module and ready to be applied to this copy.
+ *
+ * Modules are matched by {@link Module#getIdentity() identity}. A module the other copy added, removed or edited is
+ * added, removed or edited here too, unless this copy changed it differently since the common version: such a module
+ * is a conflict, and this copy's version is kept.
+ * Guarantees: immutable.
+ */
+public class ThreeWayMerge {
+
+    private final List<Module> added;
+    private final List<Module> removed;
+    /** Pairs of this copy's module and the other copy's version of it. */
+    private final List<Module[]> edited;
+    private final List<Module> conflicts;
+
+    private ThreeWayMerge(List<Module> added, List<Module> removed, List<Module[]> edited, List<Module> conflicts) {
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.edited = Collections.unmodifiableList(edited);
+        this.conflicts = Collections.unmodifiableList(conflicts);
+    }
+
+    /**
+     * Returns the changes {@code remote} made since {@code base} that are to be applied to {@code local}, which also
+     * started from {@code base}. Takes time linear in the number of modules.
+     */
+    public static ThreeWayMerge of(List<Module> base, List<Module> local, List<Module> remote) {
+        requireAllNonNull(base, local, remote);
+        Map<List<Object>, Module> baseModules = index(base);
+        Map<List<Object>, Module> localModules = index(local);
+        Map<List<Object>, Module> remoteModules = index(remote);
+        // Modules only this copy has are neither in base nor in remote, and are left alone.
+        Set<List<Object>> identities = new LinkedHashSet<>(baseModules.keySet());
+        identities.addAll(remoteModules.keySet());
+
+        List<Module> added = new ArrayList<>();
+        List<Module> removed = new ArrayList<>();
+        List<Module[]> edited = new ArrayList<>();
+        List<Module> conflicts = new ArrayList<>();
+        for (List<Object> identity : identities) {
+            Module baseModule = baseModules.get(identity);
+            Module localModule = localModules.get(identity);
+            Module remoteModule = remoteModules.get(identity);
+            if (Objects.equals(baseModule, remoteModule) || Objects.equals(localModule, remoteModule)) {
+                // unchanged there, or changed the same way in both copies
+                continue;
+            }
+            if (!Objects.equals(baseModule, localModule)) {
+                conflicts.add(localModule != null ? localModule : remoteModule);
+            } else if (remoteModule == null) {
+                removed.add(localModule);
+            } else if (localModule == null) {
+                added.add(remoteModule);
+            } else {
+                edited.add(new Module[] {localModule, remoteModule});
+            }
+        }
+        return new ThreeWayMerge(added, removed, edited, conflicts);
+    }
+
+    /**
+     * Applies the changes to {@code model}, which must hold the local modules, and commits them as one change that
+     * can be undone. Conflicts are left as they are in {@code model}.
+     */
+    public void applyTo(Model model) {
+        if (isEmpty()) {
+            return;
+        }
+        removed.forEach(model::deleteModule);
+        edited.forEach(pair -> model.setModule(pair[0], pair[1]));
+        added.forEach(model::addModule);
+        model.commitModuleTracker();
+    }
+
+    /**
+     * Returns true if there are no changes to apply.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && edited.isEmpty();
+    }
+
+    public List<Module> getAdded() {
+        return added;
+    }
+
+    public List<Module> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the other copy's versions of the modules it edited.
+     */
+    public List<Module> getEdited() {
+        List<Module> remoteVersions = new ArrayList<>();
+        edited.forEach(pair -> remoteVersions.add(pair[1]));
+        return remoteVersions;
+    }
+
+    /**
+     * Returns this copy's versions of the modules both copies changed differently, or the other copy's version if
+     * this copy removed the module.
+     */
+    public List<Module> getConflicts() {
+        return conflicts;
+    }
+
+    private static Map<List<Object>, Module> index(List<Module> modules) {
+        Map<List<Object>, Module> index = new LinkedHashMap<>();
+        modules.forEach(module -> index.put(module.getIdentity(), module));
+        return index;
+    }
+}
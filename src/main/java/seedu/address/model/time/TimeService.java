@@ -0,0 +1,176 @@
+package seedu.address.model.time;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ComparatorUtil;
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+
+/**
+ * Tells the time to the model, and keeps the sort orders that depend on it up to date as time passes.
+ *
+ * Sorting by timeslot orders modules by when their timeslot next starts, and sorting by deadline puts the deadlines
+ * that have passed after those still to come, so both orders change over time. Reading the clock on every comparison
+ * would let a sorted list fall out of order, so the orders are computed at a sort time instead, which only moves
+ * forward in {@link #advance}. The orders only change when a timeslot starts or a deadline passes: once started, the
+ * service wakes up once, at the earliest such boundary, and takes only the modules whose place changed there out of
+ * the module list and puts them back, for sorted lists to place them again.
+ *
+ * The sort time and module list are only used on the model's thread; the background thread only wakes it up.
+ */
+public class TimeService {
+
+    private static final Logger logger = LogsCenter.getLogger(TimeService.class);
+
+    private final ModuleTracker moduleTracker;
+    private final Clock clock;
+    private final ListChangeListener<Module> updater = change -> rescheduleWakeUp();
+    private LocalDateTime sortTime;
+    private boolean isAdvancing;
+
+    private Executor modelThread;
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> wakeUp;
+    private LocalDateTime wakeUpTime;
+
+    /**
+     * Creates a {@code TimeService} for the modules in {@code moduleTracker} that reads the time from {@code clock}.
+     * The sort time starts at the current time.
+     */
+    public TimeService(ModuleTracker moduleTracker, Clock clock) {
+        requireAllNonNull(moduleTracker, clock);
+        this.moduleTracker = moduleTracker;
+        this.clock = clock;
+        this.sortTime = now();
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Returns the current time.
+     */
+    public LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    /**
+     * Returns the time the sort orders are computed at.
+     */
+    public LocalDateTime getSortTime() {
+        return sortTime;
+    }
+
+    /**
+     * Returns the order {@code comparator} stands for at the sort time, following the sort time as it moves.
+     *
+     * @see ComparatorUtil#atTime
+     */
+    public Comparator<Module> atSortTime(Comparator<Module> comparator) {
+        return ComparatorUtil.atTime(comparator, this::getSortTime);
+    }
+
+    /**
+     * Returns the first time after the sort time at which a timeslot starts or a deadline passes, or null if there
+     * is none.
+     */
+    public LocalDateTime getNextBoundary() {
+        return moduleTracker.getNextEventAfter(sortTime);
+    }
+
+    /**
+     * Moves the sort time forward to the current time, taking the modules whose timeslot started or whose deadline
+     * passed in between out of the module list and putting them back.
+     */
+    public void advance() {
+        LocalDateTime now = now();
+        if (now.isAfter(sortTime)) {
+            List<Module> moved = moduleTracker.getModulesWithEventBetween(sortTime, now);
+            isAdvancing = true;
+            try {
+                moduleTracker.reinsertModules(moved, () -> sortTime = now);
+            } finally {
+                isAdvancing = false;
+            }
+            if (!moved.isEmpty()) {
+                logger.fine("Repositioned " + moved.size() + " modules at " + now);
+            }
+        }
+        rescheduleWakeUp();
+    }
+
+    /**
+     * Starts waking up at each boundary on a background thread of its own, to advance on {@code modelThread}.
+     */
+    public void start(Executor modelThread) {
+        start(modelThread, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "clock");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Starts waking up at each boundary on {@code executor}, to advance on {@code modelThread}.
+     */
+    void start(Executor modelThread, ScheduledExecutorService executor) {
+        requireAllNonNull(modelThread, executor);
+        this.modelThread = modelThread;
+        this.executor = executor;
+        moduleTracker.getModuleList().addListener(updater);
+        advance();
+    }
+
+    /**
+     * Stops waking up and shuts down the background thread, if started.
+     */
+    public void stop() {
+        if (executor == null) {
+            return;
+        }
+        moduleTracker.getModuleList().removeListener(updater);
+        executor.shutdownNow();
+    }
+
+    /** Makes sure the background thread wakes up at the next boundary, and only then. */
+    private void rescheduleWakeUp() {
+        if (executor == null || executor.isShutdown() || isAdvancing) {
+            return;
+        }
+        LocalDateTime next = getNextBoundary();
+        if (Objects.equals(next, wakeUpTime)) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+            wakeUp = null;
+        }
+        wakeUpTime = next;
+        if (next != null) {
+            long delay = Math.max(0, Duration.between(now(), next).toMillis());
+            wakeUp = executor.schedule(() -> modelThread.execute(this::onWakeUp), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void onWakeUp() {
+        wakeUp = null;
+        wakeUpTime = null;
+        advance();
+    }
+}
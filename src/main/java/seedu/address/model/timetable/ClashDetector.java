@@ -0,0 +1,106 @@
+package seedu.address.model.timetable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.module.TimeSlots;
+
+/**
+ * Finds the clashes in a timetable by sweeping over the start and end times of the week in order.
+ *
+ * A timeslot covers its start time up to, but not including, its end time, so a module ending at 14:00 does not
+ * clash with one starting at 14:00. Each timeslot of a module takes part on its own; as the timeslots of one module
+ * never overlap, a module never clashes with itself. Times are minutes of the week, so sorting them costs
+ * O(n log n) for n timeslots without creating objects; the sweep itself is linear in the number of timeslots plus
+ * the size of the clashes reported.
+ */
+public class ClashDetector {
+
+    // ends sort before starts at the same minute, so touching timeslots do not clash
+    private static final Comparator<Event> EVENT_ORDER = Comparator.comparingInt(event -> event.key);
+
+    private ClashDetector() {}
+
+    /**
+     * Returns every period during which at least two of {@code modules} take place at once, by day and then by
+     * start time. Modules without a timeslot are ignored.
+     */
+    public static List<ClashGroup> findClashes(Collection<Module> modules) {
+        requireNonNull(modules);
+        List<Event> events = new ArrayList<>();
+        for (Module module : modules) {
+            TimeSlots timeSlots = module.getTimeSlots();
+            for (int i = 0; i < timeSlots.size(); i++) {
+                events.add(new Event(timeSlots.getStart(i), true, module));
+                events.add(new Event(timeSlots.getEnd(i), false, module));
+            }
+        }
+
+        List<ClashGroup> clashes = new ArrayList<>();
+        sweep(events, clashes);
+        return clashes;
+    }
+
+    private static void sweep(List<Event> events, List<ClashGroup> clashes) {
+        events.sort(EVENT_ORDER);
+        Set<Module> ongoing = new LinkedHashSet<>();
+        List<Module> clashing = null;
+        int clashStart = 0;
+        for (Event event : events) {
+            if (event.isStart()) {
+                ongoing.add(event.module);
+                if (clashing != null) {
+                    if (!clashing.contains(event.module)) {
+                        clashing.add(event.module);
+                    }
+                } else if (ongoing.size() > 1) {
+                    clashing = new ArrayList<>(ongoing);
+                    clashStart = event.minute();
+                }
+            } else {
+                ongoing.remove(event.module);
+                if (clashing != null && ongoing.size() < 2) {
+                    clashes.add(new ClashGroup(dayOf(clashStart), timeOf(clashStart), timeOf(event.minute()),
+                            clashing));
+                    clashing = null;
+                }
+            }
+        }
+    }
+
+    private static DayOfWeek dayOf(int minuteOfWeek) {
+        return DayOfWeek.of(minuteOfWeek / WeekOccupancy.MINUTES_PER_DAY + 1);
+    }
+
+    private static LocalTime timeOf(int minuteOfWeek) {
+        return LocalTime.ofSecondOfDay(minuteOfWeek % WeekOccupancy.MINUTES_PER_DAY * 60L);
+    }
+
+    private static class Event {
+        /** The minute of the week, doubled, plus one for a start. */
+        private final int key;
+        private final Module module;
+
+        Event(int minute, boolean isStart, Module module) {
+            this.key = minute * 2 + (isStart ? 1 : 0);
+            this.module = module;
+        }
+
+        int minute() {
+            return key / 2;
+        }
+
+        boolean isStart() {
+            return key % 2 == 1;
+        }
+    }
+}
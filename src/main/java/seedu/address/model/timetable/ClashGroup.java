@@ -0,0 +1,74 @@
+package seedu.address.model.timetable;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.TextStyle;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import seedu.address.model.module.Module;
+
+/**
+ * A period of a day during which at least two modules take place at once, with every module taking place during it.
+ * Guarantees: immutable.
+ */
+public class ClashGroup {
+
+    private final DayOfWeek day;
+    private final LocalTime start;
+    private final LocalTime end;
+    private final List<Module> modules;
+
+    /**
+     * Constructs a {@code ClashGroup} from {@code start} to {@code end} on {@code day}.
+     */
+    public ClashGroup(DayOfWeek day, LocalTime start, LocalTime end, List<Module> modules) {
+        requireAllNonNull(day, start, end, modules);
+        this.day = day;
+        this.start = start;
+        this.end = end;
+        this.modules = Collections.unmodifiableList(modules);
+    }
+
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    public LocalTime getStart() {
+        return start;
+    }
+
+    public LocalTime getEnd() {
+        return end;
+    }
+
+    /** Returns the modules taking place during the clash, in the order they start. */
+    public List<Module> getModules() {
+        return modules;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClashGroup // instanceof handles nulls
+                && day == ((ClashGroup) other).day
+                && start.equals(((ClashGroup) other).start)
+                && end.equals(((ClashGroup) other).end)
+                && modules.equals(((ClashGroup) other).modules)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return modules.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return day.getDisplayName(TextStyle.FULL, Locale.ENGLISH) + " " + start + "-" + end + ": "
+                + modules.stream().map(module -> module.getName().fullName).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.timetable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.format.TextStyle;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A period of a day during which no module takes place, in minutes from the start of the day.
+ * The end may be 1440, which stands for midnight at the end of the day.
+ * Guarantees: immutable.
+ */
+public class FreePeriod {
+
+    private final DayOfWeek day;
+    private final int startMinute;
+    private final int endMinute;
+
+    /**
+     * Constructs a {@code FreePeriod} from minute {@code startMinute} up to minute {@code endMinute} of {@code day}.
+     */
+    public FreePeriod(DayOfWeek day, int startMinute, int endMinute) {
+        requireNonNull(day);
+        assert 0 <= startMinute && startMinute < endMinute && endMinute <= WeekOccupancy.MINUTES_PER_DAY;
+        this.day = day;
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+    }
+
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    public int getEndMinute() {
+        return endMinute;
+    }
+
+    /** Returns the length of the period in minutes. */
+    public int getLength() {
+        return endMinute - startMinute;
+    }
+
+    /**
+     * Returns {@code minute} of the day as HH:MM, with 1440 as 24:00.
+     */
+    public static String formatMinute(int minute) {
+        return String.format("%02d:%02d", minute / 60, minute % 60);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FreePeriod // instanceof handles nulls
+                && day == ((FreePeriod) other).day
+                && startMinute == ((FreePeriod) other).startMinute
+                && endMinute == ((FreePeriod) other).endMinute); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, startMinute, endMinute);
+    }
+
+    @Override
+    public String toString() {
+        return day.getDisplayName(TextStyle.FULL, Locale.ENGLISH) + " " + formatMinute(startMinute) + "-"
+                + formatMinute(endMinute);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.timetable;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+import seedu.address.model.module.Module;
+
+/**
+ * One dated lesson of a module, from the start to the end of its timeslot on a given day.
+ * Guarantees: immutable.
+ */
+public class Occurrence {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("EEE d MMM yyyy HH:mm");
+
+    private final Module module;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Constructs an {@code Occurrence} of {@code module} from {@code start} to {@code end}.
+     */
+    public Occurrence(Module module, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(module, start, end);
+        this.module = module;
+        this.start = start;
+        this.end = end;
+    }
+
+    public Module getModule() {
+        return module;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Occurrence // instanceof handles nulls
+                && module.equals(((Occurrence) other).module)
+                && start.equals(((Occurrence) other).start)
+                && end.equals(((Occurrence) other).end)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(module, start, end);
+    }
+
+    /**
+     * Returns the date and times of this occurrence, followed by the module.
+     */
+    @Override
+    public String toString() {
+        return FORMATTER.format(start) + "-" + end.toLocalTime() + ": " + module.getLabel();
+    }
+}
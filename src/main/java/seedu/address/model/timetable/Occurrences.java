@@ -0,0 +1,162 @@
+package seedu.address.model.timetable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import seedu.address.model.module.Module;
+import seedu.address.model.module.TimeSlots;
+
+/**
+ * Generates the dated occurrences of weekly timeslots.
+ *
+ * Occurrences are generated lazily, one week at a time, so that a term is never laid out in full: the occurrences of
+ * a timeslot are an iterator over its recurrence, and those of many timeslots are merged by a k-way merge that only
+ * keeps the next occurrence of each timeslot in a priority queue.
+ */
+public class Occurrences {
+
+    /** Orders occurrences by start, then by module name, so that merging is deterministic. */
+    public static final Comparator<Occurrence> CHRONOLOGICAL = Comparator.comparing(Occurrence::getStart)
+            .thenComparing(occurrence -> occurrence.getModule().getName().fullName);
+
+    /**
+     * Returns the occurrences of the timeslots of {@code module} that start at or after {@code from}, earliest first.
+     * If {@code term} is not null, only its lessons are included, so there are finitely many; otherwise the timeslots
+     * recur every week without end. A module without a timeslot has no occurrences.
+     */
+    public static Iterator<Occurrence> of(Module module, Term term, LocalDateTime from) {
+        requireNonNull(module);
+        requireNonNull(from);
+        TimeSlots timeSlots = module.getTimeSlots();
+        if (term != null && from.toLocalDate().isBefore(term.getStartDate())) {
+            from = term.getStartDate().atStartOfDay();
+        }
+        List<Iterator<Occurrence>> recurrences = new ArrayList<>(timeSlots.size());
+        for (int i = 0; i < timeSlots.size(); i++) {
+            LocalTime startTime = timeSlots.getStartTime(i);
+            LocalDate first = from.toLocalDate().with(TemporalAdjusters.nextOrSame(timeSlots.getDay(i)));
+            if (first.atTime(startTime).isBefore(from)) {
+                first = first.plusWeeks(1);
+            }
+            recurrences.add(new RecurrenceIterator(module, term, first, startTime, timeSlots.getEndTime(i)));
+        }
+        return recurrences.size() == 1 ? recurrences.get(0) : merge(recurrences);
+    }
+
+    /**
+     * Returns the occurrences of all of {@code iterators}, each of which must be in {@link #CHRONOLOGICAL} order, in
+     * that order. The iterators are advanced only as far as needed.
+     */
+    public static Iterator<Occurrence> merge(Collection<Iterator<Occurrence>> iterators) {
+        requireNonNull(iterators);
+        return new MergingIterator(iterators);
+    }
+
+    /**
+     * The weekly occurrences of one timeslot of a module from a given date, skipping the dates without lessons.
+     */
+    private static class RecurrenceIterator implements Iterator<Occurrence> {
+        private final Module module;
+        private final Term term;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+        private LocalDate next;
+
+        RecurrenceIterator(Module module, Term term, LocalDate first, LocalTime startTime, LocalTime endTime) {
+            this.module = module;
+            this.term = term;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.next = first;
+            skipDatesWithoutLessons();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Occurrence next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Occurrence occurrence = new Occurrence(module, next.atTime(startTime), next.atTime(endTime));
+            next = next.plusWeeks(1);
+            skipDatesWithoutLessons();
+            return occurrence;
+        }
+
+        /** Moves on to the first date with lessons, or to null when the term has ended. */
+        private void skipDatesWithoutLessons() {
+            if (term == null) {
+                return;
+            }
+            while (!next.isAfter(term.getEndDate()) && !term.hasLessonsOn(next)) {
+                next = next.plusWeeks(1);
+            }
+            if (next.isAfter(term.getEndDate())) {
+                next = null;
+            }
+        }
+    }
+
+    /**
+     * A k-way merge: the next occurrence of each iterator waits in a priority queue, and taking the earliest one
+     * replaces it with the following occurrence of the same iterator.
+     */
+    private static class MergingIterator implements Iterator<Occurrence> {
+        private final PriorityQueue<Head> heads = new PriorityQueue<>();
+
+        MergingIterator(Collection<Iterator<Occurrence>> iterators) {
+            for (Iterator<Occurrence> iterator : iterators) {
+                if (iterator.hasNext()) {
+                    heads.add(new Head(iterator.next(), iterator));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public Occurrence next() {
+            Head head = heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            if (head.rest.hasNext()) {
+                heads.add(new Head(head.rest.next(), head.rest));
+            }
+            return head.occurrence;
+        }
+    }
+
+    private static class Head implements Comparable<Head> {
+        private final Occurrence occurrence;
+        private final Iterator<Occurrence> rest;
+
+        Head(Occurrence occurrence, Iterator<Occurrence> rest) {
+            this.occurrence = occurrence;
+            this.rest = rest;
+        }
+
+        @Override
+        public int compareTo(Head other) {
+            return CHRONOLOGICAL.compare(occurrence, other.occurrence);
+        }
+    }
+}
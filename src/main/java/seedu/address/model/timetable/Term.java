@@ -0,0 +1,138 @@
+package seedu.address.model.timetable;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * A teaching term: the dates on which the weekly timeslots of modules take place, from its first to its last day
+ * except during recess weeks and on holidays. Weeks are numbered from 1, starting with the week, from Monday to
+ * Sunday, that the term starts in.
+ * Guarantees: immutable; is valid as declared in {@link #isValidTerm}
+ */
+public class Term {
+
+    public static final String MESSAGE_CONSTRAINTS = "A term must not end before it starts, and its recess weeks "
+            + "must be between week 1 and the week it ends in.";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy");
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final List<Integer> recessWeeks;
+    private final List<LocalDate> holidays;
+
+    /**
+     * Constructs a one-day term without recess weeks or holidays. Used when reading user prefs.
+     */
+    public Term() {
+        this(LocalDate.of(2023, 1, 9), LocalDate.of(2023, 1, 9), Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Constructs a {@code Term} from {@code startDate} to {@code endDate}, both included.
+     *
+     * @param recessWeeks the numbers of the weeks without lessons.
+     * @param holidays the dates without lessons.
+     */
+    public Term(LocalDate startDate, LocalDate endDate, Collection<Integer> recessWeeks,
+            Collection<LocalDate> holidays) {
+        requireAllNonNull(startDate, endDate, recessWeeks, holidays);
+        checkArgument(isValidTerm(startDate, endDate, recessWeeks), MESSAGE_CONSTRAINTS);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.recessWeeks = Collections.unmodifiableList(new ArrayList<>(new TreeSet<>(recessWeeks)));
+        this.holidays = Collections.unmodifiableList(new ArrayList<>(new TreeSet<>(holidays)));
+    }
+
+    /**
+     * Returns true if a term from {@code startDate} to {@code endDate} can have {@code recessWeeks}.
+     */
+    public static boolean isValidTerm(LocalDate startDate, LocalDate endDate, Collection<Integer> recessWeeks) {
+        if (endDate.isBefore(startDate)) {
+            return false;
+        }
+        int lastWeek = weekOf(startDate, endDate);
+        return recessWeeks.stream().allMatch(week -> week >= 1 && week <= lastWeek);
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    /** Returns the numbers of the recess weeks, in ascending order. */
+    public List<Integer> getRecessWeeks() {
+        return recessWeeks;
+    }
+
+    /** Returns the holidays, earliest first. */
+    public List<LocalDate> getHolidays() {
+        return holidays;
+    }
+
+    /**
+     * Returns the number of the week {@code date} falls in. Dates before the term are in week 0 or earlier.
+     */
+    public int getWeek(LocalDate date) {
+        return weekOf(startDate, date);
+    }
+
+    /**
+     * Returns true if lessons take place on {@code date}.
+     */
+    public boolean hasLessonsOn(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate)
+                && !recessWeeks.contains(getWeek(date)) && !holidays.contains(date);
+    }
+
+    private static int weekOf(LocalDate startDate, LocalDate date) {
+        LocalDate firstMonday = startDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return (int) Math.floorDiv(ChronoUnit.DAYS.between(firstMonday, date), 7) + 1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Term // instanceof handles nulls
+                && startDate.equals(((Term) other).startDate)
+                && endDate.equals(((Term) other).endDate)
+                && recessWeeks.equals(((Term) other).recessWeeks)
+                && holidays.equals(((Term) other).holidays)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDate, endDate, recessWeeks, holidays);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(FORMATTER.format(startDate)).append(" to ")
+                .append(FORMATTER.format(endDate));
+        if (!recessWeeks.isEmpty()) {
+            builder.append(", recess in week ").append(recessWeeks.stream().map(String::valueOf)
+                    .collect(Collectors.joining(", ")));
+        }
+        if (!holidays.isEmpty()) {
+            builder.append(", holidays on ").append(holidays.stream().map(FORMATTER::format)
+                    .collect(Collectors.joining(", ")));
+        }
+        return builder.toString();
+    }
+}
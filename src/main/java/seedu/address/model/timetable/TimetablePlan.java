@@ -0,0 +1,95 @@
+package seedu.address.model.timetable;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.module.TimeSlot;
+
+/**
+ * A timetable found by a {@link TimetableSolver}: the timeslot chosen for each module, in the order the modules
+ * were given, and the pairs of modules that still clash.
+ * Guarantees: immutable.
+ */
+public class TimetablePlan {
+
+    private final List<TimeSlot> timeSlots;
+    private final List<Clash> clashes;
+    private final boolean isOptimal;
+    private final long branchesTried;
+
+    /**
+     * Constructs a {@code TimetablePlan}.
+     *
+     * @param isOptimal whether no timetable with fewer clashes exists, as opposed to none having been found in time.
+     */
+    public TimetablePlan(List<TimeSlot> timeSlots, List<Clash> clashes, boolean isOptimal, long branchesTried) {
+        requireAllNonNull(timeSlots, clashes);
+        this.timeSlots = Collections.unmodifiableList(timeSlots);
+        this.clashes = Collections.unmodifiableList(clashes);
+        this.isOptimal = isOptimal;
+        this.branchesTried = branchesTried;
+    }
+
+    /** Returns the timeslot chosen for each module. */
+    public List<TimeSlot> getTimeSlots() {
+        return timeSlots;
+    }
+
+    /** Returns the pairs of modules whose chosen timeslots clash, which is empty if the timetable is clash-free. */
+    public List<Clash> getClashes() {
+        return clashes;
+    }
+
+    public boolean isOptimal() {
+        return isOptimal;
+    }
+
+    public long getBranchesTried() {
+        return branchesTried;
+    }
+
+    /**
+     * Two modules, by their position in the list given to the solver, whose chosen timeslots clash.
+     */
+    public static class Clash {
+        private final int first;
+        private final int second;
+
+        /**
+         * Constructs a {@code Clash} between modules {@code first} and {@code second}.
+         */
+        public Clash(int first, int second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        public int getFirst() {
+            return first;
+        }
+
+        public int getSecond() {
+            return second;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Clash // instanceof handles nulls
+                    && first == ((Clash) other).first
+                    && second == ((Clash) other).second); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(first, second);
+        }
+
+        @Override
+        public String toString() {
+            return first + "-" + second;
+        }
+    }
+}
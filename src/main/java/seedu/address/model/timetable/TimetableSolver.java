@@ -0,0 +1,341 @@
+package seedu.address.model.timetable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.module.TimeSlot;
+
+/**
+ * Picks one timeslot for each of a number of modules from its candidates, so that as few pairs of modules clash as
+ * possible.
+ *
+ * Each candidate is given an index, and the candidates it clashes with are kept as a bitset over those indices, so
+ * the number of clashes a candidate has with the candidates chosen so far is a bitwise AND and a bit count per
+ * 64 candidates.
+ *
+ * A greedy pass gives a first timetable. Local repair, which keeps moving a clashing module to its least clashing
+ * candidate, then improves it for up to half of the time budget; this finds a clash-free timetable quickly when one
+ * exists. Finally, a depth-first branch and bound search looks for a better one. It always branches on the module
+ * with the highest lower bound on its clashes and, among equals, the fewest candidates that clash with nothing
+ * chosen yet; tries the candidates with the fewest clashes first; and abandons any branch whose clashes so far plus
+ * a lower bound for the remaining modules cannot beat the best timetable found. The search stops when it finds a
+ * timetable without clashes, when it has tried every branch, or when the time budget runs out, and returns the best
+ * timetable found.
+ */
+public class TimetableSolver {
+
+    /** How many branches to try between checks of the time budget. */
+    private static final int NODES_PER_CLOCK_CHECK = 256;
+    /** One in how many local repair moves is random rather than to the candidate with the fewest clashes. */
+    private static final int RANDOM_MOVE_ODDS = 10;
+    /** How many local repair moves per module may go by without a better timetable before giving up on them. */
+    private static final int STEPS_PER_MODULE_WITHOUT_IMPROVEMENT = 100;
+
+    private final int[][] candidatesOf;
+    private final int[] moduleOf;
+    private final TimeSlot[] timeSlots;
+    private final long[][] clashes;
+    /** The number of candidates of other modules each candidate clashes with, to try less constraining ones first. */
+    private final int[] degrees;
+    private final int words;
+
+    private final long[] chosen;
+    private final int[] choice;
+    private int[] bestChoice;
+    private int bestClashes = Integer.MAX_VALUE;
+    private long nodes;
+    private long deadline;
+    private boolean isOutOfTime;
+
+    /**
+     * Creates a solver for modules with the candidate timeslots {@code candidates}, one list per module.
+     * Every module must have at least one candidate, and no candidate may be empty.
+     */
+    public TimetableSolver(List<List<TimeSlot>> candidates) {
+        requireNonNull(candidates);
+        candidatesOf = new int[candidates.size()][];
+        List<TimeSlot> allTimeSlots = new ArrayList<>();
+        List<Integer> modules = new ArrayList<>();
+        for (int module = 0; module < candidates.size(); module++) {
+            List<TimeSlot> moduleCandidates = candidates.get(module);
+            if (moduleCandidates.isEmpty()) {
+                throw new IllegalArgumentException("Module " + module + " has no candidate timeslots");
+            }
+            candidatesOf[module] = new int[moduleCandidates.size()];
+            for (int i = 0; i < moduleCandidates.size(); i++) {
+                TimeSlot timeSlot = moduleCandidates.get(i);
+                if (timeSlot.getDay() == null) {
+                    throw new IllegalArgumentException("Module " + module + " has an empty candidate timeslot");
+                }
+                candidatesOf[module][i] = allTimeSlots.size();
+                allTimeSlots.add(timeSlot);
+                modules.add(module);
+            }
+        }
+        timeSlots = allTimeSlots.toArray(new TimeSlot[0]);
+        moduleOf = modules.stream().mapToInt(Integer::intValue).toArray();
+        words = (timeSlots.length + Long.SIZE - 1) / Long.SIZE;
+        clashes = new long[timeSlots.length][words];
+        degrees = new int[timeSlots.length];
+        findClashingCandidates();
+
+        chosen = new long[words];
+        choice = new int[candidatesOf.length];
+    }
+
+    /**
+     * Returns the timetable with the fewest clashes found within {@code budget}.
+     */
+    public TimetablePlan solve(Duration budget) {
+        requireNonNull(budget);
+        deadline = System.nanoTime() + budget.toNanos();
+        isOutOfTime = false;
+        nodes = 0;
+        bestClashes = Integer.MAX_VALUE;
+        Arrays.fill(chosen, 0);
+        Arrays.fill(choice, -1);
+
+        chooseGreedily();
+        if (bestClashes > 0) {
+            repairLocally(System.nanoTime() + budget.toNanos() / 2);
+        }
+        if (bestClashes > 0) {
+            Arrays.fill(chosen, 0);
+            Arrays.fill(choice, -1);
+            search(0, 0);
+        }
+
+        TimeSlot[] timetable = new TimeSlot[candidatesOf.length];
+        for (int module = 0; module < candidatesOf.length; module++) {
+            timetable[module] = timeSlots[bestChoice[module]];
+        }
+        boolean isOptimal = bestClashes == 0 || !isOutOfTime;
+        return new TimetablePlan(Arrays.asList(timetable), clashingPairs(bestChoice), isOptimal, nodes);
+    }
+
+    /**
+     * Fills {@link #clashes} by sorting the candidates by start and pairing each with the later starting ones that
+     * begin before it ends. Candidates of the same module never clash, as only one of them is chosen.
+     */
+    private void findClashingCandidates() {
+        Integer[] byStart = new Integer[timeSlots.length];
+        for (int i = 0; i < byStart.length; i++) {
+            byStart[i] = i;
+        }
+        Arrays.sort(byStart, Comparator.comparingInt(i -> startOf(timeSlots[i])));
+        for (int i = 0; i < byStart.length; i++) {
+            int first = byStart[i];
+            int end = endOf(timeSlots[first]);
+            for (int j = i + 1; j < byStart.length && startOf(timeSlots[byStart[j]]) < end; j++) {
+                int second = byStart[j];
+                if (moduleOf[first] != moduleOf[second]) {
+                    clashes[first][second / Long.SIZE] |= 1L << second;
+                    clashes[second][first / Long.SIZE] |= 1L << first;
+                    degrees[first]++;
+                    degrees[second]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Chooses a candidate for each module in turn, modules with fewer candidates first, taking the candidate that
+     * clashes least with those chosen before it. This gives the search a timetable to beat from the start.
+     */
+    private void chooseGreedily() {
+        Integer[] order = new Integer[candidatesOf.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(module -> candidatesOf[module].length));
+        int total = 0;
+        for (int module : order) {
+            int best = -1;
+            int bestCount = Integer.MAX_VALUE;
+            for (int candidate : candidatesOf[module]) {
+                int count = clashesWithChosen(candidate);
+                if (count < bestCount || count == bestCount && degrees[candidate] < degrees[best]) {
+                    best = candidate;
+                    bestCount = count;
+                }
+            }
+            choose(module, best);
+            total += bestCount;
+        }
+        record(total);
+    }
+
+    /**
+     * Improves the best timetable by moving one clashing module at a time to its candidate with the fewest clashes,
+     * or now and then to a random candidate to get out of dead ends, until there are no clashes, the moves stop
+     * finding better timetables, or {@code phaseDeadline} passes. The moves are random, but seeded, so the same
+     * input gives the same moves.
+     */
+    private void repairLocally(long phaseDeadline) {
+        Random random = new Random(candidatesOf.length);
+        int[] clashCounts = new int[candidatesOf.length];
+        List<Integer> clashing = new ArrayList<>();
+        long lastImprovement = 0;
+        for (long step = 0; step - lastImprovement < STEPS_PER_MODULE_WITHOUT_IMPROVEMENT * candidatesOf.length;
+                step++) {
+            if (step % NODES_PER_CLOCK_CHECK == 0 && System.nanoTime() - phaseDeadline > 0) {
+                break;
+            }
+            clashing.clear();
+            int total = 0;
+            for (int module = 0; module < candidatesOf.length; module++) {
+                clashCounts[module] = clashesWithChosen(choice[module]);
+                total += clashCounts[module];
+                if (clashCounts[module] > 0) {
+                    clashing.add(module);
+                }
+            }
+            total /= 2; // each clash is counted from both sides
+            if (total < bestClashes) {
+                lastImprovement = step;
+                record(total);
+                if (total == 0) {
+                    break;
+                }
+            }
+
+            int module = clashing.get(random.nextInt(clashing.size()));
+            int[] candidates = candidatesOf[module];
+            int current = choice[module];
+            unchoose(module, current);
+            int next = candidates[random.nextInt(candidates.length)];
+            if (random.nextInt(RANDOM_MOVE_ODDS) != 0) {
+                int fewest = Integer.MAX_VALUE;
+                int ties = 0;
+                for (int candidate : candidates) {
+                    int count = clashesWithChosen(candidate);
+                    if (count < fewest) {
+                        fewest = count;
+                        next = candidate;
+                        ties = 1;
+                    } else if (count == fewest && random.nextInt(++ties) == 0) {
+                        next = candidate;
+                    }
+                }
+            }
+            choose(module, next);
+        }
+    }
+
+    private void search(int assigned, int clashesSoFar) {
+        if (bestClashes == 0 || isOutOfTime()) {
+            return;
+        }
+        if (assigned == candidatesOf.length) {
+            if (clashesSoFar < bestClashes) {
+                record(clashesSoFar);
+            }
+            return;
+        }
+
+        // pick the module to branch on, and bound the clashes still to come from below
+        int lowerBound = clashesSoFar;
+        int branchModule = -1;
+        int branchMinimum = -1;
+        int branchFreeCount = Integer.MAX_VALUE;
+        for (int module = 0; module < candidatesOf.length; module++) {
+            if (choice[module] >= 0) {
+                continue;
+            }
+            int minimum = Integer.MAX_VALUE;
+            int freeCount = 0;
+            for (int candidate : candidatesOf[module]) {
+                int count = clashesWithChosen(candidate);
+                minimum = Math.min(minimum, count);
+                freeCount += count == 0 ? 1 : 0;
+            }
+            lowerBound += minimum;
+            if (minimum > branchMinimum || minimum == branchMinimum && freeCount < branchFreeCount) {
+                branchModule = module;
+                branchMinimum = minimum;
+                branchFreeCount = freeCount;
+            }
+        }
+        if (lowerBound >= bestClashes) {
+            return;
+        }
+
+        int[] candidates = candidatesOf[branchModule];
+        int[][] ordered = new int[candidates.length][];
+        for (int i = 0; i < candidates.length; i++) {
+            ordered[i] = new int[] {candidates[i], clashesWithChosen(candidates[i])};
+        }
+        Arrays.sort(ordered, Comparator.<int[]>comparingInt(entry -> entry[1])
+                .thenComparingInt(entry -> degrees[entry[0]]));
+        for (int[] entry : ordered) {
+            nodes++;
+            choose(branchModule, entry[0]);
+            search(assigned + 1, clashesSoFar + entry[1]);
+            unchoose(branchModule, entry[0]);
+            if (bestClashes == 0 || isOutOfTime) {
+                return;
+            }
+        }
+    }
+
+    private int clashesWithChosen(int candidate) {
+        long[] candidateClashes = clashes[candidate];
+        int count = 0;
+        for (int i = 0; i < words; i++) {
+            count += Long.bitCount(candidateClashes[i] & chosen[i]);
+        }
+        return count;
+    }
+
+    private void choose(int module, int candidate) {
+        choice[module] = candidate;
+        chosen[candidate / Long.SIZE] |= 1L << candidate;
+    }
+
+    private void unchoose(int module, int candidate) {
+        choice[module] = -1;
+        chosen[candidate / Long.SIZE] &= ~(1L << candidate);
+    }
+
+    private void record(int clashCount) {
+        bestClashes = clashCount;
+        bestChoice = choice.clone();
+    }
+
+    private boolean isOutOfTime() {
+        if (!isOutOfTime && nodes % NODES_PER_CLOCK_CHECK == 0) {
+            isOutOfTime = System.nanoTime() - deadline > 0;
+        }
+        return isOutOfTime;
+    }
+
+    private List<TimetablePlan.Clash> clashingPairs(int[] timetable) {
+        List<TimetablePlan.Clash> pairs = new ArrayList<>();
+        for (int first = 0; first < timetable.length; first++) {
+            long[] firstClashes = clashes[timetable[first]];
+            for (int second = first + 1; second < timetable.length; second++) {
+                int candidate = timetable[second];
+                if ((firstClashes[candidate / Long.SIZE] & (1L << candidate)) != 0) {
+                    pairs.add(new TimetablePlan.Clash(first, second));
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private static int startOf(TimeSlot timeSlot) {
+        return (timeSlot.getDay().getValue() - 1) * WeekOccupancy.MINUTES_PER_DAY
+                + timeSlot.getStartTime().toSecondOfDay() / 60;
+    }
+
+    private static int endOf(TimeSlot timeSlot) {
+        return (timeSlot.getDay().getValue() - 1) * WeekOccupancy.MINUTES_PER_DAY
+                + timeSlot.getEndTime().toSecondOfDay() / 60;
+    }
+}
@@ -0,0 +1,180 @@
+package seedu.address.model.timetable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.model.module.TimeSlot;
+import seedu.address.model.module.TimeSlots;
+
+/**
+ * The minutes of the week taken up by timeslots, as one bit per minute from Monday 00:00 to Sunday 23:59.
+ *
+ * Timeslots are added and removed one at a time as modules change. A bit stays set while any timeslot covers its
+ * minute, which is tracked by a count per minute. Free periods are found by scanning the bits 64 minutes at a
+ * time, skipping whole words that are all taken or all free, so the cost does not depend on the number of modules.
+ */
+public class WeekOccupancy {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private static final int WORD_BITS = Long.SIZE;
+
+    private final long[] words = new long[(MINUTES_PER_WEEK + WORD_BITS - 1) / WORD_BITS];
+    private final int[] counts = new int[MINUTES_PER_WEEK];
+
+    /**
+     * Marks the minutes of {@code timeSlot} as taken. Empty timeslots are ignored.
+     */
+    public void add(TimeSlot timeSlot) {
+        requireNonNull(timeSlot);
+        if (timeSlot.getDay() == null) {
+            return;
+        }
+        takeRange(timeSlot.getStartMinuteOfWeek(), timeSlot.getEndMinuteOfWeek());
+    }
+
+    /**
+     * Frees the minutes of {@code timeSlot} not taken by another timeslot. {@code timeSlot} must have been added.
+     */
+    public void remove(TimeSlot timeSlot) {
+        requireNonNull(timeSlot);
+        if (timeSlot.getDay() == null) {
+            return;
+        }
+        freeRange(timeSlot.getStartMinuteOfWeek(), timeSlot.getEndMinuteOfWeek());
+    }
+
+    /**
+     * Marks the minutes of each of {@code timeSlots} as taken.
+     */
+    public void add(TimeSlots timeSlots) {
+        requireNonNull(timeSlots);
+        for (int i = 0; i < timeSlots.size(); i++) {
+            takeRange(timeSlots.getStart(i), timeSlots.getEnd(i));
+        }
+    }
+
+    /**
+     * Frees the minutes of each of {@code timeSlots} not taken by another timeslot. {@code timeSlots} must have been
+     * added.
+     */
+    public void remove(TimeSlots timeSlots) {
+        requireNonNull(timeSlots);
+        for (int i = 0; i < timeSlots.size(); i++) {
+            freeRange(timeSlots.getStart(i), timeSlots.getEnd(i));
+        }
+    }
+
+    /**
+     * Frees every minute.
+     */
+    public void clear() {
+        Arrays.fill(words, 0);
+        Arrays.fill(counts, 0);
+    }
+
+    /**
+     * Returns true if minute {@code minuteOfDay} of {@code day} is taken by a timeslot.
+     */
+    public boolean isTaken(DayOfWeek day, int minuteOfDay) {
+        int minute = minuteOfWeek(day, minuteOfDay);
+        return (words[minute / WORD_BITS] & (1L << minute)) != 0;
+    }
+
+    /**
+     * Returns the free periods of at least {@code minLength} minutes between minute {@code fromMinute} and minute
+     * {@code toMinute} of each day, from Monday to Sunday. Periods are cut off at {@code fromMinute} and
+     * {@code toMinute}, which must satisfy {@code 0 <= fromMinute < toMinute <= 1440}.
+     */
+    public List<FreePeriod> findFreePeriods(int minLength, int fromMinute, int toMinute) {
+        assert 0 <= fromMinute && fromMinute < toMinute && toMinute <= MINUTES_PER_DAY;
+        List<FreePeriod> periods = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            int dayStart = minuteOfWeek(day, 0);
+            int limit = dayStart + toMinute;
+            int start = nextClear(dayStart + fromMinute, limit);
+            while (start < limit) {
+                int end = nextSet(start, limit);
+                if (end - start >= Math.max(minLength, 1)) {
+                    periods.add(new FreePeriod(day, start - dayStart, end - dayStart));
+                }
+                start = nextClear(end, limit);
+            }
+        }
+        return periods;
+    }
+
+    private static int minuteOfWeek(DayOfWeek day, int minuteOfDay) {
+        return (day.getValue() - 1) * MINUTES_PER_DAY + minuteOfDay;
+    }
+
+    private void takeRange(int from, int to) {
+        for (int minute = from; minute < to; minute++) {
+            counts[minute]++;
+        }
+        setRange(from, to);
+    }
+
+    private void freeRange(int from, int to) {
+        for (int minute = from; minute < to; minute++) {
+            assert counts[minute] > 0 : "Removing a timeslot that was not added";
+            if (--counts[minute] == 0) {
+                words[minute / WORD_BITS] &= ~(1L << minute);
+            }
+        }
+    }
+
+    private void setRange(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int firstWord = from / WORD_BITS;
+        int lastWord = (to - 1) / WORD_BITS;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            words[i] = -1L;
+        }
+        words[lastWord] |= lastMask;
+    }
+
+    /** Returns the first taken minute from {@code from}, or {@code limit} if there is none before it. */
+    private int nextSet(int from, int limit) {
+        return nextBit(from, limit, 0L);
+    }
+
+    /** Returns the first free minute from {@code from}, or {@code limit} if there is none before it. */
+    private int nextClear(int from, int limit) {
+        return nextBit(from, limit, -1L);
+    }
+
+    /**
+     * Returns the first minute from {@code from} whose bit differs from the bits of {@code skipped}, looking at a
+     * whole word at a time, or {@code limit} if there is none before it.
+     */
+    private int nextBit(int from, int limit, long skipped) {
+        if (from >= limit) {
+            return limit;
+        }
+        int wordIndex = from / WORD_BITS;
+        long word = (words[wordIndex] ^ skipped) & (-1L << from);
+        while (word == 0) {
+            wordIndex++;
+            if (wordIndex * WORD_BITS >= limit) {
+                return limit;
+            }
+            word = words[wordIndex] ^ skipped;
+        }
+        return Math.min(limit, wordIndex * WORD_BITS + Long.numberOfTrailingZeros(word));
+    }
+}
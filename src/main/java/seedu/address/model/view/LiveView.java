@@ -0,0 +1,182 @@
+package seedu.address.model.view;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.module.Module;
+
+/**
+ * The modules of a source list that match a predicate, in the order of a comparator, kept up to date as the
+ * source changes.
+ *
+ * The list is filtered and sorted once when the view is created. After that, each change to the source only
+ * inserts, removes or moves the modules it touches: a module is placed by binary search on the comparator, or
+ * next to its nearest preceding member in the source when there is no comparator. Changes that touch more than
+ * half of the source are cheaper to apply by filtering and sorting again, and are handled that way.
+ */
+public class LiveView {
+
+    private final ObservableList<Module> source;
+    private final Predicate<Module> predicate;
+    private final Comparator<Module> comparator;
+    private final ObservableList<Module> modules = FXCollections.observableArrayList();
+    private final ObservableList<Module> unmodifiableModules = FXCollections.unmodifiableObservableList(modules);
+    private final Set<Module> members = new HashSet<>();
+    private final ListChangeListener<Module> updater = this::update;
+
+    /**
+     * Creates a view of the modules in {@code source} matching {@code predicate}, sorted by {@code comparator}, or
+     * in source order if {@code comparator} is null.
+     */
+    public LiveView(ObservableList<Module> source, Predicate<Module> predicate, Comparator<Module> comparator) {
+        requireAllNonNull(source, predicate);
+        this.source = source;
+        this.predicate = predicate;
+        this.comparator = comparator;
+        rebuild();
+        source.addListener(updater);
+    }
+
+    /** Returns an unmodifiable view of the matching modules, which reports each change as it happens. */
+    public ObservableList<Module> getModules() {
+        return unmodifiableModules;
+    }
+
+    public Predicate<Module> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Stops following the source. The view must not be used afterwards.
+     */
+    public void close() {
+        source.removeListener(updater);
+    }
+
+    private void update(ListChangeListener.Change<? extends Module> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // modules are immutable and the order of a sorted view does not depend on the source order
+                if (comparator == null && change.wasPermutated()) {
+                    rebuild();
+                    return;
+                }
+                continue;
+            }
+            if (change.getRemovedSize() + change.getAddedSize() > source.size() / 2 + 1) {
+                rebuild();
+                return;
+            }
+            change.getRemoved().forEach(this::removeModule);
+            List<? extends Module> added = change.getAddedSubList();
+            for (int i = 0; i < added.size(); i++) {
+                if (!insertModule(added.get(i), change.getFrom() + i)) {
+                    rebuild();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void rebuild() {
+        List<Module> matching = new ArrayList<>();
+        for (Module module : source) {
+            if (predicate.test(module)) {
+                matching.add(module);
+            }
+        }
+        if (comparator != null) {
+            matching.sort(comparator);
+        }
+        members.clear();
+        members.addAll(matching);
+        modules.setAll(matching);
+    }
+
+    private void removeModule(Module module) {
+        if (!members.remove(module)) {
+            return;
+        }
+        int index = comparator == null ? modules.lastIndexOf(module) : indexOf(module);
+        modules.remove(index);
+    }
+
+    /**
+     * Inserts {@code module}, found at {@code sourceIndex} in the source, if it matches.
+     * Returns false if the view could not place it and must be rebuilt.
+     */
+    private boolean insertModule(Module module, int sourceIndex) {
+        if (!predicate.test(module)) {
+            return true;
+        }
+        int index;
+        if (comparator != null) {
+            index = upperBound(module);
+        } else if (sourceIndex < source.size() && source.get(sourceIndex) == module) {
+            index = positionAfterPredecessor(sourceIndex);
+        } else {
+            return false;
+        }
+        members.add(module);
+        modules.add(index, module);
+        return true;
+    }
+
+    /** Returns the position just after the nearest module before {@code sourceIndex} in the source that is shown. */
+    private int positionAfterPredecessor(int sourceIndex) {
+        for (int i = sourceIndex - 1; i >= 0; i--) {
+            Module predecessor = source.get(i);
+            if (members.contains(predecessor)) {
+                return modules.lastIndexOf(predecessor) + 1;
+            }
+        }
+        return 0;
+    }
+
+    /** Returns the index of {@code module} in the sorted list, which must contain it. */
+    private int indexOf(Module module) {
+        for (int i = lowerBound(module); i < modules.size(); i++) {
+            if (modules.get(i).equals(module)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Module missing from view: " + module);
+    }
+
+    private int lowerBound(Module module) {
+        int low = 0;
+        int high = modules.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(modules.get(middle), module) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(Module module) {
+        int low = 0;
+        int high = modules.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(modules.get(middle), module) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
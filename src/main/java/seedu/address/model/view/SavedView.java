@@ -0,0 +1,80 @@
+package seedu.address.model.view;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * A named combination of a {@code find} query and a sort order, kept in the user prefs.
+ * Guarantees: immutable.
+ */
+public class SavedView {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "View names should only contain letters, digits, - and _, and should not be blank";
+    public static final String VALIDATION_REGEX = "[\\p{Alnum}_-]+";
+
+    private final String query;
+    private final String sortKey;
+
+    /**
+     * Constructs a {@code SavedView} showing all modules in the order they were added. Used when reading user prefs.
+     */
+    public SavedView() {
+        this("", "");
+    }
+
+    /**
+     * Constructs a {@code SavedView}.
+     *
+     * @param query the text of a {@code find} query, or an empty string for all modules.
+     * @param sortKey the keyword of a {@code sort} order, or an empty string for the order modules were added in.
+     */
+    public SavedView(String query, String sortKey) {
+        requireNonNull(query);
+        requireNonNull(sortKey);
+        this.query = query;
+        this.sortKey = sortKey;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid view name.
+     */
+    public static boolean isValidName(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    /**
+     * Returns a copy of this view sorted by {@code sortKey} instead.
+     */
+    public SavedView withSortKey(String sortKey) {
+        return new SavedView(query, sortKey);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SavedView // instanceof handles nulls
+                && query.equals(((SavedView) other).query)
+                && sortKey.equals(((SavedView) other).sortKey)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, sortKey);
+    }
+
+    @Override
+    public String toString() {
+        String filter = query.isEmpty() ? "all modules" : query;
+        return sortKey.isEmpty() ? filter : filter + ", sorted by " + sortKey;
+    }
+}
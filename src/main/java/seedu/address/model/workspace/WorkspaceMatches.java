@@ -0,0 +1,78 @@
+package seedu.address.model.workspace;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.module.Module;
+
+/**
+ * The modules of one workspace that matched a search, or why the workspace could not be searched.
+ * Guarantees: immutable.
+ */
+public class WorkspaceMatches {
+
+    private final String workspace;
+    private final List<Module> modules;
+    private final String error;
+
+    private WorkspaceMatches(String workspace, List<Module> modules, String error) {
+        this.workspace = workspace;
+        this.modules = modules;
+        this.error = error;
+    }
+
+    /**
+     * Returns the {@code modules} of {@code workspace} that matched.
+     */
+    public static WorkspaceMatches of(String workspace, List<Module> modules) {
+        requireNonNull(workspace);
+        requireNonNull(modules);
+        return new WorkspaceMatches(workspace, List.copyOf(modules), null);
+    }
+
+    /**
+     * Returns that {@code workspace} could not be searched because of {@code error}.
+     */
+    public static WorkspaceMatches failed(String workspace, String error) {
+        requireNonNull(workspace);
+        requireNonNull(error);
+        return new WorkspaceMatches(workspace, List.of(), error);
+    }
+
+    public String getWorkspace() {
+        return workspace;
+    }
+
+    public List<Module> getModules() {
+        return modules;
+    }
+
+    /**
+     * Returns why the workspace could not be searched, if it could not.
+     */
+    public Optional<String> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WorkspaceMatches // instanceof handles nulls
+                && workspace.equals(((WorkspaceMatches) other).workspace)
+                && modules.equals(((WorkspaceMatches) other).modules)
+                && Objects.equals(error, ((WorkspaceMatches) other).error)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(workspace, modules, error);
+    }
+
+    @Override
+    public String toString() {
+        return workspace + ": " + (error == null ? modules : error);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.workspace;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyModuleTracker;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.NameContainsKeywordsPredicate;
+
+/**
+ * Named module trackers, one of which is open at a time.
+ *
+ * Each workspace is kept in its own data file, all in the same folder, and is named after its file. Each also has its
+ * own archive beside its data file. Workspaces that were open recently stay in memory, so switching back to them does
+ * not read their files again.
+ */
+public interface Workspaces {
+
+    String MESSAGE_CONSTRAINTS = "Workspace names should only contain letters, digits, hyphens and underscores, "
+            + "and should start with a letter or digit.";
+    String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}_-]*";
+    String FILE_EXTENSION = ".json";
+
+    /**
+     * Returns true if {@code name} is a valid workspace name.
+     */
+    static boolean isValidName(String name) {
+        return name.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns the name of the open workspace.
+     */
+    String getOpenWorkspace();
+
+    /**
+     * Returns the data file of the open workspace, which the module tracker is saved to.
+     */
+    Path getOpenWorkspaceFilePath();
+
+    /**
+     * Returns the archive file of the open workspace, which its modules are archived to.
+     */
+    Path getOpenWorkspaceArchiveFilePath();
+
+    /**
+     * Returns the names of all workspaces, including the open one, in alphabetical order.
+     * @throws IOException if the folder of the workspaces could not be read.
+     */
+    List<String> getWorkspaces() throws IOException;
+
+    /**
+     * Returns true if the modules of the workspace {@code name} are in memory, so that opening it does not read its
+     * file.
+     */
+    boolean isLoaded(String name);
+
+    /**
+     * Opens the workspace {@code name} in place of the open one, whose modules are {@code openModules}, and returns
+     * its modules. Its modules that are {@code isDueForArchive} are moved to its archive first, unless that fails. A
+     * workspace that does not exist yet has no modules.
+     * @throws DataConversionException if the file of the workspace is not in the correct format.
+     * @throws IOException if the file of the workspace could not be read.
+     */
+    ReadOnlyModuleTracker openWorkspace(String name, ReadOnlyModuleTracker openModules,
+            Predicate<Module> isDueForArchive) throws DataConversionException, IOException;
+
+    /**
+     * Returns the modules matching {@code predicate} in each workspace, as last saved, in the order of
+     * {@link #getWorkspaces()}. Workspaces that could not be searched are reported as failed.
+     * @throws IOException if the folder of the workspaces could not be read, or the search was interrupted.
+     */
+    List<WorkspaceMatches> findInWorkspaces(NameContainsKeywordsPredicate predicate) throws IOException;
+}
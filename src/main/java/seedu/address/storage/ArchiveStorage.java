@@ -0,0 +1,17 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+
+import seedu.address.model.archive.ModuleArchive;
+
+/**
+ * Represents a storage for the {@link ModuleArchive}.
+ */
+public interface ArchiveStorage extends ModuleArchive {
+
+    /**
+     * Returns the file path of the archive file.
+     */
+    Path getArchiveFilePath();
+
+}
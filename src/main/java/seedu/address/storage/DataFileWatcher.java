@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Watches the data file of the open workspace for changes, such as those made by a file syncing program, and tells of
+ * them on a background thread.
+ *
+ * The folder of the data file is watched rather than the file, since syncing programs often replace the file instead
+ * of writing to it. The app's own saves are told of too; {@link Storage#isModuleTrackerFileChanged()} tells them
+ * apart. A burst of writes, as when a large file is written in pieces, is told of about once.
+ */
+public class DataFileWatcher {
+
+    /** How long to wait after a change for more changes to the file, in milliseconds. */
+    public static final long SETTLE_MILLIS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileWatcher.class);
+
+    private final Supplier<Path> filePath;
+    private final Runnable onChange;
+    private WatchService watchService;
+
+    /**
+     * Creates a {@code DataFileWatcher} that runs {@code onChange} when the file at {@code filePath} changes.
+     * {@code filePath} is asked for the file after every change, so that it can follow the open workspace; the file
+     * must stay in the same folder.
+     */
+    public DataFileWatcher(Supplier<Path> filePath, Runnable onChange) {
+        requireNonNull(filePath);
+        requireNonNull(onChange);
+        this.filePath = filePath;
+        this.onChange = onChange;
+    }
+
+    /**
+     * Starts watching, creating the folder of the data file if it is missing.
+     * @throws IOException if the folder cannot be watched.
+     */
+    public void start() throws IOException {
+        Path folder = filePath.get().toAbsolutePath().getParent();
+        Files.createDirectories(folder);
+        watchService = folder.getFileSystem().newWatchService();
+        folder.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        Thread thread = new Thread(this::watch, "data-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Watching " + folder + " for changes to the data file");
+    }
+
+    /**
+     * Stops watching. Changes that are being told of may still be.
+     */
+    public void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching the data file: " + e.getMessage());
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Thread.sleep(SETTLE_MILLIS);
+                boolean isChanged = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    isChanged |= event.kind() == OVERFLOW || filePath.get().getFileName().equals(event.context());
+                }
+                if (isChanged) {
+                    onChange.run();
+                }
+                if (!key.reset()) {
+                    logger.warning("The folder of the data file can no longer be watched");
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Stopped watching the data file");
+        }
+    }
+}
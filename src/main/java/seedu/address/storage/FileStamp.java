@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+
+/**
+ * The size and modification time of a file, or neither if it does not exist or cannot be read.
+ * A file whose stamp is unchanged is taken to be unchanged, without reading it.
+ * Guarantees: immutable.
+ */
+public class FileStamp {
+
+    private final long size;
+    private final FileTime lastModified;
+
+    private FileStamp(long size, FileTime lastModified) {
+        this.size = size;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Returns the current stamp of {@code filePath}.
+     */
+    public static FileStamp of(Path filePath) {
+        try {
+            return new FileStamp(Files.size(filePath), Files.getLastModifiedTime(filePath));
+        } catch (IOException e) {
+            return new FileStamp(-1, null);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FileStamp // instanceof handles nulls
+                && size == ((FileStamp) other).size
+                && Objects.equals(lastModified, ((FileStamp) other).lastModified)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(size, lastModified);
+    }
+
+    @Override
+    public String toString() {
+        return lastModified == null ? "missing" : size + " bytes, modified " + lastModified;
+    }
+}
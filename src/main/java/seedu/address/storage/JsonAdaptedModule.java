@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.Checksum;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -18,6 +20,7 @@ import seedu.address.model.module.Remark;
 import seedu.address.model.module.Resource;
 import seedu.address.model.module.Teacher;
 import seedu.address.model.module.TimeSlot;
+import seedu.address.model.module.TimeSlots;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -29,24 +32,30 @@ class JsonAdaptedModule {
 
     private final String name;
     private final String resource;
-    private final String timeSlot;
+    private final List<String> timeSlots = new ArrayList<>();
     private final String address;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
     private final String remark;
     private final String deadline;
     private final String teacher;
 
+    /** The one timeslot of a module saved before modules could have several. It is read, but never written. */
+    @JsonProperty(value = "timeSlot", access = JsonProperty.Access.WRITE_ONLY)
+    private String legacyTimeSlot;
+
     /**
      * Constructs a {@code JsonAdaptedModule} with the given module details.
      */
     @JsonCreator
     public JsonAdaptedModule(@JsonProperty("name") String name, @JsonProperty("resource") String resource,
-            @JsonProperty("timeSlot") String timeSlot, @JsonProperty("address") String address,
+            @JsonProperty("timeSlots") List<String> timeSlots, @JsonProperty("address") String address,
             @JsonProperty("tagged") List<JsonAdaptedTag> tagged, @JsonProperty("remark") String remark,
             @JsonProperty("deadline") String deadline, @JsonProperty("teacher") String teacher) {
         this.name = name;
         this.resource = resource;
-        this.timeSlot = timeSlot;
+        if (timeSlots != null) {
+            this.timeSlots.addAll(timeSlots);
+        }
         this.address = address;
         if (tagged != null) {
             this.tagged.addAll(tagged);
@@ -62,7 +71,9 @@ class JsonAdaptedModule {
     public JsonAdaptedModule(Module source) {
         name = source.getName().fullName;
         resource = source.getResource().value;
-        timeSlot = source.getTimeSlot().toString();
+        timeSlots.addAll(source.getTimeSlots().asList().stream()
+                .map(TimeSlot::toString)
+                .collect(Collectors.toList()));
         address = source.getAddress().value;
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
@@ -100,14 +111,20 @@ class JsonAdaptedModule {
         }
         final Resource modelResource = new Resource(resource);
 
-        if (timeSlot == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    TimeSlot.class.getSimpleName()));
+        final List<String> savedTimeSlots = timeSlots.isEmpty() && legacyTimeSlot != null
+                ? List.of(legacyTimeSlot)
+                : timeSlots;
+        final List<TimeSlot> moduleTimeSlots = new ArrayList<>();
+        for (String timeSlot : savedTimeSlots) {
+            if (!TimeSlot.isValidTimeSlot(timeSlot) || !TimeSlot.isStartTimeBeforeEndTime(timeSlot)) {
+                throw new IllegalValueException(TimeSlot.MESSAGE_CONSTRAINTS);
+            }
+            moduleTimeSlots.add(new TimeSlot(timeSlot));
         }
-        if (!TimeSlot.isValidTimeSlot(timeSlot)) {
-            throw new IllegalValueException(TimeSlot.MESSAGE_CONSTRAINTS);
+        if (!TimeSlots.isNonOverlapping(moduleTimeSlots)) {
+            throw new IllegalValueException(TimeSlots.MESSAGE_OVERLAPPING);
         }
-        final TimeSlot modelTimeSlot = new TimeSlot(timeSlot);
+        final TimeSlots modelTimeSlots = new TimeSlots(moduleTimeSlots);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -138,8 +155,78 @@ class JsonAdaptedModule {
 
         final Teacher modelTeacher = new Teacher(teacher);
 
-        return new Module(modelName, modelResource, modelTimeSlot, modelAddress, modelTags, modelRemark,
+        return new Module(modelName, modelResource, modelTimeSlots, modelAddress, modelTags, modelRemark,
                 modelDeadline, modelTeacher);
     }
 
+    /**
+     * Returns true if none of the fields that every module has are missing, so that it can be converted with
+     * {@link #toTrustedModelType()}.
+     */
+    public boolean hasAllFields() {
+        return name != null && resource != null && address != null && remark != null && deadline != null
+                && !timeSlots.contains(null)
+                && tagged.stream().allMatch(tag -> tag != null && tag.getTagName() != null);
+    }
+
+    /**
+     * Converts this adapted module, trusted to be as the app saved it, into the model's {@code Module} object.
+     * Unlike {@link #toModelType()}, the fields are not checked before the value objects are constructed, as their
+     * constructors check them anyway. It must have {@link #hasAllFields() all its fields}.
+     *
+     * @throws IllegalArgumentException if a field is not valid after all.
+     */
+    public Module toTrustedModelType() {
+        assert hasAllFields();
+        final List<TimeSlot> moduleTimeSlots = new ArrayList<>(timeSlots.size());
+        for (String timeSlot : timeSlots) {
+            moduleTimeSlots.add(new TimeSlot(timeSlot));
+        }
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tagged) {
+            modelTags.add(new Tag(tag.getTagName()));
+        }
+        return new Module(new Name(name), new Resource(resource), new TimeSlots(moduleTimeSlots),
+                new Address(address), modelTags, new Remark(remark), new Deadline(deadline), new Teacher(teacher));
+    }
+
+    /**
+     * Feeds the fields of this adapted module, as they are saved, to {@code checksum}.
+     * Each field is fed with its length first, so that moving characters between fields changes the checksum.
+     */
+    public void updateChecksum(Checksum checksum) {
+        update(checksum, name);
+        update(checksum, resource);
+        update(checksum, timeSlots.size());
+        for (String timeSlot : timeSlots) {
+            update(checksum, timeSlot);
+        }
+        update(checksum, address);
+        update(checksum, tagged.size());
+        for (JsonAdaptedTag tag : tagged) {
+            update(checksum, tag.getTagName());
+        }
+        update(checksum, remark);
+        update(checksum, deadline);
+        update(checksum, teacher);
+        update(checksum, legacyTimeSlot);
+    }
+
+    private static void update(Checksum checksum, String value) {
+        if (value == null) {
+            update(checksum, -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        update(checksum, bytes.length);
+        checksum.update(bytes, 0, bytes.length);
+    }
+
+    private static void update(Checksum checksum, int value) {
+        checksum.update(value >>> 24);
+        checksum.update(value >>> 16);
+        checksum.update(value >>> 8);
+        checksum.update(value);
+    }
+
 }
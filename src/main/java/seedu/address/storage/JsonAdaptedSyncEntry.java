@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.sync.SyncEntry;
+
+/**
+ * Jackson-friendly version of {@link SyncEntry}.
+ */
+class JsonAdaptedSyncEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Sync entry's %s field is missing!";
+
+    private final JsonAdaptedModule module;
+    private final boolean deleted;
+    private final long counter;
+    private final String replica;
+
+    /**
+     * Constructs a {@code JsonAdaptedSyncEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedSyncEntry(@JsonProperty("module") JsonAdaptedModule module,
+            @JsonProperty("deleted") boolean deleted, @JsonProperty("counter") long counter,
+            @JsonProperty("replica") String replica) {
+        this.module = module;
+        this.deleted = deleted;
+        this.counter = counter;
+        this.replica = replica;
+    }
+
+    /**
+     * Converts a given {@code SyncEntry} into this class for Jackson use.
+     */
+    public JsonAdaptedSyncEntry(SyncEntry source) {
+        module = new JsonAdaptedModule(source.getModule());
+        deleted = source.isDeleted();
+        counter = source.getCounter();
+        replica = source.getReplica();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted sync entry into the model's {@code SyncEntry} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted sync entry.
+     */
+    public SyncEntry toModelType() throws IllegalValueException {
+        if (module == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "module"));
+        }
+        if (replica == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "replica"));
+        }
+        return new SyncEntry(module.toModelType(), deleted, counter, replica);
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.module.Module;
+
+/**
+ * A class to access archived modules stored on the hard disk as JSON Lines, one json module per line.
+ *
+ * Archiving only appends lines to the file, so it never reads the archive. The archive is read the first time its
+ * modules are asked for, and kept in memory from then on. Removing modules rewrites the whole file.
+ *
+ * An append that was cut short can leave an unfinished last line. It is skipped when the archive is read, and
+ * truncated before the next append; any other line that cannot be read means that the archive is corrupted.
+ */
+public class JsonArchiveStorage implements ArchiveStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonArchiveStorage.class);
+    private static final int TAIL_BLOCK_SIZE = 4096;
+
+    private final Path filePath;
+    /** The archived modules by identity, oldest first, or null until the archive is read. */
+    private Map<List<Object>, Module> modules;
+
+    public JsonArchiveStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getArchiveFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the archive has been read in.
+     */
+    public boolean isLoaded() {
+        return modules != null;
+    }
+
+    @Override
+    public List<Module> getModules() throws DataConversionException, IOException {
+        if (modules == null) {
+            modules = read();
+        }
+        return new ArrayList<>(modules.values());
+    }
+
+    @Override
+    public void appendToArchive(List<Module> archived) throws IOException {
+        requireNonNull(archived);
+        // Forced to the disk, so that the modules are archived before they are saved out of the module tracker.
+        FileUtil.appendToFile(filePath, endLastLine() + toLines(archived));
+        if (modules != null) {
+            archived.forEach(module -> put(modules, module));
+        }
+    }
+
+    @Override
+    public void removeFromArchive(List<Module> removed) throws IOException {
+        requireNonNull(removed);
+        if (modules == null) {
+            try {
+                modules = read();
+            } catch (DataConversionException e) {
+                throw new IOException("The archive is not in the correct format: " + e.getMessage(), e);
+            }
+        }
+        Map<List<Object>, Module> remaining = new LinkedHashMap<>(modules);
+        removed.forEach(module -> remaining.remove(module.getIdentity()));
+        if (remaining.size() == modules.size()) {
+            return;
+        }
+        // Rewritten as a whole, which also drops the older versions of the remaining modules.
+        FileUtil.writeToFile(filePath, toLines(remaining.values()));
+        modules = remaining;
+    }
+
+    private static String toLines(Collection<Module> modules) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (Module module : modules) {
+            lines.append(JsonUtil.toJsonLine(new JsonAdaptedModule(module))).append(System.lineSeparator());
+        }
+        return lines.toString();
+    }
+
+    private Map<List<Object>, Module> read() throws DataConversionException, IOException {
+        Map<List<Object>, Module> read = new LinkedHashMap<>();
+        if (!Files.exists(filePath)) {
+            return read;
+        }
+        logger.fine("Reading archive: " + filePath);
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        List<String> lines = content.lines().collect(Collectors.toList());
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            try {
+                put(read, parse(lines.get(i)));
+            } catch (IOException | IllegalValueException e) {
+                if (i == lines.size() - 1 && !content.endsWith("\n")) {
+                    // only the last append can have been cut short, and the next append truncates what it left
+                    logger.warning("Skipping the unfinished last line of " + filePath + ": " + e.getMessage());
+                    continue;
+                }
+                logger.info("Illegal values found in " + filePath + " on line " + (i + 1) + ": " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+        }
+        return read;
+    }
+
+    /**
+     * Ends the last line of the archive file, which an append that was cut short can leave without a line
+     * separator. A line that holds only part of a module is truncated; otherwise, the line separator that it misses
+     * is returned, to be written before the appended lines.
+     */
+    private String endLastLine() throws IOException {
+        if (!Files.exists(filePath)) {
+            return "";
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long end = channel.size();
+            long start = end;
+            ByteArrayOutputStream lastLine = new ByteArrayOutputStream();
+            ByteBuffer buffer = ByteBuffer.allocate(TAIL_BLOCK_SIZE);
+            // reads back block by block, as far as the last line separator
+            while (start > 0) {
+                long blockStart = Math.max(0, start - TAIL_BLOCK_SIZE);
+                buffer.clear().limit((int) (start - blockStart));
+                while (buffer.hasRemaining()) {
+                    channel.read(buffer, blockStart + buffer.position());
+                }
+                int newline = buffer.limit() - 1;
+                while (newline >= 0 && buffer.get(newline) != '\n') {
+                    newline--;
+                }
+                byte[] tail = lastLine.toByteArray();
+                lastLine.reset();
+                lastLine.write(buffer.array(), newline + 1, buffer.limit() - newline - 1);
+                lastLine.write(tail);
+                start = blockStart + newline + 1;
+                if (newline >= 0) {
+                    break;
+                }
+            }
+            if (start == end) {
+                return "";
+            }
+            try {
+                parse(lastLine.toString(StandardCharsets.UTF_8));
+                return System.lineSeparator();
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Truncating the unfinished last line of " + filePath + ": " + e.getMessage());
+                channel.truncate(start);
+                channel.force(true);
+                return "";
+            }
+        }
+    }
+
+    private static Module parse(String line) throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(line, JsonAdaptedModule.class).toModelType();
+    }
+
+    /**
+     * Puts {@code module} last in {@code modules}, in place of any earlier version of it.
+     */
+    private static void put(Map<List<Object>, Module> modules, Module module) {
+        List<Object> identity = module.getIdentity();
+        modules.remove(identity);
+        modules.put(identity, module);
+    }
+
+}
@@ -13,6 +13,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyModuleTracker;
+import seedu.address.model.integrity.IntegrityReport;
 
 /**
  * A class to access ModuleTracker data stored as a json file on the hard disk.
@@ -45,6 +46,7 @@ public class JsonModuleTrackerStorage implements ModuleTrackerStorage {
     public Optional<ReadOnlyModuleTracker> readModuleTracker(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        recoverInterruptedSave(filePath);
         Optional<JsonSerializableModuleTracker> jsonModuleTracker = JsonUtil.readJsonFile(
                 filePath, JsonSerializableModuleTracker.class);
         if (!jsonModuleTracker.isPresent()) {
@@ -59,6 +61,34 @@ public class JsonModuleTrackerStorage implements ModuleTrackerStorage {
         }
     }
 
+    /**
+     * Finishes a save to {@code filePath} that the app died during, if it got as far as writing the whole module
+     * tracker, or else discards it, keeping the data last saved in full.
+     */
+    private static void recoverInterruptedSave(Path filePath) {
+        try {
+            if (FileUtil.recoverTempFile(filePath, JsonModuleTrackerStorage::isValidModuleTracker)) {
+                logger.warning("Finished an interrupted save to " + filePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Could not recover an interrupted save to " + filePath + ": " + e);
+        }
+    }
+
+    private static boolean isValidModuleTracker(Path filePath) {
+        try {
+            Optional<JsonSerializableModuleTracker> jsonModuleTracker = JsonUtil.readJsonFile(filePath,
+                    JsonSerializableModuleTracker.class);
+            if (jsonModuleTracker.isPresent()) {
+                jsonModuleTracker.get().toModelType();
+                return true;
+            }
+        } catch (DataConversionException | IllegalValueException e) {
+            logger.info("Discarding the unfinished save " + filePath + ": " + e.getMessage());
+        }
+        return false;
+    }
+
     @Override
     public void saveModuleTracker(ReadOnlyModuleTracker moduleTracker) throws IOException {
         saveModuleTracker(moduleTracker, filePath);
@@ -73,8 +103,27 @@ public class JsonModuleTrackerStorage implements ModuleTrackerStorage {
         requireNonNull(moduleTracker);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableModuleTracker(moduleTracker), filePath);
     }
 
+    @Override
+    public Optional<IntegrityReport> verifyModuleTracker(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableModuleTracker> jsonModuleTracker = JsonUtil.readJsonFile(
+                filePath, JsonSerializableModuleTracker.class);
+        if (!jsonModuleTracker.isPresent()) {
+            return Optional.empty();
+        }
+
+        String problem = null;
+        try {
+            jsonModuleTracker.get().toValidatedModelType();
+        } catch (IllegalValueException ive) {
+            problem = ive.getMessage();
+        }
+        return Optional.of(new IntegrityReport(filePath, jsonModuleTracker.get().getChecksumState(),
+                jsonModuleTracker.get().getModuleCount(), problem));
+    }
+
 }
@@ -1,8 +1,13 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -11,23 +16,29 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ModuleTracker;
 import seedu.address.model.ReadOnlyModuleTracker;
+import seedu.address.model.integrity.IntegrityReport.ChecksumState;
 import seedu.address.model.module.Module;
 
 /**
  * An Immutable ModuleTracker that is serializable to JSON format.
+ * It is saved with a CRC32C checksum of its modules, so that modules the app saved can be loaded without checking
+ * every field again.
  */
 @JsonRootName(value = "moduletracker")
 class JsonSerializableModuleTracker {
 
     public static final String MESSAGE_DUPLICATE_MODULE = "Modules list contains duplicate module(s).";
 
+    private final String checksum;
     private final List<JsonAdaptedModule> modules = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableModuleTracker} with the given modules.
+     * Constructs a {@code JsonSerializableModuleTracker} with the given checksum and modules.
      */
     @JsonCreator
-    public JsonSerializableModuleTracker(@JsonProperty("modules") List<JsonAdaptedModule> modules) {
+    public JsonSerializableModuleTracker(@JsonProperty("checksum") String checksum,
+            @JsonProperty("modules") List<JsonAdaptedModule> modules) {
+        this.checksum = checksum;
         this.modules.addAll(modules);
     }
 
@@ -38,14 +49,48 @@ class JsonSerializableModuleTracker {
      */
     public JsonSerializableModuleTracker(ReadOnlyModuleTracker source) {
         modules.addAll(source.getModuleList().stream().map(JsonAdaptedModule::new).collect(Collectors.toList()));
+        checksum = computeChecksum();
+    }
+
+    public int getModuleCount() {
+        return modules.size();
+    }
+
+    /**
+     * Returns how the saved checksum compares with the checksum of the modules.
+     */
+    public ChecksumState getChecksumState() {
+        if (checksum == null) {
+            return ChecksumState.MISSING;
+        }
+        return checksum.equals(computeChecksum()) ? ChecksumState.MATCHING : ChecksumState.MISMATCHED;
     }
 
     /**
      * Converts this module tracker into the model's {@code ModuleTracker} object.
+     * If the checksum matches, the modules are trusted to be as the app saved them and are converted without being
+     * checked first. Otherwise, or if they turn out not to be valid after all, they are converted as in
+     * {@link #toValidatedModelType()}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ModuleTracker toModelType() throws IllegalValueException {
+        if (getChecksumState() == ChecksumState.MATCHING) {
+            Optional<ModuleTracker> moduleTracker = toTrustedModelType();
+            if (moduleTracker.isPresent()) {
+                return moduleTracker.get();
+            }
+        }
+        return toValidatedModelType();
+    }
+
+    /**
+     * Converts this module tracker into the model's {@code ModuleTracker} object, checking every field of every
+     * module, whatever the checksum.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ModuleTracker toValidatedModelType() throws IllegalValueException {
         ModuleTracker moduleTracker = new ModuleTracker();
         for (JsonAdaptedModule jsonAdaptedModule : modules) {
             Module module = jsonAdaptedModule.toModelType();
@@ -57,4 +102,42 @@ class JsonSerializableModuleTracker {
         return moduleTracker;
     }
 
+    /**
+     * Returns the modules converted as in {@link JsonAdaptedModule#toTrustedModelType()} and set all at once, or
+     * nothing if they are not valid after all, such as when the file was edited to match its checksum.
+     */
+    private Optional<ModuleTracker> toTrustedModelType() {
+        List<Module> trustedModules = new ArrayList<>(modules.size());
+        Set<List<Object>> identities = new HashSet<>();
+        for (JsonAdaptedModule jsonAdaptedModule : modules) {
+            if (jsonAdaptedModule == null || !jsonAdaptedModule.hasAllFields()) {
+                return Optional.empty();
+            }
+            Module module;
+            try {
+                module = jsonAdaptedModule.toTrustedModelType();
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+            if (!identities.add(module.getIdentity())) {
+                return Optional.empty();
+            }
+            trustedModules.add(module);
+        }
+        ModuleTracker moduleTracker = new ModuleTracker();
+        moduleTracker.setModules(trustedModules);
+        return Optional.of(moduleTracker);
+    }
+
+    /**
+     * Returns the checksum of the modules, as it would be saved.
+     */
+    String computeChecksum() {
+        Checksum crc = new CRC32C();
+        for (JsonAdaptedModule jsonAdaptedModule : modules) {
+            jsonAdaptedModule.updateChecksum(crc);
+        }
+        return String.format("%08x", crc.getValue());
+    }
+
 }
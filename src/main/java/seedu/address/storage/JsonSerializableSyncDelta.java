@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.sync.SyncDelta;
+import seedu.address.model.sync.SyncEntry;
+
+/**
+ * An Immutable SyncDelta that is serializable to JSON format.
+ */
+class JsonSerializableSyncDelta {
+
+    private final String replica;
+    private final Map<String, Long> versions = new HashMap<>();
+    private final List<JsonAdaptedSyncEntry> entries = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSyncDelta} with the given details.
+     */
+    @JsonCreator
+    public JsonSerializableSyncDelta(@JsonProperty("replica") String replica,
+            @JsonProperty("versions") Map<String, Long> versions,
+            @JsonProperty("entries") List<JsonAdaptedSyncEntry> entries) {
+        this.replica = replica;
+        if (versions != null) {
+            this.versions.putAll(versions);
+        }
+        if (entries != null) {
+            this.entries.addAll(entries);
+        }
+    }
+
+    /**
+     * Converts a given {@code SyncDelta} into this class for Jackson use.
+     */
+    public JsonSerializableSyncDelta(SyncDelta source) {
+        replica = source.getReplica();
+        versions.putAll(source.getVersions());
+        source.getEntries().stream().map(JsonAdaptedSyncEntry::new).forEach(entries::add);
+    }
+
+    /**
+     * Converts these changes into the model's {@code SyncDelta} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public SyncDelta toModelType() throws IllegalValueException {
+        if (replica == null) {
+            throw new IllegalValueException(JsonSerializableSyncLog.MESSAGE_MISSING_REPLICA);
+        }
+        return new SyncDelta(replica, versions, toModelType(entries));
+    }
+
+    /**
+     * Converts {@code entries} into the model's {@code SyncEntry} objects.
+     */
+    static List<SyncEntry> toModelType(List<JsonAdaptedSyncEntry> entries) throws IllegalValueException {
+        List<SyncEntry> modelEntries = new ArrayList<>();
+        for (JsonAdaptedSyncEntry entry : entries) {
+            modelEntries.add(entry.toModelType());
+        }
+        return modelEntries;
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.sync.SyncLog;
+
+/**
+ * An Immutable SyncLog that is serializable to JSON format.
+ */
+class JsonSerializableSyncLog {
+
+    public static final String MESSAGE_MISSING_REPLICA = "The id of the copy of the module tracker is missing!";
+
+    private final String replica;
+    private final long clock;
+    private final Map<String, Long> versions = new HashMap<>();
+    private final Map<String, Map<String, Long>> peers = new HashMap<>();
+    private final List<JsonAdaptedSyncEntry> entries = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSyncLog} with the given details.
+     */
+    @JsonCreator
+    public JsonSerializableSyncLog(@JsonProperty("replica") String replica, @JsonProperty("clock") long clock,
+            @JsonProperty("versions") Map<String, Long> versions,
+            @JsonProperty("peers") Map<String, Map<String, Long>> peers,
+            @JsonProperty("entries") List<JsonAdaptedSyncEntry> entries) {
+        this.replica = replica;
+        this.clock = clock;
+        if (versions != null) {
+            this.versions.putAll(versions);
+        }
+        if (peers != null) {
+            this.peers.putAll(peers);
+        }
+        if (entries != null) {
+            this.entries.addAll(entries);
+        }
+    }
+
+    /**
+     * Converts a given {@code SyncLog} into this class for Jackson use.
+     */
+    public JsonSerializableSyncLog(SyncLog source) {
+        replica = source.getReplica();
+        clock = source.getClock();
+        versions.putAll(source.getVersions());
+        peers.putAll(source.getPeerVersions());
+        source.getEntries().stream().sorted(SyncLog.STAMP_ORDER).map(JsonAdaptedSyncEntry::new)
+                .forEach(entries::add);
+    }
+
+    /**
+     * Converts this sync log into the model's {@code SyncLog} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public SyncLog toModelType() throws IllegalValueException {
+        if (replica == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_REPLICA);
+        }
+        return new SyncLog(replica, clock, versions, peers, JsonSerializableSyncDelta.toModelType(entries));
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Optional;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ModuleTracker;
 import seedu.address.model.ReadOnlyModuleTracker;
+import seedu.address.model.integrity.IntegrityReport;
 
 /**
  * Represents a storage for {@link ModuleTracker}.
@@ -43,4 +44,12 @@ public interface ModuleTrackerStorage {
      */
     void saveModuleTracker(ReadOnlyModuleTracker moduleTracker, Path filePath) throws IOException;
 
+    /**
+     * Checks the checksum and every module of the data file at {@code filePath}, whether or not the checksum
+     * matches. Returns {@code Optional.empty()} if storage file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    Optional<IntegrityReport> verifyModuleTracker(Path filePath) throws DataConversionException, IOException;
+
 }
@@ -3,16 +3,22 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyModuleTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.integrity.IntegrityChecker;
+import seedu.address.model.module.Module;
+import seedu.address.model.sync.SyncStore;
+import seedu.address.model.workspace.Workspaces;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends ModuleTrackerStorage, UserPrefsStorage {
+public interface Storage extends ModuleTrackerStorage, UserPrefsStorage, ArchiveStorage, Workspaces,
+        SyncStore, IntegrityChecker {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -29,4 +35,18 @@ public interface Storage extends ModuleTrackerStorage, UserPrefsStorage {
     @Override
     void saveModuleTracker(ReadOnlyModuleTracker moduleTracker) throws IOException;
 
+    /**
+     * Returns true if the data file of the open workspace was changed, by another program or another computer, since
+     * it was last read or saved through this storage.
+     */
+    boolean isModuleTrackerFileChanged();
+
+    /**
+     * Moves the modules of {@code moduleTracker} that are {@code isDue} to the archive, and saves the rest as the
+     * module tracker. Returns the rest, or {@code moduleTracker} itself if no module is due.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    ReadOnlyModuleTracker archiveModules(ReadOnlyModuleTracker moduleTracker, Predicate<Module> isDue)
+            throws IOException;
+
 }
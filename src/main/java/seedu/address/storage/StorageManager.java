@@ -1,31 +1,77 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ModuleTracker;
 import seedu.address.model.ReadOnlyModuleTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.integrity.IntegrityReport;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.NameContainsKeywordsPredicate;
+import seedu.address.model.sync.SyncDelta;
+import seedu.address.model.sync.SyncLog;
+import seedu.address.model.workspace.WorkspaceMatches;
+import seedu.address.model.workspace.Workspaces;
 
 /**
  * Manages storage of ModuleTracker data in local storage.
  */
 public class StorageManager implements Storage {
 
+    /** Ends the name of the file the sync log of a workspace is kept in. */
+    public static final String SYNC_LOG_FILE_SUFFIX = ".sync" + Workspaces.FILE_EXTENSION;
+    /** Ends the name of the file the archive of a workspace is kept in. */
+    public static final String ARCHIVE_FILE_SUFFIX = ".archive.jsonl";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private ModuleTrackerStorage moduleTrackerStorage;
     private UserPrefsStorage userPrefsStorage;
+    private ArchiveStorage archiveStorage;
+    private final WorkspaceCache workspaceCache = new WorkspaceCache(WorkspaceCache.DEFAULT_MAX_BYTES);
+    /** The data file of the open workspace. */
+    private Path moduleTrackerFilePath;
+    /** The stamp of the data file of the open workspace when it was last read or saved. */
+    private FileStamp moduleTrackerFileStamp;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code ModuleTrackerStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code ModuleTrackerStorage} and {@code UserPrefStorage}, which
+     * archives modules to the archive of the workspace of the module tracker's data file.
      */
     public StorageManager(ModuleTrackerStorage moduleTrackerStorage, UserPrefsStorage userPrefsStorage) {
+        this(moduleTrackerStorage, userPrefsStorage, new JsonArchiveStorage(
+                getArchiveFilePath(moduleTrackerStorage.getModuleTrackerFilePath())));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code ModuleTrackerStorage}, {@code UserPrefStorage} and
+     * {@code ArchiveStorage}.
+     */
+    public StorageManager(ModuleTrackerStorage moduleTrackerStorage, UserPrefsStorage userPrefsStorage,
+            ArchiveStorage archiveStorage) {
         this.moduleTrackerStorage = moduleTrackerStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.archiveStorage = archiveStorage;
+        this.moduleTrackerFilePath = moduleTrackerStorage.getModuleTrackerFilePath();
+        this.moduleTrackerFileStamp = FileStamp.of(moduleTrackerFilePath);
     }
 
     // ================ UserPrefs methods ==============================
@@ -50,30 +96,246 @@ public class StorageManager implements Storage {
 
     @Override
     public Path getModuleTrackerFilePath() {
-        return moduleTrackerStorage.getModuleTrackerFilePath();
+        return moduleTrackerFilePath;
     }
 
     @Override
     public Optional<ReadOnlyModuleTracker> readModuleTracker() throws DataConversionException, IOException {
-        return readModuleTracker(moduleTrackerStorage.getModuleTrackerFilePath());
+        return readModuleTracker(moduleTrackerFilePath);
     }
 
     @Override
     public Optional<ReadOnlyModuleTracker> readModuleTracker(Path filePath) throws DataConversionException,
             IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return moduleTrackerStorage.readModuleTracker(filePath);
+        // Stamped before reading, so that a change made while reading is still seen as a change.
+        FileStamp stamp = FileStamp.of(filePath);
+        Optional<ReadOnlyModuleTracker> moduleTracker = moduleTrackerStorage.readModuleTracker(filePath);
+        if (filePath.equals(moduleTrackerFilePath)) {
+            moduleTrackerFileStamp = stamp;
+        }
+        return moduleTracker;
     }
 
     @Override
     public void saveModuleTracker(ReadOnlyModuleTracker moduleTracker) throws IOException {
-        saveModuleTracker(moduleTracker, moduleTrackerStorage.getModuleTrackerFilePath());
+        saveModuleTracker(moduleTracker, moduleTrackerFilePath);
     }
 
     @Override
     public void saveModuleTracker(ReadOnlyModuleTracker moduleTracker, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         moduleTrackerStorage.saveModuleTracker(moduleTracker, filePath);
+        if (filePath.equals(moduleTrackerFilePath)) {
+            moduleTrackerFileStamp = FileStamp.of(filePath);
+        }
+    }
+
+    @Override
+    public Optional<IntegrityReport> verifyModuleTracker() throws DataConversionException, IOException {
+        return verifyModuleTracker(moduleTrackerFilePath);
+    }
+
+    @Override
+    public Optional<IntegrityReport> verifyModuleTracker(Path filePath) throws DataConversionException,
+            IOException {
+        logger.fine("Attempting to verify data file: " + filePath);
+        return moduleTrackerStorage.verifyModuleTracker(filePath);
+    }
+
+    @Override
+    public boolean isModuleTrackerFileChanged() {
+        return !moduleTrackerFileStamp.equals(FileStamp.of(moduleTrackerFilePath));
+    }
+
+    @Override
+    public ReadOnlyModuleTracker archiveModules(ReadOnlyModuleTracker moduleTracker, Predicate<Module> isDue)
+            throws IOException {
+        List<Module> due = moduleTracker.getModuleList().stream().filter(isDue).collect(Collectors.toList());
+        if (due.isEmpty()) {
+            return moduleTracker;
+        }
+        logger.info("Archiving " + due.size() + " modules to " + getArchiveFilePath());
+        // Appending to the archive first means that a failure in between leaves the modules in both files, where the
+        // module tracker's copies take precedence, rather than in neither.
+        appendToArchive(due);
+        ModuleTracker remaining = new ModuleTracker(moduleTracker);
+        due.forEach(remaining::removeModule);
+        saveModuleTracker(remaining);
+        return remaining;
+    }
+
+    // ================ Archive methods ==============================
+
+    @Override
+    public Path getArchiveFilePath() {
+        return archiveStorage.getArchiveFilePath();
+    }
+
+    @Override
+    public List<Module> getModules() throws DataConversionException, IOException {
+        return archiveStorage.getModules();
+    }
+
+    @Override
+    public void appendToArchive(List<Module> modules) throws IOException {
+        logger.fine("Attempting to append to archive file: " + getArchiveFilePath());
+        archiveStorage.appendToArchive(modules);
+    }
+
+    @Override
+    public void removeFromArchive(List<Module> modules) throws IOException {
+        logger.fine("Attempting to remove from archive file: " + getArchiveFilePath());
+        archiveStorage.removeFromArchive(modules);
+    }
+
+    // ================ Workspace methods ==============================
+
+    @Override
+    public String getOpenWorkspace() {
+        return toWorkspace(moduleTrackerFilePath.getFileName().toString());
+    }
+
+    @Override
+    public Path getOpenWorkspaceFilePath() {
+        return moduleTrackerFilePath;
+    }
+
+    @Override
+    public Path getOpenWorkspaceArchiveFilePath() {
+        return getArchiveFilePath();
+    }
+
+    @Override
+    public List<String> getWorkspaces() throws IOException {
+        SortedSet<String> workspaces = new TreeSet<>();
+        workspaces.add(getOpenWorkspace());
+        Path folder = moduleTrackerFilePath.toAbsolutePath().getParent();
+        if (!Files.isDirectory(folder)) {
+            return new ArrayList<>(workspaces);
+        }
+        Path userPrefsFilePath = getUserPrefsFilePath().toAbsolutePath();
+        try (Stream<Path> files = Files.list(folder)) {
+            files.filter(file -> !file.equals(userPrefsFilePath))
+                    .map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.endsWith(Workspaces.FILE_EXTENSION))
+                    .map(StorageManager::toWorkspace)
+                    .filter(Workspaces::isValidName)
+                    .forEach(workspaces::add);
+        }
+        return new ArrayList<>(workspaces);
+    }
+
+    @Override
+    public boolean isLoaded(String name) {
+        return name.equals(getOpenWorkspace()) || workspaceCache.contains(getWorkspaceFilePath(name));
+    }
+
+    @Override
+    public ReadOnlyModuleTracker openWorkspace(String name, ReadOnlyModuleTracker openModules,
+            Predicate<Module> isDueForArchive) throws DataConversionException, IOException {
+        Path filePath = getWorkspaceFilePath(name);
+        FileStamp stamp = FileStamp.of(filePath);
+        ReadOnlyModuleTracker modules = workspaceCache.take(filePath);
+        if (modules == null) {
+            modules = readModuleTracker(filePath).orElseGet(ModuleTracker::new);
+        }
+        // Workspaces are only switched by a command of its own, after the command before it was saved, so the file of
+        // the open workspace matches openModules.
+        workspaceCache.put(moduleTrackerFilePath, openModules);
+        moduleTrackerFilePath = filePath;
+        moduleTrackerFileStamp = stamp;
+        archiveStorage = new JsonArchiveStorage(getArchiveFilePath(filePath));
+        logger.info("Opened workspace " + name + " at " + filePath);
+        try {
+            return archiveModules(modules, isDueForArchive);
+        } catch (IOException e) {
+            logger.warning("Problem while archiving modules. Will be keeping them in workspace " + name + ": "
+                    + StringUtil.getDetails(e));
+            return modules;
+        }
+    }
+
+    @Override
+    public List<WorkspaceMatches> findInWorkspaces(NameContainsKeywordsPredicate predicate) throws IOException {
+        Map<String, Path> files = new LinkedHashMap<>();
+        for (String workspace : getWorkspaces()) {
+            files.put(workspace, getWorkspaceFilePath(workspace));
+        }
+        logger.fine("Searching " + files.size() + " workspaces for " + predicate.getKeywords());
+        return new WorkspaceSearch(predicate).search(files);
+    }
+
+    // ================ Sync methods ==============================
+
+    @Override
+    public SyncLog readSyncLog() throws DataConversionException, IOException {
+        Path filePath = getSyncLogFilePath();
+        logger.fine("Attempting to read sync log: " + filePath);
+        Optional<JsonSerializableSyncLog> syncLog = JsonUtil.readJsonFile(filePath, JsonSerializableSyncLog.class);
+        if (syncLog.isEmpty()) {
+            return new SyncLog();
+        }
+        try {
+            return syncLog.get().toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveSyncLog(SyncLog syncLog) throws IOException {
+        Path filePath = getSyncLogFilePath();
+        logger.fine("Attempting to write to sync log: " + filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableSyncLog(syncLog), filePath);
+    }
+
+    @Override
+    public Optional<SyncDelta> readSyncDelta(Path filePath) throws DataConversionException, IOException {
+        logger.fine("Attempting to read changes from file: " + filePath);
+        Optional<JsonSerializableSyncDelta> delta = JsonUtil.readJsonFile(filePath, JsonSerializableSyncDelta.class);
+        if (delta.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(delta.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveSyncDelta(SyncDelta delta, Path filePath) throws IOException {
+        logger.fine("Attempting to write changes to file: " + filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableSyncDelta(delta), filePath);
+    }
+
+    /**
+     * Returns the file the sync log of the open workspace is kept in, beside its data file. Its name is not a valid
+     * workspace name, so it is not taken for a workspace.
+     */
+    private Path getSyncLogFilePath() {
+        return moduleTrackerFilePath.resolveSibling(getOpenWorkspace() + SYNC_LOG_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the file the archive of the workspace kept in {@code filePath} is kept in, beside it. Its extension is
+     * not that of workspaces, so it is not taken for a workspace.
+     */
+    private static Path getArchiveFilePath(Path filePath) {
+        return filePath.resolveSibling(toWorkspace(filePath.getFileName().toString()) + ARCHIVE_FILE_SUFFIX);
+    }
+
+    private Path getWorkspaceFilePath(String name) {
+        return moduleTrackerFilePath.resolveSibling(name + Workspaces.FILE_EXTENSION);
+    }
+
+    private static String toWorkspace(String fileName) {
+        return fileName.endsWith(Workspaces.FILE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - Workspaces.FILE_EXTENSION.length())
+                : fileName;
     }
 
 }
@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyModuleTracker;
+import seedu.address.model.journal.Journal;
+import seedu.address.model.module.Module;
+
+/**
+ * Keeps the modules of recently closed data files in memory, so that reopening them does not parse the files again.
+ *
+ * The cache holds about {@code maxBytes} bytes of modules; the least recently used files are dropped first. Every
+ * change is saved as it is made, so dropping a file loses nothing. A file that changed on disk since it was cached,
+ * as told by its size and modification time, is not taken from the cache.
+ */
+public class WorkspaceCache {
+
+    public static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(WorkspaceCache.class);
+
+    private final long maxBytes;
+    /** Cached files, least recently used first. */
+    private final LinkedHashMap<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    /**
+     * Creates a {@code WorkspaceCache} that holds about {@code maxBytes} bytes.
+     */
+    public WorkspaceCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Caches {@code modules} as the contents of {@code filePath}, which should have just been saved or read.
+     */
+    public void put(Path filePath, ReadOnlyModuleTracker modules) {
+        requireNonNull(filePath);
+        requireNonNull(modules);
+        remove(filePath);
+        Entry entry = new Entry(modules, FileStamp.of(filePath), estimateBytes(modules));
+        entries.put(filePath, entry);
+        cachedBytes += entry.bytes;
+        evict();
+    }
+
+    /**
+     * Removes the cached modules of {@code filePath} from the cache and returns them, or returns null if they are not
+     * cached or the file has changed since.
+     */
+    public ReadOnlyModuleTracker take(Path filePath) {
+        Entry entry = entries.get(filePath);
+        if (entry == null) {
+            return null;
+        }
+        remove(filePath);
+        if (!entry.stamp.equals(FileStamp.of(filePath))) {
+            logger.info(filePath + " changed since it was cached");
+            return null;
+        }
+        return entry.modules;
+    }
+
+    /**
+     * Returns true if the modules of {@code filePath} are cached.
+     */
+    public boolean contains(Path filePath) {
+        return entries.containsKey(filePath);
+    }
+
+    /**
+     * Returns the estimated memory held by the cache, in bytes.
+     */
+    public long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    private void remove(Path filePath) {
+        Entry removed = entries.remove(filePath);
+        if (removed != null) {
+            cachedBytes -= removed.bytes;
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Path, Entry>> leastRecentlyUsed = entries.entrySet().iterator();
+        while (cachedBytes > maxBytes && leastRecentlyUsed.hasNext()) {
+            Map.Entry<Path, Entry> evicted = leastRecentlyUsed.next();
+            logger.fine("Dropping " + evicted.getKey() + " from the workspace cache");
+            cachedBytes -= evicted.getValue().bytes;
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    private static long estimateBytes(ReadOnlyModuleTracker modules) {
+        long bytes = 0;
+        for (Module module : modules.getModuleList()) {
+            bytes += Journal.estimateBytes(module);
+        }
+        return bytes;
+    }
+
+    private static class Entry {
+        private final ReadOnlyModuleTracker modules;
+        private final FileStamp stamp;
+        private final long bytes;
+
+        Entry(ReadOnlyModuleTracker modules, FileStamp stamp, long bytes) {
+            this.modules = modules;
+            this.stamp = stamp;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.NameContainsKeywordsPredicate;
+import seedu.address.model.workspace.WorkspaceMatches;
+
+/**
+ * Searches the data files of many workspaces for modules whose names or tags contain any of some keywords.
+ *
+ * The files are searched in parallel, on at most {@link #MAX_THREADS} threads. Each file is streamed a token at a
+ * time: only the name and tags of a module are looked at to decide whether it matches, and only matching modules are
+ * converted to {@code Module}s, so a search does not pay for checking every field of every module.
+ */
+public class WorkspaceSearch {
+
+    public static final int MAX_THREADS = 4;
+    public static final String MESSAGE_INVALID_FILE = "The file is not a module tracker.";
+
+    private static final Logger logger = LogsCenter.getLogger(WorkspaceSearch.class);
+
+    private final NameContainsKeywordsPredicate predicate;
+
+    /**
+     * Creates a {@code WorkspaceSearch} for the modules matching {@code predicate}.
+     */
+    public WorkspaceSearch(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    /**
+     * Returns the matches in each of {@code files}, a map from workspace names to their data files, in the same
+     * order. A file that cannot be searched is reported as failed, without failing the rest of the search.
+     *
+     * @throws IOException if the search was interrupted.
+     */
+    public List<WorkspaceMatches> search(Map<String, Path> files) throws IOException {
+        requireNonNull(files);
+        if (files.isEmpty()) {
+            return new ArrayList<>();
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(files.size(), MAX_THREADS), runnable -> {
+            Thread thread = new Thread(runnable, "workspace-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<WorkspaceMatches>> futures = new ArrayList<>();
+            for (Map.Entry<String, Path> file : files.entrySet()) {
+                Callable<WorkspaceMatches> task = () -> search(file.getKey(), file.getValue());
+                futures.add(pool.submit(task));
+            }
+            List<WorkspaceMatches> results = new ArrayList<>();
+            for (Future<WorkspaceMatches> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("The search was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private WorkspaceMatches search(String workspace, Path file) {
+        try {
+            return WorkspaceMatches.of(workspace, scan(file));
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Could not search " + file + ": " + e.getMessage());
+            return WorkspaceMatches.failed(workspace, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the modules in the module tracker data file {@code file} that match, in the order of the file.
+     * A file that does not exist has no modules.
+     *
+     * @throws IOException if the file could not be read or is not valid JSON.
+     * @throws IllegalValueException if a matching module is not valid.
+     */
+    public List<Module> scan(Path file) throws IOException, IllegalValueException {
+        List<Module> matches = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return matches;
+        }
+        try (JsonParser parser = JsonUtil.createParser(file)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException(MESSAGE_INVALID_FILE);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (field.equals("modules") && value == JsonToken.START_ARRAY) {
+                    scanModules(parser, matches);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Adds the matching modules of the array that {@code parser} is at the start of to {@code matches}.
+     * The tokens of each module are kept aside as they are read, so that a module found to match can be converted
+     * without reading it again.
+     */
+    private void scanModules(JsonParser parser, List<Module> matches) throws IOException, IllegalValueException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            TokenBuffer tokens = new TokenBuffer(null, false);
+            tokens.copyCurrentEvent(parser);
+            String name = null;
+            List<String> tagNames = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                tokens.copyCurrentEvent(parser);
+                JsonToken value = parser.nextToken();
+                if (field.equals("name") && value == JsonToken.VALUE_STRING) {
+                    name = parser.getText();
+                } else if (field.equals("tagged") && value == JsonToken.START_ARRAY) {
+                    tokens.copyCurrentEvent(parser);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        if (parser.getCurrentToken() == JsonToken.VALUE_STRING) {
+                            tagNames.add(parser.getText());
+                        }
+                        tokens.copyCurrentStructure(parser);
+                    }
+                }
+                tokens.copyCurrentStructure(parser);
+            }
+            tokens.copyCurrentEvent(parser);
+
+            if (name != null && predicate.test(name, tagNames)) {
+                try (JsonParser moduleParser = tokens.asParser()) {
+                    matches.add(JsonUtil.fromJsonParser(moduleParser, JsonAdaptedModule.class).toModelType());
+                }
+            }
+        }
+        if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+            throw new IOException(MESSAGE_INVALID_FILE);
+        }
+    }
+}
@@ -58,7 +58,7 @@ public class ModuleCard extends UiPart<Region> {
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
         address.setText("Venue: " + module.getAddress());
-        timeSlot.setText("Time: " + module.getTimeSlot());
+        timeSlot.setText("Time: " + module.getTimeSlots());
         remark.setText("Remark: " + module.getRemark());
         deadline.setText("Deadline: " + module.getDeadline());
         teacher.setText("Teacher: " + module.getTeacher());
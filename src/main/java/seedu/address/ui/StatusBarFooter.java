@@ -1,7 +1,7 @@
 package seedu.address.ui;
 
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -9,20 +9,34 @@ import javafx.scene.layout.Region;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
+ * It shows how many modules have each tag.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String NO_TAGS_STATUS = "No tags yet";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
-    private Label saveLocationStatus;
+    private Label tagCountStatus;
 
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} showing {@code tagCounts}.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Map<String, Integer> tagCounts) {
         super(FXML);
-        saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        setTagCounts(tagCounts);
+    }
+
+    /**
+     * Shows {@code tagCounts}, the number of modules with each tag, in the status bar.
+     */
+    public void setTagCounts(Map<String, Integer> tagCounts) {
+        tagCountStatus.setText(tagCounts.isEmpty()
+                ? NO_TAGS_STATUS
+                : tagCounts.entrySet().stream()
+                        .map(entry -> entry.getKey() + ": " + entry.getValue())
+                        .collect(Collectors.joining("  |  ")));
     }
 
 }
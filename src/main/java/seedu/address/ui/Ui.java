@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code reminder} without waiting for the user to close it. Must be called on the JavaFX thread. */
+    void showReminder(String reminder);
+
 }
@@ -11,6 +11,7 @@ import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.model.agenda.Agenda;
 
 /**
  * The manager of the UI component.
@@ -88,11 +89,23 @@ public class UiManager implements Ui {
         System.exit(1);
     }
 
-    private void showWorkToday(String tasks) {
+    @Override
+    public void showReminder(String reminder) {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.initOwner(mainWindow.getPrimaryStage());
+        alert.setTitle("Reminder");
+        alert.setHeaderText(null);
+        alert.setContentText(reminder);
+        alert.setResizable(true);
+        alert.getDialogPane().setMinHeight(javafx.scene.layout.Region.USE_PREF_SIZE);
+        alert.show();
+    }
+
+    private void showWorkToday(Agenda agenda) {
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle("Work Today");
         alert.setHeaderText(null);
-        alert.setContentText(tasks);
+        alert.setContentText(agenda.isEmpty() ? "No Time Slots or Deadlines Today! :)" : agenda.toString());
 
         alert.setResizable(true);
         alert.getDialogPane().setMinHeight(javafx.scene.layout.Region.USE_PREF_SIZE);
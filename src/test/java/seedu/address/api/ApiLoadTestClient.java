@@ -0,0 +1,124 @@
+package seedu.address.api;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JsonModuleTrackerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * A load-test client for {@link ApiServer} that reports throughput and latency percentiles.
+ * Not a unit test; run it with {@code gradlew apiLoadTest --args="..."}.
+ *
+ * Arguments (all optional): {@code URL THREADS REQUESTS_PER_THREAD WRITE_PERCENT}.
+ * If {@code URL} is {@code -} or absent, a server backed by the sample data is started in-process.
+ */
+public class ApiLoadTestClient {
+
+    private static final int DEFAULT_THREADS = 8;
+    private static final int DEFAULT_REQUESTS_PER_THREAD = 500;
+    private static final int DEFAULT_WRITE_PERCENT = 10;
+
+    /**
+     * Runs the load test and prints a summary to standard output.
+     */
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "-";
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_THREADS;
+        int requestsPerThread = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_REQUESTS_PER_THREAD;
+        int writePercent = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_WRITE_PERCENT;
+
+        ApiServer server = null;
+        ExecutorService writer = null;
+        if (url.equals("-")) {
+            Path folder = Files.createTempDirectory("apiLoadTest");
+            writer = Executors.newSingleThreadExecutor();
+            server = new ApiServer(new LogicManager(
+                    new ModelManager(new ModuleTracker(SampleDataUtil.getSampleModuleTracker()), new UserPrefs()),
+                    new StorageManager(new JsonModuleTrackerStorage(folder.resolve("moduleTracker.json")),
+                            new JsonUserPrefsStorage(folder.resolve("userPrefs.json")))), writer);
+            server.start(0);
+            url = "http://127.0.0.1:" + server.getPort() + ApiServer.MODULES_PATH;
+        }
+
+        try {
+            run(url, threads, requestsPerThread, writePercent);
+        } finally {
+            if (server != null) {
+                server.stop();
+                writer.shutdownNow();
+            }
+        }
+    }
+
+    private static void run(String url, int threads, int requestsPerThread, int writePercent) throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger nameSuffix = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<long[]>> results = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            results.add(pool.submit(() -> {
+                long[] latencies = new long[requestsPerThread];
+                for (int i = 0; i < requestsPerThread; i++) {
+                    boolean isWrite = (i * 100L + seed) % 100 < writePercent;
+                    HttpRequest request = isWrite
+                            ? HttpRequest.newBuilder(URI.create(url))
+                                    .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"LOAD"
+                                            + nameSuffix.incrementAndGet() + "\",\"tags\":[\"Lecture\"]}"))
+                                    .build()
+                            : HttpRequest.newBuilder(URI.create(url)).GET().build();
+                    long sent = System.nanoTime();
+                    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                    latencies[i] = System.nanoTime() - sent;
+                    if (response.statusCode() >= 400) {
+                        errors.incrementAndGet();
+                    }
+                }
+                return latencies;
+            }));
+        }
+
+        long[] all = new long[threads * requestsPerThread];
+        int position = 0;
+        for (Future<long[]> result : results) {
+            long[] latencies = result.get();
+            System.arraycopy(latencies, 0, all, position, latencies.length);
+            position += latencies.length;
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+
+        Arrays.sort(all);
+        System.out.printf("requests=%d threads=%d writes=%d%% errors=%d%n", all.length, threads, writePercent,
+                errors.get());
+        System.out.printf("throughput=%.1f req/s%n", all.length / elapsedSeconds);
+        System.out.printf("latency p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms%n", percentile(all, 50),
+                percentile(all, 90), percentile(all, 99), all[all.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, rank)] / 1e6;
+    }
+}
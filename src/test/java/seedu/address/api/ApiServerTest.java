@@ -0,0 +1,163 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_CS3230;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_CS3230;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonModuleTrackerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private ExecutorService writer;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        model = new ModelManager(getTypicalModuleTracker(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonModuleTrackerStorage(temporaryFolder.resolve("moduleTracker.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        writer = Executors.newSingleThreadExecutor();
+        server = new ApiServer(new LogicManager(model, storage), writer);
+        server.start(0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        writer.shutdownNow();
+    }
+
+    @Test
+    public void get_allModules_returnsEveryModule() throws Exception {
+        HttpResponse<String> response = send("GET", "", null);
+        assertEquals(200, response.statusCode());
+        String compactBody = response.body().replaceAll("\\s+", "");
+        for (int i = 0; i < model.getModuleTracker().getModuleList().size(); i++) {
+            assertTrue(compactBody.contains("\"index\":" + (i + 1) + ","));
+        }
+    }
+
+    @Test
+    public void get_withKeywords_returnsMatchesOnly() throws Exception {
+        HttpResponse<String> response = send("GET", "?keywords=CS2106", null);
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("CS2106"));
+        assertFalse(response.body().contains("CS2103T"));
+    }
+
+    @Test
+    public void get_indexOutOfRange_returnsNotFound() throws Exception {
+        assertEquals(404, send("GET", "/999", null).statusCode());
+        assertEquals(404, send("GET", "/abc", null).statusCode());
+    }
+
+    @Test
+    public void post_validModule_addsModule() throws Exception {
+        int sizeBefore = model.getModuleTracker().getModuleList().size();
+        String body = "{\"name\":\"" + VALID_NAME_CS3230 + "\",\"tags\":[\"" + VALID_TAG_CS3230 + "\"]}";
+
+        HttpResponse<String> response = send("POST", "", body);
+
+        assertEquals(201, response.statusCode());
+        assertEquals(sizeBefore + 1, model.getModuleTracker().getModuleList().size());
+        assertTrue(send("GET", "?keywords=" + VALID_NAME_CS3230, null).body().contains(VALID_NAME_CS3230));
+    }
+
+    @Test
+    public void post_validModule_keepsFilter() throws Exception {
+        model.updateFilteredModuleList(unused -> false);
+        String body = "{\"name\":\"" + VALID_NAME_CS3230 + "\",\"tags\":[\"" + VALID_TAG_CS3230 + "\"]}";
+
+        assertEquals(201, send("POST", "", body).statusCode());
+        assertTrue(model.getDisplayedModuleList().isEmpty());
+    }
+
+    @Test
+    public void post_invalidModule_returnsError() throws Exception {
+        assertEquals(422, send("POST", "", "{\"name\":\"CS&\"}").statusCode());
+        assertEquals(400, send("POST", "", "{\"name\":\"CS3230 t/Lab\"}").statusCode());
+        assertEquals(400, send("POST", "", "not json").statusCode());
+    }
+
+    @Test
+    public void put_validIndex_editsModule() throws Exception {
+        HttpResponse<String> response = send("PUT", "/1", "{\"remark\":\"Edited over HTTP\"}");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("Edited over HTTP", model.getModuleTracker().getModuleList().get(0).getRemark().value);
+    }
+
+    @Test
+    public void put_hiddenModule_editsModuleAndKeepsFilter() throws Exception {
+        model.updateFilteredModuleList(unused -> false);
+
+        HttpResponse<String> response = send("PUT", "/2", "{\"remark\":\"Edited over HTTP\"}");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("Edited over HTTP", model.getModuleTracker().getModuleList().get(1).getRemark().value);
+        assertTrue(model.getDisplayedModuleList().isEmpty());
+    }
+
+    @Test
+    public void delete_hiddenModule_deletesModuleAndKeepsFilter() throws Exception {
+        int sizeBefore = model.getModuleTracker().getModuleList().size();
+        model.updateFilteredModuleList(unused -> false);
+
+        HttpResponse<String> response = send("DELETE", "/" + sizeBefore, null);
+
+        assertEquals(200, response.statusCode());
+        assertEquals(sizeBefore - 1, model.getModuleTracker().getModuleList().size());
+        assertTrue(model.getDisplayedModuleList().isEmpty());
+    }
+
+    @Test
+    public void nullBody_returnsBadRequest() throws Exception {
+        assertEquals(400, send("POST", "", "null").statusCode());
+        assertEquals(400, send("PUT", "/1", "null").statusCode());
+    }
+
+    @Test
+    public void unsupportedMethod_returnsMethodNotAllowed() throws Exception {
+        assertEquals(405, send("DELETE", "", null).statusCode());
+        assertEquals(405, send("POST", "/1", "{}").statusCode());
+    }
+
+    private HttpResponse<String> send(String method, String suffix, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://127.0.0.1:" + server.getPort() + ApiServer.MODULES_PATH + suffix))
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
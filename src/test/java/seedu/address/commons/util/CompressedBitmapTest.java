@@ -0,0 +1,93 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    @Test
+    public void addRemoveContains_trackCardinality() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        assertTrue(bitmap.add(5));
+        assertFalse(bitmap.add(5));
+        assertTrue(bitmap.add(70000));
+        assertEquals(2, bitmap.getCardinality());
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(6));
+
+        assertTrue(bitmap.remove(5));
+        assertFalse(bitmap.remove(5));
+        assertFalse(bitmap.remove(-1));
+        assertArrayEquals(new int[] {70000}, bitmap.toArray());
+
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    }
+
+    @Test
+    public void denseContainer_switchesRepresentation() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i <= CompressedBitmap.MAX_ARRAY_CONTAINER_SIZE; i++) {
+            bitmap.add(i * 2);
+        }
+        assertEquals(1, bitmap.countBitmapContainers());
+        assertEquals(CompressedBitmap.MAX_ARRAY_CONTAINER_SIZE + 1, bitmap.getCardinality());
+
+        bitmap.remove(0);
+        assertEquals(0, bitmap.countBitmapContainers());
+        assertTrue(bitmap.contains(2));
+        assertFalse(bitmap.contains(3));
+    }
+
+    @Test
+    public void setOperations_matchTreeSet() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 20; round++) {
+            // Alternate between sparse and dense values so every kind of container pair is exercised.
+            int range = round % 2 == 0 ? 200000 : 9000;
+            TreeSet<Integer> expectedFirst = new TreeSet<>();
+            TreeSet<Integer> expectedSecond = new TreeSet<>();
+            CompressedBitmap first = new CompressedBitmap();
+            CompressedBitmap second = new CompressedBitmap();
+            for (int i = 0; i < 6000; i++) {
+                int value = random.nextInt(range);
+                expectedFirst.add(value);
+                first.add(value);
+                value = random.nextInt(range);
+                expectedSecond.add(value);
+                second.add(value);
+            }
+
+            TreeSet<Integer> and = new TreeSet<>(expectedFirst);
+            and.retainAll(expectedSecond);
+            TreeSet<Integer> or = new TreeSet<>(expectedFirst);
+            or.addAll(expectedSecond);
+            TreeSet<Integer> andNot = new TreeSet<>(expectedFirst);
+            andNot.removeAll(expectedSecond);
+
+            assertArrayEquals(toArray(and), first.and(second).toArray());
+            assertArrayEquals(toArray(or), first.or(second).toArray());
+            assertArrayEquals(toArray(andNot), first.andNot(second).toArray());
+            assertEquals(or.size(), first.or(second).getCardinality());
+            assertArrayEquals(toArray(expectedFirst), first.toArray());
+        }
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(CompressedBitmap.of(1, 2, 3), CompressedBitmap.of(3, 2, 1));
+        assertFalse(CompressedBitmap.of(1, 2).equals(CompressedBitmap.of(1)));
+        assertFalse(CompressedBitmap.of(1).equals(null));
+    }
+
+    private static int[] toArray(TreeSet<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
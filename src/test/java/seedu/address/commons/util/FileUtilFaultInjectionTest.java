@@ -0,0 +1,132 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Kills saves made by {@code FileUtil#writeToFile} at random offsets, and checks that the file saved to always holds
+ * either all of its old content or all of its new content, before and after recovery.
+ */
+public class FileUtilFaultInjectionTest {
+
+    private static final int RUNS = 200;
+    private static final byte[] OLD_CONTENT = "{ \"modules\" : [ \"old\" ] }".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
+    private final Random random = new Random(2103);
+    private Path file;
+
+    @BeforeEach
+    public void setUp() {
+        file = testFolder.resolve("data.json");
+    }
+
+    @Test
+    public void writeToFile_killedAtRandomOffset_oldContentKeptAndRecovered() throws IOException {
+        for (int run = 0; run < RUNS; run++) {
+            byte[] newContent = randomContent();
+            int killedAt = random.nextInt(newContent.length + 1);
+            FileUtil.writeToFile(file, OLD_CONTENT, FileUtilFaultInjectionTest::writeInChunks);
+
+            assertThrows(Killed.class, () -> FileUtil.writeToFile(file, newContent, killedAfter(killedAt)));
+            assertArrayEquals(OLD_CONTENT, Files.readAllBytes(file));
+            assertTrue(Files.exists(FileUtil.getTempFilePath(file)));
+
+            boolean isRecovered = FileUtil.recoverTempFile(file, isContent(newContent));
+            assertEquals(killedAt == newContent.length, isRecovered);
+            assertArrayEquals(isRecovered ? newContent : OLD_CONTENT, Files.readAllBytes(file));
+            assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+        }
+    }
+
+    @Test
+    public void writeToFile_failsAtRandomOffset_oldContentKeptAndTempFileDeleted() throws IOException {
+        for (int run = 0; run < RUNS; run++) {
+            byte[] newContent = randomContent();
+            int failedAt = random.nextInt(newContent.length + 1);
+            FileUtil.writeToFile(file, OLD_CONTENT, FileUtilFaultInjectionTest::writeInChunks);
+
+            assertThrows(IOException.class, () -> FileUtil.writeToFile(file, newContent, (channel, buffer) -> {
+                writeInChunks(channel, ByteBuffer.wrap(buffer.array(), 0, failedAt));
+                throw new IOException("Disk full");
+            }));
+            assertArrayEquals(OLD_CONTENT, Files.readAllBytes(file));
+            assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+        }
+    }
+
+    @Test
+    public void writeToFile_afterKilledSave_overwritesStrayTempFile() throws IOException {
+        byte[] newContent = randomContent();
+        assertThrows(Killed.class, () -> FileUtil.writeToFile(file, newContent, killedAfter(newContent.length / 2)));
+
+        FileUtil.writeToFile(file, OLD_CONTENT, FileUtilFaultInjectionTest::writeInChunks);
+        assertArrayEquals(OLD_CONTENT, Files.readAllBytes(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void recoverTempFile_noTempFile_nothingChanged() throws IOException {
+        FileUtil.writeToFile(file, OLD_CONTENT, FileUtilFaultInjectionTest::writeInChunks);
+        assertFalse(FileUtil.recoverTempFile(file, path -> true));
+        assertArrayEquals(OLD_CONTENT, Files.readAllBytes(file));
+    }
+
+    private byte[] randomContent() {
+        byte[] content = new byte[1 + random.nextInt(64 * 1024)];
+        random.nextBytes(content);
+        return content;
+    }
+
+    /**
+     * Returns a writer that writes the first {@code killedAt} bytes and then dies like a killed app, without the
+     * chance to clean up.
+     */
+    private static FileUtil.ChannelWriter killedAfter(int killedAt) {
+        return (channel, buffer) -> {
+            writeInChunks(channel, ByteBuffer.wrap(buffer.array(), 0, killedAt));
+            throw new Killed();
+        };
+    }
+
+    /** Writes all of {@code buffer} a few kilobytes at a time, as a slow disk would. */
+    private static void writeInChunks(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            ByteBuffer chunk = buffer.slice();
+            chunk.limit(Math.min(chunk.remaining(), 4096));
+            buffer.position(buffer.position() + channel.write(chunk));
+        }
+    }
+
+    private static Predicate<Path> isContent(byte[] content) {
+        return path -> {
+            try {
+                return Arrays.equals(content, Files.readAllBytes(path));
+            } catch (IOException e) {
+                return false;
+            }
+        };
+    }
+
+    private static class Killed extends RuntimeException {
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        assertEquals(List.of(), PersistentList.empty());
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().get(0));
+    }
+
+    @Test
+    public void of_copiesElementsInOrder() {
+        List<Integer> source = range(200);
+        assertEquals(source, PersistentList.of(source));
+    }
+
+    @Test
+    public void updates_leaveOlderVersionsUnchanged() {
+        PersistentList<Integer> original = PersistentList.of(range(100));
+
+        PersistentList<Integer> replaced = original.with(50, -1);
+        PersistentList<Integer> appended = original.plus(100);
+        PersistentList<Integer> inserted = original.plus(0, -1);
+        PersistentList<Integer> removed = original.minus(99);
+
+        assertEquals(range(100), original);
+        assertEquals(-1, (int) replaced.get(50));
+        assertEquals(range(101), appended);
+        assertEquals(-1, (int) inserted.get(0));
+        assertEquals(101, inserted.size());
+        assertEquals(range(99), removed);
+    }
+
+    @Test
+    public void with_sharesUntouchedChunks() {
+        PersistentList<Integer> original = PersistentList.of(range(1000));
+        PersistentList<Integer> replaced = original.with(500, -1);
+        int chunkCount = replaced.countSharedChunks(replaced);
+        assertEquals(chunkCount - 1, replaced.countSharedChunks(original));
+        assertTrue(chunkCount > 1);
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+        }
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void outOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.of(range(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(3));
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,20 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for damerauLevenshteinDistance --------------------------------------
+
+    @Test
+    public void damerauLevenshteinDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.damerauLevenshteinDistance("lecture", "lecture"));
+        assertEquals(7, StringUtil.damerauLevenshteinDistance("", "lecture")); // Boundary case
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("lecture", "lectre")); // deletion
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("lecture", "lectures")); // insertion
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("lecture", "lacture")); // substitution
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("lecture", "lectrue")); // adjacent swap
+        assertEquals(2, StringUtil.damerauLevenshteinDistance("tutorial", "tuotrail"));
+        assertEquals(3, StringUtil.damerauLevenshteinDistance("kitten", "sitting"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,6 +1,10 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_FAILED_COMMAND_IN_BATCH;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_IN_BATCH;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_CS3230;
@@ -9,13 +13,19 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_CS3230;
 import static seedu.address.logic.commands.CommandTestUtil.REMARK_DESC_CS3230;
 import static seedu.address.logic.commands.CommandTestUtil.RESOURCE_DESC_CS3230;
 import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_CS3230;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_LECTURE;
 import static seedu.address.logic.commands.CommandTestUtil.TEACHER_DESC_CS3230;
 import static seedu.address.logic.commands.CommandTestUtil.TIMESLOT_DESC_CS3230;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
 import static seedu.address.testutil.TypicalModules.CS3230;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,14 +33,18 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ModuleTracker;
 import seedu.address.model.ReadOnlyModuleTracker;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.module.Module;
+import seedu.address.model.view.SavedView;
 import seedu.address.storage.JsonModuleTrackerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -44,11 +58,12 @@ public class LogicManagerTest {
 
     private Model model = new ModelManager();
     private Logic logic;
+    private Path moduleTrackerFilePath;
 
     @BeforeEach
     public void setUp() {
-        JsonModuleTrackerStorage moduleTrackerStorage =
-                new JsonModuleTrackerStorage(temporaryFolder.resolve("moduleTracker.json"));
+        moduleTrackerFilePath = temporaryFolder.resolve("moduleTracker.json");
+        JsonModuleTrackerStorage moduleTrackerStorage = new JsonModuleTrackerStorage(moduleTrackerFilePath);
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(moduleTrackerStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
@@ -97,6 +112,132 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_batch_executesAllAndSavesOnce() throws Exception {
+        SaveCountingStub moduleTrackerStorage = new SaveCountingStub(temporaryFolder.resolve("batch.json"));
+        logic = new LogicManager(model, new StorageManager(moduleTrackerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_CS3230 + TAG_DESC_CS3230;
+        CommandResult result = logic.execute(addCommand + " ; " + ListCommand.COMMAND_WORD + "\n"
+                + DeleteCommand.COMMAND_WORD + " 1;;");
+
+        String[] feedback = result.getFeedbackToUser().split("\n");
+        assertEquals(3, feedback.length);
+        assertTrue(feedback[0].startsWith(AddCommand.MESSAGE_SUCCESS.replace("%1$s", "")));
+        assertEquals(ListCommand.MESSAGE_SUCCESS, feedback[1]);
+        assertTrue(feedback[2].startsWith(DeleteCommand.MESSAGE_DELETE_MODULE_SUCCESS.replace("%1$s", "")));
+        assertEquals(new ModelManager(), model);
+        assertEquals(1, moduleTrackerStorage.saveCount);
+    }
+
+    @Test
+    public void execute_batchWithFailingCommand_rollsBackAll() {
+        String batch = AddCommand.COMMAND_WORD + NAME_DESC_CS3230 + TAG_DESC_CS3230 + "; delete 9";
+        String expectedMessage = String.format(MESSAGE_FAILED_COMMAND_IN_BATCH, 2, 2, "delete 9",
+                MESSAGE_INVALID_MODULE_DISPLAYED_INDEX);
+        assertCommandException(batch, expectedMessage);
+        assertThrows(CommandException.class, UndoCommand.MESSAGE_FAILURE, () -> logic.execute("undo"));
+    }
+
+    @Test
+    public void execute_batchWithFailingCommand_restoresPrefsAndDisplay() {
+        String batch = AddCommand.COMMAND_WORD + NAME_DESC_CS3230 + TAG_DESC_CS3230
+                + "; find CS3230; sort deadline; view save mine; clashes warn on; term 090123 280423; delete 9";
+        assertThrows(CommandException.class, () -> logic.execute(batch));
+
+        assertEquals(new UserPrefs(), model.getUserPrefs());
+        assertEquals(Optional.of(new SavedView()), model.getDisplayedView());
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void execute_batchWithUnexpectedException_rollsBackAll() throws Exception {
+        model = new ModelManager() {
+            @Override
+            public void deleteModule(Module target) {
+                throw new IllegalStateException("Unexpected");
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(new JsonModuleTrackerStorage(moduleTrackerFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        String batch = AddCommand.COMMAND_WORD + NAME_DESC_CS3230 + TAG_DESC_CS3230 + "; delete 1";
+        assertThrows(IllegalStateException.class, () -> logic.execute(batch));
+        assertEquals(new ModelManager(), model);
+
+        // the next command does not commit the changes of the failed batch with its own
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_CS3230 + TAG_DESC_LECTURE);
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void execute_batchWithInvalidCommand_executesNothing() {
+        String batch = AddCommand.COMMAND_WORD + NAME_DESC_CS3230 + TAG_DESC_CS3230 + "\nuicfhmowqewca";
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_IN_BATCH, 2, 2, "uicfhmowqewca",
+                MESSAGE_UNKNOWN_COMMAND);
+        assertParseException(batch, expectedMessage);
+    }
+
+    @Test
+    public void execute_batchThenUndo_undoesWholeBatch() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_CS3230 + TAG_DESC_CS3230 + "; "
+                + AddCommand.COMMAND_WORD + NAME_DESC_CS3230 + TAG_DESC_LECTURE);
+        assertEquals(2, model.getModuleTracker().getModuleList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void execute_dataFileChangedElsewhere_mergedBeforeSaving() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_CS3230 + TAG_DESC_CS3230);
+        Module added = model.getModuleTracker().getModuleList().get(0);
+        ModuleTracker elsewhere = new ModuleTracker();
+        elsewhere.addModule(added);
+        elsewhere.addModule(CS2103T_LEC);
+        saveElsewhere(elsewhere);
+
+        CommandResult result = logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_CS3230 + TAG_DESC_LECTURE);
+
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(LogicManager.MESSAGE_EXTERNAL_CHANGES, 1, 0, 0)));
+        assertEquals(3, model.getModuleTracker().getModuleList().size());
+        assertTrue(model.hasModule(CS2103T_LEC));
+        assertEquals(new ModuleTracker(model.getModuleTracker()),
+                new JsonModuleTrackerStorage(moduleTrackerFilePath).readModuleTracker().get());
+        assertFalse(logic.mergeExternalChanges().isPresent());
+    }
+
+    @Test
+    public void mergeExternalChanges_changedOnBothSides_keepsLocalVersion() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_CS3230 + TAG_DESC_CS3230);
+        Module added = model.getModuleTracker().getModuleList().get(0);
+        Module editedHere = new ModuleBuilder(added).withRemark("Edited here").build();
+        Module editedElsewhere = new ModuleBuilder(added).withRemark("Edited elsewhere").build();
+        model.setModule(added, editedHere);
+        ModuleTracker elsewhere = new ModuleTracker();
+        elsewhere.addModule(editedElsewhere);
+        saveElsewhere(elsewhere);
+
+        String feedback = logic.mergeExternalChanges().get();
+
+        Path conflictFilePath = temporaryFolder.resolve("moduleTracker.json" + LogicManager.CONFLICT_FILE_SUFFIX);
+        assertTrue(feedback.endsWith(String.format(LogicManager.MESSAGE_CONFLICTS, editedHere.getLabel(),
+                conflictFilePath.getFileName())));
+        assertEquals(List.of(editedHere), model.getModuleTracker().getModuleList());
+        assertEquals(elsewhere, new JsonModuleTrackerStorage(conflictFilePath).readModuleTracker().get());
+        assertEquals(List.of(editedHere), new JsonModuleTrackerStorage(moduleTrackerFilePath).readModuleTracker()
+                .get().getModuleList());
+    }
+
+    @Test
+    public void mergeExternalChanges_unchanged_nothingMerged() throws Exception {
+        assertFalse(logic.mergeExternalChanges().isPresent());
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_CS3230 + TAG_DESC_CS3230);
+        assertFalse(logic.mergeExternalChanges().isPresent());
+    }
+
     @Test
     public void getDisplayedModuleList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getDisplayedModuleList().remove(0));
@@ -155,6 +296,33 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Saves {@code moduleTracker} to the data file as another program would.
+     */
+    private void saveElsewhere(ReadOnlyModuleTracker moduleTracker) throws IOException {
+        FileTime saved = Files.getLastModifiedTime(moduleTrackerFilePath);
+        new JsonModuleTrackerStorage(moduleTrackerFilePath).saveModuleTracker(moduleTracker);
+        // file times may be too coarse to tell two quick saves apart
+        Files.setLastModifiedTime(moduleTrackerFilePath, FileTime.fromMillis(saved.toMillis() + 1000));
+    }
+
+    /**
+     * A stub class that counts how many times the save method is called.
+     */
+    private static class SaveCountingStub extends JsonModuleTrackerStorage {
+        private int saveCount;
+
+        private SaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveModuleTracker(ReadOnlyModuleTracker moduleTracker, Path filePath) throws IOException {
+            saveCount++;
+            super.saveModuleTracker(moduleTracker, filePath);
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
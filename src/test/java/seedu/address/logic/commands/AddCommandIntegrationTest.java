@@ -1,7 +1,10 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showModuleAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_MODULE;
 import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +39,20 @@ public class AddCommandIntegrationTest {
                 String.format(AddCommand.MESSAGE_SUCCESS, validModule), expectedModel);
     }
 
+    @Test
+    public void execute_filteredList_showsAllModules() throws Exception {
+        showModuleAtIndex(model, INDEX_FIRST_MODULE);
+        new AddCommand(new ModuleBuilder().build()).execute(model);
+        assertEquals(model.getModuleTracker().getModuleList(), model.getDisplayedModuleList());
+    }
+
+    @Test
+    public void execute_notShowingAll_filterKept() throws Exception {
+        showModuleAtIndex(model, INDEX_FIRST_MODULE);
+        new AddCommand(new ModuleBuilder().build(), false).execute(model);
+        assertEquals(1, model.getDisplayedModuleList().size());
+    }
+
     @Test
     public void execute_duplicateModule_throwsCommandException() {
         Module moduleInList = model.getModuleTracker().getModuleList().get(0);
@@ -7,9 +7,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,7 +26,21 @@ import seedu.address.model.Model;
 import seedu.address.model.ModuleTracker;
 import seedu.address.model.ReadOnlyModuleTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.agenda.Agenda;
+import seedu.address.model.archive.ModuleArchive;
+import seedu.address.model.integrity.IntegrityChecker;
 import seedu.address.model.module.Module;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.TextIndex;
+import seedu.address.model.sync.SyncStore;
+import seedu.address.model.time.TimeService;
+import seedu.address.model.timetable.FreePeriod;
+import seedu.address.model.timetable.Occurrence;
+import seedu.address.model.timetable.Term;
+import seedu.address.model.view.SavedView;
+import seedu.address.model.workspace.Workspaces;
 import seedu.address.testutil.ModuleBuilder;
 
 public class AddCommandTest {
@@ -73,6 +92,9 @@ public class AddCommandTest {
 
         // different module -> returns false
         assertFalse(addAliceCommand.equals(addBobCommand));
+
+        // not showing all modules afterwards -> returns false
+        assertFalse(addAliceCommand.equals(new AddCommand(alice, false)));
     }
 
     /**
@@ -124,6 +146,41 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyModuleTracker getModuleTrackerSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitModuleTracker() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackModuleTracker() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoModuleTracker() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoModuleTracker() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoModuleTracker() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoModuleTracker() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasModule(Module module) {
             throw new AssertionError("This method should not be called.");
@@ -149,6 +206,131 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredModuleList(Predicate<Module> predicate, Query query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<SavedView> getDisplayedView() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveView(String name, SavedView view) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showView(String name, Predicate<Module> predicate, Comparator<Module> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateModuleRanking(Comparator<Module> ranking) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Module> getModulesClashingWith(Module module) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setArchive(ModuleArchive archive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Module> getArchivedModules() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unarchiveModules(List<Module> modules) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setWorkspaces(Workspaces workspaces) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Workspaces> getWorkspaces() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void openWorkspace(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setSyncStore(SyncStore syncStore) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<SyncStore> getSyncStore() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setIntegrityChecker(IntegrityChecker integrityChecker) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<IntegrityChecker> getIntegrityChecker() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TimeService getTimeService() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Agenda> getAgendas(int daysFromToday, int days) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setTerm(Term term) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Iterator<Occurrence> getOccurrencesFrom(LocalDateTime from) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<FreePeriod> getFreePeriods(int minLength, int fromMinute, int toMinute) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setClashWarningEnabled(boolean isEnabled) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<TextIndex.Hit> searchText(List<String> terms) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan planQuery(Query query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, Integer> getTagCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateSortedModuleList(Comparator<Module> comparator) {
             throw new AssertionError("This method should not be called.");
@@ -191,10 +373,20 @@ public class AddCommandTest {
             modulesAdded.add(module);
         }
 
+        @Override
+        public void updateFilteredModuleList(Predicate<Module> predicate) {
+            requireNonNull(predicate);
+        }
+
         @Override
         public ReadOnlyModuleTracker getModuleTracker() {
             return new ModuleTracker();
         }
+
+        @Override
+        public ReadOnlyUserPrefs getUserPrefs() {
+            return new UserPrefs();
+        }
     }
 
 }
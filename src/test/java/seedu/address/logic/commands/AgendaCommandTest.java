@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.MutableClock;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code TodayCommand}, {@code TomorrowCommand} and
+ * {@code WeekCommand}.
+ */
+public class AgendaCommandTest {
+
+    /** The Friday after the typical modules are due. */
+    private final MutableClock clock = new MutableClock(LocalDateTime.of(2023, 2, 24, 9, 0));
+    private final Model model = new ModelManager(getTypicalModuleTracker(), new UserPrefs(), clock);
+
+    @Test
+    public void equals() {
+        assertTrue(new TodayCommand().equals(new TodayCommand()));
+        assertFalse(new TodayCommand().equals(new TomorrowCommand()));
+        assertFalse(new TodayCommand().equals(null));
+    }
+
+    @Test
+    public void execute_today_showsLessons() {
+        assertEquals("Friday 24 Feb 2023:\n12:00-14:00: CS1101S [Lecture]",
+                new TodayCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_tomorrowEmpty_showsNothingOn() {
+        assertEquals(String.format(AgendaCommand.MESSAGE_NOTHING_ON, "tomorrow"),
+                new TomorrowCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_week_skipsEmptyDays() {
+        String expectedMessage = "Friday 24 Feb 2023:\n12:00-14:00: CS1101S [Lecture]\n\n"
+                + "Monday 27 Feb 2023:\n12:00-14:00: CS2103T [Lecture]\n\n"
+                + "Tuesday 28 Feb 2023:\n12:00-14:00: CS2106 [Tutorial]\n\n"
+                + "Wednesday 1 Mar 2023:\n12:00-14:00: CS2101 [Presentation]\n\n"
+                + "Thursday 2 Mar 2023:\n12:00-14:00: CS1231S [Tutorial]";
+        assertEquals(expectedMessage, new WeekCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_weekEmpty_showsNothingOn() {
+        Model emptyModel = new ModelManager(new ModuleTracker(), new UserPrefs(), clock);
+        assertEquals(String.format(AgendaCommand.MESSAGE_NOTHING_ON, "the next 7 days"),
+                new WeekCommand().execute(emptyModel).getFeedbackToUser());
+    }
+}
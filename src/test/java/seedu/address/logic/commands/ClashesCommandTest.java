@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS2030S_LAB;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.CS3219;
+import static seedu.address.testutil.TypicalModules.CS3230;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ClashesCommand}.
+ */
+public class ClashesCommandTest {
+    private Model model = new ModelManager(getTypicalModuleTracker(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ClashesCommand reportCommand = new ClashesCommand();
+
+        assertTrue(reportCommand.equals(reportCommand));
+        assertTrue(reportCommand.equals(new ClashesCommand()));
+        assertTrue(new ClashesCommand(true).equals(new ClashesCommand(true)));
+        assertFalse(reportCommand.equals(null));
+        assertFalse(reportCommand.equals(new ClashesCommand(false)));
+        assertFalse(new ClashesCommand(true).equals(new ClashesCommand(false)));
+    }
+
+    @Test
+    public void execute_noClashes_showsNoModules() {
+        assertEquals(ClashesCommand.MESSAGE_NO_CLASHES, new ClashesCommand().execute(model).getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getDisplayedModuleList());
+    }
+
+    @Test
+    public void execute_clashes_listsGroupsAndShowsClashingModules() {
+        model.addModule(CS3219);
+        model.addModule(CS2030S_LAB);
+        model.addModule(CS3230);
+        String expectedMessage = String.format(ClashesCommand.MESSAGE_CLASHES, 2)
+                + "\n1. Tuesday 12:00-14:00: CS2106, CS3219"
+                + "\n2. Tuesday 14:00-16:00: CS2030S, CS3230";
+        assertEquals(expectedMessage, new ClashesCommand().execute(model).getFeedbackToUser());
+        assertEquals(Arrays.asList(CS2106_TUT, CS3219, CS2030S_LAB, CS3230), model.getDisplayedModuleList());
+    }
+
+    @Test
+    public void execute_warnOn_addWarnsAboutClash() throws Exception {
+        assertEquals(ClashesCommand.MESSAGE_WARNINGS_ON, new ClashesCommand(true).execute(model).getFeedbackToUser());
+        assertTrue(model.getUserPrefs().isClashWarningEnabled());
+
+        String expectedMessage = String.format(AddCommand.MESSAGE_SUCCESS, CS3219) + "\n"
+                + String.format(ClashesCommand.MESSAGE_CLASH_WARNING, "CS2106 (" + CS2106_TUT.getTimeSlots() + ")");
+        assertEquals(expectedMessage, new AddCommand(CS3219).execute(model).getFeedbackToUser());
+
+        // adding a module that clashes with nothing gives no warning
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, CS2030S_LAB),
+                new AddCommand(CS2030S_LAB).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_warnOff_addDoesNotWarn() throws Exception {
+        model.setClashWarningEnabled(true);
+        assertEquals(ClashesCommand.MESSAGE_WARNINGS_OFF,
+                new ClashesCommand(false).execute(model).getFeedbackToUser());
+        assertFalse(model.getUserPrefs().isClashWarningEnabled());
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, CS3219),
+                new AddCommand(CS3219).execute(model).getFeedbackToUser());
+    }
+}
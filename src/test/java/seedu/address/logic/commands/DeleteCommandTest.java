@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showModuleAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_MODULE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_MODULE;
+import static seedu.address.testutil.TypicalModules.CS3219;
 import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
 
 import org.junit.jupiter.api.Test;
@@ -76,6 +77,26 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_hiddenModuleTarget_success() {
+        Module moduleToDelete = model.getModuleTracker().getModuleList().get(INDEX_SECOND_MODULE.getZeroBased());
+        showModuleAtIndex(model, INDEX_FIRST_MODULE);
+        DeleteCommand deleteCommand = new DeleteCommand(moduleToDelete);
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_MODULE_SUCCESS, moduleToDelete);
+
+        Model expectedModel = new ModelManager(model.getModuleTracker(), new UserPrefs());
+        showModuleAtIndex(expectedModel, INDEX_FIRST_MODULE);
+        expectedModel.deleteModule(moduleToDelete);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_targetNotInModuleTracker_throwsCommandException() {
+        assertCommandFailure(new DeleteCommand(CS3219), model, Messages.MESSAGE_MODULE_NOT_FOUND);
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(INDEX_FIRST_MODULE);
@@ -96,6 +117,12 @@ public class DeleteCommandTest {
 
         // different module -> returns false
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
+
+        // same target -> returns true
+        assertTrue(new DeleteCommand(CS3219).equals(new DeleteCommand(CS3219)));
+
+        // target instead of index -> returns false
+        assertFalse(deleteFirstCommand.equals(new DeleteCommand(CS3219)));
     }
 
     /**
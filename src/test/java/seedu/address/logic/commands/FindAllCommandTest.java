@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS3219;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.NameContainsKeywordsPredicate;
+import seedu.address.storage.JsonModuleTrackerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WorkspaceSearch;
+
+/**
+ * Contains integration tests (interaction with the Model and Storage) for {@code FindAllCommand}.
+ */
+public class FindAllCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path moduleTrackerFilePath = testFolder.resolve("moduletracker.json");
+        StorageManager storage = new StorageManager(new JsonModuleTrackerStorage(moduleTrackerFilePath),
+                new JsonUserPrefsStorage(testFolder.resolve("preferences.json")));
+        storage.saveModuleTracker(getTypicalModuleTracker());
+        ModuleTracker cohort = new ModuleTracker();
+        cohort.addModule(CS3219);
+        cohort.addModule(CS2103T_LEC);
+        storage.saveModuleTracker(cohort, testFolder.resolve("cohort-b.json"));
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setModuleTrackerFilePath(moduleTrackerFilePath);
+        model = new ModelManager(getTypicalModuleTracker(), userPrefs);
+        model.setWorkspaces(storage);
+    }
+
+    @Test
+    public void equals() {
+        FindAllCommand findLab = findAll("lab");
+
+        assertTrue(findLab.equals(findLab));
+        assertTrue(findLab.equals(findAll("lab")));
+        assertFalse(findLab.equals(findAll("lecture")));
+        assertFalse(findLab.equals(null));
+    }
+
+    @Test
+    public void execute_matchesInSeveralWorkspaces_groupedByWorkspace() throws Exception {
+        String expectedMessage = String.format(FindAllCommand.MESSAGE_FOUND, 3, 2, 2)
+                + "\ncohort-b:\n  " + CS3219.getLabel() + "\n  " + CS2103T_LEC.getLabel()
+                + "\nmoduletracker:\n  " + CS2103T_LEC.getLabel();
+        assertEquals(expectedMessage, findAll("CS3219", "CS2103T").execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noMatches_noWorkspacesListed() throws Exception {
+        assertEquals(String.format(FindAllCommand.MESSAGE_FOUND, 0, 0, 2),
+                findAll("MA1521").execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_unreadableWorkspace_reportedWithOtherMatches() throws Exception {
+        Files.write(testFolder.resolve("broken.json"), List.of("[ ]"), StandardCharsets.UTF_8);
+        String expectedMessage = String.format(FindAllCommand.MESSAGE_FOUND, 1, 1, 3)
+                + "\ncohort-b:\n  " + CS3219.getLabel()
+                + "\n" + String.format(FindAllCommand.MESSAGE_FAILED, "broken", WorkspaceSearch.MESSAGE_INVALID_FILE);
+        assertEquals(expectedMessage, findAll("CS3219").execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noWorkspaces_throwsCommandException() {
+        assertCommandFailure(findAll("lab"), new ModelManager(), WorkspaceCommand.MESSAGE_UNAVAILABLE);
+    }
+
+    private static FindAllCommand findAll(String... keywords) {
+        return new FindAllCommand(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+    }
+}
@@ -7,18 +7,30 @@ import static seedu.address.commons.core.Messages.MESSAGE_MODULES_LISTED_OVERVIE
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalModules.CS1101S_LEC;
 import static seedu.address.testutil.TypicalModules.CS1231S_TUT;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
 import static seedu.address.testutil.TypicalModules.CS2101_OP;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
 import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
 
+import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.module.Module;
 import seedu.address.model.module.NameContainsKeywordsPredicate;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.DayCondition;
+import seedu.address.model.query.FuzzyCondition;
+import seedu.address.model.query.KeywordCondition;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.TagCondition;
+import seedu.address.testutil.ModuleBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -52,6 +64,12 @@ public class FindCommandTest {
 
         // different module -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // same keywords as a query -> returns true
+        assertTrue(findFirstCommand.equals(new FindCommand(new KeywordCondition(List.of("first")), false)));
+
+        // explain -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(new KeywordCondition(List.of("first")), true)));
     }
 
     @Test
@@ -74,6 +92,55 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CS2101_OP, CS1231S_TUT, CS1101S_LEC), model.getDisplayedModuleList());
     }
 
+    @Test
+    public void execute_indexedQuery_modulesFound() {
+        Query query = new AndQuery(List.of(new TagCondition("lecture"), new DayCondition(DayOfWeek.MONDAY)));
+        String expectedMessage = String.format(MESSAGE_MODULES_LISTED_OVERVIEW, 1);
+        FindCommand command = new FindCommand(query, false);
+        expectedModel.updateFilteredModuleList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(CS2103T_LEC), model.getDisplayedModuleList());
+    }
+
+    @Test
+    public void execute_indexedQuery_laterChangesFilteredByQuery() throws Exception {
+        Query query = new AndQuery(List.of(new TagCondition("lecture"), new DayCondition(DayOfWeek.MONDAY)));
+        new FindCommand(query, false).execute(model);
+
+        // a module edited to match is shown, as it would be after a full scan
+        Module edited = new ModuleBuilder(CS1101S_LEC).withTimeSlots("Monday 09:00 10:00").build();
+        model.setModule(CS1101S_LEC, edited);
+        assertEquals(List.of(CS2103T_LEC, edited), model.getDisplayedModuleList());
+
+        // a module edited to no longer match is hidden
+        model.setModule(CS2103T_LEC, new ModuleBuilder(CS2103T_LEC).withTimeSlots("Tuesday 09:00 10:00").build());
+        assertEquals(List.of(edited), model.getDisplayedModuleList());
+    }
+
+    @Test
+    public void execute_explain_showsPlan() {
+        Query query = new AndQuery(List.of(new TagCondition("lecture"), new DayCondition(DayOfWeek.MONDAY)));
+        String expectedMessage = String.format(MESSAGE_MODULES_LISTED_OVERVIEW, 1) + "\n"
+                + "Query: tag/lecture AND day/monday\n"
+                + "Access: index scan on timeslot for day/monday (1 rows)\n"
+                + "Estimated: 1 of 5 modules examined, 0 matching\n"
+                + String.format(FindCommand.MESSAGE_EXPLAIN_ACTUAL, 1, 1);
+        expectedModel.updateFilteredModuleList(query);
+        assertCommandSuccess(new FindCommand(query, true), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_fuzzyQuery_closestModulesFirst() throws Exception {
+        // cs2106 is an exact match, cs2101 is one edit away and cs2103t two
+        FindCommand command = new FindCommand(new FuzzyCondition("cs2106", 2), false);
+        assertEquals(String.format(MESSAGE_MODULES_LISTED_OVERVIEW, 3), command.execute(model).getFeedbackToUser());
+        assertEquals(Arrays.asList(CS2106_TUT, CS2101_OP, CS2103T_LEC), model.getDisplayedModuleList());
+
+        // the ranking is dropped once the list is filtered again
+        model.updateFilteredModuleList(Model.PREDICATE_SHOW_ALL_MODULES);
+        assertEquals(getTypicalModuleTracker().getModuleList(), model.getDisplayedModuleList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
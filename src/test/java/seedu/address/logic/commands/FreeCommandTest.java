@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.ModuleBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FreeCommand}.
+ */
+public class FreeCommandTest {
+    private Model model = new ModelManager(getTypicalModuleTracker(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FreeCommand freeCommand = new FreeCommand(60, 0, 1440);
+
+        assertTrue(freeCommand.equals(freeCommand));
+        assertTrue(freeCommand.equals(new FreeCommand(60, 0, 1440)));
+        assertFalse(freeCommand.equals(null));
+        assertFalse(freeCommand.equals(new FreeCommand(30, 0, 1440)));
+        assertFalse(freeCommand.equals(new FreeCommand(60, 1, 1440)));
+        assertFalse(freeCommand.equals(new FreeCommand(60, 0, 1439)));
+    }
+
+    @Test
+    public void execute_withinHours_listsPeriodsAroundModules() {
+        String expectedMessage = String.format(FreeCommand.MESSAGE_FREE_PERIODS, 60, "10:00", "16:00")
+                + "\nMonday 10:00-12:00\nMonday 14:00-16:00"
+                + "\nTuesday 10:00-12:00\nTuesday 14:00-16:00"
+                + "\nWednesday 10:00-12:00\nWednesday 14:00-16:00"
+                + "\nThursday 10:00-12:00\nThursday 14:00-16:00"
+                + "\nFriday 10:00-12:00\nFriday 14:00-16:00"
+                + "\nSaturday 10:00-16:00\nSunday 10:00-16:00";
+        assertEquals(expectedMessage, new FreeCommand(60, 600, 960).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_modulesChange_keptUpToDate() {
+        model.deleteModule(CS2103T_LEC);
+        model.addModule(new ModuleBuilder().withName("MA1521").withTimeSlot("Saturday 11:00 15:00").build());
+        String expectedMessage = String.format(FreeCommand.MESSAGE_FREE_PERIODS, 300, "10:00", "16:00")
+                + "\nMonday 10:00-16:00\nSunday 10:00-16:00";
+        assertEquals(expectedMessage, new FreeCommand(300, 600, 960).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noFreePeriods() {
+        assertEquals(String.format(FreeCommand.MESSAGE_NO_FREE_PERIODS, 121, "12:00", "14:00"),
+                new FreeCommand(121, 720, 840).execute(model).getFeedbackToUser());
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.timetable.Term;
+import seedu.address.testutil.MutableClock;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code OccurrencesCommand} and {@code TermCommand}.
+ */
+public class OccurrencesCommandTest {
+
+    /** From Monday 9 Jan to Friday 28 Apr 2023, with recess in week 7, from 20 to 26 Feb. */
+    private static final Term TERM = new Term(LocalDate.of(2023, 1, 9), LocalDate.of(2023, 4, 28),
+            List.of(7), List.of());
+
+    /** Wednesday, during a typical module's lesson. */
+    private final MutableClock clock = new MutableClock(LocalDateTime.of(2023, 2, 15, 13, 0));
+    private final Model model = new ModelManager(getTypicalModuleTracker(), new UserPrefs(), clock);
+
+    @Test
+    public void equals() {
+        OccurrencesCommand between = new OccurrencesCommand(LocalDate.of(2023, 2, 20), LocalDate.of(2023, 2, 26));
+
+        assertTrue(between.equals(new OccurrencesCommand(LocalDate.of(2023, 2, 20), LocalDate.of(2023, 2, 26))));
+        assertFalse(between.equals(new OccurrencesCommand(LocalDate.of(2023, 2, 20), LocalDate.of(2023, 2, 27))));
+        assertFalse(between.equals(new OccurrencesCommand(5)));
+        assertFalse(between.equals(null));
+        assertTrue(new TermCommand().equals(new TermCommand()));
+        assertFalse(new TermCommand().equals(new TermCommand(null)));
+        assertTrue(new TermCommand(TERM).equals(new TermCommand(TERM)));
+    }
+
+    @Test
+    public void execute_between_listsLessonsInOrder() {
+        String expectedMessage = String.format(OccurrencesCommand.MESSAGE_OCCURRENCES_BETWEEN, "20 Feb 2023",
+                "22 Feb 2023")
+                + "\nMon 20 Feb 2023 12:00-14:00: CS2103T [Lecture]"
+                + "\nTue 21 Feb 2023 12:00-14:00: CS2106 [Tutorial]"
+                + "\nWed 22 Feb 2023 12:00-14:00: CS2101 [Presentation]";
+        assertEquals(expectedMessage, new OccurrencesCommand(LocalDate.of(2023, 2, 20), LocalDate.of(2023, 2, 22))
+                .execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_betweenInRecess_noLessons() {
+        new TermCommand(TERM).execute(model);
+        assertEquals(String.format(OccurrencesCommand.MESSAGE_NO_OCCURRENCES_BETWEEN, "20 Feb 2023", "26 Feb 2023"),
+                new OccurrencesCommand(LocalDate.of(2023, 2, 20), LocalDate.of(2023, 2, 26))
+                        .execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_betweenManyWeeks_truncated() {
+        String feedback = new OccurrencesCommand(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31))
+                .execute(model).getFeedbackToUser();
+        assertTrue(feedback.endsWith(OccurrencesCommand.MESSAGE_TRUNCATED));
+        assertEquals(OccurrencesCommand.MAX_SHOWN + 2, feedback.split("\n").length);
+    }
+
+    @Test
+    public void execute_next_skipsStartedLessonsAndRecess() {
+        new TermCommand(TERM).execute(model);
+        String expectedMessage = String.format(OccurrencesCommand.MESSAGE_NEXT_OCCURRENCES, 3)
+                + "\nThu 16 Feb 2023 12:00-14:00: CS1231S [Tutorial]"
+                + "\nFri 17 Feb 2023 12:00-14:00: CS1101S [Lecture]"
+                + "\nMon 27 Feb 2023 12:00-14:00: CS2103T [Lecture]";
+        assertEquals(expectedMessage, new OccurrencesCommand(3).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_nextAfterTerm_noLessons() {
+        new TermCommand(TERM).execute(model);
+        clock.set(LocalDateTime.of(2023, 5, 1, 0, 0));
+        assertEquals(OccurrencesCommand.MESSAGE_NO_NEXT_OCCURRENCES,
+                new OccurrencesCommand(3).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_term_showsSetsAndClears() {
+        assertEquals(TermCommand.MESSAGE_NO_TERM, new TermCommand().execute(model).getFeedbackToUser());
+        assertEquals(String.format(TermCommand.MESSAGE_TERM_SET, "9 Jan 2023 to 28 Apr 2023, recess in week 7"),
+                new TermCommand(TERM).execute(model).getFeedbackToUser());
+        assertEquals(String.format(TermCommand.MESSAGE_TERM, TERM), new TermCommand().execute(model)
+                .getFeedbackToUser());
+        assertEquals(TermCommand.MESSAGE_TERM_CLEARED, new TermCommand(null).execute(model).getFeedbackToUser());
+        assertFalse(model.getUserPrefs().getTerm().isPresent());
+    }
+}
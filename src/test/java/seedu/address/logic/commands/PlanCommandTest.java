@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_MODULE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_MODULE;
+import static seedu.address.testutil.TypicalModules.CS3219;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.TimeSlot;
+import seedu.address.model.module.TimeSlots;
+import seedu.address.testutil.ModuleBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code PlanCommand}.
+ */
+public class PlanCommandTest {
+    private static final TimeSlot MONDAY_MORNING = new TimeSlot("Monday 08:00 10:00");
+    private static final TimeSlot TUESDAY_NOON = new TimeSlot("Tuesday 12:00 14:00");
+
+    private Model model = new ModelManager(getTypicalModuleTracker(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        PlanCommand planCommand = new PlanCommand(candidates(INDEX_FIRST_MODULE, MONDAY_MORNING));
+
+        assertTrue(planCommand.equals(planCommand));
+        assertTrue(planCommand.equals(new PlanCommand(candidates(INDEX_FIRST_MODULE, MONDAY_MORNING))));
+        assertFalse(planCommand.equals(null));
+        assertFalse(planCommand.equals(new PlanCommand(candidates(INDEX_SECOND_MODULE, MONDAY_MORNING))));
+        assertFalse(planCommand.equals(new PlanCommand(candidates(INDEX_FIRST_MODULE, TUESDAY_NOON))));
+    }
+
+    @Test
+    public void execute_clashFreeTimetableExists_listsChosenTimeSlots() throws Exception {
+        model.addModule(CS3219);
+        // CS3219 clashes with CS2106 where it is, so it must move to Monday morning
+        String expectedMessage = PlanCommand.MESSAGE_CLASH_FREE + "\nCS3219: " + MONDAY_MORNING;
+        assertEquals(expectedMessage, new PlanCommand(candidates(Index.fromOneBased(6), MONDAY_MORNING))
+                .execute(model).getFeedbackToUser());
+        // the module tracker is not changed
+        assertEquals(TimeSlots.of(TUESDAY_NOON), model.getDisplayedModuleList().get(5).getTimeSlots());
+    }
+
+    @Test
+    public void execute_clashUnavoidable_listsFewestClashes() throws Exception {
+        model.addModule(CS3219);
+        String expectedMessage = String.format(PlanCommand.MESSAGE_FEWEST_CLASHES, 1)
+                + "\nCS2106: " + TUESDAY_NOON
+                + "\n" + PlanCommand.MESSAGE_CLASHES
+                + "\nCS2106 (" + TUESDAY_NOON + ") and CS3219 (" + TUESDAY_NOON + ")";
+        assertEquals(expectedMessage, new PlanCommand(candidates(INDEX_FIRST_MODULE, TUESDAY_NOON))
+                .execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_otherModuleWithSeveralTimeSlots_avoidsEach() throws Exception {
+        model.addModule(CS3219);
+        model.addModule(new ModuleBuilder().withName("MA1521")
+                .withTimeSlots("Monday 08:00 10:00", "Thursday 08:00 10:00").build());
+        TimeSlot fridayMorning = new TimeSlot("Friday 08:00 10:00");
+        String expectedMessage = PlanCommand.MESSAGE_CLASH_FREE + "\nCS3219: " + fridayMorning;
+        assertEquals(expectedMessage, new PlanCommand(candidates(Index.fromOneBased(6), MONDAY_MORNING,
+                new TimeSlot("Thursday 09:00 11:00"), fridayMorning)).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        assertCommandFailure(new PlanCommand(candidates(Index.fromOneBased(6), MONDAY_MORNING)), model,
+                Messages.MESSAGE_INVALID_MODULE_DISPLAYED_INDEX);
+    }
+
+    private static Map<Index, List<TimeSlot>> candidates(Index index, TimeSlot... timeSlots) {
+        Map<Index, List<TimeSlot>> candidates = new LinkedHashMap<>();
+        candidates.put(index, Arrays.asList(timeSlots));
+        return candidates;
+    }
+}
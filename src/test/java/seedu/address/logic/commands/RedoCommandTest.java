@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.ModuleBuilder;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalModuleTracker(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalModuleTracker(), new UserPrefs());
+
+    @Test
+    public void execute_noUndoneChanges_failure() {
+        model.deleteModule(CS2103T_LEC);
+        model.commitModuleTracker();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterUndo_reappliesChange() {
+        model.setModule(CS2103T_LEC, new ModuleBuilder(CS2103T_LEC).withRemark("Edited").build());
+        model.commitModuleTracker();
+        model.undoModuleTracker();
+
+        expectedModel.setModule(CS2103T_LEC, new ModuleBuilder(CS2103T_LEC).withRemark("Edited").build());
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_clearsRedoHistory() {
+        model.deleteModule(CS2103T_LEC);
+        model.commitModuleTracker();
+        model.undoModuleTracker();
+        model.setModule(CS2103T_LEC, new ModuleBuilder(CS2103T_LEC).withRemark("Edited").build());
+        model.commitModuleTracker();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
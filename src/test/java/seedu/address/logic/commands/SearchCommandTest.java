@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_MODULES_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalModules.CS2101_OP;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.TextIndex;
+import seedu.address.testutil.ModuleBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalModuleTracker(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand(List.of("quiz"));
+        SearchCommand searchSecondCommand = new SearchCommand(List.of("zoom", "quiz"));
+
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+        assertTrue(searchFirstCommand.equals(new SearchCommand(List.of("quiz"))));
+        assertFalse(searchFirstCommand.equals(1));
+        assertFalse(searchFirstCommand.equals(null));
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_matchingTerms_listsRankedHitsWithHighlights() {
+        List<String> terms = List.of("com1", "0217");
+        List<TextIndex.Hit> hits = model.searchText(terms);
+        String expectedMessage = String.format(MESSAGE_MODULES_LISTED_OVERVIEW, 2) + "\n"
+                + String.format(SearchCommand.MESSAGE_HIT, 1, "CS2106", hits.get(0).getScore()) + "\n"
+                + "    venue: [COM1]-[0217]\n"
+                + String.format(SearchCommand.MESSAGE_HIT, 2, "CS2101", hits.get(1).getScore()) + "\n"
+                + "    venue: [COM1]-0210";
+
+        assertEquals(expectedMessage, new SearchCommand(terms).execute(model).getFeedbackToUser());
+        assertEquals(Arrays.asList(CS2106_TUT, CS2101_OP), model.getDisplayedModuleList());
+    }
+
+    @Test
+    public void execute_fieldWithBracketsButNoTerm_notDescribed() {
+        ModuleTracker moduleTracker = new ModuleTracker();
+        moduleTracker.addModule(new ModuleBuilder(CS2106_TUT).withRemark("Slides [week 12]").build());
+        Model bracketModel = new ModelManager(moduleTracker, new UserPrefs());
+        List<String> terms = List.of("com1");
+        List<TextIndex.Hit> hits = bracketModel.searchText(terms);
+        String expectedMessage = String.format(MESSAGE_MODULES_LISTED_OVERVIEW, 1) + "\n"
+                + String.format(SearchCommand.MESSAGE_HIT, 1, "CS2106", hits.get(0).getScore()) + "\n"
+                + "    venue: [COM1]-0217";
+
+        assertEquals(expectedMessage, new SearchCommand(terms).execute(bracketModel).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noMatches_noModuleFound() {
+        String expectedMessage = String.format(MESSAGE_MODULES_LISTED_OVERVIEW, 0);
+        assertEquals(expectedMessage, new SearchCommand(List.of("nothing")).execute(model).getFeedbackToUser());
+        assertTrue(model.getDisplayedModuleList().isEmpty());
+    }
+}
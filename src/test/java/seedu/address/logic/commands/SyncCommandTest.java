@@ -0,0 +1,166 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_SYNC_IN_BATCH;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.SyncCommand.Action;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.Module;
+import seedu.address.storage.JsonModuleTrackerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.ModuleBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model and Storage) for {@code SyncCommand}.
+ */
+public class SyncCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path changesFilePath;
+    private Model laptop;
+    private Model desktop;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        changesFilePath = testFolder.resolve("changes.json");
+        laptop = createCopy("laptop", getTypicalModuleTracker());
+        desktop = createCopy("desktop", new ModuleTracker());
+    }
+
+    @Test
+    public void equals() {
+        SyncCommand exportCommand = new SyncCommand(Action.EXPORT, changesFilePath);
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(new SyncCommand(Action.EXPORT, changesFilePath)));
+        assertFalse(exportCommand.equals(new SyncCommand(Action.IMPORT, changesFilePath)));
+        assertFalse(exportCommand.equals(new SyncCommand(Action.EXPORT, testFolder)));
+        assertFalse(exportCommand.equals(null));
+    }
+
+    @Test
+    public void execute_exportThenImport_copiesChanges() throws Exception {
+        int modules = laptop.getModuleTracker().getModuleList().size();
+        assertEquals(String.format(SyncCommand.MESSAGE_EXPORTED, modules, changesFilePath),
+                exportFrom(laptop));
+        assertEquals(String.format(SyncCommand.MESSAGE_IMPORTED, modules, modules, changesFilePath),
+                importInto(desktop));
+        assertEquals(laptop.getModuleTracker().getModuleList(), desktop.getModuleTracker().getModuleList());
+
+        // the laptop has not heard back from the desktop, so it exports everything again, which changes nothing
+        exportFrom(laptop);
+        assertEquals(String.format(SyncCommand.MESSAGE_IMPORTED, 0, modules, changesFilePath),
+                importInto(desktop));
+
+        // once it has, only the changes since
+        exportFrom(desktop);
+        importInto(laptop);
+        laptop.deleteModule(CS2106_TUT);
+        assertEquals(String.format(SyncCommand.MESSAGE_EXPORTED, 1, changesFilePath), exportFrom(laptop));
+        importInto(desktop);
+        assertFalse(desktop.hasModule(CS2106_TUT));
+    }
+
+    @Test
+    public void execute_concurrentChanges_converge() throws Exception {
+        exportFrom(laptop);
+        importInto(desktop);
+        exportFrom(desktop);
+        importInto(laptop);
+
+        Module editedOnLaptop = new ModuleBuilder(CS2103T_LEC).withRemark("Laptop").build();
+        Module editedOnDesktop = new ModuleBuilder(CS2103T_LEC).withRemark("Desktop").build();
+        laptop.setModule(CS2103T_LEC, editedOnLaptop);
+        desktop.setModule(CS2103T_LEC, editedOnDesktop);
+        desktop.deleteModule(CS2106_TUT);
+
+        exportFrom(laptop);
+        importInto(desktop);
+        exportFrom(desktop);
+        importInto(laptop);
+
+        assertEquals(new HashSet<>(laptop.getModuleTracker().getModuleList()),
+                new HashSet<>(desktop.getModuleTracker().getModuleList()));
+        assertFalse(laptop.hasModule(CS2106_TUT));
+        // the copies have random ids, so either edit may win, but the same one on both
+        assertTrue(laptop.getModuleTracker().getModuleList().contains(editedOnLaptop)
+                || laptop.getModuleTracker().getModuleList().contains(editedOnDesktop));
+    }
+
+    @Test
+    public void execute_importInFailingBatch_rejectedAndNothingDeletedLater() throws Exception {
+        exportFrom(laptop);
+        Logic desktopLogic = new LogicManager(desktop, (StorageManager) desktop.getSyncStore().get());
+        ParseException thrown = assertThrows(ParseException.class, () -> desktopLogic.execute(
+                SyncCommand.COMMAND_WORD + " import " + changesFilePath + "; delete 99"));
+        assertEquals(MESSAGE_SYNC_IN_BATCH, thrown.getMessage());
+        assertTrue(desktop.getModuleTracker().getModuleList().isEmpty());
+
+        // the rejected import left no trace in the sync log, so syncing afterwards does not delete anything
+        desktopLogic.execute(SyncCommand.COMMAND_WORD + " import " + changesFilePath);
+        desktopLogic.execute(SyncCommand.COMMAND_WORD + " export " + changesFilePath);
+        importInto(laptop);
+        assertEquals(getTypicalModuleTracker().getModuleList(), laptop.getModuleTracker().getModuleList());
+    }
+
+    @Test
+    public void execute_importInvalid_failure() throws Exception {
+        assertCommandFailure(new SyncCommand(Action.IMPORT, changesFilePath), desktop,
+                String.format(SyncCommand.MESSAGE_FILE_NOT_FOUND, changesFilePath));
+        exportFrom(laptop);
+        assertCommandFailure(new SyncCommand(Action.IMPORT, changesFilePath), laptop,
+                String.format(SyncCommand.MESSAGE_OWN_CHANGES, changesFilePath));
+        Files.writeString(changesFilePath, "{\"entries\": []}");
+        CommandException thrown = assertThrows(CommandException.class, () -> importInto(desktop));
+        assertTrue(thrown.getMessage().startsWith(String.format(SyncCommand.MESSAGE_UNREADABLE, changesFilePath, "")));
+    }
+
+    @Test
+    public void execute_noSyncStore_failure() {
+        assertCommandFailure(new SyncCommand(Action.EXPORT, changesFilePath), new ModelManager(),
+                SyncCommand.MESSAGE_UNAVAILABLE);
+    }
+
+    private Model createCopy(String name, ModuleTracker modules) throws Exception {
+        Path moduleTrackerFilePath = testFolder.resolve(name).resolve("moduletracker.json");
+        StorageManager storage = new StorageManager(new JsonModuleTrackerStorage(moduleTrackerFilePath),
+                new JsonUserPrefsStorage(testFolder.resolve(name).resolve("preferences.json")));
+        storage.saveModuleTracker(modules);
+        Model model = new ModelManager(modules, new UserPrefs());
+        model.setSyncStore(storage);
+        return model;
+    }
+
+    private String exportFrom(Model model) throws Exception {
+        return new SyncCommand(Action.EXPORT, changesFilePath).execute(model).getFeedbackToUser();
+    }
+
+    private String importInto(Model model) throws Exception {
+        return new SyncCommand(Action.IMPORT, changesFilePath).execute(model).getFeedbackToUser();
+    }
+}
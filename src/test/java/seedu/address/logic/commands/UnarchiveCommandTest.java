@@ -0,0 +1,160 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS3219;
+import static seedu.address.testutil.TypicalModules.CS3230;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.Module;
+import seedu.address.model.query.KeywordCondition;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.TagCondition;
+import seedu.address.storage.JsonArchiveStorage;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code UnarchiveCommand} and for {@code FindCommand}
+ * on the archive.
+ */
+public class UnarchiveCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalModuleTracker(), new UserPrefs());
+    private JsonArchiveStorage archive;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        archive = new JsonArchiveStorage(testFolder.resolve("archive.jsonl"));
+        archive.appendToArchive(List.of(CS3230, CS3219));
+        model.setArchive(archive);
+    }
+
+    @Test
+    public void equals() {
+        UnarchiveCommand unarchiveLab = new UnarchiveCommand(new TagCondition("lab"));
+
+        assertTrue(unarchiveLab.equals(unarchiveLab));
+        assertTrue(unarchiveLab.equals(new UnarchiveCommand(new TagCondition("lab"))));
+        assertFalse(unarchiveLab.equals(new UnarchiveCommand(new TagCondition("lecture"))));
+        assertFalse(unarchiveLab.equals(new FindCommand(new TagCondition("lab"), false, true)));
+        assertFalse(unarchiveLab.equals(null));
+        assertFalse(new FindCommand(new TagCondition("lab"), false, true)
+                .equals(new FindCommand(new TagCondition("lab"), false, false)));
+    }
+
+    @Test
+    public void findArchived_listsMatchesWithoutChangingModuleList() throws Exception {
+        int shownCount = model.getDisplayedModuleList().size();
+        String expectedMessage = String.format(FindCommand.MESSAGE_ARCHIVED_LISTED, 2)
+                + "\n" + CS3230.getLabel() + " (deadline " + CS3230.getDeadline() + ")"
+                + "\n" + CS3219.getLabel() + " (deadline " + CS3219.getDeadline() + ")";
+        FindCommand command = new FindCommand(new KeywordCondition(List.of("CS3230", "CS3219", "CS2103T")),
+                false, true);
+
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(shownCount, model.getDisplayedModuleList().size());
+    }
+
+    @Test
+    public void execute_matches_modulesMovedBackUndoable() throws Exception {
+        String expectedMessage = String.format(UnarchiveCommand.MESSAGE_SUCCESS, 1) + "\n" + CS3219.getLabel();
+        assertEquals(expectedMessage, new UnarchiveCommand(new KeywordCondition(List.of("CS3219")))
+                .execute(model).getFeedbackToUser());
+        model.commitModuleTracker();
+        assertTrue(model.hasModule(CS3219));
+        assertEquals(List.of(CS3230), model.getArchivedModules());
+        assertEquals(List.of(CS3230), new JsonArchiveStorage(archive.getArchiveFilePath()).getModules());
+
+        model.undoModuleTracker();
+        assertFalse(model.hasModule(CS3219));
+        assertEquals(List.of(CS3230, CS3219), new JsonArchiveStorage(archive.getArchiveFilePath()).getModules());
+
+        model.redoModuleTracker();
+        assertTrue(model.hasModule(CS3219));
+        assertEquals(List.of(CS3230), new JsonArchiveStorage(archive.getArchiveFilePath()).getModules());
+    }
+
+    @Test
+    public void execute_thenDelete_notArchivedAgain() throws Exception {
+        new UnarchiveCommand(new KeywordCondition(List.of("CS3219"))).execute(model);
+        model.deleteModule(CS3219);
+        assertEquals(List.of(CS3230), model.getArchivedModules());
+    }
+
+    @Test
+    public void execute_alreadyInModuleTracker_onlyRemovedFromArchive() throws Exception {
+        // left in both files by archiving that was cut short
+        archive.appendToArchive(List.of(CS2103T_LEC));
+        int moduleCount = model.getModuleTracker().getModuleList().size();
+
+        new UnarchiveCommand(new KeywordCondition(List.of("CS2103T"))).execute(model);
+        model.commitModuleTracker();
+        assertEquals(moduleCount, model.getModuleTracker().getModuleList().size());
+        assertEquals(List.of(CS3230, CS3219), model.getArchivedModules());
+
+        model.undoModuleTracker();
+        assertTrue(model.hasModule(CS2103T_LEC));
+        assertEquals(List.of(CS3230, CS3219, CS2103T_LEC), model.getArchivedModules());
+    }
+
+    @Test
+    public void undo_archiveUnwritable_throwsCommandExceptionAndStaysUndoable() throws Exception {
+        model.setArchive(new JsonArchiveStorage(archive.getArchiveFilePath()) {
+            @Override
+            public void appendToArchive(List<Module> modules) throws IOException {
+                throw new IOException("disk full");
+            }
+        });
+        new UnarchiveCommand(new KeywordCondition(List.of("CS3219"))).execute(model);
+        model.commitModuleTracker();
+
+        assertCommandFailure(new UndoCommand(), model, String.format(Messages.MESSAGE_ARCHIVE_UNWRITABLE,
+                "disk full"));
+        assertTrue(model.hasModule(CS3219));
+        assertTrue(model.canUndoModuleTracker());
+    }
+
+    @Test
+    public void execute_noMatches_throwsCommandException() {
+        assertCommandFailure(new UnarchiveCommand(new OrQuery(List.of(new KeywordCondition(List.of("CS2103T")),
+                new TagCondition("lab")))), model, UnarchiveCommand.MESSAGE_NO_MATCHES);
+    }
+
+    @Test
+    public void execute_unreadableArchive_throwsCommandException() {
+        model.setArchive(new JsonArchiveStorage(archive.getArchiveFilePath()) {
+            @Override
+            public List<Module> getModules() throws IOException {
+                throw new IOException("disk error");
+            }
+        });
+        String expectedMessage = String.format(FindCommand.MESSAGE_ARCHIVE_UNREADABLE, "disk error");
+        assertCommandFailure(new UnarchiveCommand(new TagCondition("lab")), model, expectedMessage);
+        assertCommandFailure(new FindCommand(new TagCondition("lab"), false, true), model, expectedMessage);
+    }
+
+    @Test
+    public void findArchived_noArchive_noneListed() throws CommandException {
+        assertEquals(String.format(FindCommand.MESSAGE_ARCHIVED_LISTED, 0),
+                new FindCommand(new TagCondition("lab"), false, true).execute(
+                        new ModelManager(getTypicalModuleTracker(), new UserPrefs())).getFeedbackToUser());
+    }
+}
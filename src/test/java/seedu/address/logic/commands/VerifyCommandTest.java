@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.Name;
+import seedu.address.storage.JsonModuleTrackerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Contains integration tests (interaction with the Model and Storage) for {@code VerifyCommand}.
+ */
+public class VerifyCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path moduleTrackerFilePath;
+    private StorageManager storage;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        moduleTrackerFilePath = testFolder.resolve("moduletracker.json");
+        storage = new StorageManager(new JsonModuleTrackerStorage(moduleTrackerFilePath),
+                new JsonUserPrefsStorage(testFolder.resolve("preferences.json")));
+        model = new ModelManager(getTypicalModuleTracker(), new UserPrefs());
+        model.setIntegrityChecker(storage);
+    }
+
+    @Test
+    public void execute_savedByApp_intact() throws Exception {
+        storage.saveModuleTracker(model.getModuleTracker());
+        assertEquals(String.format(VerifyCommand.MESSAGE_INTACT, moduleTrackerFilePath, 5), verify());
+    }
+
+    @Test
+    public void execute_noChecksum_modulesChecked() throws Exception {
+        storage.saveModuleTracker(model.getModuleTracker());
+        editFile("\"checksum\" : \"[0-9a-f]+\",", "");
+        assertEquals(String.format(VerifyCommand.MESSAGE_NO_CHECKSUM, moduleTrackerFilePath, 5), verify());
+    }
+
+    @Test
+    public void execute_editedOutsideApp_checksumMismatch() throws Exception {
+        storage.saveModuleTracker(model.getModuleTracker());
+        editFile("\"CS2106\"", "\"CS2107\"");
+        assertEquals(String.format(VerifyCommand.MESSAGE_CHECKSUM_MISMATCH, moduleTrackerFilePath, 5), verify());
+    }
+
+    @Test
+    public void execute_invalidModule_problemShown() throws Exception {
+        storage.saveModuleTracker(model.getModuleTracker());
+        editFile("\"CS2106\"", "\"CS2106!\"");
+        assertEquals(String.format(VerifyCommand.MESSAGE_INVALID, moduleTrackerFilePath, Name.MESSAGE_CONSTRAINTS),
+                verify());
+    }
+
+    @Test
+    public void execute_notJson_unreadable() throws Exception {
+        Files.writeString(moduleTrackerFilePath, "{ \"modules\" : [ ");
+        assertEquals(VerifyCommand.MESSAGE_UNREADABLE.substring(0, VerifyCommand.MESSAGE_UNREADABLE.indexOf('%')),
+                verify().substring(0, VerifyCommand.MESSAGE_UNREADABLE.indexOf('%')));
+    }
+
+    @Test
+    public void execute_noFile_noFileMessage() throws Exception {
+        assertEquals(VerifyCommand.MESSAGE_NO_FILE, verify());
+    }
+
+    @Test
+    public void execute_noIntegrityChecker_throwsCommandException() {
+        assertCommandFailure(new VerifyCommand(), new ModelManager(getTypicalModuleTracker(), new UserPrefs()),
+                VerifyCommand.MESSAGE_UNAVAILABLE);
+    }
+
+    private String verify() throws CommandException {
+        return new VerifyCommand().execute(model).getFeedbackToUser();
+    }
+
+    private void editFile(String regex, String replacement) throws Exception {
+        Files.writeString(moduleTrackerFilePath, Files.readString(moduleTrackerFilePath)
+                .replaceAll(regex, replacement));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_MODULES_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalModules.CS1101S_LEC;
+import static seedu.address.testutil.TypicalModules.CS1231S_LEC;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.ComparatorUtil;
+import seedu.address.logic.commands.ViewCommand.Action;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.TagCondition;
+import seedu.address.model.view.SavedView;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ViewCommand}.
+ */
+public class ViewCommandTest {
+    private Model model = new ModelManager(getTypicalModuleTracker(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ViewCommand saveCommand = new ViewCommand(Action.SAVE, "labs");
+
+        assertTrue(saveCommand.equals(saveCommand));
+        assertTrue(saveCommand.equals(new ViewCommand(Action.SAVE, "labs")));
+        assertTrue(new ViewCommand(Action.LIST, null).equals(new ViewCommand(Action.LIST, null)));
+        assertFalse(saveCommand.equals(null));
+        assertFalse(saveCommand.equals(new ViewCommand(Action.SHOW, "labs")));
+        assertFalse(saveCommand.equals(new ViewCommand(Action.SAVE, "lectures")));
+    }
+
+    @Test
+    public void execute_saveThenShow_showsViewKeptUpToDate() throws Exception {
+        new FindCommand(new TagCondition("lecture"), false).execute(model);
+        new SortCommand(ComparatorUtil.SORT_BY_DEADLINE_COMPARATOR).execute(model);
+        SavedView expectedView = new SavedView("tag/lecture", ComparatorUtil.DEADLINE_KEYWORD);
+        assertEquals(String.format(ViewCommand.MESSAGE_SAVED, "lectures", expectedView),
+                new ViewCommand(Action.SAVE, "lectures").execute(model).getFeedbackToUser());
+        assertEquals(expectedView, model.getUserPrefs().getSavedViews().get("lectures"));
+
+        new ListCommand().execute(model);
+        assertEquals(String.format(ViewCommand.MESSAGE_SHOWN, "lectures", expectedView,
+                String.format(MESSAGE_MODULES_LISTED_OVERVIEW, 2)),
+                new ViewCommand(Action.SHOW, "lectures").execute(model).getFeedbackToUser());
+        assertEquals(Arrays.asList(CS2103T_LEC, CS1101S_LEC), model.getDisplayedModuleList());
+
+        model.addModule(CS1231S_LEC);
+        new ViewCommand(Action.SHOW, "lectures").execute(model);
+        assertEquals(Arrays.asList(CS2103T_LEC, CS1101S_LEC, CS1231S_LEC), model.getDisplayedModuleList());
+        assertEquals(expectedView, model.getDisplayedView().get());
+    }
+
+    @Test
+    public void execute_searchResults_notSavable() throws Exception {
+        new SearchCommand(List.of("zoom")).execute(model);
+        assertCommandFailure(new ViewCommand(Action.SAVE, "zoom"), model, ViewCommand.MESSAGE_NOT_SAVABLE);
+    }
+
+    @Test
+    public void execute_unknownView_throwsCommandException() {
+        assertCommandFailure(new ViewCommand(Action.SHOW, "labs"), model,
+                String.format(ViewCommand.MESSAGE_UNKNOWN_VIEW, "labs"));
+    }
+
+    @Test
+    public void execute_list_showsSavedViews() throws Exception {
+        assertEquals(ViewCommand.MESSAGE_NO_VIEWS, new ViewCommand(Action.LIST, null).execute(model)
+                .getFeedbackToUser());
+
+        model.saveView("all", new SavedView());
+        model.saveView("labs", new SavedView("tag/lab", ""));
+        assertEquals(String.format(ViewCommand.MESSAGE_LIST, "\nall: all modules\nlabs: tag/lab"),
+                new ViewCommand(Action.LIST, null).execute(model).getFeedbackToUser());
+    }
+}
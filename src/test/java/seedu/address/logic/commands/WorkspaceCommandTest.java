@@ -0,0 +1,157 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalModules.CS3219;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.WorkspaceCommand.Action;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonModuleTrackerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Contains integration tests (interaction with the Model and Storage) for {@code WorkspaceCommand}.
+ */
+public class WorkspaceCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager storage;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path moduleTrackerFilePath = testFolder.resolve("moduletracker.json");
+        storage = new StorageManager(new JsonModuleTrackerStorage(moduleTrackerFilePath),
+                new JsonUserPrefsStorage(testFolder.resolve("preferences.json")));
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setModuleTrackerFilePath(moduleTrackerFilePath);
+        // the typical modules are long past their deadlines
+        userPrefs.setArchiveAfterDays(-1);
+        storage.saveUserPrefs(userPrefs);
+        storage.saveModuleTracker(getTypicalModuleTracker());
+        model = new ModelManager(getTypicalModuleTracker(), userPrefs);
+        model.setWorkspaces(storage);
+    }
+
+    @Test
+    public void equals() {
+        WorkspaceCommand openCohort = new WorkspaceCommand(Action.OPEN, "cohort");
+
+        assertTrue(openCohort.equals(openCohort));
+        assertTrue(openCohort.equals(new WorkspaceCommand(Action.OPEN, "cohort")));
+        assertFalse(openCohort.equals(new WorkspaceCommand(Action.SWITCH, "cohort")));
+        assertFalse(openCohort.equals(new WorkspaceCommand(Action.OPEN, "other")));
+        assertFalse(openCohort.equals(null));
+        assertTrue(new WorkspaceCommand(Action.LIST, null).equals(new WorkspaceCommand(Action.LIST, null)));
+    }
+
+    @Test
+    public void execute_list_showsOpenAndLoadedWorkspaces() throws Exception {
+        assertEquals(String.format(WorkspaceCommand.MESSAGE_LIST, "\nmoduletracker (open)"), list());
+
+        open(Action.OPEN, "cohort-b");
+        assertEquals(String.format(WorkspaceCommand.MESSAGE_LIST, "\ncohort-b (open)\nmoduletracker (in memory)"),
+                list());
+    }
+
+    @Test
+    public void execute_openNew_emptyWorkspaceSavedToItsFile() throws Exception {
+        model.addModule(CS3219);
+        model.commitModuleTracker();
+
+        assertEquals(String.format(WorkspaceCommand.MESSAGE_CREATED, "cohort-b"), open(Action.OPEN, "cohort-b"));
+        assertEquals(new ModuleTracker(), model.getModuleTracker());
+        assertEquals(testFolder.resolve("cohort-b.json"), model.getModuleTrackerFilePath());
+        assertEquals(testFolder.resolve("cohort-b.json"), storage.getModuleTrackerFilePath());
+        assertEquals(testFolder.resolve("cohort-b" + StorageManager.ARCHIVE_FILE_SUFFIX),
+                model.getUserPrefs().getArchiveFilePath());
+        // undoing would have brought the modules of the other workspace into this one
+        assertFalse(model.canUndoModuleTracker());
+    }
+
+    @Test
+    public void execute_switchBack_modulesRestored() throws Exception {
+        open(Action.OPEN, "cohort-b");
+        model.addModule(CS3219);
+        storage.saveModuleTracker(model.getModuleTracker());
+
+        int typicalCount = getTypicalModuleTracker().getModuleList().size();
+        assertEquals(String.format(WorkspaceCommand.MESSAGE_OPENED, "moduletracker", typicalCount),
+                open(Action.SWITCH, "moduletracker"));
+        assertEquals(getTypicalModuleTracker(), model.getModuleTracker());
+
+        assertEquals(String.format(WorkspaceCommand.MESSAGE_OPENED, "cohort-b", 1), open(Action.SWITCH, "cohort-b"));
+        assertEquals(List.of(CS3219), model.getModuleTracker().getModuleList());
+    }
+
+    @Test
+    public void execute_switchWithArchiving_dueModulesMovedToItsArchive() throws Exception {
+        UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+        userPrefs.setArchiveAfterDays(UserPrefs.DEFAULT_ARCHIVE_AFTER_DAYS);
+        model.setUserPrefs(userPrefs);
+        model.setArchive(storage);
+        open(Action.OPEN, "cohort-b");
+
+        assertEquals(String.format(WorkspaceCommand.MESSAGE_OPENED, "moduletracker", 0),
+                open(Action.SWITCH, "moduletracker"));
+        assertEquals(testFolder.resolve("moduletracker" + StorageManager.ARCHIVE_FILE_SUFFIX),
+                storage.getArchiveFilePath());
+        assertEquals(getTypicalModuleTracker().getModuleList(), model.getArchivedModules());
+    }
+
+    @Test
+    public void execute_switchToUnknown_throwsCommandException() {
+        assertCommandFailure(new WorkspaceCommand(Action.SWITCH, "cohort-b"), model,
+                String.format(WorkspaceCommand.MESSAGE_UNKNOWN_WORKSPACE, "cohort-b"));
+    }
+
+    @Test
+    public void execute_openOpenWorkspace_throwsCommandException() {
+        assertCommandFailure(new WorkspaceCommand(Action.OPEN, "moduletracker"), model,
+                String.format(WorkspaceCommand.MESSAGE_ALREADY_OPEN, "moduletracker"));
+    }
+
+    @Test
+    public void execute_invalidFile_throwsCommandExceptionAndStays() throws Exception {
+        Files.write(testFolder.resolve("broken.json"), "not json".getBytes(StandardCharsets.UTF_8));
+
+        CommandException thrown = assertThrows(CommandException.class, () -> open(Action.SWITCH, "broken"));
+        assertTrue(thrown.getMessage().startsWith(String.format(WorkspaceCommand.MESSAGE_UNREADABLE, "broken", "")));
+        assertEquals(getTypicalModuleTracker(), model.getModuleTracker());
+        assertEquals("moduletracker", storage.getOpenWorkspace());
+    }
+
+    @Test
+    public void execute_noWorkspaces_throwsCommandException() {
+        assertCommandFailure(new WorkspaceCommand(Action.LIST, null), new ModelManager(),
+                WorkspaceCommand.MESSAGE_UNAVAILABLE);
+    }
+
+    private String list() throws CommandException {
+        return new WorkspaceCommand(Action.LIST, null).execute(model).getFeedbackToUser();
+    }
+
+    private String open(Action action, String name) throws CommandException {
+        return new WorkspaceCommand(action, name).execute(model).getFeedbackToUser();
+    }
+}
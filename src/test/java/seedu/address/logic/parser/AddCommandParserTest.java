@@ -22,6 +22,9 @@ import static seedu.address.logic.commands.CommandTestUtil.TEACHER_DESC_CS3230;
 import static seedu.address.logic.commands.CommandTestUtil.TIMESLOT_DESC_CS3219;
 import static seedu.address.logic.commands.CommandTestUtil.TIMESLOT_DESC_CS3230;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_CS3230;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TIMESLOT_CS3219;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TIMESLOT_CS3230;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalModules.CS3230;
@@ -33,6 +36,7 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.model.module.Module;
 import seedu.address.model.module.Name;
 import seedu.address.model.module.TimeSlot;
+import seedu.address.model.module.TimeSlots;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.ModuleBuilder;
 
@@ -62,10 +66,13 @@ public class AddCommandParserTest {
                 + TEACHER_DESC_CS3230 + REMARK_DESC_CS3230 + TAG_DESC_CS3230_MULTIPLE_TAGS,
                 new AddCommand(expectedModuleWithExtraTags));
 
-        // multiple timeSlots given - last timeSlot accepted
+        // multiple timeSlots given - all accepted
+        Module expectedModuleWithTwoTimeSlots = new ModuleBuilder(expectedModule)
+                .withTimeSlots(VALID_TIMESLOT_CS3219, VALID_TIMESLOT_CS3230).build();
         assertParseSuccess(parser, NAME_DESC_CS3230 + TIMESLOT_DESC_CS3219 + TIMESLOT_DESC_CS3230
                 + ADDRESS_DESC_CS3230 + RESOURCE_DESC_CS3230 + DEADLINE_DESC_CS3230
-                + TEACHER_DESC_CS3230 + REMARK_DESC_CS3230 + TAG_DESC_CS3230, new AddCommand(expectedModule));
+                + TEACHER_DESC_CS3230 + REMARK_DESC_CS3230 + TAG_DESC_CS3230,
+                new AddCommand(expectedModuleWithTwoTimeSlots));
 
         // multiple addresses given - last address accepted
         assertParseSuccess(parser, NAME_DESC_CS3230 + TIMESLOT_DESC_CS3230 + ADDRESS_DESC_CS3219
@@ -124,6 +131,10 @@ public class AddCommandParserTest {
                 + ADDRESS_DESC_CS3219
                 + TAG_DESC_LECTURE + TAG_DESC_TUTORIAL, TimeSlot.MESSAGE_CONSTRAINTS);
 
+        // overlapping timeSlots
+        assertParseFailure(parser, NAME_DESC_CS3219 + TAG_DESC_CS3219 + TIMESLOT_DESC_CS3219
+                + " " + PREFIX_TIMESLOT + "Tuesday 13:00 15:00", TimeSlots.MESSAGE_OVERLAPPING);
+
         // Commented out because address will not have a particular format
         // invalid address
         // assertParseFailure(parser, NAME_DESC_CS3219 + TAG_DESC_CS3219 + TIMESLOT_DESC_CS3219
@@ -28,6 +28,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_RESOURCE_CS3230
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_CS3219;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_CS3230;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TEACHER_CS3230;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TIMESLOT_CS3219;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TIMESLOT_CS3230;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
@@ -192,8 +193,8 @@ public class EditCommandParserTest {
                 + TAG_DESC_CS3230;
 
         EditModuleDescriptor descriptor = new EditModuleDescriptorBuilder().withResource(VALID_RESOURCE_CS3230)
-                .withTimeSlot(VALID_TIMESLOT_CS3230).withAddress(VALID_ADDRESS_CS3230).withTags(VALID_TAG_CS3219,
-                        VALID_TAG_CS3230).build();
+                .withTimeSlot(VALID_TIMESLOT_CS3219, VALID_TIMESLOT_CS3230).withAddress(VALID_ADDRESS_CS3230)
+                .withTags(VALID_TAG_CS3219, VALID_TAG_CS3230).build();
         EditCommand expectedCommand = new EditCommand(targetIndex, descriptor);
 
         assertParseSuccess(parser, userInput, expectedCommand);
@@ -5,11 +5,15 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.module.NameContainsKeywordsPredicate;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.KeywordCondition;
+import seedu.address.model.query.TagCondition;
 
 public class FindCommandParserTest {
 
@@ -31,4 +35,26 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_query_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new AndQuery(List.of(new TagCondition("lab"), new KeywordCondition(List.of("CS2030S")))), false);
+        assertParseSuccess(parser, "tag/lab AND CS2030S", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_explain_returnsExplainingFindCommand() {
+        assertParseSuccess(parser, "explain tag/lab", new FindCommand(new TagCondition("lab"), true));
+
+        // explain on its own is a keyword
+        assertParseSuccess(parser, "explain", new FindCommand(new KeywordCondition(List.of("explain")), false));
+    }
+
+    @Test
+    public void parse_archived_returnsArchiveFindCommand() {
+        assertParseSuccess(parser, "--archived tag/lab", new FindCommand(new TagCondition("lab"), false, true));
+        assertParseFailure(parser, "--archived", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -3,28 +3,62 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_SYNC_IN_BATCH;
+import static seedu.address.commons.core.Messages.MESSAGE_UNDO_REDO_IN_BATCH;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.commons.core.Messages.MESSAGE_WORKSPACE_IN_BATCH;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_MODULE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_MODULE;
 
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClashesCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditModuleDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindAllCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.OccurrencesCommand;
+import seedu.address.logic.commands.PlanCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SyncCommand;
+import seedu.address.logic.commands.TermCommand;
+import seedu.address.logic.commands.TodayCommand;
+import seedu.address.logic.commands.TomorrowCommand;
+import seedu.address.logic.commands.UnarchiveCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.VerifyCommand;
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.commands.ViewCommand.Action;
+import seedu.address.logic.commands.WeekCommand;
+import seedu.address.logic.commands.WorkspaceCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.module.Module;
 import seedu.address.model.module.NameContainsKeywordsPredicate;
+import seedu.address.model.module.TimeSlot;
+import seedu.address.model.query.TagCondition;
+import seedu.address.model.timetable.Term;
+import seedu.address.model.view.SavedView;
+import seedu.address.model.workspace.Workspaces;
 import seedu.address.testutil.EditModuleDescriptorBuilder;
 import seedu.address.testutil.ModuleBuilder;
 import seedu.address.testutil.ModuleUtil;
@@ -76,18 +110,219 @@ public class ModuleTrackerParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_unarchive() throws Exception {
+        UnarchiveCommand command = (UnarchiveCommand) parser.parseCommand(UnarchiveCommand.COMMAND_WORD + " tag/lab");
+        assertEquals(new UnarchiveCommand(new TagCondition("lab")), command);
+        assertThrows(ParseException.class, () -> parser.parseCommand(UnarchiveCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_findAll() throws Exception {
+        assertEquals(new FindAllCommand(new NameContainsKeywordsPredicate(Arrays.asList("CS2103T", "lab"))),
+                parser.parseCommand(FindAllCommand.COMMAND_WORD + "  CS2103T \t lab"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindAllCommand.MESSAGE_USAGE), () -> parser.parseCommand(FindAllCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " Quiz, recording");
+        assertEquals(new SearchCommand(Arrays.asList("quiz", "recording")), command);
+        assertThrows(ParseException.class, () -> parser.parseCommand(SearchCommand.COMMAND_WORD + " ,"));
+    }
+
+    @Test
+    public void parseCommand_view() throws Exception {
+        assertEquals(new ViewCommand(Action.LIST, null), parser.parseCommand(ViewCommand.COMMAND_WORD));
+        assertEquals(new ViewCommand(Action.SHOW, "labs"), parser.parseCommand(ViewCommand.COMMAND_WORD + " labs"));
+        assertEquals(new ViewCommand(Action.SAVE, "labs"),
+                parser.parseCommand(ViewCommand.COMMAND_WORD + " save labs"));
+        assertThrows(ParseException.class, SavedView.MESSAGE_CONSTRAINTS, () ->
+                parser.parseCommand(ViewCommand.COMMAND_WORD + " save lab/s"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE), ()
+                -> parser.parseCommand(ViewCommand.COMMAND_WORD + " save"));
+    }
+
+    @Test
+    public void parseCommand_workspace() throws Exception {
+        assertEquals(new WorkspaceCommand(WorkspaceCommand.Action.LIST, null),
+                parser.parseCommand(WorkspaceCommand.COMMAND_WORD));
+        assertEquals(new WorkspaceCommand(WorkspaceCommand.Action.SWITCH, "cohort-b"),
+                parser.parseCommand(WorkspaceCommand.COMMAND_WORD + " cohort-b"));
+        assertEquals(new WorkspaceCommand(WorkspaceCommand.Action.OPEN, "cohort_b"),
+                parser.parseCommand(WorkspaceCommand.COMMAND_WORD + " open cohort_b"));
+        assertThrows(ParseException.class, Workspaces.MESSAGE_CONSTRAINTS, () ->
+                parser.parseCommand(WorkspaceCommand.COMMAND_WORD + " open ../secrets"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                WorkspaceCommand.MESSAGE_USAGE), () -> parser.parseCommand(WorkspaceCommand.COMMAND_WORD + " open"));
+    }
+
+    @Test
+    public void parseCommand_sync() throws Exception {
+        assertEquals(new SyncCommand(SyncCommand.Action.EXPORT, Paths.get("laptop changes.json")),
+                parser.parseCommand(SyncCommand.COMMAND_WORD + " export laptop changes.json"));
+        assertEquals(new SyncCommand(SyncCommand.Action.IMPORT, Paths.get("data", "desktop.json")),
+                parser.parseCommand(SyncCommand.COMMAND_WORD + " import data/desktop.json"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, SyncCommand.MESSAGE_USAGE), ()
+                -> parser.parseCommand(SyncCommand.COMMAND_WORD + " export"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, SyncCommand.MESSAGE_USAGE), ()
+                -> parser.parseCommand(SyncCommand.COMMAND_WORD + " merge desktop.json"));
+    }
+
+    @Test
+    public void parseCommand_plan() throws Exception {
+        Map<Index, List<TimeSlot>> candidates = new LinkedHashMap<>();
+        candidates.put(INDEX_FIRST_MODULE, Arrays.asList(new TimeSlot("Monday 10:00 12:00"),
+                new TimeSlot("Thursday 16:00 18:00")));
+        candidates.put(Index.fromOneBased(2), Collections.singletonList(new TimeSlot("Friday 08:00 10:00")));
+        assertEquals(new PlanCommand(candidates), parser.parseCommand(PlanCommand.COMMAND_WORD
+                + " 1: Monday 10:00 12:00, Thursday 16:00 18:00; 2: Friday 08:00 10:00"));
+        assertThrows(ParseException.class, PlanCommandParser.MESSAGE_DUPLICATE_INDEX, ()
+                -> parser.parseCommand(PlanCommand.COMMAND_WORD + " 1: Monday 10:00 12:00; 1: Friday 08:00 10:00"));
+        assertThrows(ParseException.class, TimeSlot.MESSAGE_CONSTRAINTS, ()
+                -> parser.parseCommand(PlanCommand.COMMAND_WORD + " 1: Someday 10:00 12:00"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, PlanCommand.MESSAGE_USAGE), ()
+                -> parser.parseCommand(PlanCommand.COMMAND_WORD + " 1 Monday 10:00 12:00"));
+    }
+
+    @Test
+    public void parseCommand_free() throws Exception {
+        assertEquals(new FreeCommand(60, 0, 1440), parser.parseCommand(FreeCommand.COMMAND_WORD + " 60"));
+        assertEquals(new FreeCommand(30, 540, 1440),
+                parser.parseCommand(FreeCommand.COMMAND_WORD + " 30 9:00 24:00"));
+        assertThrows(ParseException.class, FreeCommandParser.MESSAGE_INVALID_PERIOD, ()
+                -> parser.parseCommand(FreeCommand.COMMAND_WORD + " 30 18:00 09:00"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE), ()
+                -> parser.parseCommand(FreeCommand.COMMAND_WORD + " 30 09:00"));
+    }
+
+    @Test
+    public void parseCommand_clashes() throws Exception {
+        assertEquals(new ClashesCommand(), parser.parseCommand(ClashesCommand.COMMAND_WORD));
+        assertEquals(new ClashesCommand(true), parser.parseCommand(ClashesCommand.COMMAND_WORD + " warn on"));
+        assertEquals(new ClashesCommand(false), parser.parseCommand(ClashesCommand.COMMAND_WORD + " warn OFF"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ClashesCommand.MESSAGE_USAGE), () -> parser.parseCommand(ClashesCommand.COMMAND_WORD + " warn"));
+    }
+
+    @Test
+    public void parseCommand_term() throws Exception {
+        assertEquals(new TermCommand(), parser.parseCommand(TermCommand.COMMAND_WORD));
+        assertEquals(new TermCommand(null), parser.parseCommand(TermCommand.COMMAND_WORD + " clear"));
+        Term term = new Term(LocalDate.of(2023, 1, 9), LocalDate.of(2023, 4, 28), List.of(7),
+                List.of(LocalDate.of(2023, 4, 7)));
+        assertEquals(new TermCommand(term),
+                parser.parseCommand(TermCommand.COMMAND_WORD + " 090123 280423 w/7 h/070423"));
+        assertThrows(ParseException.class, Term.MESSAGE_CONSTRAINTS, ()
+                -> parser.parseCommand(TermCommand.COMMAND_WORD + " 090123 280423 w/17"));
+        assertThrows(ParseException.class, TermCommandParser.MESSAGE_INVALID_WEEK, ()
+                -> parser.parseCommand(TermCommand.COMMAND_WORD + " 090123 280423 w/0"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATE, ()
+                -> parser.parseCommand(TermCommand.COMMAND_WORD + " 090123 310223"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, TermCommand.MESSAGE_USAGE),
+                () -> parser.parseCommand(TermCommand.COMMAND_WORD + " 090123"));
+    }
+
+    @Test
+    public void parseCommand_occurrences() throws Exception {
+        assertEquals(new OccurrencesCommand(LocalDate.of(2023, 2, 20), LocalDate.of(2023, 2, 26)),
+                parser.parseCommand(OccurrencesCommand.COMMAND_WORD + " 200223 260223"));
+        assertEquals(new OccurrencesCommand(5), parser.parseCommand(OccurrencesCommand.COMMAND_WORD + " next 5"));
+        assertThrows(ParseException.class, OccurrencesCommandParser.MESSAGE_INVALID_COUNT, ()
+                -> parser.parseCommand(OccurrencesCommand.COMMAND_WORD + " next 101"));
+        assertThrows(ParseException.class, OccurrencesCommandParser.MESSAGE_INVALID_PERIOD, ()
+                -> parser.parseCommand(OccurrencesCommand.COMMAND_WORD + " 260223 200223"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                OccurrencesCommand.MESSAGE_USAGE), () -> parser.parseCommand(OccurrencesCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_agenda() throws Exception {
+        assertTrue(parser.parseCommand(TodayCommand.COMMAND_WORD) instanceof TodayCommand);
+        assertTrue(parser.parseCommand(TomorrowCommand.COMMAND_WORD + " 3") instanceof TomorrowCommand);
+        assertTrue(parser.parseCommand(WeekCommand.COMMAND_WORD) instanceof WeekCommand);
+    }
+
+    @Test
+    public void parseCommand_verify() throws Exception {
+        assertTrue(parser.parseCommand(VerifyCommand.COMMAND_WORD) instanceof VerifyCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommands_separatedCommands_parsesAllInOrder() throws Exception {
+        List<Command> commands = parser.parseCommands(" list ;\n clear\r\n;exit; ");
+        assertEquals(3, commands.size());
+        assertTrue(commands.get(0) instanceof ListCommand);
+        assertTrue(commands.get(1) instanceof ClearCommand);
+        assertTrue(commands.get(2) instanceof ExitCommand);
+    }
+
+    @Test
+    public void parseCommands_semicolonInFieldValue_keptInField() throws Exception {
+        // not followed by a command word
+        assertEquals(List.of(editRemark("see slides; bring laptop")),
+                parser.parseCommands("edit 1 r/see slides; bring laptop"));
+
+        // escaped
+        assertEquals(List.of(editRemark("see slides; delete 2")),
+                parser.parseCommands("edit 1 r/see slides\\; delete 2"));
+
+        // followed by a command word
+        assertEquals(List.of(editRemark("see slides"), new DeleteCommand(INDEX_SECOND_MODULE)),
+                parser.parseCommands("edit 1 r/see slides; delete 2"));
+    }
+
+    @Test
+    public void parseCommands_singleCommand_sameAsParseCommand() throws Exception {
+        assertEquals(List.of(new DeleteCommand(INDEX_FIRST_MODULE)),
+                parser.parseCommands(DeleteCommand.COMMAND_WORD + " " + INDEX_FIRST_MODULE.getOneBased()));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommands("unknownCommand"));
+    }
+
+    @Test
+    public void parseCommands_undoInBatch_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNDO_REDO_IN_BATCH, () -> parser.parseCommands("list; undo"));
+        assertThrows(ParseException.class, MESSAGE_UNDO_REDO_IN_BATCH, () -> parser.parseCommands("redo\nlist"));
+    }
+
+    @Test
+    public void parseCommands_workspaceInBatch_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_WORKSPACE_IN_BATCH, ()
+            -> parser.parseCommands("add n/CS2103T t/Lecture; workspace other"));
+        assertThrows(ParseException.class, MESSAGE_WORKSPACE_IN_BATCH, () -> parser.parseCommands("workspace; list"));
+    }
+
+    @Test
+    public void parseCommands_syncInBatch_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_SYNC_IN_BATCH, ()
+            -> parser.parseCommands("sync import desktop.json; delete 2"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -98,4 +333,8 @@ public class ModuleTrackerParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    private static EditCommand editRemark(String remark) {
+        return new EditCommand(INDEX_FIRST_MODULE, new EditModuleDescriptorBuilder().withRemark(remark).build());
+    }
 }
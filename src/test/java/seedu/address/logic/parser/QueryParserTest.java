@@ -0,0 +1,116 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.Deadline;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.DayCondition;
+import seedu.address.model.query.DeadlineCondition;
+import seedu.address.model.query.FuzzyCondition;
+import seedu.address.model.query.KeywordCondition;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.TagCondition;
+import seedu.address.model.query.TeacherCondition;
+import seedu.address.model.query.TimeCondition;
+import seedu.address.model.query.VenueCondition;
+
+public class QueryParserTest {
+
+    private static final LocalDateTime APRIL_15 = LocalDateTime.of(2023, 4, 15, 0, 0);
+
+    private final QueryParser parser = new QueryParser();
+
+    @Test
+    public void parse_plainKeywords_returnsSingleKeywordCondition() throws Exception {
+        assertEquals(new KeywordCondition(List.of("CS2103T", "lab")), parser.parse("CS2103T lab"));
+    }
+
+    @Test
+    public void parse_conditions_returnsAndQuery() throws Exception {
+        Query expected = new AndQuery(List.of(new TagCondition("lab"), new TeacherCondition("Tan"),
+                DeadlineCondition.of("<", "150423", APRIL_15, APRIL_15.plusDays(1)),
+                new DayCondition(DayOfWeek.MONDAY)));
+        assertEquals(expected, parser.parse("tag/lab AND teacher/Tan AND deadline<150423 AND day/monday"));
+
+        // AND is implied between adjacent conditions
+        assertEquals(expected, parser.parse("tag/lab teacher/Tan deadline<150423 day/Monday"));
+    }
+
+    @Test
+    public void parse_valueWithSpaces_readsUntilNextCondition() throws Exception {
+        Query expected = new AndQuery(List.of(new TeacherCondition("Tan Ah Kow"), new TagCondition("lab")));
+        assertEquals(expected, parser.parse("teacher/Tan Ah Kow tag/lab"));
+    }
+
+    @Test
+    public void parse_venue_returnsVenueCondition() throws Exception {
+        Query expected = new AndQuery(List.of(new VenueCondition("COM1 02-10"), new TeacherCondition("Prof. X")));
+        assertEquals(expected, parser.parse("venue/COM1 02-10 teacher/Prof. X"));
+    }
+
+    @Test
+    public void parse_operatorPrecedence_andBindsTighterThanOr() throws Exception {
+        Query expected = new OrQuery(List.of(new TagCondition("lab"),
+                new AndQuery(List.of(new TagCondition("lecture"), new NotQuery(new DayCondition(DayOfWeek.FRIDAY))))));
+        assertEquals(expected, parser.parse("tag/lab OR tag/lecture AND NOT day/friday"));
+
+        Query grouped = new AndQuery(List.of(new OrQuery(List.of(new TagCondition("lab"), new TagCondition("lecture"))),
+                new TimeCondition(LocalTime.of(10, 0), LocalTime.of(12, 0))));
+        assertEquals(grouped, parser.parse("(tag/lab OR tag/lecture) time/10:00-12:00"));
+    }
+
+    @Test
+    public void parse_deadlineOperators_coverExpectedPeriods() throws Exception {
+        LocalDateTime end = APRIL_15.plusDays(1);
+        assertEquals(DeadlineCondition.of("/", "150423", APRIL_15, end), parser.parse("deadline/150423"));
+        assertEquals(DeadlineCondition.of("<=", "150423", APRIL_15, end), parser.parse("deadline<=150423"));
+        assertEquals(DeadlineCondition.of(">", "150423", APRIL_15, end), parser.parse("deadline>150423"));
+
+        LocalDateTime evening = APRIL_15.withHour(18);
+        assertEquals(DeadlineCondition.of(">=", "150423 18:00", evening, evening.plusMinutes(1)),
+                parser.parse("deadline>=150423 18:00"));
+    }
+
+    @Test
+    public void parse_fuzzyKeywords() throws Exception {
+        assertEquals(new FuzzyCondition("lectrue", 2), parser.parse("~lectrue"));
+        assertEquals(new AndQuery(List.of(new FuzzyCondition("tan", 0), new TagCondition("lab"))),
+                parser.parse("~Tan~0 tag/lab"));
+        assertEquals("~lectrue AND ~tan~0", parser.parse("~lectrue ~tan~0").toString());
+        assertThrows(ParseException.class, FuzzyCondition.MESSAGE_INVALID_DISTANCE, () -> parser.parse("~tan~4"));
+        assertThrows(ParseException.class, () -> parser.parse("~"));
+    }
+
+    @Test
+    public void parse_toStringRoundTrips() throws Exception {
+        String query = "(tag/lab OR tag/lecture) AND NOT day/friday AND deadline<150423";
+        assertEquals(query, parser.parse(query).toString());
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertThrows(ParseException.class, invalidFormat, () -> parser.parse("  "));
+        assertThrows(ParseException.class, invalidFormat, () -> parser.parse("tag/lab AND"));
+        assertThrows(ParseException.class, invalidFormat, () -> parser.parse("(tag/lab"));
+        assertThrows(ParseException.class, invalidFormat, () -> parser.parse("tag/lab)"));
+        assertThrows(ParseException.class, invalidFormat, () -> parser.parse("tag/"));
+        assertThrows(ParseException.class, QueryParser.MESSAGE_INVALID_DAY, () -> parser.parse("day/someday"));
+        assertThrows(ParseException.class, QueryParser.MESSAGE_INVALID_TIME, () -> parser.parse("time/10-12"));
+        assertThrows(ParseException.class, Deadline.MESSAGE_CONSTRAINTS_INVALID_DATE_FORMAT, ()
+            -> parser.parse("deadline<310223"));
+    }
+}
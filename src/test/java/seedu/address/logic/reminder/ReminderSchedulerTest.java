@@ -0,0 +1,137 @@
+package seedu.address.logic.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.getTypicalModules;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.module.Module;
+import seedu.address.testutil.ModuleBuilder;
+import seedu.address.testutil.MutableClock;
+import seedu.address.testutil.RecordingExecutor;
+
+public class ReminderSchedulerTest {
+
+    /** A Monday morning, before the Monday lecture of the typical modules at noon. */
+    private static final LocalDateTime MONDAY_MORNING = LocalDateTime.of(2023, 2, 20, 10, 0);
+    private static final Duration LEAD_TIME = Duration.ofMinutes(15);
+
+    private final MutableClock clock = new MutableClock(MONDAY_MORNING);
+    private final RecordingExecutor executor = new RecordingExecutor();
+    private final List<Reminder> delivered = new ArrayList<>();
+    private final ObservableList<Module> modules = FXCollections.observableArrayList(getTypicalModules());
+    private ReminderScheduler scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = new ReminderScheduler(modules, LEAD_TIME, clock, executor, delivered::add);
+        scheduler.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    public void start_wakesUpOnceForEarliestReminder() {
+        assertEquals(MONDAY_MORNING.withHour(11).withMinute(45), scheduler.getNextFireTime());
+        assertEquals(Collections.singletonList(Duration.ofMinutes(105).toMillis()), executor.getDelays());
+    }
+
+    @Test
+    public void fireDue_timeSlot_deliveredAndRepeatedNextWeek() {
+        clock.set(MONDAY_MORNING.withHour(11).withMinute(45));
+        scheduler.fireDue();
+
+        assertEquals(1, delivered.size());
+        Reminder reminder = delivered.get(0);
+        assertEquals(CS2103T_LEC, reminder.getModule());
+        assertEquals(Reminder.Kind.TIMESLOT, reminder.getKind());
+        assertEquals(MONDAY_MORNING.withHour(12), reminder.getEventTime());
+        assertEquals("CS2103T [Lecture] starts on Monday 20 Feb, 12:00", reminder.toString());
+
+        // the Tuesday tutorial is next, and the lecture is reminded of again next Monday
+        assertEquals(MONDAY_MORNING.plusDays(1).withHour(11).withMinute(45), scheduler.getNextFireTime());
+        clock.set(MONDAY_MORNING.plusDays(7).withHour(11).withMinute(45));
+        scheduler.fireDue();
+        assertEquals(CS2103T_LEC, delivered.get(delivered.size() - 1).getModule());
+        assertEquals(MONDAY_MORNING.plusDays(7).withHour(12), delivered.get(delivered.size() - 1).getEventTime());
+    }
+
+    @Test
+    public void update_moduleAddedAndRemoved_queueFollowsList() {
+        Module dueSoon = new ModuleBuilder().withName("CS2040S").withDeadline("200223 10:30").build();
+        modules.add(dueSoon);
+        assertEquals(MONDAY_MORNING.withMinute(15), scheduler.getNextFireTime());
+
+        modules.set(modules.indexOf(dueSoon), new ModuleBuilder(dueSoon).withDeadline("200223 11:00").build());
+        assertEquals(MONDAY_MORNING.withMinute(45), scheduler.getNextFireTime());
+
+        modules.remove(modules.size() - 1);
+        assertEquals(MONDAY_MORNING.withHour(11).withMinute(45), scheduler.getNextFireTime());
+        // the wake-up follows the earliest reminder each time
+        List<Long> delays = executor.getDelays();
+        assertEquals(Duration.ofMinutes(105).toMillis(), (long) delays.get(delays.size() - 1));
+    }
+
+    @Test
+    public void update_timeSlotWithinLeadTime_dueAtOnce() {
+        clock.set(MONDAY_MORNING.withHour(11).withMinute(55));
+        scheduler.fireDue();
+        modules.remove(CS2106_TUT);
+        modules.add(new ModuleBuilder(CS2106_TUT).withTimeSlot("Monday 12:00 13:00").build());
+        assertEquals(clock.now(), scheduler.getNextFireTime());
+        assertEquals(0L, (long) executor.getDelays().get(executor.getDelays().size() - 1));
+    }
+
+    @Test
+    public void update_deliveredModuleEdited_notRemindedAgain() {
+        Module dueSoon = new ModuleBuilder().withName("CS2040S").withDeadline("200223 10:30").build();
+        modules.add(dueSoon);
+        clock.set(MONDAY_MORNING.withMinute(20));
+        scheduler.fireDue();
+        assertEquals(1, delivered.size());
+
+        // edits within the lead time remove the modules and add them again
+        modules.set(modules.indexOf(dueSoon), new ModuleBuilder(dueSoon).withRemark("Bring laptop").build());
+        scheduler.fireDue();
+        assertEquals(1, delivered.size());
+
+        clock.set(MONDAY_MORNING.withHour(11).withMinute(50));
+        scheduler.fireDue();
+        assertEquals(2, delivered.size());
+        modules.set(modules.indexOf(CS2103T_LEC), new ModuleBuilder(CS2103T_LEC).withRemark("Room change").build());
+        scheduler.fireDue();
+        assertEquals(2, delivered.size());
+
+        // the lecture is still reminded of next week, and the tutorial tomorrow
+        assertEquals(MONDAY_MORNING.plusDays(1).withHour(11).withMinute(45), scheduler.getNextFireTime());
+        clock.set(MONDAY_MORNING.plusDays(7).withHour(11).withMinute(45));
+        scheduler.fireDue();
+        assertEquals(MONDAY_MORNING.plusDays(7).withHour(12), delivered.get(delivered.size() - 1).getEventTime());
+        assertEquals("Room change", delivered.get(delivered.size() - 1).getModule().getRemark().value);
+    }
+
+    @Test
+    public void stop_noMoreReminders() {
+        scheduler.stop();
+        modules.add(new ModuleBuilder().withName("CS2040S").withDeadline("200223 10:30").build());
+        assertNull(scheduler.getNextFireTime());
+        assertTrue(executor.isShutdown());
+    }
+}
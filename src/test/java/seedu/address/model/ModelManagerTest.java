@@ -7,15 +7,20 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MODULES;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
 import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.module.NameContainsKeywordsPredicate;
+import seedu.address.model.view.SavedView;
 import seedu.address.testutil.ModuleTrackerBuilder;
 
 public class ModelManagerTest {
@@ -88,6 +93,29 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasModule(CS2106_TUT));
     }
 
+    @Test
+    public void rollbackModuleTracker_restoresDisplayAndSavedViews() {
+        modelManager = new ModelManager(getTypicalModuleTracker(), new UserPrefs());
+        modelManager.saveView("lectures", new SavedView("tag/lecture", ""));
+        modelManager.showView("lectures", module -> module.isSameModule(CS2103T_LEC), null);
+        modelManager.commitModuleTracker();
+
+        modelManager.updateFilteredModuleList(PREDICATE_SHOW_ALL_MODULES);
+        modelManager.saveView("all", new SavedView());
+        modelManager.setClashWarningEnabled(true);
+        modelManager.rollbackModuleTracker();
+        assertEquals(List.of(CS2103T_LEC), modelManager.getDisplayedModuleList());
+        assertEquals(Set.of("lectures"), modelManager.getUserPrefs().getSavedViews().keySet());
+        assertFalse(modelManager.getUserPrefs().isClashWarningEnabled());
+
+        // a view saved over while shown cannot be shown again, so the list it was shown over is displayed
+        modelManager.saveView("lectures", new SavedView("tag/tutorial", ""));
+        modelManager.updateFilteredModuleList(unused -> false);
+        modelManager.rollbackModuleTracker();
+        assertEquals(getTypicalModuleTracker().getModuleList(), modelManager.getDisplayedModuleList());
+        assertEquals(Optional.empty(), modelManager.getDisplayedView());
+    }
+
     @Test
     public void getDisplayedModuleList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getDisplayedModuleList().remove(0));
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.CS3230;
 import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
 
 import java.util.Arrays;
@@ -79,6 +80,35 @@ public class ModuleTrackerTest {
         assertThrows(UnsupportedOperationException.class, () -> moduleTracker.getModuleList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_afterMutations_tracksLatestVersion() {
+        moduleTracker.resetData(getTypicalModuleTracker());
+        ModuleTrackerSnapshot before = moduleTracker.getSnapshot();
+        assertEquals(moduleTracker.getModuleList(), before.getModuleList());
+
+        Module edited = new ModuleBuilder(CS2106_TUT).withRemark("Edited").build();
+        moduleTracker.setModule(CS2106_TUT, edited);
+        moduleTracker.addModule(CS3230);
+        moduleTracker.removeModule(edited);
+
+        ModuleTrackerSnapshot after = moduleTracker.getSnapshot();
+        assertEquals(moduleTracker.getModuleList(), after.getModuleList());
+        assertEquals(before.getVersion() + 3, after.getVersion());
+    }
+
+    @Test
+    public void getSnapshot_laterMutations_snapshotUnchanged() {
+        moduleTracker.resetData(getTypicalModuleTracker());
+        ModuleTrackerSnapshot snapshot = moduleTracker.getSnapshot();
+        List<Module> expected = List.copyOf(snapshot.getModuleList());
+
+        moduleTracker.removeModule(CS2106_TUT);
+        moduleTracker.addModule(CS3230);
+
+        assertEquals(expected, snapshot.getModuleList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getModuleList().remove(0));
+    }
+
     /**
      * A stub ReadOnlyModuleTracker whose modules list can violate interface constraints.
      */
@@ -0,0 +1,110 @@
+package seedu.address.model.agenda;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS1101S_LEC;
+import static seedu.address.testutil.TypicalModules.CS1231S_TUT;
+import static seedu.address.testutil.TypicalModules.CS2101_OP;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+import seedu.address.testutil.ModuleBuilder;
+import seedu.address.testutil.MutableClock;
+
+public class AgendaServiceTest {
+
+    /** The Thursday the typical modules are all due, in the morning. */
+    private static final LocalDateTime DUE_DAY_MORNING = LocalDateTime.of(2023, 2, 23, 9, 0);
+    private static final LocalTime NOON = LocalTime.of(12, 0);
+    private static final LocalTime TWO_PM = LocalTime.of(14, 0);
+    private static final LocalTime DUE_TIME = LocalTime.of(18, 0);
+
+    private final MutableClock clock = new MutableClock(DUE_DAY_MORNING);
+    private final ModuleTracker moduleTracker = getTypicalModuleTracker();
+    private final AgendaService agendaService = new AgendaService(moduleTracker, clock);
+
+    @Test
+    public void getAgendas_today_lessonsThenDeadlinesInOrder() {
+        Agenda expected = new Agenda(DUE_DAY_MORNING.toLocalDate(), Arrays.asList(
+                new AgendaItem(CS1231S_TUT, NOON, TWO_PM),
+                new AgendaItem(CS1101S_LEC, DUE_TIME),
+                new AgendaItem(CS1231S_TUT, DUE_TIME),
+                new AgendaItem(CS2101_OP, DUE_TIME),
+                new AgendaItem(CS2103T_LEC, DUE_TIME),
+                new AgendaItem(CS2106_TUT, DUE_TIME)));
+        assertEquals(List.of(expected), agendaService.getAgendas(0, 1));
+    }
+
+    @Test
+    public void getAgendas_week_oneAgendaPerDay() {
+        List<Agenda> week = agendaService.getAgendas(0, 7);
+        assertEquals(7, week.size());
+        assertEquals(LocalDate.of(2023, 3, 1), week.get(6).getDate());
+        assertEquals(List.of(new AgendaItem(CS1101S_LEC, NOON, TWO_PM)), week.get(1).getItems());
+        assertTrue(week.get(2).isEmpty());
+        assertEquals(List.of(new AgendaItem(CS2103T_LEC, NOON, TWO_PM)), week.get(4).getItems());
+    }
+
+    @Test
+    public void getAgendas_unchanged_cached() {
+        Agenda tomorrow = agendaService.getAgendas(1, 1).get(0);
+        assertSame(tomorrow, agendaService.getAgendas(0, 2).get(1));
+    }
+
+    @Test
+    public void getAgendas_moduleTrackerChanged_rebuilt() {
+        Agenda before = agendaService.getAgendas(1, 1).get(0);
+        Module lab = new ModuleBuilder().withName("CS2040S").withTimeSlot("Friday 09:00 11:00")
+                .withDeadline("240223 08:00").build();
+        moduleTracker.addModule(lab);
+
+        Agenda after = agendaService.getAgendas(1, 1).get(0);
+        assertNotSame(before, after);
+        assertEquals(Arrays.asList(
+                new AgendaItem(lab, LocalTime.of(8, 0)),
+                new AgendaItem(lab, LocalTime.of(9, 0), LocalTime.of(11, 0)),
+                new AgendaItem(CS1101S_LEC, NOON, TWO_PM)), after.getItems());
+    }
+
+    @Test
+    public void getAgendas_severalTimeSlotsOnDay_itemForEach() {
+        Module lab = new ModuleBuilder().withName("CS2040S")
+                .withTimeSlots("Friday 09:00 10:00", "Monday 09:00 10:00", "Friday 16:00 18:00").build();
+        moduleTracker.addModule(lab);
+
+        assertEquals(Arrays.asList(
+                new AgendaItem(lab, LocalTime.of(9, 0), LocalTime.of(10, 0)),
+                new AgendaItem(CS1101S_LEC, NOON, TWO_PM),
+                new AgendaItem(lab, LocalTime.of(16, 0), LocalTime.of(18, 0))),
+                agendaService.getAgendas(1, 1).get(0).getItems());
+    }
+
+    @Test
+    public void getAgendas_dayRollover_todayMovesOn() {
+        Agenda friday = agendaService.getAgendas(1, 1).get(0);
+        clock.set(DUE_DAY_MORNING.plusDays(1));
+        assertSame(friday, agendaService.getAgendas(0, 1).get(0));
+        assertEquals(LocalDate.of(2023, 2, 25), agendaService.getAgendas(1, 1).get(0).getDate());
+    }
+
+    @Test
+    public void toString_listsItemsUnderDate() {
+        Agenda agenda = agendaService.getAgendas(1, 1).get(0);
+        assertEquals("Friday 24 Feb 2023:\n12:00-14:00: CS1101S [Lecture]", agenda.toString());
+        assertEquals("18:00 deadline: CS2103T [Lecture]",
+                new AgendaItem(CS2103T_LEC, DUE_TIME).toString());
+    }
+}
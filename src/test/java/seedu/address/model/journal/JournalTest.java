@@ -0,0 +1,102 @@
+package seedu.address.model.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalModules.CS1101S_LEC;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.CS3230;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+import seedu.address.testutil.ModuleBuilder;
+
+public class JournalTest {
+
+    private final ModuleTracker moduleTracker = getTypicalModuleTracker();
+
+    @Test
+    public void commit_nothingRecorded_noEntry() {
+        Journal journal = new Journal();
+        journal.commit();
+        assertFalse(journal.canUndo());
+    }
+
+    @Test
+    public void undo_batch_revertsAllOperationsOfEntry() {
+        Journal journal = new Journal();
+        List<Module> original = List.copyOf(moduleTracker.getModuleList());
+
+        Module edited = new ModuleBuilder(CS1101S_LEC).withRemark("Edited").build();
+        moduleTracker.setModule(CS1101S_LEC, edited);
+        journal.record(new SetOperation(CS1101S_LEC, edited));
+        journal.record(new RemoveOperation(moduleTracker.removeModule(CS2106_TUT), CS2106_TUT));
+        moduleTracker.addModule(CS3230);
+        journal.record(new AddOperation(moduleTracker.getModuleList().size() - 1, CS3230));
+        journal.commit();
+        List<Module> changed = List.copyOf(moduleTracker.getModuleList());
+
+        assertEquals(1, journal.getUndoableCount());
+        journal.undo(moduleTracker);
+        assertEquals(original, moduleTracker.getModuleList());
+        journal.redo(moduleTracker);
+        assertEquals(changed, moduleTracker.getModuleList());
+    }
+
+    @Test
+    public void undo_reset_restoresOldModules() {
+        Journal journal = new Journal();
+        List<Module> original = moduleTracker.getSnapshot().getModuleList();
+        moduleTracker.setModules(List.of());
+        journal.record(new ResetOperation(original, moduleTracker.getSnapshot().getModuleList()));
+        journal.commit();
+
+        journal.undo(moduleTracker);
+        assertEquals(original, moduleTracker.getModuleList());
+    }
+
+    @Test
+    public void commit_overEntryLimit_forgetsOldestEntries() {
+        Journal journal = new Journal(2, Long.MAX_VALUE);
+        for (int i = 0; i < 5; i++) {
+            Module edited = new ModuleBuilder(CS2106_TUT).withRemark("Edit " + i).build();
+            Module target = moduleTracker.getModuleList().get(0);
+            moduleTracker.setModule(target, edited);
+            journal.record(new SetOperation(target, edited));
+            journal.commit();
+        }
+
+        assertEquals(2, journal.getUndoableCount());
+        journal.undo(moduleTracker);
+        journal.undo(moduleTracker);
+        assertEquals("Edit 2", moduleTracker.getModuleList().get(0).getRemark().value);
+        assertFalse(journal.canUndo());
+    }
+
+    @Test
+    public void commit_overByteLimit_forgetsOldestEntries() {
+        long oneEntry = new RemoveOperation(0, CS2106_TUT).estimateBytes();
+        Journal journal = new Journal(Integer.MAX_VALUE, oneEntry * 3 / 2);
+
+        for (Module module : List.copyOf(moduleTracker.getModuleList())) {
+            journal.record(new RemoveOperation(moduleTracker.removeModule(module), module));
+            journal.commit();
+            assertTrue(journal.getHistoryBytes() <= oneEntry * 3 / 2 || journal.getUndoableCount() == 1);
+        }
+
+        assertEquals(1, journal.getUndoableCount());
+    }
+
+    @Test
+    public void undoRedo_emptyHistory_throwsIllegalStateException() {
+        Journal journal = new Journal();
+        assertThrows(IllegalStateException.class, () -> journal.undo(moduleTracker));
+        assertThrows(IllegalStateException.class, () -> journal.redo(moduleTracker));
+    }
+}
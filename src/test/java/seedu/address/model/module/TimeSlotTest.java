@@ -1,9 +1,12 @@
 package seedu.address.model.module;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
 public class TimeSlotTest {
@@ -57,4 +60,20 @@ public class TimeSlotTest {
         //TO ADD MORE
 
     }
+
+    @Test
+    public void getNextStart() {
+        TimeSlot timeSlot = new TimeSlot("Monday 12:00 14:00");
+        LocalDateTime mondayMorning = LocalDateTime.of(2023, 2, 20, 10, 0);
+
+        // later today
+        assertEquals(mondayMorning.withHour(12), timeSlot.getNextStart(mondayMorning));
+
+        // starting now or started earlier today -> next week
+        assertEquals(mondayMorning.withHour(12).plusWeeks(1), timeSlot.getNextStart(mondayMorning.withHour(12)));
+        assertEquals(mondayMorning.withHour(12).plusWeeks(1), timeSlot.getNextStart(mondayMorning.withHour(13)));
+
+        // later this week
+        assertEquals(mondayMorning.withHour(12).plusWeeks(1), timeSlot.getNextStart(mondayMorning.plusDays(6)));
+    }
 }
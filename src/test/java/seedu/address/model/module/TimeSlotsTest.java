@@ -0,0 +1,90 @@
+package seedu.address.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.util.SampleDataUtil.EMPTY_INPUT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeSlotsTest {
+
+    private static final TimeSlot MONDAY_NOON = new TimeSlot("Monday 12:00 14:00");
+    private static final TimeSlot MONDAY_AFTERNOON = new TimeSlot("Monday 14:00 16:00");
+    private static final TimeSlot THURSDAY_MORNING = new TimeSlot("Thursday 09:00 10:30");
+
+    @Test
+    public void constructor_sortsAndDropsEmptyAndRepeats() {
+        TimeSlots timeSlots = TimeSlots.of(THURSDAY_MORNING, new TimeSlot(EMPTY_INPUT), MONDAY_NOON, MONDAY_NOON);
+        assertEquals(Arrays.asList(MONDAY_NOON, THURSDAY_MORNING), timeSlots.asList());
+        assertEquals(TimeSlots.of(MONDAY_NOON, THURSDAY_MORNING), timeSlots);
+        assertTrue(TimeSlots.of(new TimeSlot(EMPTY_INPUT)).isEmpty());
+    }
+
+    @Test
+    public void constructor_overlapping_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, TimeSlots.MESSAGE_OVERLAPPING, () ->
+                TimeSlots.of(MONDAY_NOON, new TimeSlot("Monday 13:00 15:00")));
+        // touching timeslots do not overlap
+        assertTrue(TimeSlots.isNonOverlapping(Arrays.asList(MONDAY_NOON, MONDAY_AFTERNOON)));
+    }
+
+    @Test
+    public void packing_roundTrips() {
+        TimeSlots timeSlots = TimeSlots.of(MONDAY_NOON, THURSDAY_MORNING);
+        int thursdayStart = 3 * 24 * 60 + 9 * 60;
+        assertEquals(TimeSlots.pack(thursdayStart, thursdayStart + 90), timeSlots.getPacked(1));
+        assertEquals(thursdayStart, timeSlots.getStart(1));
+        assertEquals(DayOfWeek.THURSDAY, timeSlots.getDay(1));
+        assertEquals(LocalTime.of(10, 30), timeSlots.getEndTime(1));
+        assertEquals(THURSDAY_MORNING, timeSlots.get(1));
+        // packed values order as their start, then end
+        assertTrue(TimeSlots.pack(10, 20) < TimeSlots.pack(10, 30));
+        assertTrue(TimeSlots.pack(10, 9000) < TimeSlots.pack(11, 20));
+    }
+
+    @Test
+    public void queries() {
+        TimeSlots timeSlots = TimeSlots.of(MONDAY_NOON, THURSDAY_MORNING);
+        assertTrue(timeSlots.isOnDay(DayOfWeek.THURSDAY));
+        assertFalse(timeSlots.isOnDay(DayOfWeek.TUESDAY));
+        assertTrue(timeSlots.overlaps(13 * 60, 15 * 60));
+        assertFalse(timeSlots.overlaps(14 * 60, 15 * 60));
+        assertEquals(14 * 60, timeSlots.getEndOfSlotStartingAt(12 * 60));
+        assertEquals(-1, timeSlots.getEndOfSlotStartingAt(13 * 60));
+    }
+
+    @Test
+    public void minutesUntilNextStart() {
+        TimeSlots timeSlots = TimeSlots.of(MONDAY_NOON, THURSDAY_MORNING);
+        LocalDateTime mondayMorning = LocalDateTime.of(2023, 2, 20, 11, 0);
+        assertEquals(60, timeSlots.minutesUntilNextStart(mondayMorning));
+        // a timeslot starting now is next due a week later, so the next one is on Thursday
+        assertEquals(3 * 24 * 60 - 3 * 60, timeSlots.minutesUntilNextStart(mondayMorning.withHour(12)));
+        // after the last timeslot of the week, the first one comes round again
+        assertEquals(4 * 24 * 60 + 90, timeSlots.minutesUntilNextStart(LocalDateTime.of(2023, 2, 23, 10, 30)));
+    }
+
+    @Test
+    public void compareTo() {
+        TimeSlots monday = TimeSlots.of(MONDAY_NOON);
+        TimeSlots mondayAndThursday = TimeSlots.of(MONDAY_NOON, THURSDAY_MORNING);
+        assertTrue(monday.compareTo(mondayAndThursday) < 0);
+        assertTrue(mondayAndThursday.compareTo(TimeSlots.of(MONDAY_AFTERNOON)) < 0);
+        assertTrue(TimeSlots.EMPTY.compareTo(monday) < 0);
+        assertEquals(0, mondayAndThursday.compareTo(TimeSlots.of(THURSDAY_MORNING, MONDAY_NOON)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals(EMPTY_INPUT, TimeSlots.EMPTY.toString());
+        assertEquals(MONDAY_NOON + TimeSlots.SEPARATOR + THURSDAY_MORNING,
+                TimeSlots.of(THURSDAY_MORNING, MONDAY_NOON).toString());
+    }
+}
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_CS3219;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_CS3219;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalModules.CS1101S_LEC;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
 import static seedu.address.testutil.TypicalModules.CS2106_TUT;
 import static seedu.address.testutil.TypicalModules.CS3219;
 
@@ -161,6 +163,23 @@ public class UniqueModuleListTest {
         assertThrows(DuplicateModuleException.class, () -> uniqueModuleList.setModules(listWithDuplicateModules));
     }
 
+    @Test
+    public void reinsert_modulesOutWhileRunning_putBackWhereTheyWere() {
+        uniqueModuleList.setModules(Arrays.asList(CS2106_TUT, CS2103T_LEC, CS1101S_LEC));
+        uniqueModuleList.reinsert(Arrays.asList(CS1101S_LEC, CS2106_TUT, CS3219), () ->
+                assertEquals(List.of(CS2103T_LEC), uniqueModuleList.asUnmodifiableObservableList()));
+        assertEquals(List.of(CS2106_TUT, CS2103T_LEC, CS1101S_LEC), uniqueModuleList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void reinsert_whileOutThrows_modulesPutBack() {
+        uniqueModuleList.setModules(Arrays.asList(CS2106_TUT, CS2103T_LEC, CS1101S_LEC));
+        assertThrows(IllegalStateException.class, () -> uniqueModuleList.reinsert(List.of(CS2103T_LEC), () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(List.of(CS2106_TUT, CS2103T_LEC, CS1101S_LEC), uniqueModuleList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
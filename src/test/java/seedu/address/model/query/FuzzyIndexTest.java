@@ -0,0 +1,86 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS1101S_LEC;
+import static seedu.address.testutil.TypicalModules.CS1231S_TUT;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.CS3219;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+import seedu.address.testutil.ModuleBuilder;
+
+public class FuzzyIndexTest {
+
+    private final ModuleTracker moduleTracker = getTypicalModuleTracker();
+    private final FuzzyIndex index = (FuzzyIndex) moduleTracker.<String>getSecondaryIndex(ModuleIndexes.FUZZY_INDEX);
+
+    @Test
+    public void search_typos_returnsClosestDistance() {
+        assertEquals(Map.of(CS2106_TUT, 1, CS1231S_TUT, 1), index.search("tutorail", 1));
+        assertEquals(Map.of(CS2103T_LEC, 1, CS1101S_LEC, 1), index.search("lectrue", 2));
+        assertEquals(Map.of(), index.search("lectrue", 0));
+    }
+
+    @Test
+    public void candidates_filterOutDistantWords() {
+        Set<String> candidates = index.candidates("tutorail", 1);
+        assertTrue(candidates.contains("tutorial"));
+        assertFalse(candidates.contains("lecture"));
+        assertTrue(candidates.size() < index.keys().size());
+    }
+
+    @Test
+    public void search_repeated_searchesOnceUntilChanged() {
+        int[] searchCount = new int[1];
+        FuzzyIndex countingIndex = new FuzzyIndex("counting", ModuleIndexes::fuzzyKeys) {
+            @Override
+            Set<String> candidates(String word, int maxDistance) {
+                searchCount[0]++;
+                return super.candidates(word, maxDistance);
+            }
+        };
+        countingIndex.add(CS2106_TUT);
+
+        Map<Module, Integer> found = countingIndex.search("tutorail", 1);
+        assertSame(found, countingIndex.search("tutorail", 1));
+        assertEquals(1, searchCount[0]);
+
+        countingIndex.add(CS1231S_TUT);
+        assertEquals(Map.of(CS2106_TUT, 1, CS1231S_TUT, 1), countingIndex.search("tutorail", 1));
+        assertEquals(2, searchCount[0]);
+    }
+
+    @Test
+    public void search_keptInStepWithMutations() {
+        assertEquals(Map.of(CS2106_TUT, 1, CS1231S_TUT, 1), index.search("tutorail", 1));
+        moduleTracker.addModule(CS3219);
+        Module edited = new ModuleBuilder(CS2106_TUT).withTags("Lab").build();
+        moduleTracker.setModule(CS2106_TUT, edited);
+        assertEquals(Map.of(CS1231S_TUT, 1), index.search("tutorail", 1));
+        assertEquals(Set.of(edited), index.search("lba", 1).keySet());
+
+        moduleTracker.setModules(List.of(CS1101S_LEC));
+        assertEquals(Map.of(), index.search("tutorail", 2));
+        assertEquals(Map.of(CS1101S_LEC, 1), index.search("lectrue", 1));
+    }
+
+    @Test
+    public void plan_fuzzyCondition_usesIndex() {
+        QueryPlan plan = moduleTracker.planQuery(new FuzzyCondition("tutorail"));
+        assertFalse(plan.isFullScan());
+        assertTrue(plan.explain().contains("index scan on fuzzy"));
+        assertEquals(Set.of(CS2106_TUT, CS1231S_TUT), plan.execute().getMatches());
+    }
+}
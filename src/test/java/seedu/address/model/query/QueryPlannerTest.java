@@ -0,0 +1,138 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS1101S_LEC;
+import static seedu.address.testutil.TypicalModules.CS1231S_TUT;
+import static seedu.address.testutil.TypicalModules.CS2101_OP;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.CS3219;
+import static seedu.address.testutil.TypicalModules.CS3230;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+import seedu.address.testutil.ModuleBuilder;
+
+public class QueryPlannerTest {
+
+    private static final LocalDateTime FEBRUARY_24 = LocalDateTime.of(2023, 2, 24, 0, 0);
+    private static final LocalDateTime MARCH_1 = LocalDateTime.of(2023, 3, 1, 0, 0);
+
+    private final ModuleTracker moduleTracker = getTypicalModuleTracker();
+
+    @Test
+    public void plan_indexedCondition_usesIndex() {
+        QueryPlan plan = moduleTracker.planQuery(new TagCondition("lecture"));
+        assertFalse(plan.isFullScan());
+        assertEquals(2, plan.getEstimatedCandidates());
+        assertEquals(Set.of(CS2103T_LEC, CS1101S_LEC), plan.execute().getMatches());
+    }
+
+    @Test
+    public void plan_and_usesMostSelectiveIndex() {
+        Query query = new AndQuery(List.of(new TagCondition("lecture"), new DayCondition(DayOfWeek.FRIDAY),
+                new KeywordCondition(List.of("CS1101S"))));
+        QueryPlan plan = moduleTracker.planQuery(query);
+
+        assertEquals(1, plan.getEstimatedCandidates());
+        assertTrue(plan.explain().contains("index scan on timeslot for day/friday"));
+        QueryPlan.Result result = plan.execute();
+        assertEquals(1, result.getExaminedCount());
+        assertEquals(Set.of(CS1101S_LEC), result.getMatches());
+    }
+
+    @Test
+    public void plan_tagCombination_answeredExactlyByBitmaps() {
+        Query query = new AndQuery(List.of(
+                new OrQuery(List.of(new TagCondition("lecture"), new TagCondition("tutorial"))),
+                new NotQuery(new TagCondition("lecture"))));
+        QueryPlan plan = moduleTracker.planQuery(query);
+
+        assertTrue(plan.explain().contains("bitmap scan on tag"));
+        assertEquals(2, plan.getEstimatedCandidates());
+        assertEquals(2, plan.getEstimatedMatches());
+        QueryPlan.Result result = plan.execute();
+        assertEquals(2, result.getExaminedCount());
+        assertEquals(Set.of(CS2106_TUT, CS1231S_TUT), result.getMatches());
+    }
+
+    @Test
+    public void plan_andWithTagsAndOtherConditions_combinesTagBitmaps() {
+        moduleTracker.addModule(new ModuleBuilder().withName("CS2040S").withTags("Lecture", "Lab").build());
+        Query query = new AndQuery(List.of(new TagCondition("lecture"), new TagCondition("lab"),
+                new KeywordCondition(List.of("CS2040S"))));
+        QueryPlan plan = moduleTracker.planQuery(query);
+
+        assertTrue(plan.explain().contains("bitmap scan on tag for tag/lecture AND tag/lab (1 rows)"));
+        assertEquals(1, plan.execute().getMatches().size());
+    }
+
+    @Test
+    public void getTagCounts_followsMutations() {
+        assertEquals(Map.of("Lecture", 2, "Presentation", 1, "Tutorial", 2), moduleTracker.getTagCounts());
+
+        moduleTracker.removeModule(CS2101_OP);
+        moduleTracker.setModule(CS2106_TUT, new ModuleBuilder(CS2106_TUT).withTags("lecture").build());
+        assertEquals(Map.of("Lecture", 3, "Tutorial", 1), moduleTracker.getTagCounts());
+    }
+
+    @Test
+    public void plan_orWithUnindexedOperand_fallsBackToFullScan() {
+        Query query = new OrQuery(List.of(new TagCondition("lecture"), new KeywordCondition(List.of("CS2101"))));
+        QueryPlan plan = moduleTracker.planQuery(query);
+
+        assertTrue(plan.isFullScan());
+        assertEquals(Set.of(CS2103T_LEC, CS2101_OP, CS1101S_LEC), plan.execute().getMatches());
+    }
+
+    @Test
+    public void plan_orOfIndexedOperands_usesUnion() {
+        Query query = new OrQuery(List.of(new DayCondition(DayOfWeek.MONDAY), new DayCondition(DayOfWeek.FRIDAY)));
+        QueryPlan plan = moduleTracker.planQuery(query);
+
+        assertFalse(plan.isFullScan());
+        assertEquals(Set.of(CS2103T_LEC, CS1101S_LEC), plan.execute().getMatches());
+    }
+
+    @Test
+    public void plan_rangeConditions_matchBounds() {
+        moduleTracker.addModule(CS3219); // deadline 270223 14:00, Tuesday 12:00-14:00
+        moduleTracker.addModule(CS3230); // deadline 300523 12:00, Tuesday 14:00-16:00
+
+        // every typical module is due 230223 18:00
+        Query endOfFebruary = new AndQuery(List.of(
+                DeadlineCondition.of(">=", "240223", FEBRUARY_24, FEBRUARY_24.plusDays(1)),
+                DeadlineCondition.of("<", "010323", MARCH_1, MARCH_1.plusDays(1))));
+        assertEquals(Set.of(CS3219), moduleTracker.planQuery(endOfFebruary).execute().getMatches());
+
+        Query afternoon = new AndQuery(List.of(new DayCondition(DayOfWeek.TUESDAY),
+                new TimeCondition(LocalTime.of(14, 0), LocalTime.of(15, 0))));
+        assertEquals(Set.of(CS3230), moduleTracker.planQuery(afternoon).execute().getMatches());
+    }
+
+    @Test
+    public void mutations_keepIndexesInStep() {
+        Module edited = new ModuleBuilder(CS2103T_LEC).withTags("Lab").build();
+        moduleTracker.setModule(CS2103T_LEC, edited);
+        moduleTracker.removeModule(CS1101S_LEC);
+
+        assertEquals(0, moduleTracker.planQuery(new TagCondition("lecture")).getEstimatedCandidates());
+        assertEquals(Set.of(edited), moduleTracker.planQuery(new TagCondition("lab")).execute().getMatches());
+
+        moduleTracker.setModules(List.of(CS1101S_LEC));
+        assertEquals(Set.of(CS1101S_LEC), moduleTracker.planQuery(new TagCondition("lecture")).execute().getMatches());
+        assertEquals(0, moduleTracker.planQuery(new NameCondition("cs2103t")).getEstimatedCandidates());
+    }
+}
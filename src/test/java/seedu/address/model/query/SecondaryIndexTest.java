@@ -0,0 +1,68 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalModules.CS1101S_LEC;
+import static seedu.address.testutil.TypicalModules.CS2101_OP;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.CS3219;
+import static seedu.address.testutil.TypicalModules.CS3230;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+import seedu.address.testutil.ModuleBuilder;
+
+public class SecondaryIndexTest {
+
+    private final ModuleTracker moduleTracker = getTypicalModuleTracker();
+
+    @Test
+    public void registerIndex_keptInStepWithMutations() {
+        SecondaryIndex<String> byRemark = SecondaryIndex.ofSingleKey("remark", module -> module.getRemark().value);
+        moduleTracker.registerIndex(byRemark);
+        assertEquals(5, byRemark.count("Zoom Class"));
+
+        moduleTracker.addModule(CS3219);
+        Module edited = new ModuleBuilder(CS2106_TUT).withRemark("Hybrid").build();
+        moduleTracker.setModule(CS2106_TUT, edited);
+        moduleTracker.removeModule(CS2101_OP);
+        assertEquals(3, byRemark.count("Zoom Class"));
+        assertEquals(Set.of(CS3219, edited), byRemark.get("Hybrid"));
+
+        moduleTracker.setModules(List.of(CS1101S_LEC));
+        assertEquals(Set.of("Zoom Class"), byRemark.keys());
+    }
+
+    @Test
+    public void registerIndex_duplicateName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> moduleTracker.registerIndex(
+                SecondaryIndex.ofSingleKey(ModuleIndexes.VENUE_INDEX, module -> module.getAddress().value)));
+        assertThrows(IllegalArgumentException.class, () -> moduleTracker.getSecondaryIndex("unknown"));
+    }
+
+    @Test
+    public void builtInIndexes_answerTeacherAndVenueConditions() {
+        moduleTracker.addModule(CS3219); // Prof. Z at COM1 02-12
+        moduleTracker.addModule(CS3230); // Prof. X at COM1 02-10
+
+        QueryPlan teacherPlan = moduleTracker.planQuery(new TeacherCondition("prof z"));
+        assertFalse(teacherPlan.isFullScan());
+        assertTrue(teacherPlan.explain().contains("index scan on teacher"));
+        assertEquals(Set.of(CS3219), teacherPlan.execute().getMatches());
+
+        QueryPlan venuePlan = moduleTracker.planQuery(new VenueCondition("com1 02-10"));
+        assertEquals(1, venuePlan.getEstimatedCandidates());
+        assertEquals(Set.of(CS3230), venuePlan.execute().getMatches());
+
+        // every typical module is taught by Prof Tan
+        assertEquals(5, moduleTracker.planQuery(new TeacherCondition("Tan")).execute().getMatches().size());
+    }
+}
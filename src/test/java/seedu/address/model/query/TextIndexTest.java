@@ -0,0 +1,92 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS1231S_LEC;
+import static seedu.address.testutil.TypicalModules.CS2030S_LAB;
+import static seedu.address.testutil.TypicalModules.CS2101_OP;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+import seedu.address.testutil.ModuleBuilder;
+
+public class TextIndexTest {
+
+    private final ModuleTracker moduleTracker = getTypicalModuleTracker();
+
+    @Test
+    public void search_moreMatchingTermsRankFirst() {
+        // CS2106 is at COM1-0217 and CS2101 at COM1-0210
+        List<TextIndex.Hit> hits = moduleTracker.searchText(List.of("com1", "0217"));
+        assertEquals(List.of(CS2106_TUT, CS2101_OP), modulesOf(hits));
+        assertEquals(Set.of("com1", "0217"), hits.get(0).getMatchedTerms());
+        assertEquals(Set.of("com1"), hits.get(1).getMatchedTerms());
+        assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+
+        assertEquals(List.of(), moduleTracker.searchText(List.of("nothing")));
+    }
+
+    @Test
+    public void search_rareTermsAndShortTextsRankFirst() {
+        Module shortRemark = new ModuleBuilder(CS1231S_LEC).withRemark("Weekly quiz").build();
+        Module longRemark = new ModuleBuilder(CS2030S_LAB)
+                .withRemark("Weekly quiz on the lecture, with a recording posted after the lab session").build();
+        moduleTracker.addModule(longRemark);
+        moduleTracker.addModule(shortRemark);
+        assertEquals(List.of(shortRemark, longRemark), modulesOf(moduleTracker.searchText(List.of("quiz"))));
+
+        // the five typical modules have a zoom class, so the rare "recording" outweighs it
+        List<TextIndex.Hit> hits = moduleTracker.searchText(List.of("zoom", "recording"));
+        assertEquals(longRemark, hits.get(0).getModule());
+        assertEquals(6, hits.size());
+    }
+
+    @Test
+    public void search_keptInStepWithMutations() {
+        Module edited = new ModuleBuilder(CS2103T_LEC).withRemark("Bring laptop").build();
+        moduleTracker.setModule(CS2103T_LEC, edited);
+        assertEquals(List.of(edited), modulesOf(moduleTracker.searchText(List.of("laptop"))));
+        assertEquals(4, moduleTracker.searchText(List.of("zoom")).size());
+
+        moduleTracker.removeModule(edited);
+        assertEquals(List.of(), moduleTracker.searchText(List.of("laptop")));
+
+        moduleTracker.setModules(List.of(CS2106_TUT));
+        assertEquals(List.of(CS2106_TUT), modulesOf(moduleTracker.searchText(List.of("zoom"))));
+    }
+
+    @Test
+    public void terms_splitsOnNonAlphanumerics() {
+        assertEquals(List.of("see", "www", "nus", "edu", "sg", "see"),
+                TextIndex.terms(List.of("See www.NUS.edu.sg,", "  see ")));
+    }
+
+    @Test
+    public void highlight_wrapsTermsAndTrimsLongText() {
+        assertEquals(Optional.of("Weekly [quiz] on [Zoom]"), TextIndex.highlight("Weekly quiz on Zoom",
+                Set.of("quiz", "zoom"), "[", "]", 10));
+        assertEquals(Optional.of("...c [d] e..."), TextIndex.highlight("a b c d e f g", Set.of("d"), "[", "]", 3));
+        assertEquals(Optional.of("...e f [g]"), TextIndex.highlight("a b c d e f g", Set.of("g"), "[", "]", 3));
+    }
+
+    @Test
+    public void highlight_noTermInText_nothing() {
+        assertEquals(Optional.empty(), TextIndex.highlight("a b c d e", Set.of("x"), "[", "]", 3));
+        // text that merely contains the markers is not taken for a highlight
+        assertEquals(Optional.empty(), TextIndex.highlight("see [notes]", Set.of("x"), "[", "]", 3));
+    }
+
+    private static List<Module> modulesOf(List<TextIndex.Hit> hits) {
+        return hits.stream().map(TextIndex.Hit::getModule).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.model.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.CS3219;
+import static seedu.address.testutil.TypicalModules.CS3230;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.module.Module;
+import seedu.address.testutil.ModuleBuilder;
+
+public class SyncLogTest {
+
+    private final SyncLog laptopLog = new SyncLog("laptop");
+    private final SyncLog desktopLog = new SyncLog("desktop");
+    private final Model laptop = new ModelManager();
+    private final Model desktop = new ModelManager();
+
+    @BeforeEach
+    public void setUp() {
+        laptop.addModule(CS2103T_LEC);
+        laptop.addModule(CS2106_TUT);
+        laptopLog.record(laptop.getModuleTracker().getModuleList());
+        sync(laptopLog, laptop, desktopLog, desktop);
+        sync(desktopLog, desktop, laptopLog, laptop);
+    }
+
+    @Test
+    public void importDelta_firstSync_copiesEverything() {
+        assertEquals(laptop.getModuleTracker().getModuleList(), desktop.getModuleTracker().getModuleList());
+        // each copy now knows everything the other has
+        assertTrue(laptopLog.export().getEntries().isEmpty());
+        assertTrue(desktopLog.export().getEntries().isEmpty());
+    }
+
+    @Test
+    public void export_afterSync_onlyNewChanges() {
+        laptop.addModule(CS3219);
+        assertEquals(1, laptopLog.record(laptop.getModuleTracker().getModuleList()));
+
+        SyncDelta delta = laptopLog.export();
+        assertEquals(1, delta.getEntries().size());
+        assertEquals(CS3219, delta.getEntries().get(0).getModule());
+        assertEquals(1, desktopLog.importDelta(delta, desktop).size());
+        assertTrue(desktop.hasModule(CS3219));
+    }
+
+    @Test
+    public void importDelta_concurrentChanges_converge() {
+        Module cs2103tOnLaptop = new ModuleBuilder(CS2103T_LEC).withRemark("Laptop").build();
+        Module cs2103tOnDesktop = new ModuleBuilder(CS2103T_LEC).withRemark("Desktop").build();
+        laptop.setModule(CS2103T_LEC, cs2103tOnLaptop);
+        laptop.deleteModule(CS2106_TUT);
+        desktop.setModule(CS2103T_LEC, cs2103tOnDesktop);
+        desktop.addModule(CS3230);
+
+        sync(laptopLog, laptop, desktopLog, desktop);
+        sync(desktopLog, desktop, laptopLog, laptop);
+
+        // both edits of CS2103T have the same counter, so the greater copy id wins on both copies
+        Set<Module> expected = Set.of(cs2103tOnLaptop, CS3230);
+        assertEquals(expected, new HashSet<>(laptop.getModuleTracker().getModuleList()));
+        assertEquals(expected, new HashSet<>(desktop.getModuleTracker().getModuleList()));
+    }
+
+    @Test
+    public void importDelta_deletedThenReadded_newerWins() {
+        desktop.deleteModule(CS2106_TUT);
+        sync(desktopLog, desktop, laptopLog, laptop);
+        assertFalse(laptop.hasModule(CS2106_TUT));
+
+        laptop.addModule(CS2106_TUT);
+        sync(laptopLog, laptop, desktopLog, desktop);
+        assertTrue(desktop.hasModule(CS2106_TUT));
+    }
+
+    @Test
+    public void importDelta_ownChangesOrRepeated_nothingApplied() {
+        assertTrue(laptopLog.importDelta(laptopLog.export(), laptop).isEmpty());
+        laptop.addModule(CS3219);
+        laptopLog.record(laptop.getModuleTracker().getModuleList());
+        SyncDelta delta = laptopLog.export();
+        assertEquals(1, desktopLog.importDelta(delta, desktop).size());
+        assertTrue(desktopLog.importDelta(delta, desktop).isEmpty());
+    }
+
+    @Test
+    public void constructor_restored_sameState() {
+        SyncLog restored = new SyncLog(laptopLog.getReplica(), laptopLog.getClock(), laptopLog.getVersions(),
+                laptopLog.getPeerVersions(), laptopLog.getEntries());
+        assertEquals(laptopLog.getVersions(), restored.getVersions());
+        assertEquals(laptopLog.getPeerVersions(), restored.getPeerVersions());
+        assertEquals(laptopLog.export(), restored.export());
+    }
+
+    /**
+     * Records the changes to {@code from} and imports them into {@code to}, as {@code sync export} on one copy and
+     * {@code sync import} on the other would.
+     */
+    private static void sync(SyncLog fromLog, Model from, SyncLog toLog, Model to) {
+        fromLog.record(from.getModuleTracker().getModuleList());
+        toLog.record(to.getModuleTracker().getModuleList());
+        toLog.importDelta(fromLog.export(), to);
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.CS3219;
+import static seedu.address.testutil.TypicalModules.CS3230;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.Module;
+import seedu.address.testutil.ModuleBuilder;
+
+public class ThreeWayMergeTest {
+
+    private static final Module CS2103T_EDITED = new ModuleBuilder(CS2103T_LEC).withRemark("Moved online").build();
+    private static final Module CS2106_EDITED = new ModuleBuilder(CS2106_TUT).withRemark("Bring laptop").build();
+
+    @Test
+    public void of_changedOnlyElsewhere_allApplied() {
+        List<Module> base = List.of(CS2103T_LEC, CS2106_TUT, CS3219);
+        List<Module> local = List.of(CS2103T_LEC, CS2106_TUT, CS3219);
+        List<Module> remote = List.of(CS2103T_EDITED, CS3219, CS3230);
+
+        ThreeWayMerge merge = ThreeWayMerge.of(base, local, remote);
+
+        assertEquals(List.of(CS3230), merge.getAdded());
+        assertEquals(List.of(CS2106_TUT), merge.getRemoved());
+        assertEquals(List.of(CS2103T_EDITED), merge.getEdited());
+        assertTrue(merge.getConflicts().isEmpty());
+
+        Model model = new ModelManager(toModuleTracker(local), new UserPrefs());
+        model.updateFilteredModuleList(module -> module.isSameModule(CS3219));
+        merge.applyTo(model);
+        assertEquals(List.of(CS2103T_EDITED, CS3219, CS3230), model.getModuleTracker().getModuleList());
+        // what the user has found is still displayed
+        assertEquals(List.of(CS3219), model.getDisplayedModuleList());
+        // one change to undo
+        model.undoModuleTracker();
+        assertEquals(local, model.getModuleTracker().getModuleList());
+    }
+
+    @Test
+    public void of_changedOnlyHere_nothingApplied() {
+        List<Module> base = List.of(CS2103T_LEC, CS2106_TUT);
+        List<Module> local = List.of(CS2103T_EDITED, CS3230);
+
+        ThreeWayMerge merge = ThreeWayMerge.of(base, local, base);
+
+        assertTrue(merge.isEmpty());
+        assertTrue(merge.getConflicts().isEmpty());
+    }
+
+    @Test
+    public void of_changedOnBothSides_conflictsKeepLocal() {
+        List<Module> base = List.of(CS2103T_LEC, CS2106_TUT, CS3219);
+        Module cs2103tEditedHere = new ModuleBuilder(CS2103T_LEC).withRemark("Cancelled").build();
+        // CS2103T edited differently, CS2106 removed here but edited there, CS3219 edited the same way
+        Module cs3219Edited = new ModuleBuilder(CS3219).withTeacher("Prof Lee").build();
+        List<Module> local = List.of(cs2103tEditedHere, cs3219Edited);
+        List<Module> remote = List.of(CS2103T_EDITED, CS2106_EDITED, cs3219Edited);
+
+        ThreeWayMerge merge = ThreeWayMerge.of(base, local, remote);
+
+        assertTrue(merge.isEmpty());
+        assertEquals(List.of(cs2103tEditedHere, CS2106_EDITED), merge.getConflicts());
+    }
+
+    @Test
+    public void of_addedOnBothSides_conflictUnlessEqual() {
+        List<Module> base = List.of();
+        Module cs3230Here = new ModuleBuilder(CS3230).withRemark("Here").build();
+
+        assertTrue(ThreeWayMerge.of(base, List.of(CS3230), List.of(CS3230)).getConflicts().isEmpty());
+        assertEquals(List.of(cs3230Here), ThreeWayMerge.of(base, List.of(cs3230Here), List.of(CS3230))
+                .getConflicts());
+    }
+
+    private static ModuleTracker toModuleTracker(List<Module> modules) {
+        ModuleTracker moduleTracker = new ModuleTracker();
+        modules.forEach(moduleTracker::addModule);
+        return moduleTracker;
+    }
+}
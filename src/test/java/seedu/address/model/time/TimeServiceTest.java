@@ -0,0 +1,102 @@
+package seedu.address.model.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS1101S_LEC;
+import static seedu.address.testutil.TypicalModules.CS1231S_TUT;
+import static seedu.address.testutil.TypicalModules.CS2101_OP;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.ComparatorUtil;
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+import seedu.address.model.view.LiveView;
+import seedu.address.testutil.ModuleBuilder;
+import seedu.address.testutil.MutableClock;
+import seedu.address.testutil.RecordingExecutor;
+
+public class TimeServiceTest {
+
+    /** A Monday morning, before the Monday lecture of the typical modules at noon. */
+    private static final LocalDateTime MONDAY_MORNING = LocalDateTime.of(2023, 2, 20, 10, 0);
+
+    private final MutableClock clock = new MutableClock(MONDAY_MORNING);
+    private final ModuleTracker moduleTracker = getTypicalModuleTracker();
+    private final TimeService timeService = new TimeService(moduleTracker, clock);
+
+    @Test
+    public void getNextBoundary() {
+        assertEquals(MONDAY_MORNING.withHour(12), timeService.getNextBoundary());
+
+        // deadline before the next timeslot
+        moduleTracker.addModule(new ModuleBuilder().withName("CS2040S").withTimeSlot("Friday 08:00 10:00")
+                .withDeadline("200223 11:30").build());
+        assertEquals(MONDAY_MORNING.withHour(11).withMinute(30), timeService.getNextBoundary());
+
+        // no timeslots or deadlines to come
+        assertNull(new TimeService(new ModuleTracker(), clock).getNextBoundary());
+    }
+
+    @Test
+    public void advance_timeSlotStarted_onlyThatModuleRepositioned() {
+        LiveView sorted = new LiveView(moduleTracker.getModuleList(), unused -> true,
+                timeService.atSortTime(ComparatorUtil.SORT_BY_TIMESLOT_COMPARATOR));
+        assertEquals(Arrays.asList(CS2103T_LEC, CS2106_TUT, CS2101_OP, CS1231S_TUT, CS1101S_LEC), sorted.getModules());
+
+        List<Module> moved = new ArrayList<>();
+        moduleTracker.getModuleList().addListener((ListChangeListener<Module>) change -> {
+            while (change.next()) {
+                moved.addAll(change.getAddedSubList());
+            }
+        });
+        clock.set(MONDAY_MORNING.withHour(12));
+        timeService.advance();
+
+        assertEquals(Arrays.asList(CS2106_TUT, CS2101_OP, CS1231S_TUT, CS1101S_LEC, CS2103T_LEC), sorted.getModules());
+        assertEquals(Arrays.asList(CS2103T_LEC), moved);
+        assertEquals(MONDAY_MORNING.withHour(12), timeService.getSortTime());
+        assertEquals(getTypicalModuleTracker().getModuleList(), moduleTracker.getModuleList());
+    }
+
+    @Test
+    public void advance_deadlinePassed_movedAfterDeadlinesToCome() {
+        Module dueLater = new ModuleBuilder().withName("CS2040S").withDeadline("240223 12:00").build();
+        moduleTracker.addModule(dueLater);
+        LiveView sorted = new LiveView(moduleTracker.getModuleList(), unused -> true,
+                timeService.atSortTime(ComparatorUtil.SORT_BY_DEADLINE_COMPARATOR));
+        assertEquals(dueLater, sorted.getModules().get(sorted.getModules().size() - 1));
+
+        // the typical modules are all due on Thursday at 18:00
+        clock.set(LocalDateTime.of(2023, 2, 23, 18, 0));
+        timeService.advance();
+        assertEquals(dueLater, sorted.getModules().get(0));
+    }
+
+    @Test
+    public void start_wakesUpOnceAtEachBoundary() {
+        RecordingExecutor executor = new RecordingExecutor();
+        timeService.start(Runnable::run, executor);
+        assertEquals(Arrays.asList(Duration.ofHours(2).toMillis()), executor.getDelays());
+
+        // an earlier boundary replaces the wake-up, an unrelated change does not
+        moduleTracker.addModule(new ModuleBuilder().withName("CS2040S").withTimeSlot("Monday 11:00 12:00").build());
+        moduleTracker.removeModule(CS1101S_LEC);
+        assertEquals(Arrays.asList(Duration.ofHours(2).toMillis(), Duration.ofHours(1).toMillis()),
+                executor.getDelays());
+
+        timeService.stop();
+        assertTrue(executor.isShutdown());
+    }
+}
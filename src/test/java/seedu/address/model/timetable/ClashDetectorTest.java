@@ -0,0 +1,118 @@
+package seedu.address.model.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS1231S_LEC;
+import static seedu.address.testutil.TypicalModules.CS2030S_LAB;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.CS3219;
+import static seedu.address.testutil.TypicalModules.CS3230;
+import static seedu.address.testutil.TypicalModules.getTypicalModules;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+import seedu.address.testutil.ModuleBuilder;
+
+public class ClashDetectorTest {
+
+    private static final Module MONDAY_MORNING = new ModuleBuilder().withName("MA1521")
+            .withTimeSlot("Monday 10:00 13:00").build();
+    private static final Module MONDAY_NOON = new ModuleBuilder().withName("ST2334")
+            .withTimeSlot("Monday 12:30 15:00").build();
+
+    @Test
+    public void findClashes_noOverlap_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), ClashDetector.findClashes(getTypicalModules()));
+    }
+
+    @Test
+    public void findClashes_touchingTimeSlots_noClash() {
+        // CS2103T ends at 14:00 on Monday, when CS1231S starts
+        assertEquals(Collections.emptyList(), ClashDetector.findClashes(Arrays.asList(CS2103T_LEC, CS1231S_LEC)));
+    }
+
+    @Test
+    public void findClashes_separateDays_reportedByDay() {
+        List<Module> modules = Arrays.asList(CS2106_TUT, CS3219, CS2030S_LAB, CS3230, CS2103T_LEC, MONDAY_MORNING);
+        List<ClashGroup> expected = Arrays.asList(
+                new ClashGroup(DayOfWeek.MONDAY, LocalTime.of(12, 0), LocalTime.of(13, 0),
+                        Arrays.asList(MONDAY_MORNING, CS2103T_LEC)),
+                new ClashGroup(DayOfWeek.TUESDAY, LocalTime.of(12, 0), LocalTime.of(14, 0),
+                        Arrays.asList(CS2106_TUT, CS3219)),
+                new ClashGroup(DayOfWeek.TUESDAY, LocalTime.of(14, 0), LocalTime.of(16, 0),
+                        Arrays.asList(CS2030S_LAB, CS3230)));
+        assertEquals(expected, ClashDetector.findClashes(modules));
+    }
+
+    @Test
+    public void findClashes_chainOfOverlaps_groupedByPeriod() {
+        // 10:00-13:00 overlaps 12:00-14:00 and 12:30-15:00; only 12:30-15:00 overlaps 14:00-16:00
+        List<ClashGroup> clashes = ClashDetector.findClashes(
+                Arrays.asList(CS1231S_LEC, MONDAY_NOON, CS2103T_LEC, MONDAY_MORNING));
+        assertEquals(Arrays.asList(
+                new ClashGroup(DayOfWeek.MONDAY, LocalTime.of(12, 0), LocalTime.of(14, 0),
+                        Arrays.asList(MONDAY_MORNING, CS2103T_LEC, MONDAY_NOON)),
+                new ClashGroup(DayOfWeek.MONDAY, LocalTime.of(14, 0), LocalTime.of(15, 0),
+                        Arrays.asList(MONDAY_NOON, CS1231S_LEC))), clashes);
+        assertEquals("Monday 12:00-14:00: MA1521, CS2103T, ST2334", clashes.get(0).toString());
+    }
+
+    @Test
+    public void getModulesClashingWith_keptUpToDate() {
+        ModuleTracker moduleTracker = new ModuleTracker();
+        moduleTracker.addModule(CS2103T_LEC);
+        moduleTracker.addModule(CS1231S_LEC);
+        assertTrue(moduleTracker.getModulesClashingWith(CS2103T_LEC).isEmpty());
+
+        moduleTracker.addModule(MONDAY_NOON);
+        assertEquals(Arrays.asList(CS2103T_LEC, CS1231S_LEC), moduleTracker.getModulesClashingWith(MONDAY_NOON));
+
+        // a long timeslot starting well before the others still clashes with them
+        moduleTracker.addModule(MONDAY_MORNING);
+        assertEquals(Arrays.asList(MONDAY_MORNING, MONDAY_NOON), moduleTracker.getModulesClashingWith(CS2103T_LEC));
+
+        moduleTracker.removeModule(MONDAY_NOON);
+        assertEquals(Collections.singletonList(CS2103T_LEC), moduleTracker.getModulesClashingWith(MONDAY_MORNING));
+        assertTrue(moduleTracker.getModulesClashingWith(CS1231S_LEC).isEmpty());
+    }
+
+    @Test
+    public void findClashes_severalTimeSlots_eachChecked() {
+        // the lecture clashes with CS2103T on Monday and with CS2106 on Tuesday, but not with itself
+        Module lecture = new ModuleBuilder().withName("CS2040S")
+                .withTimeSlots("Monday 13:00 14:00", "Monday 14:00 15:00", "Tuesday 11:00 12:30").build();
+        assertEquals(Arrays.asList(
+                new ClashGroup(DayOfWeek.MONDAY, LocalTime.of(13, 0), LocalTime.of(14, 0),
+                        Arrays.asList(CS2103T_LEC, lecture)),
+                new ClashGroup(DayOfWeek.TUESDAY, LocalTime.of(12, 0), LocalTime.of(12, 30),
+                        Arrays.asList(lecture, CS2106_TUT))),
+                ClashDetector.findClashes(Arrays.asList(CS2103T_LEC, lecture, CS2106_TUT)));
+    }
+
+    @Test
+    public void getModulesClashingWith_severalTimeSlots_unionOfClashes() {
+        Module lecture = new ModuleBuilder().withName("CS2040S")
+                .withTimeSlots("Monday 13:00 14:00", "Tuesday 11:00 12:30").build();
+        ModuleTracker moduleTracker = new ModuleTracker();
+        moduleTracker.addModule(CS2103T_LEC);
+        moduleTracker.addModule(CS2106_TUT);
+        moduleTracker.addModule(CS3230);
+        moduleTracker.addModule(lecture);
+        assertEquals(Arrays.asList(CS2103T_LEC, CS2106_TUT), moduleTracker.getModulesClashingWith(lecture));
+        assertEquals(Collections.singletonList(lecture), moduleTracker.getModulesClashingWith(CS2106_TUT));
+        assertEquals(Arrays.asList(CS2103T_LEC, lecture), moduleTracker.getModulesOnDay(DayOfWeek.MONDAY));
+
+        moduleTracker.removeModule(lecture);
+        assertTrue(moduleTracker.getModulesClashingWith(CS2106_TUT).isEmpty());
+        assertEquals(Collections.singletonList(CS2103T_LEC), moduleTracker.getModulesOnDay(DayOfWeek.MONDAY));
+    }
+}
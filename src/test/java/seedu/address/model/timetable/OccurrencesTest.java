@@ -0,0 +1,129 @@
+package seedu.address.model.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.util.SampleDataUtil.EMPTY_INPUT;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalModules.CS1101S_LEC;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.module.Module;
+import seedu.address.testutil.ModuleBuilder;
+
+public class OccurrencesTest {
+
+    /** From Monday 9 Jan to Friday 28 Apr 2023, with recess in week 7 and Good Friday off. */
+    private static final Term TERM = new Term(LocalDate.of(2023, 1, 9), LocalDate.of(2023, 4, 28),
+            List.of(7), List.of(LocalDate.of(2023, 4, 7)));
+
+    @Test
+    public void term_weeksAndLessons() {
+        assertEquals(1, TERM.getWeek(LocalDate.of(2023, 1, 15)));
+        assertEquals(7, TERM.getWeek(LocalDate.of(2023, 2, 20)));
+        assertEquals(0, TERM.getWeek(LocalDate.of(2023, 1, 8)));
+        assertTrue(TERM.hasLessonsOn(LocalDate.of(2023, 1, 9)));
+        assertFalse(TERM.hasLessonsOn(LocalDate.of(2023, 2, 22)));
+        assertFalse(TERM.hasLessonsOn(LocalDate.of(2023, 4, 7)));
+        assertFalse(TERM.hasLessonsOn(LocalDate.of(2023, 4, 29)));
+        assertThrows(IllegalArgumentException.class, Term.MESSAGE_CONSTRAINTS, () -> new Term(
+                LocalDate.of(2023, 1, 9), LocalDate.of(2023, 1, 8), List.of(), List.of()));
+    }
+
+    @Test
+    public void of_noTerm_recursEveryWeek() {
+        Iterator<Occurrence> occurrences = Occurrences.of(CS2103T_LEC, null, LocalDateTime.of(2023, 2, 20, 12, 0));
+        assertEquals(monday(20), occurrences.next());
+        assertEquals(monday(27), occurrences.next());
+        assertTrue(occurrences.hasNext());
+    }
+
+    @Test
+    public void of_afterStart_startsNextWeek() {
+        Iterator<Occurrence> occurrences = Occurrences.of(CS2103T_LEC, null, LocalDateTime.of(2023, 2, 20, 12, 1));
+        assertEquals(monday(27), occurrences.next());
+    }
+
+    @Test
+    public void of_term_skipsRecessAndHolidaysAndEnds() {
+        Iterator<Occurrence> occurrences = Occurrences.of(CS2103T_LEC, TERM, LocalDateTime.of(2023, 2, 13, 0, 0));
+        assertEquals(monday(13), occurrences.next());
+        assertEquals(monday(27), occurrences.next());
+
+        List<Occurrence> fridays = toList(Occurrences.of(CS1101S_LEC, TERM, LocalDateTime.of(2023, 3, 31, 0, 0)));
+        assertEquals(Arrays.asList(LocalDate.of(2023, 3, 31), LocalDate.of(2023, 4, 14), LocalDate.of(2023, 4, 21),
+                LocalDate.of(2023, 4, 28)), fridays.stream().map(occurrence -> occurrence.getStart().toLocalDate())
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void of_beforeTerm_startsWithTerm() {
+        Iterator<Occurrence> occurrences = Occurrences.of(CS2103T_LEC, TERM, LocalDateTime.of(2022, 12, 1, 0, 0));
+        assertEquals(LocalDateTime.of(2023, 1, 9, 12, 0), occurrences.next().getStart());
+    }
+
+    @Test
+    public void of_noTimeSlot_empty() {
+        Module module = new ModuleBuilder().withTimeSlot(EMPTY_INPUT).build();
+        assertFalse(Occurrences.of(module, null, LocalDateTime.of(2023, 2, 20, 0, 0)).hasNext());
+    }
+
+    @Test
+    public void of_severalTimeSlots_inOrderOfWeek() {
+        Module module = new ModuleBuilder().withName("MA1521")
+                .withTimeSlots("Monday 08:00 10:00", "Wednesday 16:00 18:00").build();
+        List<LocalDateTime> starts = new ArrayList<>();
+        Iterator<Occurrence> occurrences = Occurrences.of(module, TERM, LocalDateTime.of(2023, 2, 15, 17, 0));
+        occurrences.forEachRemaining(occurrence -> starts.add(occurrence.getStart()));
+        // Wednesday's lesson has started, and week 7 is recess
+        assertEquals(Arrays.asList(LocalDateTime.of(2023, 2, 27, 8, 0), LocalDateTime.of(2023, 3, 1, 16, 0)),
+                starts.subList(0, 2));
+        assertEquals(LocalDateTime.of(2023, 4, 26, 16, 0), starts.get(starts.size() - 1));
+    }
+
+    @Test
+    public void merge_interleavesInChronologicalOrder() {
+        LocalDateTime from = LocalDateTime.of(2023, 2, 20, 0, 0);
+        Module evening = new ModuleBuilder().withName("MA1521").withTimeSlot("Monday 18:00 19:00").build();
+        Iterator<Occurrence> merged = Occurrences.merge(Arrays.asList(
+                Occurrences.of(CS2106_TUT, null, from), Occurrences.of(evening, null, from),
+                Occurrences.of(CS2103T_LEC, null, from)));
+
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            names.add(merged.next().getModule().getName().fullName);
+        }
+        assertEquals(Arrays.asList("CS2103T", "MA1521", "CS2106", "CS2103T", "MA1521", "CS2106"), names);
+    }
+
+    @Test
+    public void merge_exhausted_throws() {
+        Iterator<Occurrence> merged = Occurrences.merge(Collections.singletonList(Collections.emptyIterator()));
+        assertFalse(merged.hasNext());
+        assertThrows(NoSuchElementException.class, merged::next);
+    }
+
+    private static Occurrence monday(int dayOfFebruary) {
+        return new Occurrence(CS2103T_LEC, LocalDateTime.of(2023, 2, dayOfFebruary, 12, 0),
+                LocalDateTime.of(2023, 2, dayOfFebruary, 14, 0));
+    }
+
+    private static List<Occurrence> toList(Iterator<Occurrence> occurrences) {
+        List<Occurrence> list = new ArrayList<>();
+        occurrences.forEachRemaining(list::add);
+        return list;
+    }
+}
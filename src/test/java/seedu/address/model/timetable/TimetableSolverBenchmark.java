@@ -0,0 +1,105 @@
+package seedu.address.model.timetable;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.module.TimeSlot;
+
+/**
+ * A benchmark for {@link TimetableSolver} on synthetic timetables that reports how long it takes and how many
+ * clashes remain. Not a unit test; run it with {@code gradlew timetableSolverBenchmark --args="..."}.
+ *
+ * Arguments (all optional): {@code MODULES CANDIDATES_PER_MODULE RUNS BUDGET_MILLIS}.
+ * Each run solves two timetables: a planted one, in which one candidate of every module fits a known clash-free
+ * timetable, and a random one, which may have no clash-free timetable at all.
+ */
+public class TimetableSolverBenchmark {
+
+    private static final int DEFAULT_MODULES = 200;
+    private static final int DEFAULT_CANDIDATES = 4;
+    private static final int DEFAULT_RUNS = 5;
+    private static final int DEFAULT_BUDGET_MILLIS = 2000;
+
+    private static final int PLANTED_LENGTH = 30;
+    private static final int FIRST_START = 8 * 60;
+    private static final int LAST_START = 20 * 60;
+
+    /**
+     * Runs the benchmark and prints a summary to standard output.
+     */
+    public static void main(String[] args) {
+        int modules = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MODULES;
+        int candidates = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CANDIDATES;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RUNS;
+        Duration budget = Duration.ofMillis(args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_BUDGET_MILLIS);
+
+        System.out.printf("%d modules, %d candidates each, budget %d ms%n", modules, candidates, budget.toMillis());
+        for (int run = 0; run < runs; run++) {
+            report("planted", run, plantedTimetable(modules, candidates, new Random(run)), budget);
+            report("random ", run, randomTimetable(modules, candidates, new Random(run)), budget);
+        }
+    }
+
+    private static void report(String kind, int run, List<List<TimeSlot>> candidates, Duration budget) {
+        long start = System.nanoTime();
+        TimetablePlan plan = new TimetableSolver(candidates).solve(budget);
+        long micros = (System.nanoTime() - start) / 1000;
+        System.out.printf("%s run %d: %8d us, %9d branches, %3d clashes%s%n", kind, run, micros,
+                plan.getBranchesTried(), plan.getClashes().size(), plan.isOptimal() ? " (optimal)" : "");
+    }
+
+    /**
+     * Returns candidates for {@code modules} modules, where one candidate of each module is a half-hour slot that
+     * clashes with no other module's, and the rest are random lessons on weekdays.
+     */
+    public static List<List<TimeSlot>> plantedTimetable(int modules, int candidates, Random random) {
+        List<List<TimeSlot>> timetable = new ArrayList<>();
+        for (int module = 0; module < modules; module++) {
+            DayOfWeek day = DayOfWeek.of(module % 7 + 1);
+            int start = FIRST_START + (module / 7) * PLANTED_LENGTH;
+            if (start + PLANTED_LENGTH >= WeekOccupancy.MINUTES_PER_DAY) {
+                throw new IllegalArgumentException("Too many modules to plant a clash-free timetable");
+            }
+            List<TimeSlot> moduleCandidates = new ArrayList<>();
+            moduleCandidates.add(timeSlot(day, start, start + PLANTED_LENGTH));
+            for (int i = 1; i < candidates; i++) {
+                moduleCandidates.add(randomLesson(random));
+            }
+            Collections.shuffle(moduleCandidates, random);
+            timetable.add(moduleCandidates);
+        }
+        return timetable;
+    }
+
+    /**
+     * Returns random weekday lessons of one to three hours as the candidates of {@code modules} modules.
+     */
+    public static List<List<TimeSlot>> randomTimetable(int modules, int candidates, Random random) {
+        List<List<TimeSlot>> timetable = new ArrayList<>();
+        for (int module = 0; module < modules; module++) {
+            List<TimeSlot> moduleCandidates = new ArrayList<>();
+            for (int i = 0; i < candidates; i++) {
+                moduleCandidates.add(randomLesson(random));
+            }
+            timetable.add(moduleCandidates);
+        }
+        return timetable;
+    }
+
+    private static TimeSlot randomLesson(Random random) {
+        DayOfWeek day = DayOfWeek.of(random.nextInt(5) + 1);
+        int start = FIRST_START + random.nextInt((LAST_START - FIRST_START) / 30 + 1) * 30;
+        return timeSlot(day, start, start + (random.nextInt(3) + 1) * 60);
+    }
+
+    private static TimeSlot timeSlot(DayOfWeek day, int startMinute, int endMinute) {
+        String dayName = day.name().charAt(0) + day.name().substring(1).toLowerCase();
+        return new TimeSlot(dayName + " " + LocalTime.ofSecondOfDay(startMinute * 60L) + " "
+                + LocalTime.ofSecondOfDay(endMinute * 60L));
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.model.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.module.TimeSlot;
+
+public class TimetableSolverTest {
+
+    private static final Duration BUDGET = Duration.ofSeconds(10);
+
+    private static final TimeSlot MONDAY_NOON = new TimeSlot("Monday 12:00 14:00");
+    private static final TimeSlot MONDAY_AFTERNOON = new TimeSlot("Monday 13:00 15:00");
+    private static final TimeSlot MONDAY_EVENING = new TimeSlot("Monday 14:00 16:00");
+    private static final TimeSlot TUESDAY_NOON = new TimeSlot("Tuesday 12:00 14:00");
+
+    @Test
+    public void constructor_moduleWithoutCandidates_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TimetableSolver(
+                Arrays.asList(Collections.singletonList(MONDAY_NOON), Collections.emptyList())));
+    }
+
+    @Test
+    public void solve_clashFreeTimetableExists_found() {
+        // the first module must move away from Monday noon for the other two to fit
+        List<List<TimeSlot>> candidates = Arrays.asList(
+                Arrays.asList(MONDAY_NOON, TUESDAY_NOON),
+                Arrays.asList(MONDAY_NOON, MONDAY_AFTERNOON),
+                Arrays.asList(MONDAY_AFTERNOON, MONDAY_EVENING, TUESDAY_NOON));
+        TimetablePlan plan = new TimetableSolver(candidates).solve(BUDGET);
+        assertEquals(Arrays.asList(TUESDAY_NOON, MONDAY_NOON, MONDAY_EVENING), plan.getTimeSlots());
+        assertEquals(Collections.emptyList(), plan.getClashes());
+        assertTrue(plan.isOptimal());
+    }
+
+    @Test
+    public void solve_noClashFreeTimetable_fewestClashes() {
+        // three modules, two timeslots: two of them must share
+        List<TimeSlot> shared = Arrays.asList(MONDAY_NOON, TUESDAY_NOON);
+        TimetablePlan plan = new TimetableSolver(Arrays.asList(shared, shared, shared)).solve(BUDGET);
+        assertEquals(1, plan.getClashes().size());
+        TimetablePlan.Clash clash = plan.getClashes().get(0);
+        assertEquals(plan.getTimeSlots().get(clash.getFirst()), plan.getTimeSlots().get(clash.getSecond()));
+        assertTrue(plan.isOptimal());
+    }
+
+    @Test
+    public void solve_smallRandomTimetables_sameClashesAsExhaustiveSearch() {
+        Random random = new Random(7);
+        for (int run = 0; run < 20; run++) {
+            List<List<TimeSlot>> candidates = TimetableSolverBenchmark.randomTimetable(8, 3, random);
+            TimetablePlan plan = new TimetableSolver(candidates).solve(BUDGET);
+            assertTrue(plan.isOptimal());
+            assertEquals(fewestClashes(candidates, new TimeSlot[candidates.size()], 0), plan.getClashes().size());
+        }
+    }
+
+    @Test
+    public void solve_touchingTimeSlots_noClash() {
+        TimetablePlan plan = new TimetableSolver(Arrays.asList(Collections.singletonList(MONDAY_NOON),
+                Collections.singletonList(MONDAY_EVENING))).solve(BUDGET);
+        assertEquals(Collections.emptyList(), plan.getClashes());
+    }
+
+    @Test
+    public void solve_noBudget_returnsFirstTimetableFound() {
+        List<List<TimeSlot>> candidates = TimetableSolverBenchmark.randomTimetable(200, 2, new Random(0));
+        TimetablePlan plan = new TimetableSolver(candidates).solve(Duration.ZERO);
+        assertEquals(200, plan.getTimeSlots().size());
+        assertFalse(plan.getClashes().isEmpty());
+        assertFalse(plan.isOptimal());
+    }
+
+    @Test
+    public void solve_plantedTimetableOf200Modules_clashFree() {
+        List<List<TimeSlot>> candidates = TimetableSolverBenchmark.plantedTimetable(200, 4, new Random(42));
+        TimetablePlan plan = new TimetableSolver(candidates).solve(BUDGET);
+        assertEquals(Collections.emptyList(), plan.getClashes());
+        for (int module = 0; module < candidates.size(); module++) {
+            assertTrue(candidates.get(module).contains(plan.getTimeSlots().get(module)));
+        }
+    }
+
+    /** Returns the fewest clashes of any timetable that keeps the timeslots already in {@code chosen}. */
+    private static int fewestClashes(List<List<TimeSlot>> candidates, TimeSlot[] chosen, int module) {
+        if (module == candidates.size()) {
+            int clashes = 0;
+            for (int i = 0; i < chosen.length; i++) {
+                for (int j = i + 1; j < chosen.length; j++) {
+                    clashes += overlap(chosen[i], chosen[j]) ? 1 : 0;
+                }
+            }
+            return clashes;
+        }
+        int fewest = Integer.MAX_VALUE;
+        for (TimeSlot timeSlot : candidates.get(module)) {
+            chosen[module] = timeSlot;
+            fewest = Math.min(fewest, fewestClashes(candidates, chosen, module + 1));
+        }
+        return fewest;
+    }
+
+    private static boolean overlap(TimeSlot first, TimeSlot second) {
+        return first.getDay() == second.getDay() && first.getStartTime().isBefore(second.getEndTime())
+                && second.getStartTime().isBefore(first.getEndTime());
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.module.TimeSlot;
+
+public class WeekOccupancyTest {
+
+    private static final int DAY = WeekOccupancy.MINUTES_PER_DAY;
+
+    private final WeekOccupancy occupancy = new WeekOccupancy();
+
+    @Test
+    public void findFreePeriods_empty_everyDayFree() {
+        List<FreePeriod> expected = Arrays.stream(DayOfWeek.values())
+                .map(day -> new FreePeriod(day, 0, DAY))
+                .collect(Collectors.toList());
+        assertEquals(expected, occupancy.findFreePeriods(1, 0, DAY));
+    }
+
+    @Test
+    public void findFreePeriods_gapsAcrossWordBoundaries() {
+        // 01:00 to 02:10 spans minutes 60 to 130, which fall in three 64-minute words
+        occupancy.add(new TimeSlot("Monday 01:00 02:10"));
+        occupancy.add(new TimeSlot("Monday 02:15 23:59"));
+        assertEquals(Arrays.asList(new FreePeriod(DayOfWeek.MONDAY, 0, 60),
+                new FreePeriod(DayOfWeek.MONDAY, 130, 135), new FreePeriod(DayOfWeek.MONDAY, 1439, DAY)),
+                occupancy.findFreePeriods(1, 0, DAY).subList(0, 3));
+        assertTrue(occupancy.isTaken(DayOfWeek.MONDAY, 60));
+        assertFalse(occupancy.isTaken(DayOfWeek.MONDAY, 130));
+    }
+
+    @Test
+    public void findFreePeriods_minLengthAndHours_filtered() {
+        occupancy.add(new TimeSlot("Wednesday 09:00 10:00"));
+        occupancy.add(new TimeSlot("Wednesday 10:30 12:00"));
+        List<FreePeriod> wednesday = occupancy.findFreePeriods(30, 8 * 60, 18 * 60).stream()
+                .filter(period -> period.getDay() == DayOfWeek.WEDNESDAY)
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(new FreePeriod(DayOfWeek.WEDNESDAY, 8 * 60, 9 * 60),
+                new FreePeriod(DayOfWeek.WEDNESDAY, 10 * 60, 10 * 60 + 30),
+                new FreePeriod(DayOfWeek.WEDNESDAY, 12 * 60, 18 * 60)), wednesday);
+
+        // the 30-minute gap is too short, and periods are cut off at the given hours
+        assertEquals(Collections.singletonList(new FreePeriod(DayOfWeek.WEDNESDAY, 12 * 60, 13 * 60)),
+                occupancy.findFreePeriods(31, 9 * 60, 13 * 60).stream()
+                        .filter(period -> period.getDay() == DayOfWeek.WEDNESDAY)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void remove_overlappingTimeSlots_minutesStayTakenWhileCovered() {
+        TimeSlot morning = new TimeSlot("Sunday 09:00 12:00");
+        TimeSlot noon = new TimeSlot("Sunday 11:00 13:00");
+        occupancy.add(morning);
+        occupancy.add(noon);
+
+        occupancy.remove(morning);
+        assertFalse(occupancy.isTaken(DayOfWeek.SUNDAY, 10 * 60));
+        assertTrue(occupancy.isTaken(DayOfWeek.SUNDAY, 11 * 60));
+        assertTrue(occupancy.isTaken(DayOfWeek.SUNDAY, 13 * 60 - 1));
+
+        occupancy.remove(noon);
+        assertEquals(Collections.singletonList(new FreePeriod(DayOfWeek.SUNDAY, 0, DAY)),
+                occupancy.findFreePeriods(DAY, 0, DAY).subList(6, 7));
+    }
+
+    @Test
+    public void toString_formatsMinutes() {
+        assertEquals("Sunday 23:30-24:00", new FreePeriod(DayOfWeek.SUNDAY, 23 * 60 + 30, DAY).toString());
+    }
+}
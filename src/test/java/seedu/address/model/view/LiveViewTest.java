@@ -0,0 +1,102 @@
+package seedu.address.model.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalModules.CS1101S_LEC;
+import static seedu.address.testutil.TypicalModules.CS1231S_LEC;
+import static seedu.address.testutil.TypicalModules.CS1231S_TUT;
+import static seedu.address.testutil.TypicalModules.CS2030S_LAB;
+import static seedu.address.testutil.TypicalModules.CS2101_OP;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.module.Module;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.TagCondition;
+import seedu.address.testutil.ModuleBuilder;
+
+public class LiveViewTest {
+
+    private static final Predicate<Module> LECTURES_AND_TUTORIALS =
+            new OrQuery(List.of(new TagCondition("lecture"), new TagCondition("tutorial")));
+    private static final Comparator<Module> BY_NAME = Comparator.comparing(module -> module.getName().fullName);
+
+    private final ModuleTracker moduleTracker = getTypicalModuleTracker();
+
+    @Test
+    public void sortedView_followsEachChange() {
+        LiveView view = new LiveView(moduleTracker.getModuleList(), LECTURES_AND_TUTORIALS, BY_NAME);
+        assertEquals(List.of(CS1101S_LEC, CS1231S_TUT, CS2103T_LEC, CS2106_TUT), view.getModules());
+
+        moduleTracker.addModule(CS1231S_LEC);
+        moduleTracker.addModule(CS2030S_LAB); // not shown
+        Module renamed = new ModuleBuilder(CS1101S_LEC).withName("CS2040S").build();
+        moduleTracker.setModule(CS1101S_LEC, renamed);
+        Module notATutorial = new ModuleBuilder(CS1231S_TUT).withTags("Lab").build();
+        moduleTracker.setModule(CS1231S_TUT, notATutorial);
+        moduleTracker.removeModule(CS2106_TUT);
+        assertEquals(List.of(CS1231S_LEC, renamed, CS2103T_LEC), view.getModules());
+        assertEquals(expected(LECTURES_AND_TUTORIALS, BY_NAME), view.getModules());
+    }
+
+    @Test
+    public void unsortedView_keepsTrackerOrder() {
+        LiveView view = new LiveView(moduleTracker.getModuleList(), LECTURES_AND_TUTORIALS, null);
+        assertEquals(List.of(CS2106_TUT, CS2103T_LEC, CS1231S_TUT, CS1101S_LEC), view.getModules());
+
+        moduleTracker.removeModule(CS2103T_LEC);
+        moduleTracker.addModule(1, CS2103T_LEC); // as when undoing the removal
+        moduleTracker.addModule(0, CS1231S_LEC);
+        moduleTracker.addModule(2, CS2030S_LAB);
+        assertEquals(List.of(CS1231S_LEC, CS2106_TUT, CS2103T_LEC, CS1231S_TUT, CS1101S_LEC), view.getModules());
+        assertEquals(expected(LECTURES_AND_TUTORIALS, null), view.getModules());
+    }
+
+    @Test
+    public void view_smallChange_reportsOnlyAffectedModules() {
+        LiveView view = new LiveView(moduleTracker.getModuleList(), LECTURES_AND_TUTORIALS, BY_NAME);
+        List<String> changes = new ArrayList<>();
+        view.getModules().addListener((ListChangeListener<Module>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":+" + change.getAddedSize() + "-" + change.getRemovedSize());
+            }
+        });
+
+        moduleTracker.addModule(CS1231S_LEC);
+        moduleTracker.removeModule(CS2101_OP); // not shown
+        assertEquals(List.of("2:+1-0"), changes); // after CS1231S_TUT, which has the same name
+    }
+
+    @Test
+    public void close_stopsFollowingTracker() {
+        LiveView view = new LiveView(moduleTracker.getModuleList(), LECTURES_AND_TUTORIALS, null);
+        view.close();
+        moduleTracker.addModule(CS1231S_LEC);
+        assertEquals(4, view.getModules().size());
+    }
+
+    @Test
+    public void view_trackerReplaced_rebuilt() {
+        LiveView view = new LiveView(moduleTracker.getModuleList(), LECTURES_AND_TUTORIALS, BY_NAME);
+        moduleTracker.setModules(List.of(CS2030S_LAB, CS1231S_LEC, CS2106_TUT));
+        assertEquals(List.of(CS1231S_LEC, CS2106_TUT), view.getModules());
+    }
+
+    private List<Module> expected(Predicate<Module> predicate, Comparator<Module> comparator) {
+        List<Module> modules = moduleTracker.getModuleList().stream().filter(predicate).collect(Collectors.toList());
+        if (comparator != null) {
+            modules.sort(comparator);
+        }
+        return modules;
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataFileWatcherTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Semaphore changes = new Semaphore(0);
+    private DataFileWatcher watcher;
+
+    @AfterEach
+    public void tearDown() {
+        if (watcher != null) {
+            watcher.stop();
+        }
+    }
+
+    @Test
+    public void start_dataFileWritten_toldOfChange() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("moduletracker.json");
+        watcher = new DataFileWatcher(() -> filePath, changes::release);
+        watcher.start();
+
+        Files.writeString(filePath, "{}");
+        assertTrue(changes.tryAcquire(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void start_otherFileWritten_notToldOfChange() throws Exception {
+        Path filePath = testFolder.resolve("moduletracker.json");
+        watcher = new DataFileWatcher(() -> filePath, changes::release);
+        watcher.start();
+
+        Files.writeString(testFolder.resolve("other.json"), "{}");
+        assertFalse(changes.tryAcquire(1, TimeUnit.SECONDS));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.storage.JsonAdaptedModule.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
@@ -13,17 +14,21 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.module.Address;
 import seedu.address.model.module.Deadline;
+import seedu.address.model.module.Module;
 import seedu.address.model.module.Name;
 import seedu.address.model.module.Resource;
 import seedu.address.model.module.TimeSlot;
+import seedu.address.model.module.TimeSlots;
+import seedu.address.testutil.ModuleBuilder;
 
 public class JsonAdaptedModuleTest {
     private static final String INVALID_NAME = "R@chel";
     private static final String INVALID_TYPE = "+651234";
     private static final String INVALID_ADDRESS = " ";
-    private static final String INVALID_TIMESLOT = "example.com";
+    private static final List<String> INVALID_TIMESLOTS = List.of("example.com");
     private static final String INVALID_TAG = "#friend";
     private static final String INVALID_DEADLINE = "23rd Feb 2022";
 
@@ -31,7 +36,7 @@ public class JsonAdaptedModuleTest {
 
     private static final String VALID_NAME = CS3230.getName().toString();
     private static final String VALID_TYPE = "Lecture";
-    private static final String VALID_TIMESLOT = "Tuesday 12:00 15:00";
+    private static final List<String> VALID_TIMESLOTS = List.of("Tuesday 12:00 15:00");
     private static final String VALID_ADDRESS = CS3230.getAddress().toString();
     private static final String VALID_REMARK = "Best module ever! I love computer science!";
     private static final String VALID_DEADLINE = "120623 15:00";
@@ -50,15 +55,15 @@ public class JsonAdaptedModuleTest {
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedModule module =
-                new JsonAdaptedModule(INVALID_NAME, VALID_TYPE, VALID_TIMESLOT, VALID_ADDRESS, VALID_TAGS, VALID_REMARK,
-                        VALID_DEADLINE, VALID_TEACHER);
+                new JsonAdaptedModule(INVALID_NAME, VALID_TYPE, VALID_TIMESLOTS, VALID_ADDRESS, VALID_TAGS,
+                        VALID_REMARK, VALID_DEADLINE, VALID_TEACHER);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, module::toModelType);
     }
 
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
-        JsonAdaptedModule module = new JsonAdaptedModule(null, VALID_TYPE, VALID_TIMESLOT, VALID_ADDRESS,
+        JsonAdaptedModule module = new JsonAdaptedModule(null, VALID_TYPE, VALID_TIMESLOTS, VALID_ADDRESS,
                 VALID_TAGS, VALID_REMARK, VALID_DEADLINE, VALID_TEACHER);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, module::toModelType);
@@ -67,15 +72,15 @@ public class JsonAdaptedModuleTest {
     @Test
     public void toModelType_invalidType_throwsIllegalValueException() {
         JsonAdaptedModule module =
-                new JsonAdaptedModule(VALID_NAME, VALID_TYPE, VALID_TIMESLOT, VALID_ADDRESS, VALID_TAGS, VALID_REMARK,
-                        INVALID_DEADLINE, VALID_TEACHER);
+                new JsonAdaptedModule(VALID_NAME, VALID_TYPE, VALID_TIMESLOTS, VALID_ADDRESS, VALID_TAGS,
+                        VALID_REMARK, INVALID_DEADLINE, VALID_TEACHER);
         String expectedMessage = Deadline.MESSAGE_CONSTRAINTS_INVALID_DATE_FORMAT;
         assertThrows(IllegalValueException.class, expectedMessage, module::toModelType);
     }
 
     @Test
     public void toModelType_nullType_throwsIllegalValueException() {
-        JsonAdaptedModule module = new JsonAdaptedModule(VALID_NAME, null, VALID_TIMESLOT, VALID_ADDRESS,
+        JsonAdaptedModule module = new JsonAdaptedModule(VALID_NAME, null, VALID_TIMESLOTS, VALID_ADDRESS,
                 VALID_TAGS, VALID_REMARK, VALID_DEADLINE, VALID_TEACHER);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Resource.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, module::toModelType);
@@ -84,24 +89,52 @@ public class JsonAdaptedModuleTest {
     @Test
     public void toModelType_invalidTimeSlot_throwsIllegalValueException() {
         JsonAdaptedModule module =
-                new JsonAdaptedModule(VALID_NAME, VALID_TYPE, INVALID_TIMESLOT, VALID_ADDRESS, VALID_TAGS,
+                new JsonAdaptedModule(VALID_NAME, VALID_TYPE, INVALID_TIMESLOTS, VALID_ADDRESS, VALID_TAGS,
                         VALID_REMARK, VALID_DEADLINE, VALID_TEACHER);
         String expectedMessage = TimeSlot.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, module::toModelType);
     }
 
     @Test
-    public void toModelType_nullTimeSlot_throwsIllegalValueException() {
+    public void toModelType_overlappingTimeSlots_throwsIllegalValueException() {
+        JsonAdaptedModule module = new JsonAdaptedModule(VALID_NAME, VALID_TYPE,
+                List.of("Tuesday 12:00 15:00", "Tuesday 14:00 16:00"), VALID_ADDRESS, VALID_TAGS, VALID_REMARK,
+                VALID_DEADLINE, VALID_TEACHER);
+        assertThrows(IllegalValueException.class, TimeSlots.MESSAGE_OVERLAPPING, module::toModelType);
+    }
+
+    @Test
+    public void toModelType_nullTimeSlots_noTimeSlots() throws Exception {
         JsonAdaptedModule module = new JsonAdaptedModule(VALID_NAME, VALID_TYPE, null, VALID_ADDRESS,
                 VALID_TAGS, VALID_REMARK, VALID_DEADLINE, VALID_TEACHER);
-        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, TimeSlot.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, module::toModelType);
+        assertEquals(TimeSlots.EMPTY, module.toModelType().getTimeSlots());
+    }
+
+    @Test
+    public void toModelType_multipleTimeSlots_roundTrips() throws Exception {
+        Module module = new ModuleBuilder(CS2103T_LEC).withTimeSlots("Monday 12:00 14:00", "Thursday 09:00 10:00")
+                .build();
+        String json = JsonUtil.toJsonString(new JsonAdaptedModule(module));
+        assertFalse(json.contains("\"timeSlot\""));
+        assertEquals(module, JsonUtil.fromJsonString(json, JsonAdaptedModule.class).toModelType());
+    }
+
+    @Test
+    public void toModelType_singleTimeSlotFormat_migrated() throws Exception {
+        String json = "{\"name\": \"CS2103T\", \"resource\": \"None.\", \"timeSlot\": \"Monday 12:00 14:00\", "
+                + "\"address\": \"None.\", \"remark\": \"None.\", \"deadline\": \"None.\", \"teacher\": \"None.\"}";
+        Module module = JsonUtil.fromJsonString(json, JsonAdaptedModule.class).toModelType();
+        assertEquals(TimeSlots.of(new TimeSlot("Monday 12:00 14:00")), module.getTimeSlots());
+
+        String emptyJson = json.replace("Monday 12:00 14:00", "None.");
+        assertEquals(TimeSlots.EMPTY, JsonUtil.fromJsonString(emptyJson, JsonAdaptedModule.class).toModelType()
+                .getTimeSlots());
     }
 
     @Test
     public void toModelType_invalidAddress_throwsIllegalValueException() {
         JsonAdaptedModule module =
-                new JsonAdaptedModule(VALID_NAME, VALID_TYPE, VALID_TIMESLOT, INVALID_ADDRESS, VALID_TAGS,
+                new JsonAdaptedModule(VALID_NAME, VALID_TYPE, VALID_TIMESLOTS, INVALID_ADDRESS, VALID_TAGS,
                         VALID_REMARK, VALID_DEADLINE, VALID_TEACHER);
         String expectedMessage = Address.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, module::toModelType);
@@ -109,7 +142,7 @@ public class JsonAdaptedModuleTest {
 
     @Test
     public void toModelType_nullAddress_throwsIllegalValueException() {
-        JsonAdaptedModule module = new JsonAdaptedModule(VALID_NAME, VALID_TYPE, VALID_TIMESLOT, null,
+        JsonAdaptedModule module = new JsonAdaptedModule(VALID_NAME, VALID_TYPE, VALID_TIMESLOTS, null,
                 VALID_TAGS, VALID_REMARK, VALID_DEADLINE, VALID_TEACHER);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, module::toModelType);
@@ -120,7 +153,7 @@ public class JsonAdaptedModuleTest {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
         invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
         JsonAdaptedModule module =
-                new JsonAdaptedModule(VALID_NAME, VALID_TYPE, VALID_TIMESLOT, VALID_ADDRESS, invalidTags,
+                new JsonAdaptedModule(VALID_NAME, VALID_TYPE, VALID_TIMESLOTS, VALID_ADDRESS, invalidTags,
                         VALID_REMARK, VALID_DEADLINE, VALID_TEACHER);
         assertThrows(IllegalValueException.class, module::toModelType);
     }
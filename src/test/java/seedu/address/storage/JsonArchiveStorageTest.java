@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.CS3219;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.archive.ModuleArchive;
+import seedu.address.model.module.Module;
+import seedu.address.testutil.ModuleBuilder;
+
+public class JsonArchiveStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getModules_missingFile_empty() throws Exception {
+        assertEquals(List.of(), new JsonArchiveStorage(testFolder.resolve("missing.jsonl")).getModules());
+    }
+
+    @Test
+    public void appendToArchive_thenGetModules_latestVersionOfEach() throws Exception {
+        Path filePath = testFolder.resolve("sub").resolve("archive.jsonl");
+        Module editedLecture = new ModuleBuilder(CS2103T_LEC).withRemark("Revised").build();
+
+        JsonArchiveStorage archiveStorage = new JsonArchiveStorage(filePath);
+        archiveStorage.appendToArchive(List.of(CS2103T_LEC, CS2106_TUT));
+        archiveStorage.appendToArchive(List.of(editedLecture));
+        assertEquals(3, Files.readAllLines(filePath).size());
+
+        // a fresh storage reads the file; the edited lecture replaces the original and moves last
+        assertEquals(List.of(CS2106_TUT, editedLecture), new JsonArchiveStorage(filePath).getModules());
+
+        // once read, appended modules are kept in memory as well
+        archiveStorage.getModules();
+        archiveStorage.appendToArchive(List.of(CS3219));
+        assertEquals(List.of(CS2106_TUT, editedLecture, CS3219), archiveStorage.getModules());
+    }
+
+    @Test
+    public void appendToArchive_doesNotReadArchive() throws Exception {
+        Path filePath = testFolder.resolve("archive.jsonl");
+        Files.write(filePath, List.of("not json"), StandardCharsets.UTF_8);
+        JsonArchiveStorage archiveStorage = new JsonArchiveStorage(filePath);
+
+        archiveStorage.appendToArchive(List.of(CS3219));
+        assertFalse(archiveStorage.isLoaded());
+        assertThrows(DataConversionException.class, archiveStorage::getModules);
+    }
+
+    @Test
+    public void getModules_blankLines_skipped() throws Exception {
+        Path filePath = testFolder.resolve("archive.jsonl");
+        JsonArchiveStorage archiveStorage = new JsonArchiveStorage(filePath);
+        archiveStorage.appendToArchive(List.of(CS3219));
+        Files.write(filePath, List.of("", "  "), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(List.of(CS3219), archiveStorage.getModules());
+        assertTrue(archiveStorage.isLoaded());
+    }
+
+    @Test
+    public void getModules_unfinishedLastLine_skippedAndTruncatedOnAppend() throws Exception {
+        Path filePath = testFolder.resolve("archive.jsonl");
+        new JsonArchiveStorage(filePath).appendToArchive(List.of(CS2106_TUT));
+        String firstLine = Files.readString(filePath);
+        // an append cut short in the middle of a module
+        Files.writeString(filePath, "{\"name\":\"CS32", StandardOpenOption.APPEND);
+
+        assertEquals(List.of(CS2106_TUT), new JsonArchiveStorage(filePath).getModules());
+
+        JsonArchiveStorage archiveStorage = new JsonArchiveStorage(filePath);
+        archiveStorage.appendToArchive(List.of(CS3219));
+        assertEquals(List.of(CS2106_TUT, CS3219), archiveStorage.getModules());
+        assertTrue(Files.readString(filePath).startsWith(firstLine + "{"));
+        assertEquals(2, Files.readAllLines(filePath).size());
+    }
+
+    @Test
+    public void appendToArchive_longUnfinishedLastLine_truncated() throws Exception {
+        Path filePath = testFolder.resolve("archive.jsonl");
+        Module longRemark = new ModuleBuilder(CS2106_TUT).withRemark("a".repeat(10000)).build();
+        new JsonArchiveStorage(filePath).appendToArchive(List.of(longRemark));
+        Files.writeString(filePath, "{\"remark\":\"" + "b".repeat(10000), StandardOpenOption.APPEND);
+
+        new JsonArchiveStorage(filePath).appendToArchive(List.of(CS3219));
+        assertEquals(List.of(longRemark, CS3219), new JsonArchiveStorage(filePath).getModules());
+    }
+
+    @Test
+    public void appendToArchive_lastLineWithoutSeparator_lineKept() throws Exception {
+        Path filePath = testFolder.resolve("archive.jsonl");
+        new JsonArchiveStorage(filePath).appendToArchive(List.of(CS2106_TUT));
+        // an append cut short right before its line separator
+        Files.writeString(filePath, Files.readString(filePath).strip());
+
+        JsonArchiveStorage archiveStorage = new JsonArchiveStorage(filePath);
+        archiveStorage.appendToArchive(List.of(CS3219));
+        assertEquals(List.of(CS2106_TUT, CS3219), archiveStorage.getModules());
+    }
+
+    @Test
+    public void getModules_invalidLineBeforeLast_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("archive.jsonl");
+        Files.write(filePath, List.of("{\"name\":\"CS32"), StandardCharsets.UTF_8);
+        new JsonArchiveStorage(filePath).appendToArchive(List.of(CS3219));
+
+        assertThrows(DataConversionException.class, new JsonArchiveStorage(filePath)::getModules);
+    }
+
+    @Test
+    public void removeFromArchive_fileRewrittenWithoutModules() throws Exception {
+        Path filePath = testFolder.resolve("archive.jsonl");
+        Module editedLecture = new ModuleBuilder(CS2103T_LEC).withRemark("Revised").build();
+        new JsonArchiveStorage(filePath).appendToArchive(List.of(CS2103T_LEC, CS2106_TUT, editedLecture, CS3219));
+
+        // the archive is read in first, and every version of a removed module goes
+        JsonArchiveStorage archiveStorage = new JsonArchiveStorage(filePath);
+        archiveStorage.removeFromArchive(List.of(CS2103T_LEC));
+        assertEquals(List.of(CS2106_TUT, CS3219), archiveStorage.getModules());
+        assertEquals(2, Files.readAllLines(filePath).size());
+        assertEquals(List.of(CS2106_TUT, CS3219), new JsonArchiveStorage(filePath).getModules());
+
+        // archiving it again brings it back
+        archiveStorage.appendToArchive(List.of(CS2103T_LEC));
+        assertEquals(List.of(CS2106_TUT, CS3219, CS2103T_LEC), new JsonArchiveStorage(filePath).getModules());
+    }
+
+    @Test
+    public void removeFromArchive_invalidArchive_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("archive.jsonl");
+        Files.write(filePath, List.of("not json"), StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> new JsonArchiveStorage(filePath).removeFromArchive(List.of(CS3219)));
+        assertEquals(List.of("not json"), Files.readAllLines(filePath));
+    }
+
+    @Test
+    public void isDueForArchive() {
+        // typical deadlines are at 23 Feb 2023 18:00
+        LocalDateTime deadline = LocalDateTime.of(2023, 2, 23, 18, 0);
+        assertFalse(ModuleArchive.isDueForArchive(CS2103T_LEC, deadline.plusDays(30), 30));
+        assertTrue(ModuleArchive.isDueForArchive(CS2103T_LEC, deadline.plusDays(30).plusMinutes(1), 30));
+        assertTrue(ModuleArchive.isDueForArchive(CS2103T_LEC, deadline.plusMinutes(1), 0));
+        assertFalse(ModuleArchive.isDueForArchive(new ModuleBuilder().withDeadline("None.").build(),
+                deadline.plusYears(1), 0));
+    }
+}
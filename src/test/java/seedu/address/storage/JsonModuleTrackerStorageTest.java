@@ -9,13 +9,16 @@ import static seedu.address.testutil.TypicalModules.CS2106_TUT;
 import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ModuleTracker;
 import seedu.address.model.ReadOnlyModuleTracker;
 
@@ -95,6 +98,31 @@ public class JsonModuleTrackerStorageTest {
 
     }
 
+    @Test
+    public void readModuleTracker_interruptedSave_completeSaveRecoveredAndPartialSaveDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("TempModuleTracker.json");
+        Path otherFilePath = testFolder.resolve("OtherModuleTracker.json");
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        ModuleTracker original = getTypicalModuleTracker();
+        ModuleTracker edited = getTypicalModuleTracker();
+        edited.addModule(CS2030S_LAB);
+        JsonModuleTrackerStorage jsonModuleTrackerStorage = new JsonModuleTrackerStorage(filePath);
+        jsonModuleTrackerStorage.saveModuleTracker(original, filePath);
+        jsonModuleTrackerStorage.saveModuleTracker(edited, otherFilePath);
+        byte[] editedContent = Files.readAllBytes(otherFilePath);
+
+        // killed halfway through writing -> old modules kept
+        Files.write(tempFilePath, Arrays.copyOf(editedContent, editedContent.length / 2));
+        assertEquals(original, new ModuleTracker(jsonModuleTrackerStorage.readModuleTracker(filePath).get()));
+        assertFalse(Files.exists(tempFilePath));
+
+        // killed after writing but before renaming -> new modules recovered
+        Files.write(tempFilePath, editedContent);
+        assertEquals(edited, new ModuleTracker(jsonModuleTrackerStorage.readModuleTracker(filePath).get()));
+        assertFalse(Files.exists(tempFilePath));
+        assertEquals(edited, new ModuleTracker(jsonModuleTrackerStorage.readModuleTracker(filePath).get()));
+    }
+
     @Test
     public void saveModuleTracker_nullModuleTracker_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveModuleTracker(null, "SomeFile.json"));
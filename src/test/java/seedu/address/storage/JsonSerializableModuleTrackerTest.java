@@ -1,16 +1,22 @@
 package seedu.address.storage;
 
-//import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalModules.CS2106_TUT;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
-//import seedu.address.model.ModuleTracker;
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.integrity.IntegrityReport.ChecksumState;
+import seedu.address.model.module.Name;
+import seedu.address.model.module.Remark;
 //import seedu.address.testutil.TypicalModules;
 
 public class JsonSerializableModuleTrackerTest {
@@ -32,6 +38,51 @@ public class JsonSerializableModuleTrackerTest {
     }
     */
 
+    @Test
+    public void toModelType_savedByApp_checksumMatchesAndTrusted() throws Exception {
+        ModuleTracker typicalModuleTracker = getTypicalModuleTracker();
+        JsonSerializableModuleTracker saved = JsonUtil.fromJsonString(JsonUtil.toJsonString(
+                new JsonSerializableModuleTracker(typicalModuleTracker)), JsonSerializableModuleTracker.class);
+        assertEquals(ChecksumState.MATCHING, saved.getChecksumState());
+        assertEquals(typicalModuleTracker, saved.toModelType());
+        assertEquals(typicalModuleTracker, saved.toValidatedModelType());
+    }
+
+    @Test
+    public void toModelType_editedOutsideApp_checkedInFull() throws Exception {
+        String json = JsonUtil.toJsonString(new JsonSerializableModuleTracker(getTypicalModuleTracker()));
+
+        JsonSerializableModuleTracker withoutChecksum = JsonUtil.fromJsonString(
+                json.replaceAll("\"checksum\" : \"[0-9a-f]+\",", ""), JsonSerializableModuleTracker.class);
+        assertEquals(ChecksumState.MISSING, withoutChecksum.getChecksumState());
+        assertEquals(getTypicalModuleTracker(), withoutChecksum.toModelType());
+
+        JsonSerializableModuleTracker invalidModule = JsonUtil.fromJsonString(
+                json.replace("\"CS2106\"", "\"CS2106!\""), JsonSerializableModuleTracker.class);
+        assertEquals(ChecksumState.MISMATCHED, invalidModule.getChecksumState());
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, invalidModule::toModelType);
+    }
+
+    @Test
+    public void toModelType_checksumMatchesButDuplicateModules_throwsIllegalValueException() throws Exception {
+        JsonAdaptedModule module = new JsonAdaptedModule(CS2106_TUT);
+        JsonSerializableModuleTracker signed = signed(List.of(module, module));
+        assertEquals(ChecksumState.MATCHING, signed.getChecksumState());
+        assertThrows(IllegalValueException.class, JsonSerializableModuleTracker.MESSAGE_DUPLICATE_MODULE,
+                signed::toModelType);
+    }
+
+    @Test
+    public void toModelType_checksumMatchesButFieldMissing_throwsIllegalValueException() throws Exception {
+        JsonAdaptedModule module = new JsonAdaptedModule(CS2106_TUT.getName().fullName,
+                CS2106_TUT.getResource().value, List.of(), CS2106_TUT.getAddress().value, List.of(), null,
+                CS2106_TUT.getDeadline().toString(), null);
+        JsonSerializableModuleTracker signed = signed(List.of(module));
+        assertEquals(ChecksumState.MATCHING, signed.getChecksumState());
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedModule.MISSING_FIELD_MESSAGE_FORMAT,
+                Remark.class.getSimpleName()), signed::toModelType);
+    }
+
     @Test
     public void toModelType_invalidModuleFile_throwsIllegalValueException() throws Exception {
         JsonSerializableModuleTracker dataFromFile = JsonUtil.readJsonFile(INVALID_MODULE_FILE,
@@ -51,4 +102,12 @@ public class JsonSerializableModuleTrackerTest {
 
      */
 
+    /**
+     * Returns {@code modules} with their checksum, as if the app saved them.
+     */
+    private static JsonSerializableModuleTracker signed(List<JsonAdaptedModule> modules) {
+        return new JsonSerializableModuleTracker(new JsonSerializableModuleTracker(null, modules).computeChecksum(),
+                modules);
+    }
+
 }
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.view.SavedView;
 
 public class JsonUserPrefsStorageTest {
 
@@ -74,6 +75,7 @@ public class JsonUserPrefsStorageTest {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
         userPrefs.setModuleTrackerFilePath(Paths.get("moduletracker.json"));
+        userPrefs.putSavedView("labs", new SavedView("tag/lab", "deadline"));
         return userPrefs;
     }
 
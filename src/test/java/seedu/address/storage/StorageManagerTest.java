@@ -1,10 +1,16 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
 import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +66,56 @@ public class StorageManagerTest {
         assertEquals(original, new ModuleTracker(retrieved));
     }
 
+    @Test
+    public void archiveModules_dueModulesMovedToArchive() throws Exception {
+        ModuleTracker original = getTypicalModuleTracker();
+        storageManager.saveModuleTracker(original);
+
+        ReadOnlyModuleTracker remaining = storageManager.archiveModules(original, CS2103T_LEC::isSameModule);
+        ModuleTracker expected = getTypicalModuleTracker();
+        expected.removeModule(CS2103T_LEC);
+        assertEquals(expected, new ModuleTracker(remaining));
+        assertEquals(expected, new ModuleTracker(storageManager.readModuleTracker().get()));
+        assertEquals(List.of(CS2103T_LEC), storageManager.getModules());
+
+        // nothing due leaves the module tracker as it was
+        assertSame(remaining, storageManager.archiveModules(remaining, module -> false));
+    }
+
+    @Test
+    public void openWorkspace_dueModulesMovedToItsOwnArchive() throws Exception {
+        Path cohortFilePath = getTempFilePath("cohort.json");
+        storageManager.saveModuleTracker(getTypicalModuleTracker(), cohortFilePath);
+
+        ReadOnlyModuleTracker opened = storageManager.openWorkspace("cohort", new ModuleTracker(),
+                CS2103T_LEC::isSameModule);
+        ModuleTracker expected = getTypicalModuleTracker();
+        expected.removeModule(CS2103T_LEC);
+        assertEquals(expected, new ModuleTracker(opened));
+        assertEquals(expected, new ModuleTracker(storageManager.readModuleTracker(cohortFilePath).get()));
+        assertEquals(getTempFilePath("cohort" + StorageManager.ARCHIVE_FILE_SUFFIX),
+                storageManager.getArchiveFilePath());
+        assertEquals(List.of(CS2103T_LEC), storageManager.getModules());
+        assertFalse(Files.exists(getTempFilePath("mt" + StorageManager.ARCHIVE_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void isModuleTrackerFileChanged_onlyChangesMadeElsewhere() throws Exception {
+        assertFalse(storageManager.isModuleTrackerFileChanged());
+        storageManager.saveModuleTracker(getTypicalModuleTracker());
+        assertFalse(storageManager.isModuleTrackerFileChanged());
+
+        Path filePath = storageManager.getModuleTrackerFilePath();
+        new JsonModuleTrackerStorage(filePath).saveModuleTracker(new ModuleTracker());
+        assertTrue(storageManager.isModuleTrackerFileChanged());
+        storageManager.readModuleTracker();
+        assertFalse(storageManager.isModuleTrackerFileChanged());
+
+        // a file other than the open one
+        storageManager.saveModuleTracker(getTypicalModuleTracker(), getTempFilePath("other"));
+        assertFalse(storageManager.isModuleTrackerFileChanged());
+    }
+
     @Test
     public void getModuleTrackerFilePath() {
         assertNotNull(storageManager.getModuleTrackerFilePath());
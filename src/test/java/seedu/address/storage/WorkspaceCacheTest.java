@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+import static seedu.address.testutil.TypicalModules.getTypicalModuleTracker;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ModuleTracker;
+import seedu.address.model.ReadOnlyModuleTracker;
+import seedu.address.model.journal.Journal;
+
+public class WorkspaceCacheTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void take_cachedAndUnchanged_returnsModulesOnce() throws Exception {
+        Path filePath = write("a.json", "saved");
+        ReadOnlyModuleTracker modules = getTypicalModuleTracker();
+        WorkspaceCache cache = new WorkspaceCache(WorkspaceCache.DEFAULT_MAX_BYTES);
+
+        cache.put(filePath, modules);
+        assertTrue(cache.contains(filePath));
+        assertTrue(cache.getCachedBytes() > 0);
+        assertSame(modules, cache.take(filePath));
+
+        // taken modules leave the cache
+        assertFalse(cache.contains(filePath));
+        assertEquals(0, cache.getCachedBytes());
+        assertNull(cache.take(filePath));
+    }
+
+    @Test
+    public void take_fileChangedSinceCached_returnsNull() throws Exception {
+        Path filePath = write("a.json", "saved");
+        WorkspaceCache cache = new WorkspaceCache(WorkspaceCache.DEFAULT_MAX_BYTES);
+        cache.put(filePath, getTypicalModuleTracker());
+
+        write("a.json", "edited by hand");
+        assertNull(cache.take(filePath));
+        assertFalse(cache.contains(filePath));
+    }
+
+    @Test
+    public void put_overBudget_leastRecentlyUsedDropped() throws Exception {
+        Path first = write("first.json", "saved");
+        Path second = write("second.json", "saved");
+        Path third = write("third.json", "saved");
+        ModuleTracker oneModule = new ModuleTracker();
+        oneModule.addModule(CS2103T_LEC);
+        WorkspaceCache cache = new WorkspaceCache(2 * Journal.estimateBytes(CS2103T_LEC));
+
+        cache.put(first, oneModule);
+        cache.put(second, oneModule);
+        cache.put(third, oneModule);
+        assertEquals(List.of(false, true, true), List.of(cache.contains(first), cache.contains(second),
+                cache.contains(third)));
+
+        // putting a file again makes it the most recently used
+        cache.put(second, oneModule);
+        cache.put(first, oneModule);
+        assertEquals(List.of(true, true, false), List.of(cache.contains(first), cache.contains(second),
+                cache.contains(third)));
+        assertEquals(2 * Journal.estimateBytes(CS2103T_LEC), cache.getCachedBytes());
+    }
+
+    @Test
+    public void put_aloneOverBudget_notKept() throws Exception {
+        Path filePath = write("a.json", "saved");
+        WorkspaceCache cache = new WorkspaceCache(0);
+        cache.put(filePath, getTypicalModuleTracker());
+        assertFalse(cache.contains(filePath));
+    }
+
+    private Path write(String fileName, String content) throws Exception {
+        return Files.write(testFolder.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
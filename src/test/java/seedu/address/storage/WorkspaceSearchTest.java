@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalModules.CS2103T_LEC;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.NameContainsKeywordsPredicate;
+import seedu.address.model.workspace.WorkspaceMatches;
+import seedu.address.testutil.ModuleBuilder;
+
+public class WorkspaceSearchTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "WorkspaceSearchTest");
+    private static final Path MIXED_FILE = TEST_DATA_FOLDER.resolve("mixedModules.json");
+    private static final Path NOT_MODULE_TRACKER_FILE = TEST_DATA_FOLDER.resolve("notModuleTracker.json");
+
+    private static final Module CS2106 = new ModuleBuilder().withName("CS2106").withAddress("COM1-0217")
+            .withTimeSlot("Tuesday 12:00 14:00").withTags("Tutorial").build();
+
+    @Test
+    public void scan_matchesConvertedInFileOrder() throws Exception {
+        assertEquals(List.of(CS2103T_LEC, CS2106), search("cs21").scan(MIXED_FILE));
+        assertEquals(List.of(CS2106), search("tutorial").scan(MIXED_FILE));
+        assertEquals(List.of(), search("CS3230").scan(MIXED_FILE));
+    }
+
+    @Test
+    public void scan_invalidMatchingModule_throwsIllegalValueException() {
+        // the invalid module is only converted when it matches
+        assertThrows(IllegalValueException.class, () -> search("MA1521").scan(MIXED_FILE));
+    }
+
+    @Test
+    public void scan_notModuleTracker_throwsIoException() {
+        assertThrows(IOException.class, WorkspaceSearch.MESSAGE_INVALID_FILE, () ->
+                search("CS2103T").scan(NOT_MODULE_TRACKER_FILE));
+    }
+
+    @Test
+    public void scan_missingFile_noMatches() throws Exception {
+        assertEquals(List.of(), search("CS2103T").scan(TEST_DATA_FOLDER.resolve("missing.json")));
+    }
+
+    @Test
+    public void search_manyFiles_resultsInOrderWithFailures() throws Exception {
+        Map<String, Path> files = new LinkedHashMap<>();
+        List<WorkspaceMatches> expected = new ArrayList<>();
+        for (int i = 0; i < 3 * WorkspaceSearch.MAX_THREADS; i++) {
+            files.put("mixed" + i, MIXED_FILE);
+            expected.add(WorkspaceMatches.of("mixed" + i, List.of(CS2106)));
+        }
+        files.put("broken", NOT_MODULE_TRACKER_FILE);
+        expected.add(WorkspaceMatches.failed("broken", WorkspaceSearch.MESSAGE_INVALID_FILE));
+
+        assertEquals(expected, search("CS2106").search(files));
+        assertEquals(List.of(), search("CS2106").search(Map.of()));
+    }
+
+    private static WorkspaceSearch search(String... keywords) {
+        return new WorkspaceSearch(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+    }
+}
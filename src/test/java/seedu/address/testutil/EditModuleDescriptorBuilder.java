@@ -13,6 +13,7 @@ import seedu.address.model.module.Remark;
 import seedu.address.model.module.Resource;
 import seedu.address.model.module.Teacher;
 import seedu.address.model.module.TimeSlot;
+import seedu.address.model.module.TimeSlots;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -37,7 +38,7 @@ public class EditModuleDescriptorBuilder {
         descriptor = new EditModuleDescriptor();
         descriptor.setName(module.getName());
         descriptor.setResource(module.getResource());
-        descriptor.setTimeSlot(module.getTimeSlot());
+        descriptor.setTimeSlots(module.getTimeSlots());
         descriptor.setAddress(module.getAddress());
         descriptor.setTeacher(module.getTeacher());
         descriptor.setDeadline(module.getDeadline());
@@ -62,10 +63,11 @@ public class EditModuleDescriptorBuilder {
     }
 
     /**
-     * Sets the {@code TimeSlot} of the {@code EditModuleDescriptor} that we are building.
+     * Parses the {@code timeSlots} into a {@code TimeSlots} and set it to the {@code EditModuleDescriptor}
+     * that we are building.
      */
-    public EditModuleDescriptorBuilder withTimeSlot(String timeSlot) {
-        descriptor.setTimeSlot(new TimeSlot(timeSlot));
+    public EditModuleDescriptorBuilder withTimeSlot(String ... timeSlots) {
+        descriptor.setTimeSlots(new TimeSlots(Stream.of(timeSlots).map(TimeSlot::new).collect(Collectors.toList())));
         return this;
     }
 
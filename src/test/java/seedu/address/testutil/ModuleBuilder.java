@@ -1,7 +1,9 @@
 package seedu.address.testutil;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.model.module.Address;
 import seedu.address.model.module.Deadline;
@@ -11,6 +13,7 @@ import seedu.address.model.module.Remark;
 import seedu.address.model.module.Resource;
 import seedu.address.model.module.Teacher;
 import seedu.address.model.module.TimeSlot;
+import seedu.address.model.module.TimeSlots;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.util.SampleDataUtil;
 
@@ -30,7 +33,7 @@ public class ModuleBuilder {
 
     private Name name;
     private Resource resource;
-    private TimeSlot timeSlot;
+    private TimeSlots timeSlots;
     private Address address;
     private Set<Tag> tags;
     private Remark remark;
@@ -43,7 +46,7 @@ public class ModuleBuilder {
     public ModuleBuilder() {
         name = new Name(DEFAULT_NAME);
         resource = new Resource(DEFAULT_RESOURCE);
-        timeSlot = new TimeSlot(DEFAULT_TIMESLOT);
+        timeSlots = TimeSlots.of(new TimeSlot(DEFAULT_TIMESLOT));
         address = new Address(DEFAULT_ADDRESS);
         tags = new HashSet<>();
         tags.add(new Tag(DEFAULT_TAG));
@@ -58,7 +61,7 @@ public class ModuleBuilder {
     public ModuleBuilder(Module moduleToCopy) {
         name = moduleToCopy.getName();
         resource = moduleToCopy.getResource();
-        timeSlot = moduleToCopy.getTimeSlot();
+        timeSlots = moduleToCopy.getTimeSlots();
         address = moduleToCopy.getAddress();
         tags = new HashSet<>(moduleToCopy.getTags());
         remark = moduleToCopy.getRemark();
@@ -99,10 +102,17 @@ public class ModuleBuilder {
     }
 
     /**
-     * Sets the {@code TimeSlot} of the {@code Module} that we are building.
+     * Sets the {@code TimeSlots} of the {@code Module} that we are building to the one {@code timeSlot}.
      */
     public ModuleBuilder withTimeSlot(String timeSlot) {
-        this.timeSlot = new TimeSlot(timeSlot);
+        return withTimeSlots(timeSlot);
+    }
+
+    /**
+     * Parses the {@code timeSlots} into a {@code TimeSlots} and set it to the {@code Module} that we are building.
+     */
+    public ModuleBuilder withTimeSlots(String ... timeSlots) {
+        this.timeSlots = new TimeSlots(Arrays.stream(timeSlots).map(TimeSlot::new).collect(Collectors.toList()));
         return this;
     }
 
@@ -131,7 +141,7 @@ public class ModuleBuilder {
     }
 
     public Module build() {
-        return new Module(name, resource, timeSlot, address, tags, remark, deadline, teacher);
+        return new Module(name, resource, timeSlots, address, tags, remark, deadline, teacher);
     }
 
 }
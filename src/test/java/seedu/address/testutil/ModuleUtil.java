@@ -35,7 +35,7 @@ public class ModuleUtil {
         StringBuilder sb = new StringBuilder();
         sb.append(PREFIX_NAME + module.getName().fullName + " ");
         sb.append(PREFIX_ADDRESS + module.getAddress().value + " ");
-        sb.append(PREFIX_TIMESLOT + module.getTimeSlot().toString() + " ");
+        module.getTimeSlots().asList().forEach(timeSlot -> sb.append(PREFIX_TIMESLOT + timeSlot.toString() + " "));
         sb.append(PREFIX_REMARK + module.getRemark().value + " ");
         sb.append(PREFIX_DEADLINE + module.getDeadline().toString() + " ");
         sb.append(PREFIX_TEACHER + module.getTeacher().value + " ");
@@ -53,8 +53,12 @@ public class ModuleUtil {
         StringBuilder sb = new StringBuilder();
         descriptor.getName().ifPresent(name -> sb.append(PREFIX_NAME).append(name.fullName).append(" "));
         descriptor.getAddress().ifPresent(address -> sb.append(PREFIX_ADDRESS).append(address.value).append(" "));
-        descriptor.getTimeSlot().ifPresent(timeSlot -> sb.append(PREFIX_TIMESLOT)
-                .append(timeSlot.toString()).append(" "));
+        descriptor.getTimeSlots().ifPresent(timeSlots -> {
+            if (timeSlots.isEmpty()) {
+                sb.append(PREFIX_TIMESLOT).append(timeSlots.toString()).append(" ");
+            }
+            timeSlots.asList().forEach(timeSlot -> sb.append(PREFIX_TIMESLOT).append(timeSlot.toString()).append(" "));
+        });
         descriptor.getRemark().ifPresent(type -> sb.append(PREFIX_REMARK).append(type.value).append(" "));
         descriptor.getDeadline().ifPresent(type -> sb.append(PREFIX_DEADLINE).append(type.toString()).append(" "));
         descriptor.getTeacher().ifPresent(type -> sb.append(PREFIX_TEACHER).append(type.value).append(" "));
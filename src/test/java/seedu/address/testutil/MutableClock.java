@@ -0,0 +1,41 @@
+package seedu.address.testutil;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A clock in UTC that stays at the time it is set to.
+ */
+public class MutableClock extends Clock {
+    private LocalDateTime time;
+
+    public MutableClock(LocalDateTime time) {
+        this.time = time;
+    }
+
+    public void set(LocalDateTime time) {
+        this.time = time;
+    }
+
+    public LocalDateTime now() {
+        return time;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+        return time.toInstant(ZoneOffset.UTC);
+    }
+}
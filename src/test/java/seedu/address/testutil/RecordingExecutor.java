@@ -0,0 +1,29 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An executor that records the delay of each wake-up, and postpones them all so that tests run them themselves.
+ */
+public class RecordingExecutor extends ScheduledThreadPoolExecutor {
+    private final List<Long> delays = new ArrayList<>();
+
+    public RecordingExecutor() {
+        super(1);
+    }
+
+    /** Returns the delay of each wake-up scheduled so far, in milliseconds. */
+    public List<Long> getDelays() {
+        return delays;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        delays.add(unit.toMillis(delay));
+        return super.schedule(command, 1, TimeUnit.DAYS);
+    }
+}